@@ -0,0 +1,41 @@
+package org.ordinalclassification.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.ordinalclassification.types.DistanceArray;
+import org.ordinalclassification.types.DistancePrecision;
+import org.rulelearn.benchmarks.SyntheticInformationTables;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.HVDM;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceArrayBenchmark {
+    @Param({"500", "2000"})
+    int numberOfObjects;
+
+    @Param({"4", "16"})
+    int numberOfAttributes;
+
+    @Param({"DOUBLE", "FLOAT"})
+    DistancePrecision precision;
+
+    HVDM measure;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InformationTableWithDecisionDistributions data = new InformationTableWithDecisionDistributions(
+                SyntheticInformationTables.informationTable(numberOfObjects, numberOfAttributes, 0L), true);
+        measure = new HVDM(data);
+    }
+
+    @Benchmark
+    public DistanceArray buildDistanceArray() {
+        return new DistanceArray(measure, precision);
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package org.rulelearn.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rulelearn.approximations.ClassicalDominanceBasedRoughSetCalculator;
+import org.rulelearn.approximations.Union;
+import org.rulelearn.approximations.UnionsWithSingleLimitingDecision;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.CoverageInApproximationMeasure;
+import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
+import org.rulelearn.rules.Condition;
+import org.rulelearn.rules.ConditionGenerator;
+import org.rulelearn.rules.ElementaryConditionNotFoundException;
+import org.rulelearn.rules.M4OptimizedConditionGenerator;
+import org.rulelearn.rules.MonotonicConditionAdditionEvaluator;
+import org.rulelearn.rules.RuleConditions;
+import org.rulelearn.rules.RuleSemantics;
+import org.rulelearn.rules.RuleType;
+import org.rulelearn.types.EvaluationField;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Measures generation of the best elementary condition by {@link M4OptimizedConditionGenerator#getBestCondition(IntList, RuleConditions)}
+ * and addition of elementary conditions by {@link RuleConditions#addCondition(Condition)}. Rule conditions concern a certain "at least" rule
+ * for the middle upward union of a synthetic information table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionGenerationBenchmark {
+	
+	/**
+	 * Maximal number of elementary conditions added to rule conditions in {@link #addConditions()}.
+	 */
+	static final int MAX_CONDITIONS = 3;
+	
+	@Param({"500", "2000"})
+	int numberOfObjects;
+	
+	@Param({"4", "16"})
+	int numberOfAttributes;
+	
+	InformationTableWithDecisionDistributions informationTable;
+	Union union;
+	IntSet indicesOfObjectsThatCanBeCovered;
+	ConditionGenerator conditionGenerator;
+	RuleConditions emptyRuleConditions;
+	IntList consideredObjects;
+	ObjectArrayList<Condition<EvaluationField>> conditions;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		informationTable = new InformationTableWithDecisionDistributions(SyntheticInformationTables.informationTable(numberOfObjects, numberOfAttributes, 0L), true);
+		Union[] upwardUnions = new UnionsWithSingleLimitingDecision(informationTable, new ClassicalDominanceBasedRoughSetCalculator()).getUpwardUnions();
+		union = upwardUnions[upwardUnions.length / 2];
+		indicesOfObjectsThatCanBeCovered = new IntOpenHashSet();
+		for (int i = 0; i < numberOfObjects; i++) {
+			indicesOfObjectsThatCanBeCovered.add(i);
+		}
+		conditionGenerator = new M4OptimizedConditionGenerator(new MonotonicConditionAdditionEvaluator[] {
+				EpsilonConsistencyMeasure.getInstance(), CoverageInApproximationMeasure.getInstance()});
+		emptyRuleConditions = newRuleConditions();
+		consideredObjects = new IntArrayList(union.getLowerApproximation());
+		
+		conditions = new ObjectArrayList<>();
+		RuleConditions ruleConditions = newRuleConditions();
+		IntList objects = new IntArrayList(consideredObjects);
+		try {
+			while (conditions.size() < MAX_CONDITIONS) {
+				Condition<EvaluationField> condition = conditionGenerator.getBestCondition(objects, ruleConditions);
+				conditions.add(condition);
+				ruleConditions.addCondition(condition);
+				objects.retainAll(ruleConditions.getIndicesOfCoveredObjects());
+			}
+		} catch (ElementaryConditionNotFoundException exception) {
+			//fewer conditions available - benchmark remaining ones
+		}
+	}
+	
+	RuleConditions newRuleConditions() {
+		return new RuleConditions(informationTable, union.getObjects(), union.getLowerApproximation(), indicesOfObjectsThatCanBeCovered, union.getNeutralObjects(),
+				RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+	}
+	
+	@Benchmark
+	public Condition<EvaluationField> getBestCondition() {
+		return conditionGenerator.getBestCondition(consideredObjects, emptyRuleConditions);
+	}
+	
+	/**
+	 * Constructs new rule conditions and adds to them conditions found during set up. Construction is included in measured time
+	 * as added conditions cannot be removed without side effects on the state of the benchmark.
+	 * 
+	 * @return rule conditions with added conditions
+	 */
+	@Benchmark
+	public RuleConditions addConditions() {
+		RuleConditions ruleConditions = newRuleConditions();
+		for (Condition<EvaluationField> condition : conditions) {
+			ruleConditions.addCondition(condition);
+		}
+		return ruleConditions;
+	}
+	
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package org.rulelearn.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.dominance.DominanceConesDecisionDistributions;
+
+/**
+ * Measures construction of {@link DominanceConesDecisionDistributions} for a synthetic information table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DominanceConesBenchmark {
+	
+	@Param({"500", "2000"})
+	int numberOfObjects;
+	
+	@Param({"4", "16"})
+	int numberOfAttributes;
+	
+	@Param({"1", "4"})
+	int parallelism;
+	
+	InformationTable informationTable;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		informationTable = SyntheticInformationTables.informationTable(numberOfObjects, numberOfAttributes, 0L);
+	}
+	
+	@Benchmark
+	public DominanceConesDecisionDistributions buildDominanceConesDecisionDistributions() {
+		return new DominanceConesDecisionDistributions(informationTable, parallelism);
+	}
+	
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.rulelearn.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.HVDM;
+
+/**
+ * Compares evaluation of all pairwise distances in a synthetic information table by {@link HVDM} and by {@link ReferenceHVDM}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HVDMBenchmark {
+	
+	@Param({"500", "2000"})
+	int numberOfObjects;
+	
+	@Param({"4", "16"})
+	int numberOfAttributes;
+	
+	HVDM measure;
+	ReferenceHVDM referenceMeasure;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		InformationTableWithDecisionDistributions data = new InformationTableWithDecisionDistributions(
+				SyntheticInformationTables.informationTable(numberOfObjects, numberOfAttributes, 0L), true);
+		measure = new HVDM(data);
+		referenceMeasure = new ReferenceHVDM(data);
+	}
+	
+	@Benchmark
+	public double measureAllDistances() {
+		double sum = 0.0;
+		for (int i = 1; i < numberOfObjects; i++) {
+			for (int j = 0; j < i; j++) {
+				sum += measure.measureDistance(i, j);
+			}
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public double measureAllDistancesWithReference() {
+		double sum = 0.0;
+		for (int i = 1; i < numberOfObjects; i++) {
+			for (int j = 0; j < i; j++) {
+				sum += referenceMeasure.measureDistance(i, j);
+			}
+		}
+		return sum;
+	}
+	
+}
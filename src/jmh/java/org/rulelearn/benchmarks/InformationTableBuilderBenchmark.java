@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package org.rulelearn.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+
+/**
+ * Measures reading of an information table by {@link InformationTableBuilder#buildFromCSVFile(String, String)}. The JSON file with attributes
+ * and the CSV file with objects are written to a temporary directory during set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InformationTableBuilderBenchmark {
+	
+	@Param({"500", "2000"})
+	int numberOfObjects;
+	
+	@Param({"4", "16"})
+	int numberOfAttributes;
+	
+	Path directory;
+	Path attributesPath;
+	Path objectsPath;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		InformationTable informationTable = SyntheticInformationTables.informationTable(numberOfObjects, numberOfAttributes, 0L);
+		directory = Files.createTempDirectory("rulelearn-benchmark");
+		attributesPath = directory.resolve("attributes.json");
+		objectsPath = directory.resolve("objects.csv");
+		SyntheticInformationTables.writeAttributes(informationTable.getAttributes(), attributesPath);
+		SyntheticInformationTables.writeObjects(informationTable, objectsPath);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(attributesPath);
+		Files.deleteIfExists(objectsPath);
+		Files.deleteIfExists(directory);
+	}
+	
+	@Benchmark
+	public InformationTable buildFromCSVFile() throws IOException {
+		return InformationTableBuilder.buildFromCSVFile(attributesPath.toString(), objectsPath.toString());
+	}
+	
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.rulelearn.benchmarks;
+
+import java.util.HashMap;
+
+import org.ordinalclassification.types.FieldValueWrapper;
+import org.ordinalclassification.utils.AttributeStats;
+import org.ordinalclassification.utils.DataSubsetExtractor;
+import org.ordinalclassification.utils.EnumerationAttributeStats;
+import org.ordinalclassification.utils.NumericalAttributeStats;
+import org.rulelearn.data.Decision;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.HVDM;
+import org.rulelearn.types.EnumerationField;
+
+/**
+ * Map-based evaluation of HVDM distance, as done by {@link HVDM} before introduction of value difference lookup tables.
+ * Kept only as a baseline for {@link HVDMBenchmark}.
+ */
+public class ReferenceHVDM {
+	private InformationTableWithDecisionDistributions data;
+	private int numberOfAttributes;
+	private boolean[] attributeIsNominal;
+	private double[][] values;
+	private boolean[][] missingValues;
+	private HashMap<Integer, AttributeStats> valueStatsByAttributeIndex = new HashMap<>();
+	
+	/**
+	 * Constructs this measure for given data.
+	 * 
+	 * @param data information table with decision distributions
+	 */
+	public ReferenceHVDM(InformationTableWithDecisionDistributions data) {
+		this.data = data;
+		this.numberOfAttributes = data.getActiveConditionAttributeFields().getNumberOfAttributes();
+		this.attributeIsNominal = new boolean[numberOfAttributes];
+		this.values = new double[data.getNumberOfObjects()][numberOfAttributes];
+		this.missingValues = new boolean[data.getNumberOfObjects()][numberOfAttributes];
+		
+		for (int i = 0; i < data.getNumberOfObjects(); i++) {
+			for (int j = 0; j < numberOfAttributes; j++) {
+				FieldValueWrapper fieldValue = new FieldValueWrapper(data.getActiveConditionAttributeFields().getField(i, j));
+				values[i][j] = fieldValue.getValue();
+				missingValues[i][j] = fieldValue.isMissing();
+			}
+		}
+		for (int j = 0; j < numberOfAttributes; j++) {
+			double[] dataSeries = DataSubsetExtractor.get2dArrayColumn(values, j);
+			if (data.getActiveConditionAttributeFields().getAttributes()[j].getValueType() instanceof EnumerationField) {
+				attributeIsNominal[j] = true;
+				int valuesNumber = ((EnumerationField)data.getActiveConditionAttributeFields().getAttributes()[j].getValueType()).getElementList().getSize();
+				valueStatsByAttributeIndex.put(j, new EnumerationAttributeStats(j, dataSeries, valuesNumber, data.getDecisions()));
+			} else {
+				valueStatsByAttributeIndex.put(j, new NumericalAttributeStats(j, dataSeries));
+			}
+		}
+	}
+	
+	/**
+	 * Measures distance between two objects.
+	 * 
+	 * @param xIndex index of the first object
+	 * @param yIndex index of the second object
+	 * @return HVDM distance between given objects
+	 */
+	public double measureDistance(int xIndex, int yIndex) {
+		double distance = 0;
+		for (int i = 0; i < numberOfAttributes; i++) {
+			distance += Math.pow(getDistance(i, xIndex, yIndex), 2.0);
+		}
+		return Math.sqrt(distance);
+	}
+	
+	private double getDistance(int attributeIndex, int xIndex, int yIndex) {
+		if (missingValues[xIndex][attributeIndex] || missingValues[yIndex][attributeIndex]) {
+			return 1;
+		}
+		if (attributeIsNominal[attributeIndex]) {
+			EnumerationAttributeStats valueStats = (EnumerationAttributeStats)valueStatsByAttributeIndex.get(attributeIndex);
+			int xValue = (int)values[xIndex][attributeIndex];
+			int yValue = (int)values[yIndex][attributeIndex];
+			int xValueCount = valueStats.getCount(xValue);
+			int yValueCount = valueStats.getCount(yValue);
+			double normalizedVDM = 0;
+			for (Decision decision : data.getDecisionDistribution().getDecisions()) {
+				double pX = xValueCount == 0 ? 0 : (double)valueStats.getCountForDecision(xValue, decision) / (double)xValueCount;
+				double pY = yValueCount == 0 ? 0 : (double)valueStats.getCountForDecision(yValue, decision) / (double)yValueCount;
+				normalizedVDM += Math.pow(Math.abs(pX - pY), 2.0);
+			}
+			return normalizedVDM;
+		} else {
+			NumericalAttributeStats attributeStats = (NumericalAttributeStats)valueStatsByAttributeIndex.get(attributeIndex);
+			return Math.abs(values[xIndex][attributeIndex] - values[yIndex][attributeIndex]) / (4.0 * attributeStats.getStdDev());
+		}
+	}
+	
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.rulelearn.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.AttributeType;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.EvaluationAttributeWithContext;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.json.EvaluationAttributeSerializer;
+import org.rulelearn.rules.Condition;
+import org.rulelearn.rules.ConditionAtLeastThresholdVSObject;
+import org.rulelearn.rules.ConditionAtMostThresholdVSObject;
+import org.rulelearn.rules.Rule;
+import org.rulelearn.rules.RuleSet;
+import org.rulelearn.rules.RuleType;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationFieldFactory;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.RealFieldFactory;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Generator of synthetic information tables used by benchmarks. Condition attributes alternate between real-valued gain-type attributes
+ * and gain-type enumeration attributes. The only decision attribute is an integer gain-type attribute whose value grows with
+ * the sum of condition evaluations, disturbed by random noise, so that generated data are (mostly) monotonic.
+ */
+public final class SyntheticInformationTables {
+	
+	/**
+	 * Number of values of each enumeration condition attribute.
+	 */
+	public static final int ENUMERATION_SIZE = 4;
+	
+	/**
+	 * Default number of decision classes.
+	 */
+	public static final int DEFAULT_NUMBER_OF_CLASSES = 3;
+	
+	/**
+	 * Maximal number of elementary conditions of a rule generated by {@link #ruleSet(InformationTable, int, long)}.
+	 */
+	public static final int MAX_RULE_LENGTH = 3;
+	
+	private SyntheticInformationTables() {
+	}
+	
+	/**
+	 * Generates attributes of a synthetic information table.
+	 * 
+	 * @param numberOfConditionAttributes number of condition attributes
+	 * @return generated attributes, the decision attribute being the last one
+	 */
+	public static Attribute[] attributes(int numberOfConditionAttributes) {
+		ElementList domain = enumerationDomain();
+		Attribute[] attributes = new Attribute[numberOfConditionAttributes + 1];
+		
+		for (int i = 0; i < numberOfConditionAttributes; i++) {
+			if (i % 2 == 0) {
+				attributes[i] = new EvaluationAttribute("a" + i, true, AttributeType.CONDITION,
+						RealFieldFactory.getInstance().create(0.0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN);
+			} else {
+				attributes[i] = new EvaluationAttribute("a" + i, true, AttributeType.CONDITION,
+						EnumerationFieldFactory.getInstance().create(domain, 0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN);
+			}
+		}
+		attributes[numberOfConditionAttributes] = new EvaluationAttribute("dec", true, AttributeType.DECISION,
+				IntegerFieldFactory.getInstance().create(1, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN);
+		
+		return attributes;
+	}
+	
+	/**
+	 * Generates rows of a synthetic information table, matching attributes returned by {@link #attributes(int)}.
+	 * 
+	 * @param numberOfObjects number of objects (rows)
+	 * @param numberOfConditionAttributes number of condition attributes
+	 * @param numberOfClasses number of decision classes
+	 * @param seed seed of the random number generator
+	 * @return list of generated rows
+	 */
+	public static List<Field[]> fields(int numberOfObjects, int numberOfConditionAttributes, int numberOfClasses, long seed) {
+		ElementList domain = enumerationDomain();
+		Random random = new Random(seed);
+		List<Field[]> rows = new ArrayList<>(numberOfObjects);
+		
+		for (int i = 0; i < numberOfObjects; i++) {
+			Field[] row = new Field[numberOfConditionAttributes + 1];
+			double score = 0.0;
+			for (int j = 0; j < numberOfConditionAttributes; j++) {
+				if (j % 2 == 0) {
+					double value = random.nextDouble();
+					row[j] = RealFieldFactory.getInstance().create(value, AttributePreferenceType.GAIN);
+					score += value;
+				} else {
+					int index = random.nextInt(ENUMERATION_SIZE);
+					row[j] = EnumerationFieldFactory.getInstance().create(domain, index, AttributePreferenceType.GAIN);
+					score += (double)index / (ENUMERATION_SIZE - 1);
+				}
+			}
+			score = score / Math.max(numberOfConditionAttributes, 1) + 0.1 * random.nextGaussian();
+			int decision = 1 + Math.min(numberOfClasses - 1, Math.max(0, (int)(score * numberOfClasses)));
+			row[numberOfConditionAttributes] = IntegerFieldFactory.getInstance().create(decision, AttributePreferenceType.GAIN);
+			rows.add(row);
+		}
+		
+		return rows;
+	}
+	
+	/**
+	 * Generates a synthetic information table with {@link #DEFAULT_NUMBER_OF_CLASSES} decision classes.
+	 * 
+	 * @param numberOfObjects number of objects
+	 * @param numberOfConditionAttributes number of condition attributes
+	 * @param seed seed of the random number generator
+	 * @return generated information table
+	 */
+	public static InformationTable informationTable(int numberOfObjects, int numberOfConditionAttributes, long seed) {
+		return new InformationTable(attributes(numberOfConditionAttributes), fields(numberOfObjects, numberOfConditionAttributes, DEFAULT_NUMBER_OF_CLASSES, seed), true);
+	}
+	
+	/**
+	 * Generates a set of certain decision rules consistent with given synthetic information table. Each rule is built around a randomly chosen object,
+	 * whose evaluations on a random subset of condition attributes (of size at most {@link #MAX_RULE_LENGTH}) become limiting evaluations of the rule.
+	 * If the decision of that object is not the worst one, an "at least" rule is generated, otherwise an "at most" rule is generated.
+	 * 
+	 * @param informationTable information table generated by {@link #informationTable(int, int, long)}
+	 * @param numberOfRules number of rules to generate
+	 * @param seed seed of the random number generator
+	 * @return generated rule set
+	 */
+	public static RuleSet ruleSet(InformationTable informationTable, int numberOfRules, long seed) {
+		Random random = new Random(seed);
+		Attribute[] attributes = informationTable.getAttributes();
+		int decisionAttributeIndex = attributes.length - 1;
+		EvaluationAttributeWithContext decisionAttribute = new EvaluationAttributeWithContext((EvaluationAttribute)attributes[decisionAttributeIndex], decisionAttributeIndex);
+		Rule[] rules = new Rule[numberOfRules];
+		
+		for (int i = 0; i < numberOfRules; i++) {
+			int objectIndex = random.nextInt(informationTable.getNumberOfObjects());
+			IntegerField decision = (IntegerField)informationTable.getField(objectIndex, decisionAttributeIndex);
+			boolean atLeast = decision.getValue() > 1;
+			int ruleLength = 1 + random.nextInt(Math.min(MAX_RULE_LENGTH, decisionAttributeIndex));
+			List<Condition<? extends EvaluationField>> conditions = new ArrayList<>(ruleLength);
+			int firstAttributeIndex = random.nextInt(decisionAttributeIndex);
+			
+			for (int j = 0; j < ruleLength; j++) {
+				int attributeIndex = (firstAttributeIndex + j) % decisionAttributeIndex;
+				EvaluationAttributeWithContext attribute = new EvaluationAttributeWithContext((EvaluationAttribute)attributes[attributeIndex], attributeIndex);
+				EvaluationField evaluation = (EvaluationField)informationTable.getField(objectIndex, attributeIndex);
+				conditions.add(atLeast ? new ConditionAtLeastThresholdVSObject<EvaluationField>(attribute, evaluation) : new ConditionAtMostThresholdVSObject<EvaluationField>(attribute, evaluation));
+			}
+			rules[i] = new Rule(RuleType.CERTAIN, conditions, atLeast ? new ConditionAtLeastThresholdVSObject<IntegerField>(decisionAttribute, decision) : new ConditionAtMostThresholdVSObject<IntegerField>(decisionAttribute, decision));
+		}
+		
+		return new RuleSet(rules, true);
+	}
+	
+	/**
+	 * Writes given attributes to a JSON file that can be read by {@link org.rulelearn.data.json.AttributeParser}.
+	 * 
+	 * @param attributes attributes to write
+	 * @param path path to the written file
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void writeAttributes(Attribute[] attributes, Path path) throws IOException {
+		Gson gson = new GsonBuilder().registerTypeAdapter(Attribute.class, new EvaluationAttributeSerializer()).setPrettyPrinting().create();
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			gson.toJson(attributes, Attribute[].class, writer);
+		}
+	}
+	
+	/**
+	 * Writes objects of given information table to a CSV file (without header), using comma as a separator.
+	 * 
+	 * @param informationTable information table whose objects should be written
+	 * @param path path to the written file
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void writeObjects(InformationTable informationTable, Path path) throws IOException {
+		int numberOfAttributes = informationTable.getNumberOfAttributes();
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			for (int i = 0; i < informationTable.getNumberOfObjects(); i++) {
+				for (int j = 0; j < numberOfAttributes; j++) {
+					if (j > 0) {
+						writer.write(',');
+					}
+					writer.write(informationTable.getField(i, j).toString());
+				}
+				writer.newLine();
+			}
+		}
+	}
+	
+	private static ElementList enumerationDomain() {
+		String[] elements = new String[ENUMERATION_SIZE];
+		for (int i = 0; i < ENUMERATION_SIZE; i++) {
+			elements[i] = "v" + i;
+		}
+		try {
+			return new ElementList(elements);
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+	
+}
@@ -3,6 +3,7 @@ package org.ordinalclassification.classifiers;
 import org.rulelearn.data.Decision;
 import org.rulelearn.measures.HVDM;
 import org.ordinalclassification.types.LearningExampleType;
+import org.ordinalclassification.types.NeighbourSearch;
 import org.ordinalclassification.utils.KNearestLabeler;
 
 import java.util.ArrayList;
@@ -24,6 +25,13 @@ public class KNNAnalyzer extends NearestNeighborsAnalyzer {
         buildNeighbourhoods();
     }
 
+    public KNNAnalyzer(HVDM measure, NeighbourSearch neighbours, int[] majorityIndices, int[] minorityIndices, int k, KNearestLabeler labeler) {
+        super(measure, neighbours, majorityIndices, minorityIndices);
+        this.k = k;
+        this.labeler = labeler;
+        buildNeighbourhoods();
+    }
+
     @Override
     protected LearningExampleType labelExample(int exampleIndex) {
         return labeler.customLabel(exampleIndex, neighbourhoods);
@@ -40,13 +48,7 @@ public class KNNAnalyzer extends NearestNeighborsAnalyzer {
     }
 
     private int[] getKNearestIndices(int exampleIndex) {
-        HashMap<Integer, Double> exampleDistances = distances.getExampleDistances(exampleIndex);
-        int[] indices = getObjectsIndicesSortedByDistance(exampleDistances);
-        int[] kNearesIndices = new int[k];
-        for (int i = 0; i < k; i++) {
-            kNearesIndices[i] = indices[i];
-        }
-        return kNearesIndices;
+        return neighbours.getKNearestIndices(exampleIndex, k);
     }
 
     private Decision[] getDecisions(int[] objectIndices) {
@@ -1,13 +1,11 @@
 package org.ordinalclassification.classifiers;
 
 import org.ordinalclassification.types.LearningExampleType;
+import org.ordinalclassification.types.NeighbourSearch;
 import org.rulelearn.data.Decision;
 import org.rulelearn.measures.HVDM;
 import org.ordinalclassification.utils.KernelLabeler;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-
 public class KernelAnalyzer extends NearestNeighborsAnalyzer {
     private Decision majorityLimitingDecision;
     private Decision minorityLimitingDecision;
@@ -22,6 +20,14 @@ public class KernelAnalyzer extends NearestNeighborsAnalyzer {
         setKernelWidth();
     }
 
+    public KernelAnalyzer(HVDM measure, NeighbourSearch neighbours, int[] majorityIndices, int[] minorityIndices, Decision majorityLimitingDecision, Decision minorityLimitingDecision, KernelLabeler labeler) {
+        super(measure, neighbours, majorityIndices, minorityIndices);
+        this.majorityLimitingDecision = majorityLimitingDecision;
+        this.minorityLimitingDecision = minorityLimitingDecision;
+        this.labeler = labeler;
+        setKernelWidth();
+    }
+
     private void setKernelWidth() {
         double sum = 0.0;
         for (int i: minorityIndices) {
@@ -31,9 +37,7 @@ public class KernelAnalyzer extends NearestNeighborsAnalyzer {
     }
 
     private double getDistanceToNthNeighbour(int exampleIndex, int n) {
-        HashMap<Integer, Double> exampleDistances = distances.getExampleDistances(exampleIndex);
-        int[] objectsIndicesSorted = getObjectsIndicesSortedByDistance(exampleDistances);
-        return distances.getDistance(exampleIndex, objectsIndicesSorted[n - 1]);
+        return neighbours.getDistanceToNthNeighbour(exampleIndex, n);
     }
 
     @Override
@@ -46,29 +50,14 @@ public class KernelAnalyzer extends NearestNeighborsAnalyzer {
     }
 
     private int[] getIndicesOfObjectsInKernel(int exampleIndex) {
-        HashMap<Integer, Double> exampleDistances = distances.getExampleDistances(exampleIndex);
-        int[] objectsIndicesSorted = getObjectsIndicesSortedByDistance(exampleDistances);
-        ArrayList<Integer> inKernelWindow = new ArrayList();
-        for (int i: objectsIndicesSorted) {
-            if (exampleDistances.get(i) >= kernelWidth) {
-                break;
-            }
-            inKernelWindow.add(i);
-        }
-        int[] inKernelWindowArr = new int[inKernelWindow.size()];
-        int i = 0;
-        for (int index: inKernelWindow) {
-            inKernelWindowArr[i] = index;
-            i++;
-        }
-        return inKernelWindowArr;
+        return neighbours.getIndicesWithinRadius(exampleIndex, kernelWidth);
     }
 
     private double weightedSumForDecision(int[] inKernel, int exampleIndex, Decision decision) {
         double sum = 0.0;
         for (int index: inKernel) {
             if (measure.getData().getDecision(index).equals(decision)) {
-                sum += getEpanechnikov(distances.getDistance(exampleIndex, index));
+                sum += getEpanechnikov(neighbours.getDistance(exampleIndex, index));
             }
         }
         return sum;
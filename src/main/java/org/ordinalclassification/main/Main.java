@@ -1,5 +1,7 @@
 package org.ordinalclassification.main;
 
+import org.ordinalclassification.utils.ConcurrentDatasetIterator;
+import org.ordinalclassification.utils.DistanceMatrixMemoryEstimator;
 import org.ordinalclassification.utils.JsonCsvDatasetIterator;
 import org.ordinalclassification.utils.NeighbourhoodAnalyzer;
 
@@ -9,6 +11,13 @@ public class Main {
         if (args.length < 3) {
             throw new IllegalArgumentException("Argument missing");
         }
+        if (args.length > 3) {
+            int workers = Integer.parseInt(args[3]);
+            long memoryBudget = args.length > 4 ? Long.parseLong(args[4]) << 20 : Runtime.getRuntime().maxMemory();
+            ConcurrentDatasetIterator iterator = new ConcurrentDatasetIterator(args[0], args[1], args[2], workers, memoryBudget, new DistanceMatrixMemoryEstimator());
+            iterator.iterate(NeighbourhoodAnalyzer::new);
+            return;
+        }
         JsonCsvDatasetIterator iterator = new JsonCsvDatasetIterator(args[0], args[1], args[2]);
         NeighbourhoodAnalyzer analyzer = new NeighbourhoodAnalyzer();
         iterator.iterate(analyzer);
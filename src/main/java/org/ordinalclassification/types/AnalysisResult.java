@@ -3,6 +3,7 @@ package org.ordinalclassification.types;
 import org.rulelearn.data.Decision;
 
 import java.io.*;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -12,53 +13,70 @@ public class AnalysisResult {
 
 
     private List<ResultRow> results;
-    private static String csvSeparator = ";";
+    private ResultSink sink;
+    private long rowsCount;
 
     public AnalysisResult() {
         this.results = new ArrayList<>();
     }
 
+    // rows are written to the sink as they are added, and are not kept in memory
+    public AnalysisResult(ResultSink sink) {
+        this.sink = sink;
+    }
+
     public void addResults(HashMap<Integer, LearningExampleType> assignment, Decision minorityUnionLimitingDecision, Decision majorityUnionLimitingDecision) {
+        if (sink != null) {
+            streamResults(assignment, minorityUnionLimitingDecision.toString(), majorityUnionLimitingDecision.toString());
+            return;
+        }
+        String minorityDecision = minorityUnionLimitingDecision.toString();
+        String majorityDecision = majorityUnionLimitingDecision.toString();
         for (Map.Entry<Integer, LearningExampleType> entry: assignment.entrySet()) {
-            ResultRow row = new ResultRow(entry.getKey(), entry.getValue(), minorityUnionLimitingDecision.toString(), majorityUnionLimitingDecision.toString());
+            ResultRow row = new ResultRow(entry.getKey(), entry.getValue(), minorityDecision, majorityDecision);
             results.add(row);
         }
+        rowsCount += assignment.size();
+    }
+
+    private void streamResults(HashMap<Integer, LearningExampleType> assignment, String minorityDecision, String majorityDecision) {
+        try {
+            for (Map.Entry<Integer, LearningExampleType> entry: assignment.entrySet()) {
+                sink.write(entry.getKey(), entry.getValue(), minorityDecision, majorityDecision);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rowsCount += assignment.size();
     }
 
     public void saveCsv(String filename) throws IOException {
-        BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(filename), "UTF-8"));
-        writeHeaders(bw);
-        for (ResultRow row: results)
-        {
-            StringBuffer oneLine = new StringBuffer();
-            oneLine.append(row.getIndex());
-            oneLine.append(csvSeparator);
-            oneLine.append(row.getType());
-            oneLine.append(csvSeparator);
-            oneLine.append(row.getMinorityDecision());
-            oneLine.append(csvSeparator);
-            oneLine.append(row.getMajorityDecision());
-            bw.write(oneLine.toString());
-            bw.newLine();
+        save(filename, ResultFormat.CSV);
+    }
+
+    public void save(String filename, ResultFormat format) throws IOException {
+        if (sink != null) {
+            throw new IllegalStateException("Results have already been streamed to a sink");
+        }
+        try (ResultSink fileSink = format.createSink(Paths.get(filename))) {
+            for (ResultRow row: results) {
+                row.writeTo(fileSink);
+            }
         }
-        bw.flush();
-        bw.close();
     }
 
-    private void writeHeaders(BufferedWriter bw) throws IOException {
-        StringBuffer oneLine = new StringBuffer();
-        oneLine.append("index");
-        oneLine.append(csvSeparator);
-        oneLine.append("type");
-        oneLine.append(csvSeparator);
-        oneLine.append("minority_decision");
-        oneLine.append(csvSeparator);
-        oneLine.append("majority_decision");
-        bw.write(oneLine.toString());
-        bw.newLine();
+    public boolean isStreaming() {
+        return sink != null;
+    }
+
+    public long getRowsCount() {
+        return rowsCount;
     }
 
     public List<ResultRow> getPerExampleResults() {
+        if (sink != null) {
+            throw new IllegalStateException("Results have been streamed to a sink and are not kept in memory");
+        }
         return results;
     }
 }
@@ -0,0 +1,60 @@
+package org.ordinalclassification.types;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinaryResultReader {
+    public static List<ResultRow> readAll(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        if (input.readInt() != BinaryResultSink.magic) {
+            throw new IOException("Not a binary analysis result");
+        }
+        int version = input.readInt();
+        if (version != BinaryResultSink.version) {
+            throw new IOException(String.format("Unsupported binary analysis result version %d", version));
+        }
+        LearningExampleType[] typeValues = LearningExampleType.values();
+        List<String> decisions = new ArrayList<>();
+        List<ResultRow> rows = new ArrayList<>();
+        byte tag;
+        while ((tag = input.readByte()) != BinaryResultSink.endTag) {
+            if (tag == BinaryResultSink.decisionTag) {
+                int id = input.readInt();
+                byte[] name = new byte[input.readInt()];
+                input.readFully(name);
+                if (id != decisions.size()) {
+                    throw new IOException("Decision dictionary out of order");
+                }
+                decisions.add(new String(name, StandardCharsets.UTF_8));
+            } else if (tag == BinaryResultSink.blockTag) {
+                readBlock(input, typeValues, decisions, rows);
+            } else {
+                throw new IOException(String.format("Unknown record tag %d", tag));
+            }
+        }
+        return rows;
+    }
+
+    private static void readBlock(DataInputStream input, LearningExampleType[] typeValues, List<String> decisions, List<ResultRow> rows) throws IOException {
+        int count = input.readInt();
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = input.readInt();
+        }
+        byte[] types = new byte[count];
+        input.readFully(types);
+        int[] minorityDecisions = new int[count];
+        for (int i = 0; i < count; i++) {
+            minorityDecisions[i] = input.readInt();
+        }
+        for (int i = 0; i < count; i++) {
+            int majorityDecision = input.readInt();
+            rows.add(new ResultRow(indices[i], typeValues[types[i]], decisions.get(minorityDecisions[i]), decisions.get(majorityDecision)));
+        }
+    }
+}
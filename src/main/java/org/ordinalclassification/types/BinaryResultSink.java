@@ -0,0 +1,103 @@
+package org.ordinalclassification.types;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+public class BinaryResultSink extends ChannelResultSink {
+    static final int magic = 0x4F435242;
+    static final int version = 1;
+    static final byte endTag = 0;
+    static final byte decisionTag = 1;
+    static final byte blockTag = 2;
+    private static final int defaultBlockSize = 4096;
+    private Object2IntOpenHashMap<String> decisionIds;
+    private int[] indices;
+    private byte[] types;
+    private int[] minorityDecisions;
+    private int[] majorityDecisions;
+    private int rowsInBlock;
+
+    public BinaryResultSink(WritableByteChannel channel) throws IOException {
+        this(channel, defaultBlockSize);
+    }
+
+    public BinaryResultSink(WritableByteChannel channel, int blockSize) throws IOException {
+        super(channel);
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.decisionIds = new Object2IntOpenHashMap<>();
+        this.decisionIds.defaultReturnValue(-1);
+        this.indices = new int[blockSize];
+        this.types = new byte[blockSize];
+        this.minorityDecisions = new int[blockSize];
+        this.majorityDecisions = new int[blockSize];
+        ensureRemaining(8);
+        buffer.putInt(magic);
+        buffer.putInt(version);
+    }
+
+    @Override
+    public void write(int index, LearningExampleType type, String minorityDecision, String majorityDecision) throws IOException {
+        int minorityId = getDecisionId(minorityDecision);
+        int majorityId = getDecisionId(majorityDecision);
+        indices[rowsInBlock] = index;
+        types[rowsInBlock] = (byte) type.ordinal();
+        minorityDecisions[rowsInBlock] = minorityId;
+        majorityDecisions[rowsInBlock] = majorityId;
+        rowsInBlock++;
+        if (rowsInBlock == indices.length) {
+            writeBlock();
+        }
+    }
+
+    private int getDecisionId(String decision) throws IOException {
+        int id = decisionIds.getInt(decision);
+        if (id < 0) {
+            id = decisionIds.size();
+            decisionIds.put(decision, id);
+            writeDecision(id, decision);
+        }
+        return id;
+    }
+
+    private void writeDecision(int id, String decision) throws IOException {
+        writeBlock();
+        byte[] name = decision.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(9 + name.length);
+        buffer.put(decisionTag);
+        buffer.putInt(id);
+        buffer.putInt(name.length);
+        buffer.put(name);
+    }
+
+    private void writeBlock() throws IOException {
+        if (rowsInBlock == 0) {
+            return;
+        }
+        ensureRemaining(5 + 13 * rowsInBlock);
+        buffer.put(blockTag);
+        buffer.putInt(rowsInBlock);
+        buffer.asIntBuffer().put(indices, 0, rowsInBlock);
+        buffer.position(buffer.position() + 4 * rowsInBlock);
+        buffer.put(types, 0, rowsInBlock);
+        buffer.asIntBuffer().put(minorityDecisions, 0, rowsInBlock);
+        buffer.position(buffer.position() + 4 * rowsInBlock);
+        buffer.asIntBuffer().put(majorityDecisions, 0, rowsInBlock);
+        buffer.position(buffer.position() + 4 * rowsInBlock);
+        rowsInBlock = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBlock();
+            ensureRemaining(1);
+            buffer.put(endTag);
+        } finally {
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.ordinalclassification.types;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+public class CsvResultSink extends ChannelResultSink {
+    private static final byte csvSeparator = ';';
+    private static final byte[] lineSeparator = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final String[] headers = {"index", "type", "minority_decision", "majority_decision"};
+    private byte[][] typeNames;
+    private HashMap<String, byte[]> decisionNames;
+    private byte[] digits;
+
+    public CsvResultSink(WritableByteChannel channel) throws IOException {
+        super(channel);
+        LearningExampleType[] types = LearningExampleType.values();
+        this.typeNames = new byte[types.length][];
+        for (LearningExampleType type: types) {
+            typeNames[type.ordinal()] = type.name().getBytes(StandardCharsets.UTF_8);
+        }
+        this.decisionNames = new HashMap<>();
+        this.digits = new byte[11];
+        writeHeaders();
+    }
+
+    private void writeHeaders() throws IOException {
+        for (int i = 0; i < headers.length; i++) {
+            if (i > 0) {
+                writeByte(csvSeparator);
+            }
+            writeBytes(headers[i].getBytes(StandardCharsets.UTF_8));
+        }
+        writeBytes(lineSeparator);
+    }
+
+    @Override
+    public void write(int index, LearningExampleType type, String minorityDecision, String majorityDecision) throws IOException {
+        writeInt(index);
+        writeByte(csvSeparator);
+        writeBytes(typeNames[type.ordinal()]);
+        writeByte(csvSeparator);
+        writeBytes(getDecisionName(minorityDecision));
+        writeByte(csvSeparator);
+        writeBytes(getDecisionName(majorityDecision));
+        writeBytes(lineSeparator);
+    }
+
+    private byte[] getDecisionName(String decision) {
+        byte[] name = decisionNames.get(decision);
+        if (name == null) {
+            name = decision.getBytes(StandardCharsets.UTF_8);
+            decisionNames.put(decision, name);
+        }
+        return name;
+    }
+
+    private void writeInt(int value) throws IOException {
+        long remaining = value;
+        boolean negative = remaining < 0;
+        if (negative) {
+            remaining = -remaining;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (negative) {
+            digits[--position] = '-';
+        }
+        ensureRemaining(digits.length - position);
+        buffer.put(digits, position, digits.length - position);
+    }
+
+    private void writeByte(byte value) throws IOException {
+        ensureRemaining(1);
+        buffer.put(value);
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        ensureRemaining(bytes.length);
+        buffer.put(bytes);
+    }
+}
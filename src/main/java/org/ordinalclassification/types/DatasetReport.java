@@ -0,0 +1,29 @@
+package org.ordinalclassification.types;
+
+public class DatasetReport {
+    private String datasetName;
+    private long elapsedMillis;
+    private Throwable failure;
+
+    public DatasetReport(String datasetName, long elapsedMillis, Throwable failure) {
+        this.datasetName = datasetName;
+        this.elapsedMillis = elapsedMillis;
+        this.failure = failure;
+    }
+
+    public String getDatasetName() {
+        return datasetName;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+}
@@ -7,40 +7,71 @@ import java.util.HashMap;
 public class DistanceArray {
     private int examplesCount;
     private HVDM measure;
-    private HashMap<Integer, HashMap<Integer, Double>> distances;
+    private DistanceStore distances;
 
     public DistanceArray(HVDM measure) {
-        this.examplesCount = measure.getData().getNumberOfObjects();
-        this.measure = measure;
-        distances = new HashMap<>();
-        calculateDistances();
+        this(measure, DistancePrecision.DOUBLE);
+    }
+
+    public DistanceArray(HVDM measure, DistancePrecision precision) {
+        this(measure, DistanceStore.onHeap(measure.getData().getNumberOfObjects(), precision));
+    }
+
+    public DistanceArray(HVDM measure, DistanceMatrixCalculator calculator) {
+        this(measure, DistanceStore.onHeap(measure.getData().getNumberOfObjects(), DistancePrecision.DOUBLE), calculator);
+    }
+
+    public DistanceArray(HVDM measure, DistanceStore distances) {
+        this(measure, distances, new DistanceMatrixCalculator());
     }
 
-    private void calculateDistances() {
-        for (int i = 1; i < examplesCount; i++) {
-            HashMap<Integer, Double> exampleDistances = new HashMap<>();
-            for (int j = 0; j < i; j++) {
-                exampleDistances.put(j, measure.measureDistance(i, j));
-            }
-            distances.put(i, exampleDistances);
+    public DistanceArray(HVDM measure, DistanceStore distances, DistanceMatrixCalculator calculator) {
+        this.examplesCount = measure.getData().getNumberOfObjects();
+        if (distances.getExamplesCount() != examplesCount) {
+            throw new IllegalArgumentException("Distance store size does not match the number of objects");
         }
+        this.measure = measure;
+        this.distances = distances;
+        calculator.calculate(measure, distances);
     }
 
     public double getDistance(int xIndex, int yIndex) {
         if (xIndex == yIndex) {
             return 0.0;
         }
-        return xIndex > yIndex ? distances.get(xIndex).get(yIndex) : distances.get(yIndex).get(xIndex);
+        return xIndex > yIndex ? distances.get(DistanceStore.index(xIndex, yIndex)) : distances.get(DistanceStore.index(yIndex, xIndex));
     }
 
     public HashMap<Integer, Double> getExampleDistances(int exampleIndex) {
         HashMap<Integer, Double> exampleDistances = new HashMap<>();
+        long rowStart = DistanceStore.index(exampleIndex, 0);
         for (int i = 0; i < exampleIndex; i++) {
-            exampleDistances.put(i, distances.get(exampleIndex).get(i));
+            exampleDistances.put(i, distances.get(rowStart + i));
         }
         for (int i = exampleIndex + 1; i < examplesCount; i++) {
-            exampleDistances.put(i, distances.get(i).get(exampleIndex));
+            exampleDistances.put(i, distances.get(DistanceStore.index(i, exampleIndex)));
         }
         return exampleDistances;
     }
+
+    public void getExampleDistances(int exampleIndex, double[] row) {
+        long rowStart = DistanceStore.index(exampleIndex, 0);
+        for (int i = 0; i < exampleIndex; i++) {
+            row[i] = distances.get(rowStart + i);
+        }
+        row[exampleIndex] = 0.0;
+        long index = DistanceStore.index(exampleIndex + 1, exampleIndex);
+        for (int i = exampleIndex + 1; i < examplesCount; i++) {
+            row[i] = distances.get(index);
+            index += i;
+        }
+    }
+
+    public int getExamplesCount() {
+        return examplesCount;
+    }
+
+    public DistancePrecision getPrecision() {
+        return distances.getPrecision();
+    }
 }
@@ -0,0 +1,112 @@
+package org.ordinalclassification.types;
+
+import org.rulelearn.measures.HVDM;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class DistanceMatrixCalculator {
+    private static final int defaultTileSize = 64;
+    private static final int tilesPerTask = 4;
+    private int parallelism;
+    private int tileSize;
+
+    public DistanceMatrixCalculator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public DistanceMatrixCalculator(int parallelism) {
+        this(parallelism, defaultTileSize);
+    }
+
+    public DistanceMatrixCalculator(int parallelism, int tileSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism level must be positive");
+        }
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive");
+        }
+        this.parallelism = parallelism;
+        this.tileSize = tileSize;
+    }
+
+    public void calculate(HVDM measure, DistanceStore distances) {
+        int examplesCount = distances.getExamplesCount();
+        if (parallelism == 1 || examplesCount <= tileSize) {
+            calculateTile(measure, distances, 0, examplesCount, 0, examplesCount);
+            return;
+        }
+        int blocksCount = (examplesCount + tileSize - 1) / tileSize;
+        int tilesCount = blocksCount * (blocksCount + 1) / 2;
+        int[] tileRows = new int[tilesCount];
+        int[] tileColumns = new int[tilesCount];
+        int tile = 0;
+        for (int row = 0; row < blocksCount; row++) {
+            for (int column = 0; column <= row; column++) {
+                tileRows[tile] = row;
+                tileColumns[tile] = column;
+                tile++;
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new TilesTask(measure, distances, tileRows, tileColumns, 0, tilesCount));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void calculateTile(HVDM measure, DistanceStore distances, int rowFrom, int rowTo, int columnFrom, int columnTo) {
+        for (int i = Math.max(rowFrom, 1); i < rowTo; i++) {
+            long rowStart = DistanceStore.index(i, 0);
+            int columnEnd = Math.min(columnTo, i);
+            for (int j = columnFrom; j < columnEnd; j++) {
+                distances.set(rowStart + j, measure.measureDistance(i, j));
+            }
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    @SuppressWarnings("serial")
+    private class TilesTask extends RecursiveAction {
+        private HVDM measure;
+        private DistanceStore distances;
+        private int[] tileRows;
+        private int[] tileColumns;
+        private int from;
+        private int to;
+
+        TilesTask(HVDM measure, DistanceStore distances, int[] tileRows, int[] tileColumns, int from, int to) {
+            this.measure = measure;
+            this.distances = distances;
+            this.tileRows = tileRows;
+            this.tileColumns = tileColumns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= tilesPerTask) {
+                int examplesCount = distances.getExamplesCount();
+                for (int tile = from; tile < to; tile++) {
+                    int rowFrom = tileRows[tile] * tileSize;
+                    int columnFrom = tileColumns[tile] * tileSize;
+                    calculateTile(measure, distances, rowFrom, Math.min(rowFrom + tileSize, examplesCount),
+                            columnFrom, Math.min(columnFrom + tileSize, examplesCount));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TilesTask(measure, distances, tileRows, tileColumns, from, middle),
+                    new TilesTask(measure, distances, tileRows, tileColumns, middle, to));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.ordinalclassification.types;
+
+public enum DistancePrecision {
+    DOUBLE(Double.BYTES),
+    FLOAT(Float.BYTES);
+
+    private int bytes;
+
+    DistancePrecision(int bytes) {
+        this.bytes = bytes;
+    }
+
+    public int getBytes() {
+        return bytes;
+    }
+}
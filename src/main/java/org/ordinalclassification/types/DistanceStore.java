@@ -0,0 +1,57 @@
+package org.ordinalclassification.types;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public abstract class DistanceStore {
+    protected int examplesCount;
+    protected long size;
+
+    public DistanceStore(int examplesCount) {
+        if (examplesCount < 0) {
+            throw new IllegalArgumentException("Negative examples count");
+        }
+        this.examplesCount = examplesCount;
+        this.size = (long) examplesCount * (examplesCount - 1) / 2;
+    }
+
+    public static DistanceStore onHeap(int examplesCount, DistancePrecision precision) {
+        if (precision == DistancePrecision.FLOAT) {
+            return new FloatDistanceStore(examplesCount);
+        }
+        return new DoubleDistanceStore(examplesCount);
+    }
+
+    public static DistanceStore offHeap(int examplesCount, DistancePrecision precision) {
+        return new OffHeapDistanceStore(examplesCount, precision);
+    }
+
+    public static DistanceStore memoryMapped(int examplesCount, DistancePrecision precision, Path file) throws IOException {
+        return new OffHeapDistanceStore(examplesCount, precision, file);
+    }
+
+    public static long index(int xIndex, int yIndex) {
+        return (long) xIndex * (xIndex - 1) / 2 + yIndex;
+    }
+
+    public abstract double get(long index);
+
+    public abstract void set(long index, double distance);
+
+    public abstract DistancePrecision getPrecision();
+
+    public int getExamplesCount() {
+        return examplesCount;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    protected static int checkedArraySize(long size) {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(String.format("%d distances do not fit into an array, use off-heap store", size));
+        }
+        return (int) size;
+    }
+}
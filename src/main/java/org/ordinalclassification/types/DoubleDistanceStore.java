@@ -0,0 +1,25 @@
+package org.ordinalclassification.types;
+
+public class DoubleDistanceStore extends DistanceStore {
+    private double[] distances;
+
+    public DoubleDistanceStore(int examplesCount) {
+        super(examplesCount);
+        this.distances = new double[checkedArraySize(size)];
+    }
+
+    @Override
+    public double get(long index) {
+        return distances[(int) index];
+    }
+
+    @Override
+    public void set(long index, double distance) {
+        distances[(int) index] = distance;
+    }
+
+    @Override
+    public DistancePrecision getPrecision() {
+        return DistancePrecision.DOUBLE;
+    }
+}
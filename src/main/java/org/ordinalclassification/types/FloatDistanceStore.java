@@ -0,0 +1,25 @@
+package org.ordinalclassification.types;
+
+public class FloatDistanceStore extends DistanceStore {
+    private float[] distances;
+
+    public FloatDistanceStore(int examplesCount) {
+        super(examplesCount);
+        this.distances = new float[checkedArraySize(size)];
+    }
+
+    @Override
+    public double get(long index) {
+        return distances[(int) index];
+    }
+
+    @Override
+    public void set(long index, double distance) {
+        distances[(int) index] = (float) distance;
+    }
+
+    @Override
+    public DistancePrecision getPrecision() {
+        return DistancePrecision.FLOAT;
+    }
+}
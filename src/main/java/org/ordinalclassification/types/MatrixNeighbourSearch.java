@@ -0,0 +1,100 @@
+package org.ordinalclassification.types;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+public class MatrixNeighbourSearch implements NeighbourSearch {
+    private DistanceArray distances;
+    private int[] candidates;
+    private NeighbourHeap heap;
+    private double[] row;
+    private int[] buffer;
+
+    public MatrixNeighbourSearch(DistanceArray distances) {
+        this(distances, null);
+    }
+
+    public MatrixNeighbourSearch(DistanceArray distances, int[] candidates) {
+        this.distances = distances;
+        this.candidates = candidates;
+        this.heap = new NeighbourHeap(0);
+        this.row = new double[distances.getExamplesCount()];
+        this.buffer = new int[candidates == null ? distances.getExamplesCount() : candidates.length];
+    }
+
+    @Override
+    public int[] getKNearestIndices(int exampleIndex, int k) {
+        int count = collectKNearest(exampleIndex, k);
+        int[] kNearest = new int[count];
+        System.arraycopy(buffer, 0, kNearest, 0, count);
+        return kNearest;
+    }
+
+    @Override
+    public double getDistanceToNthNeighbour(int exampleIndex, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Neighbour number must be positive");
+        }
+        if (collectKNearest(exampleIndex, n) < n) {
+            throw new IllegalArgumentException(String.format("Example %d has less than %d neighbours", exampleIndex, n));
+        }
+        return row[buffer[n - 1]];
+    }
+
+    @Override
+    public int[] getIndicesWithinRadius(int exampleIndex, double radius) {
+        fillRow(exampleIndex);
+        int count = 0;
+        int candidatesCount = getCandidatesCount();
+        for (int c = 0; c < candidatesCount; c++) {
+            int i = getCandidate(c);
+            if (i != exampleIndex && row[i] < radius) {
+                buffer[count++] = i;
+            }
+        }
+        IntArrays.quickSort(buffer, 0, count, (x, y) -> NeighbourHeap.isFurther(row[x], x, row[y], y) ? 1 : (x == y ? 0 : -1));
+        int[] withinRadius = new int[count];
+        System.arraycopy(buffer, 0, withinRadius, 0, count);
+        return withinRadius;
+    }
+
+    @Override
+    public double getDistance(int xIndex, int yIndex) {
+        return distances.getDistance(xIndex, yIndex);
+    }
+
+    @Override
+    public NeighbourSearch restrictTo(int[] candidateIndices) {
+        return new MatrixNeighbourSearch(distances, candidateIndices);
+    }
+
+    private int collectKNearest(int exampleIndex, int k) {
+        fillRow(exampleIndex);
+        heap.reset(k);
+        int candidatesCount = getCandidatesCount();
+        for (int c = 0; c < candidatesCount; c++) {
+            int i = getCandidate(c);
+            if (i != exampleIndex) {
+                heap.offer(i, row[i]);
+            }
+        }
+        return heap.drainSorted(buffer);
+    }
+
+    private void fillRow(int exampleIndex) {
+        if (candidates == null) {
+            distances.getExampleDistances(exampleIndex, row);
+            return;
+        }
+        for (int i: candidates) {
+            row[i] = distances.getDistance(exampleIndex, i);
+        }
+    }
+
+    private int getCandidatesCount() {
+        return candidates == null ? row.length : candidates.length;
+    }
+
+    private int getCandidate(int position) {
+        return candidates == null ? position : candidates[position];
+    }
+}
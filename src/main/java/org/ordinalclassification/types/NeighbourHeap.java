@@ -0,0 +1,104 @@
+package org.ordinalclassification.types;
+
+public class NeighbourHeap {
+    private int[] indices;
+    private double[] distances;
+    private int capacity;
+    private int size;
+
+    public NeighbourHeap(int capacity) {
+        this.indices = new int[capacity];
+        this.distances = new double[capacity];
+        reset(capacity);
+    }
+
+    public void reset(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative heap capacity");
+        }
+        if (capacity > indices.length) {
+            indices = new int[capacity];
+            distances = new double[capacity];
+        }
+        this.capacity = capacity;
+        this.size = 0;
+    }
+
+    public void offer(int index, double distance) {
+        if (size < capacity) {
+            indices[size] = index;
+            distances[size] = distance;
+            siftUp(size++);
+        } else if (size > 0 && isFurther(distances[0], indices[0], distance, index)) {
+            indices[0] = index;
+            distances[0] = distance;
+            siftDown(0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public double getMaxDistance() {
+        return distances[0];
+    }
+
+    public int drainSorted(int[] sortedIndices) {
+        int count = size;
+        while (size > 0) {
+            sortedIndices[size - 1] = indices[0];
+            size--;
+            indices[0] = indices[size];
+            distances[0] = distances[size];
+            siftDown(0);
+        }
+        return count;
+    }
+
+    private void siftUp(int position) {
+        int index = indices[position];
+        double distance = distances[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isFurther(distance, index, distances[parent], indices[parent])) {
+                break;
+            }
+            indices[position] = indices[parent];
+            distances[position] = distances[parent];
+            position = parent;
+        }
+        indices[position] = index;
+        distances[position] = distance;
+    }
+
+    private void siftDown(int position) {
+        int index = indices[position];
+        double distance = distances[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && isFurther(distances[right], indices[right], distances[child], indices[child])) {
+                child = right;
+            }
+            if (!isFurther(distances[child], indices[child], distance, index)) {
+                break;
+            }
+            indices[position] = indices[child];
+            distances[position] = distances[child];
+            position = child;
+        }
+        indices[position] = index;
+        distances[position] = distance;
+    }
+
+    public static boolean isFurther(double distance, int index, double otherDistance, int otherIndex) {
+        int comparison = Double.compare(distance, otherDistance);
+        return comparison > 0 || (comparison == 0 && index > otherIndex);
+    }
+}
@@ -0,0 +1,13 @@
+package org.ordinalclassification.types;
+
+public interface NeighbourSearch {
+    int[] getKNearestIndices(int exampleIndex, int k);
+
+    double getDistanceToNthNeighbour(int exampleIndex, int n);
+
+    int[] getIndicesWithinRadius(int exampleIndex, double radius);
+
+    double getDistance(int xIndex, int yIndex);
+
+    NeighbourSearch restrictTo(int[] candidateIndices);
+}
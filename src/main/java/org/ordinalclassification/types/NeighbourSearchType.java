@@ -0,0 +1,6 @@
+package org.ordinalclassification.types;
+
+public enum NeighbourSearchType {
+    DISTANCE_MATRIX,
+    VANTAGE_POINT_TREE
+}
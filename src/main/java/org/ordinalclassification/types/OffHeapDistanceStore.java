@@ -0,0 +1,73 @@
+package org.ordinalclassification.types;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class OffHeapDistanceStore extends DistanceStore {
+    private static final int chunkShift = 27;
+    private static final long chunkMask = (1L << chunkShift) - 1;
+    private DistancePrecision precision;
+    private ByteBuffer[] chunks;
+
+    public OffHeapDistanceStore(int examplesCount, DistancePrecision precision) {
+        super(examplesCount);
+        this.precision = precision;
+        this.chunks = new ByteBuffer[chunksCount()];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = ByteBuffer.allocateDirect(chunkBytes(i)).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    public OffHeapDistanceStore(int examplesCount, DistancePrecision precision, Path file) throws IOException {
+        super(examplesCount);
+        this.precision = precision;
+        this.chunks = new ByteBuffer[chunksCount()];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = 0;
+            for (int i = 0; i < chunks.length; i++) {
+                int bytes = chunkBytes(i);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, bytes).order(ByteOrder.nativeOrder());
+                position += bytes;
+            }
+        }
+    }
+
+    private int chunksCount() {
+        return (int) ((size + chunkMask) >>> chunkShift);
+    }
+
+    private int chunkBytes(int chunk) {
+        long entries = Math.min(size - ((long) chunk << chunkShift), 1L << chunkShift);
+        return (int) entries * precision.getBytes();
+    }
+
+    @Override
+    public double get(long index) {
+        ByteBuffer chunk = chunks[(int) (index >>> chunkShift)];
+        int offset = (int) (index & chunkMask);
+        if (precision == DistancePrecision.FLOAT) {
+            return chunk.getFloat(offset * Float.BYTES);
+        }
+        return chunk.getDouble(offset * Double.BYTES);
+    }
+
+    @Override
+    public void set(long index, double distance) {
+        ByteBuffer chunk = chunks[(int) (index >>> chunkShift)];
+        int offset = (int) (index & chunkMask);
+        if (precision == DistancePrecision.FLOAT) {
+            chunk.putFloat(offset * Float.BYTES, (float) distance);
+        } else {
+            chunk.putDouble(offset * Double.BYTES, distance);
+        }
+    }
+
+    @Override
+    public DistancePrecision getPrecision() {
+        return precision;
+    }
+}
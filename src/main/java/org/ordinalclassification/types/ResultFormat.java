@@ -0,0 +1,33 @@
+package org.ordinalclassification.types;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public enum ResultFormat {
+    CSV("csv"),
+    BINARY("bin");
+
+    private String extension;
+
+    ResultFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public ResultSink createSink(WritableByteChannel channel) throws IOException {
+        if (this == BINARY) {
+            return new BinaryResultSink(channel);
+        }
+        return new CsvResultSink(channel);
+    }
+
+    public ResultSink createSink(Path path) throws IOException {
+        return createSink(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+}
@@ -1,5 +1,7 @@
 package org.ordinalclassification.types;
 
+import java.io.IOException;
+
 public class ResultRow {
     private int index;
     private LearningExampleType type;
@@ -13,6 +15,10 @@ public class ResultRow {
         this.majorityDecision = majorityDecision;
     }
 
+    public void writeTo(ResultSink sink) throws IOException {
+        sink.write(index, type, minorityDecision, majorityDecision);
+    }
+
     public String getIndex() {
         return String.valueOf(index);
     }
@@ -0,0 +1,8 @@
+package org.ordinalclassification.types;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ResultSink extends Closeable {
+    void write(int index, LearningExampleType type, String minorityDecision, String majorityDecision) throws IOException;
+}
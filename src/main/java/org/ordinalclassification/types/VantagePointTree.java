@@ -0,0 +1,258 @@
+package org.ordinalclassification.types;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import org.rulelearn.measures.HVDM;
+
+import java.util.Random;
+
+public class VantagePointTree implements NeighbourSearch {
+    private static final int defaultLeafSize = 8;
+    private static final long seed = 0L;
+    private HVDM measure;
+    private double factor;
+    private int leafSize;
+    private int[] items;
+    private int[] innerEnd;
+    private double[] innerLow;
+    private double[] innerHigh;
+    private double[] outerLow;
+    private double[] outerHigh;
+    private double[] vantageDistances;
+    private NeighbourHeap heap;
+    private double[] queryDistances;
+    private int[] buffer;
+    private int found;
+
+    public VantagePointTree(HVDM measure) {
+        this(measure, defaultLeafSize);
+    }
+
+    public VantagePointTree(HVDM measure, int leafSize) {
+        this(measure, leafSize, allIndices(measure.getData().getNumberOfObjects()));
+    }
+
+    public VantagePointTree(HVDM measure, int leafSize, int[] candidateIndices) {
+        if (leafSize < 1) {
+            throw new IllegalArgumentException("Leaf size must be positive");
+        }
+        int candidatesCount = candidateIndices.length;
+        this.measure = measure;
+        this.factor = measure.getTriangleInequalityFactor();
+        this.leafSize = leafSize;
+        this.items = candidateIndices.clone();
+        this.innerEnd = new int[candidatesCount];
+        this.innerLow = new double[candidatesCount];
+        this.innerHigh = new double[candidatesCount];
+        this.outerLow = new double[candidatesCount];
+        this.outerHigh = new double[candidatesCount];
+        this.heap = new NeighbourHeap(0);
+        this.queryDistances = new double[measure.getData().getNumberOfObjects()];
+        this.buffer = new int[candidatesCount];
+        this.vantageDistances = new double[candidatesCount];
+        build(0, candidatesCount, new Random(seed));
+        this.vantageDistances = null;
+    }
+
+    private static int[] allIndices(int examplesCount) {
+        int[] indices = new int[examplesCount];
+        for (int i = 0; i < examplesCount; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    private void build(int from, int to, Random random) {
+        if (to - from <= leafSize) {
+            return;
+        }
+        swap(from, from + random.nextInt(to - from));
+        int vantage = items[from];
+        for (int i = from + 1; i < to; i++) {
+            vantageDistances[i] = measure.measureDistance(vantage, items[i]);
+        }
+        int middle = from + 1 + (to - from - 1) / 2;
+        select(from + 1, to - 1, middle);
+        innerEnd[from] = middle;
+        innerLow[from] = minDistance(from + 1, middle);
+        innerHigh[from] = maxDistance(from + 1, middle);
+        outerLow[from] = minDistance(middle, to);
+        outerHigh[from] = maxDistance(middle, to);
+        build(from + 1, middle, random);
+        build(middle, to, random);
+    }
+
+    private void select(int left, int right, int nth) {
+        while (left < right) {
+            double pivot = vantageDistances[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (vantageDistances[i] < pivot) {
+                    i++;
+                }
+                while (vantageDistances[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (nth <= j) {
+                right = j;
+            } else if (nth >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int item = items[i];
+        items[i] = items[j];
+        items[j] = item;
+        double distance = vantageDistances[i];
+        vantageDistances[i] = vantageDistances[j];
+        vantageDistances[j] = distance;
+    }
+
+    private double minDistance(int from, int to) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, vantageDistances[i]);
+        }
+        return min;
+    }
+
+    private double maxDistance(int from, int to) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, vantageDistances[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int[] getKNearestIndices(int exampleIndex, int k) {
+        int count = collectKNearest(exampleIndex, k);
+        int[] kNearest = new int[count];
+        System.arraycopy(buffer, 0, kNearest, 0, count);
+        return kNearest;
+    }
+
+    @Override
+    public double getDistanceToNthNeighbour(int exampleIndex, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Neighbour number must be positive");
+        }
+        if (collectKNearest(exampleIndex, n) < n) {
+            throw new IllegalArgumentException(String.format("Example %d has less than %d neighbours", exampleIndex, n));
+        }
+        return queryDistances[buffer[n - 1]];
+    }
+
+    @Override
+    public int[] getIndicesWithinRadius(int exampleIndex, double radius) {
+        found = 0;
+        searchRadius(exampleIndex, radius, 0, items.length);
+        IntArrays.quickSort(buffer, 0, found, (x, y) -> NeighbourHeap.isFurther(queryDistances[x], x, queryDistances[y], y) ? 1 : (x == y ? 0 : -1));
+        int[] withinRadius = new int[found];
+        System.arraycopy(buffer, 0, withinRadius, 0, found);
+        return withinRadius;
+    }
+
+    @Override
+    public double getDistance(int xIndex, int yIndex) {
+        if (xIndex == yIndex) {
+            return 0.0;
+        }
+        return measure.measureDistance(xIndex, yIndex);
+    }
+
+    @Override
+    public NeighbourSearch restrictTo(int[] candidateIndices) {
+        return new VantagePointTree(measure, leafSize, candidateIndices);
+    }
+
+    private int collectKNearest(int exampleIndex, int k) {
+        heap.reset(k);
+        if (k > 0) {
+            searchKNearest(exampleIndex, 0, items.length);
+        }
+        return heap.drainSorted(buffer);
+    }
+
+    private void searchKNearest(int exampleIndex, int from, int to) {
+        if (to - from <= leafSize) {
+            for (int i = from; i < to; i++) {
+                offer(exampleIndex, items[i]);
+            }
+            return;
+        }
+        int vantage = items[from];
+        double distance = offer(exampleIndex, vantage);
+        int middle = innerEnd[from];
+        boolean innerFirst = distance < (innerHigh[from] + outerLow[from]) / 2.0;
+        if (innerFirst) {
+            if (!prunedForKNearest(distance, innerLow[from], innerHigh[from])) {
+                searchKNearest(exampleIndex, from + 1, middle);
+            }
+            if (!prunedForKNearest(distance, outerLow[from], outerHigh[from])) {
+                searchKNearest(exampleIndex, middle, to);
+            }
+        } else {
+            if (!prunedForKNearest(distance, outerLow[from], outerHigh[from])) {
+                searchKNearest(exampleIndex, middle, to);
+            }
+            if (!prunedForKNearest(distance, innerLow[from], innerHigh[from])) {
+                searchKNearest(exampleIndex, from + 1, middle);
+            }
+        }
+    }
+
+    private double offer(int exampleIndex, int candidate) {
+        double distance = getDistance(exampleIndex, candidate);
+        queryDistances[candidate] = distance;
+        if (candidate != exampleIndex) {
+            heap.offer(candidate, distance);
+        }
+        return distance;
+    }
+
+    private boolean prunedForKNearest(double distance, double low, double high) {
+        if (heap.size() < heap.capacity()) {
+            return false;
+        }
+        return lowerBound(distance, low, high) > heap.getMaxDistance();
+    }
+
+    private void searchRadius(int exampleIndex, double radius, int from, int to) {
+        if (to - from <= leafSize) {
+            for (int i = from; i < to; i++) {
+                collectWithinRadius(exampleIndex, items[i], radius);
+            }
+            return;
+        }
+        double distance = collectWithinRadius(exampleIndex, items[from], radius);
+        int middle = innerEnd[from];
+        if (!(lowerBound(distance, innerLow[from], innerHigh[from]) >= radius)) {
+            searchRadius(exampleIndex, radius, from + 1, middle);
+        }
+        if (!(lowerBound(distance, outerLow[from], outerHigh[from]) >= radius)) {
+            searchRadius(exampleIndex, radius, middle, to);
+        }
+    }
+
+    private double collectWithinRadius(int exampleIndex, int candidate, double radius) {
+        double distance = getDistance(exampleIndex, candidate);
+        queryDistances[candidate] = distance;
+        if (candidate != exampleIndex && distance < radius) {
+            buffer[found++] = candidate;
+        }
+        return distance;
+    }
+
+    private double lowerBound(double distance, double low, double high) {
+        return Math.max(distance / factor - high, low / factor - distance);
+    }
+}
@@ -0,0 +1,105 @@
+package org.ordinalclassification.utils;
+
+import org.ordinalclassification.types.DatasetReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Processes datasets on a fixed pool of workers. Each operation gets parallelism of max(1, cores / workers) (see getParallelismPerDataset()),
+// so at most max(workers, cores) threads compute distance matrices at the same time, in addition to the worker threads waiting for them.
+public class ConcurrentDatasetIterator {
+    private static final long bytesPerPermit = 1L << 20;
+    private JsonCsvDatasetIterator datasets;
+    private int workers;
+    private int parallelismPerDataset;
+    private long memoryBudget;
+    private DatasetMemoryEstimator estimator;
+
+    public ConcurrentDatasetIterator(String jsonPath, String csvPath, String resultsPath, int workers) {
+        this(jsonPath, csvPath, resultsPath, workers, Runtime.getRuntime().maxMemory(), new DistanceMatrixMemoryEstimator());
+    }
+
+    public ConcurrentDatasetIterator(String jsonPath, String csvPath, String resultsPath, int workers, long memoryBudget, DatasetMemoryEstimator estimator) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Number of workers must be positive");
+        }
+        if (memoryBudget < bytesPerPermit) {
+            throw new IllegalArgumentException("Memory budget must be at least 1 MB");
+        }
+        this.datasets = new JsonCsvDatasetIterator(jsonPath, csvPath, resultsPath);
+        this.workers = workers;
+        this.parallelismPerDataset = Math.max(1, Runtime.getRuntime().availableProcessors() / workers);
+        this.memoryBudget = memoryBudget;
+        this.estimator = estimator;
+    }
+
+    public List<DatasetReport> iterate(Supplier<DatasetOperation> operationFactory) {
+        List<String[]> datasetsPaths = datasets.getDatasetsPaths();
+        int datasetsCount = datasetsPaths.size();
+        int budgetPermits = (int) Math.min(Integer.MAX_VALUE, memoryBudget / bytesPerPermit);
+        Semaphore memory = new Semaphore(budgetPermits, true);
+        AtomicInteger finished = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<DatasetReport>> futures = new ArrayList<>();
+        try {
+            for (String[] paths: datasetsPaths) {
+                futures.add(executor.submit(() -> carryOut(operationFactory, paths, memory, budgetPermits, finished, datasetsCount)));
+            }
+            List<DatasetReport> reports = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    reports.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    reports.add(new DatasetReport(JsonCsvDatasetIterator.getDatasetName(datasetsPaths.get(i)), 0, e.getCause()));
+                }
+            }
+            return reports;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for datasets", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public int getParallelismPerDataset() {
+        return parallelismPerDataset;
+    }
+
+    private DatasetReport carryOut(Supplier<DatasetOperation> operationFactory, String[] paths, Semaphore memory, int budgetPermits, AtomicInteger finished, int datasetsCount) throws InterruptedException {
+        String datasetName = JsonCsvDatasetIterator.getDatasetName(paths);
+        long start = System.currentTimeMillis();
+        Throwable failure = null;
+        try {
+            int permits = (int) Math.min(budgetPermits, Math.max(1L, estimator.estimateBytes(paths) / bytesPerPermit));
+            memory.acquire(permits);
+            try {
+                start = System.currentTimeMillis();
+                System.out.println(String.format("[ConcurrentDatasetIterator] Processing dataset: %s", datasetName));
+                DatasetOperation operation = operationFactory.get();
+                operation.setParallelism(parallelismPerDataset);
+                operation.carryOutOrThrow(paths);
+            } finally {
+                memory.release(permits);
+            }
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Throwable e) {
+            failure = e; // errors such as OutOfMemoryError are recorded too, so they do not abort other datasets
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        if (failure == null) {
+            System.out.println(String.format("[ConcurrentDatasetIterator] Finished dataset: %s in %d ms (%d/%d)", datasetName, elapsed, finished.incrementAndGet(), datasetsCount));
+        } else {
+            System.out.println(String.format("[ConcurrentDatasetIterator] Failed dataset: %s after %d ms (%d/%d): %s", datasetName, elapsed, finished.incrementAndGet(), datasetsCount, failure));
+        }
+        return new DatasetReport(datasetName, elapsed, failure);
+    }
+}
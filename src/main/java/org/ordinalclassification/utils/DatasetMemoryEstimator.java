@@ -0,0 +1,5 @@
+package org.ordinalclassification.utils;
+
+public interface DatasetMemoryEstimator {
+    long estimateBytes(String[] paths);
+}
@@ -1,5 +1,16 @@
 package org.ordinalclassification.utils;
 
+import java.io.IOException;
+
 public interface DatasetOperation {
     void carryOut(String[] args);
+
+    // variant used by runners that report the outcome of each dataset; failures are propagated instead of being only logged
+    default void carryOutOrThrow(String[] args) throws IOException {
+        carryOut(args);
+    }
+
+    // number of threads the operation may use to process a single dataset; ignored by sequential operations
+    default void setParallelism(int parallelism) {
+    }
 }
@@ -0,0 +1,29 @@
+package org.ordinalclassification.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+public class DistanceMatrixMemoryEstimator implements DatasetMemoryEstimator {
+    private int bytesPerDistance;
+
+    public DistanceMatrixMemoryEstimator() {
+        this(Double.BYTES);
+    }
+
+    public DistanceMatrixMemoryEstimator(int bytesPerDistance) {
+        this.bytesPerDistance = bytesPerDistance;
+    }
+
+    @Override
+    public long estimateBytes(String[] paths) {
+        try (Stream<String> lines = Files.lines(Paths.get(paths[1]))) {
+            long examplesCount = lines.count();
+            return examplesCount * (examplesCount - 1) / 2 * bytesPerDistance;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -3,8 +3,11 @@ package org.ordinalclassification.utils;
 import org.apache.commons.io.FilenameUtils;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
 public class JsonCsvDatasetIterator {
     private String jsonPath;
@@ -18,21 +21,36 @@ public class JsonCsvDatasetIterator {
     }
 
     public void iterate(DatasetOperation operation) {
+        List<String[]> datasetsPaths = getDatasetsPaths();
+        int datasetsCount = datasetsPaths.size();
+        int counter = 0;
+        for (String[] paths: datasetsPaths) {
+            String datasetName = getDatasetName(paths);
+            System.out.println(String.format("[JsonCsvDatasetIterator] Processing dataset: %s (%d/%d)", datasetName, ++counter, datasetsCount));
+            operation.carryOut(paths);
+        }
+    }
+
+    public List<String[]> getDatasetsPaths() {
         File[] jsonFiles = getFiles(this.jsonPath);
         File[] csvFiles = getFiles(this.csvPath);
+        Arrays.sort(jsonFiles, Comparator.comparing(File::getName));
+        Arrays.sort(csvFiles, Comparator.comparing(File::getName));
         Iterator<File> jsonIterator = Arrays.stream(jsonFiles).iterator();
         Iterator<File> csvIterator = Arrays.stream(csvFiles).iterator();
-        int datasetsCount = jsonFiles.length;
-        int counter = 0;
+        List<String[]> datasetsPaths = new ArrayList<>();
         while (jsonIterator.hasNext() && csvIterator.hasNext()) {
             File json = jsonIterator.next();
             File csv = csvIterator.next();
             String datasetName = FilenameUtils.removeExtension(json.getName());
             String resultsPath = String.format("%s\\%s", this.resultsPath, datasetName);
-            String[] paths = {json.getPath(), csv.getPath(), resultsPath};
-            System.out.println(String.format("[JsonCsvDatasetIterator] Processing dataset: %s (%d/%d)", datasetName, ++counter, datasetsCount));
-            operation.carryOut(paths);
+            datasetsPaths.add(new String[] {json.getPath(), csv.getPath(), resultsPath});
         }
+        return datasetsPaths;
+    }
+
+    public static String getDatasetName(String[] paths) {
+        return FilenameUtils.removeExtension(new File(paths[0]).getName());
     }
 
     private File[] getFiles(String directoryPath) {
@@ -9,7 +9,15 @@ import org.rulelearn.data.*;
 import org.ordinalclassification.classifiers.KNNAnalyzer;
 import org.rulelearn.measures.HVDM;
 import org.ordinalclassification.types.AnalysisResult;
+import org.ordinalclassification.types.DistanceArray;
+import org.ordinalclassification.types.DistanceMatrixCalculator;
 import org.ordinalclassification.types.LearningExampleType;
+import org.ordinalclassification.types.MatrixNeighbourSearch;
+import org.ordinalclassification.types.NeighbourSearch;
+import org.ordinalclassification.types.NeighbourSearchType;
+import org.ordinalclassification.types.ResultFormat;
+import org.ordinalclassification.types.ResultSink;
+import org.ordinalclassification.types.VantagePointTree;
 
 import java.io.File;
 import java.io.IOException;
@@ -23,6 +31,13 @@ public class NeighbourhoodAnalyzer implements DatasetOperation {
     private String resultsPath;
     private DataSubsetExtractor dataExtractor;
     private HVDM measure;
+    private NeighbourSearchType neighbourSearchType = NeighbourSearchType.DISTANCE_MATRIX;
+    private NeighbourSearch neighbours;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private boolean restrictedNeighbourhoods = false;
+    private ResultFormat resultFormat = ResultFormat.CSV;
+    private boolean streamingResults = false;
+    private HashMap<String, ResultSink> sinksByName = new HashMap<>();
     private HashMap<String, AnalysisResult> resultsByName;
     private static String unionVsUnionKernelFilename = "union_vs_union_kernel";
     private static String unionVsUnionKNNFilename = "union_vs_union_knn";
@@ -35,21 +50,55 @@ public class NeighbourhoodAnalyzer implements DatasetOperation {
         this.resultsPath = resultsPath;
     }
 
+    public NeighbourhoodAnalyzer(String jsonPath, String csvPath, String resultsPath, NeighbourSearchType neighbourSearchType) {
+        this(jsonPath, csvPath, resultsPath);
+        this.neighbourSearchType = neighbourSearchType;
+    }
+
     public NeighbourhoodAnalyzer() {
     }
 
+    public NeighbourhoodAnalyzer(NeighbourSearchType neighbourSearchType) {
+        this.neighbourSearchType = neighbourSearchType;
+    }
+
+    public void setRestrictedNeighbourhoods(boolean restrictedNeighbourhoods) {
+        this.restrictedNeighbourhoods = restrictedNeighbourhoods;
+    }
+
+    public void setResultFormat(ResultFormat resultFormat) {
+        this.resultFormat = resultFormat;
+    }
+
+    public void setStreamingResults(boolean streamingResults) {
+        this.streamingResults = streamingResults;
+    }
+
     @Override
-    public void carryOut(String[] args) {
-        loadArgs(args);
-        runAnalysis();
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism level must be positive");
+        }
+        this.parallelism = parallelism;
     }
 
-    private void loadArgs(String[] args) {
+    @Override
+    public void carryOut(String[] args) {
         try {
-            checkArgs(args);
-        } catch (Exception e) {
+            carryOutOrThrow(args);
+        } catch (IOException e) {
             e.printStackTrace();
         }
+    }
+
+    @Override
+    public void carryOutOrThrow(String[] args) throws IOException {
+        loadArgs(args);
+        analyzeAndSave();
+    }
+
+    private void loadArgs(String[] args) {
+        checkArgs(args);
         jsonPath = args[0];
         csvPath = args[1];
         resultsPath = args[2];
@@ -63,14 +112,22 @@ public class NeighbourhoodAnalyzer implements DatasetOperation {
 
     public void runAnalysis() {
         try {
-            loadData();
-            analyze();
-            saveResults();
+            analyzeAndSave();
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    private void analyzeAndSave() throws IOException {
+        loadData();
+        if (streamingResults) {
+            analyzeStreaming();
+        } else {
+            analyze();
+            saveResults();
+        }
+    }
+
     public void runAnalysisSilent() {
         try {
             loadData();
@@ -85,6 +142,7 @@ public class NeighbourhoodAnalyzer implements DatasetOperation {
                 InformationTableBuilder.safelyBuildFromCSVFile(jsonPath, csvPath, false));
         dataExtractor = new DataSubsetExtractor(informationTable);
         measure = new HVDM(dataExtractor.getData());
+        neighbours = createNeighbourSearch();
         resultsByName = new HashMap<>();
     }
 
@@ -94,25 +152,59 @@ public class NeighbourhoodAnalyzer implements DatasetOperation {
         unionVsUnionAnalysis(atLeastUnions, atMostUnions);
         HashMap<Decision, int[]> classesByDecision = dataExtractor.getClassesByDecision();
         classVsUnionAnalysis(classesByDecision, atLeastUnions, atMostUnions);
+        neighbours = null;
+    }
+
+    private void analyzeStreaming() throws IOException {
+        createDirIfNotExists();
+        try {
+            for (String key: new String[]{unionVsUnionKNNFilename, unionVsUnionKernelFilename, classVsUnionKNNFilename, classVsUnionKernelFilename}) {
+                sinksByName.put(key, resultFormat.createSink(Paths.get(getResultsFilename(key))));
+            }
+            analyze();
+        } finally {
+            closeSinks();
+        }
+    }
+
+    private void closeSinks() throws IOException {
+        IOException failure = null;
+        for (ResultSink sink: sinksByName.values()) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        sinksByName.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private AnalysisResult createResult(String key) {
+        ResultSink sink = sinksByName.get(key);
+        if (sink != null) {
+            return new AnalysisResult(sink);
+        }
+        return new AnalysisResult();
     }
 
     private void unionVsUnionAnalysis(Union[] atLeastUnions, Union[] atMostUnions) {
         Collections.reverse(Arrays.asList(atLeastUnions));
         Iterator<Union> atLeastUnionIterator = Arrays.stream(atLeastUnions).iterator();
         Iterator<Union> atMostUnionIterator = Arrays.stream(atMostUnions).iterator();
-        resultsByName.put(unionVsUnionKNNFilename, new AnalysisResult());
-        resultsByName.put(unionVsUnionKernelFilename, new AnalysisResult());
+        resultsByName.put(unionVsUnionKNNFilename, createResult(unionVsUnionKNNFilename));
+        resultsByName.put(unionVsUnionKernelFilename, createResult(unionVsUnionKernelFilename));
         while (atLeastUnionIterator.hasNext() && atMostUnionIterator.hasNext()) {
             UnionWithSingleLimitingDecision atLeastUnion = (UnionWithSingleLimitingDecision) atLeastUnionIterator.next();
             UnionWithSingleLimitingDecision atMostUnion = (UnionWithSingleLimitingDecision) atMostUnionIterator.next();
             int[] atLeast = unionToArray(atLeastUnion);
             int[] atMost = unionToArray(atMostUnion);
             if (atLeast.length > atMost.length) {
-                performKNearestAnalysis(atLeast, atMost, atLeastUnion.getLimitingDecision(), atMostUnion.getLimitingDecision(), unionVsUnionKNNFilename);
-                performKernelAnalysis(atLeast, atMost, atLeastUnion.getLimitingDecision(), atMostUnion.getLimitingDecision(), unionVsUnionKernelFilename);
+                performAnalyses(atLeast, atMost, atLeastUnion.getLimitingDecision(), atMostUnion.getLimitingDecision(), unionVsUnionKNNFilename, unionVsUnionKernelFilename);
             } else {
-                performKNearestAnalysis(atMost, atLeast, atMostUnion.getLimitingDecision(), atLeastUnion.getLimitingDecision(), unionVsUnionKNNFilename);
-                performKernelAnalysis(atMost, atLeast, atMostUnion.getLimitingDecision(), atLeastUnion.getLimitingDecision(), unionVsUnionKernelFilename);
+                performAnalyses(atMost, atLeast, atMostUnion.getLimitingDecision(), atLeastUnion.getLimitingDecision(), unionVsUnionKNNFilename, unionVsUnionKernelFilename);
             }
         }
     }
@@ -124,50 +216,89 @@ public class NeighbourhoodAnalyzer implements DatasetOperation {
         return arr;
     }
 
-    private void performKNearestAnalysis(int[] majority, int[] minority, Decision majorityLimitingDecision, Decision minorityLimitingDecision, String resultsKey) {
-        HashMap<Integer, LearningExampleType> kNearestResults = kNearestAnalysis(majority, minority);
+    private void performAnalyses(int[] majority, int[] minority, Decision majorityLimitingDecision, Decision minorityLimitingDecision, String kNearestResultsKey, String kernelResultsKey) {
+        NeighbourSearch domainNeighbours = restrictedNeighbourhoods ? restrictNeighbours(majority, minority) : neighbours;
+        performKNearestAnalysis(domainNeighbours, majority, minority, majorityLimitingDecision, minorityLimitingDecision, kNearestResultsKey);
+        performKernelAnalysis(domainNeighbours, majority, minority, majorityLimitingDecision, minorityLimitingDecision, kernelResultsKey);
+    }
+
+    private NeighbourSearch restrictNeighbours(int[] majority, int[] minority) {
+        int[] domain = mergeSorted(majority, minority);
+        if (domain.length == dataExtractor.getData().getNumberOfObjects()) {
+            return neighbours;
+        }
+        return neighbours.restrictTo(domain);
+    }
+
+    // both arrays must be sorted ascending without duplicates, as union objects and class indices are; objects present in both are kept once
+    private int[] mergeSorted(int[] first, int[] second) {
+        int[] merged = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < first.length || j < second.length) {
+            int next;
+            if (j == second.length || (i < first.length && first[i] <= second[j])) {
+                next = first[i++];
+            } else {
+                next = second[j++];
+            }
+            if (count == 0 || merged[count - 1] != next) {
+                merged[count++] = next;
+            }
+        }
+        return Arrays.copyOf(merged, count);
+    }
+
+    private void performKNearestAnalysis(NeighbourSearch domainNeighbours, int[] majority, int[] minority, Decision majorityLimitingDecision, Decision minorityLimitingDecision, String resultsKey) {
+        HashMap<Integer, LearningExampleType> kNearestResults = kNearestAnalysis(domainNeighbours, majority, minority);
         resultsByName.get(resultsKey).addResults(kNearestResults, minorityLimitingDecision, majorityLimitingDecision);
     }
 
-    private void performKernelAnalysis(int[] majority, int[] minority, Decision majorityLimitingDecision, Decision minorityLimitingDecision, String resultsKey) {
-        HashMap<Integer, LearningExampleType> kernelResults = kernelAnalysis(majority, minority, majorityLimitingDecision, minorityLimitingDecision);
+    private void performKernelAnalysis(NeighbourSearch domainNeighbours, int[] majority, int[] minority, Decision majorityLimitingDecision, Decision minorityLimitingDecision, String resultsKey) {
+        HashMap<Integer, LearningExampleType> kernelResults = kernelAnalysis(domainNeighbours, majority, minority, majorityLimitingDecision, minorityLimitingDecision);
         resultsByName.get(resultsKey).addResults(kernelResults, minorityLimitingDecision, majorityLimitingDecision);
     }
 
-    private HashMap<Integer, LearningExampleType> kNearestAnalysis(int[] majorityIndices, int[] minorityIndices) {
+    private HashMap<Integer, LearningExampleType> kNearestAnalysis(NeighbourSearch domainNeighbours, int[] majorityIndices, int[] minorityIndices) {
         KNearestLabeler labeler = new KNearestLabeler(4, 2, 1);
-        KNNAnalyzer analyzer = new KNNAnalyzer(measure, majorityIndices, minorityIndices, 5, labeler);
+        KNNAnalyzer analyzer = new KNNAnalyzer(measure, domainNeighbours, majorityIndices, minorityIndices, 5, labeler);
         analyzer.labelExamples();
         return analyzer.getLabelsAssignment();
     }
 
-    private HashMap<Integer, LearningExampleType> kernelAnalysis(int[] majorityIndices, int[] minorityIndices, Decision majorityLimitingDecision, Decision minorityLimitingDecision) {
+    private HashMap<Integer, LearningExampleType> kernelAnalysis(NeighbourSearch domainNeighbours, int[] majorityIndices, int[] minorityIndices, Decision majorityLimitingDecision, Decision minorityLimitingDecision) {
         KernelLabeler labeler = new KernelLabeler(0.7, 0.3, 0.1);
-        KernelAnalyzer analyzer = new KernelAnalyzer(measure, majorityIndices, minorityIndices, majorityLimitingDecision, minorityLimitingDecision, labeler);
+        KernelAnalyzer analyzer = new KernelAnalyzer(measure, domainNeighbours, majorityIndices, minorityIndices, majorityLimitingDecision, minorityLimitingDecision, labeler);
         analyzer.labelExamples();
         return analyzer.getLabelsAssignment();
     }
 
+    protected NeighbourSearch createNeighbourSearch() {
+        if (neighbourSearchType == NeighbourSearchType.VANTAGE_POINT_TREE) {
+            return new VantagePointTree(measure);
+        }
+        return new MatrixNeighbourSearch(new DistanceArray(measure, new DistanceMatrixCalculator(parallelism)));
+    }
+
     private void classVsUnionAnalysis(HashMap<Decision, int[]> classesByDecision, Union[] atLeastUnions, Union[] atMostUnions) {
         Collections.reverse(Arrays.asList(atLeastUnions));
         Iterator<Union> atLeastUnionIterator = Arrays.stream(atLeastUnions).iterator();
         Iterator<Union> atMostUnionIterator = Arrays.stream(atMostUnions).iterator();
-        resultsByName.put(classVsUnionKNNFilename, new AnalysisResult());
-        resultsByName.put(classVsUnionKernelFilename, new AnalysisResult());
+        resultsByName.put(classVsUnionKNNFilename, createResult(classVsUnionKNNFilename));
+        resultsByName.put(classVsUnionKernelFilename, createResult(classVsUnionKernelFilename));
         UnionWithSingleLimitingDecision atMostUnion = (UnionWithSingleLimitingDecision) atMostUnionIterator.next();
         Decision classDecision = atMostUnion.getLimitingDecision();
         while (atLeastUnionIterator.hasNext()) {
             UnionWithSingleLimitingDecision atLeastUnion = (UnionWithSingleLimitingDecision) atLeastUnionIterator.next();
             int[] atLeast = unionToArray(atLeastUnion);
             int[] classObjects = classesByDecision.get(classDecision);
-            performKNearestAnalysis(atLeast, classObjects, atLeastUnion.getLimitingDecision(), classDecision, classVsUnionKNNFilename);
-            performKernelAnalysis(atLeast, classObjects, atLeastUnion.getLimitingDecision(), classDecision, classVsUnionKernelFilename);
+            performAnalyses(atLeast, classObjects, atLeastUnion.getLimitingDecision(), classDecision, classVsUnionKNNFilename, classVsUnionKernelFilename);
             if (classesByDecision.entrySet().size() > 2) {
                 classDecision = atLeastUnion.getLimitingDecision();
                 classObjects = classesByDecision.get(classDecision);
                 int[] atMost = unionToArray(atMostUnion);
-                performKNearestAnalysis(atMost, classObjects, atMostUnion.getLimitingDecision(), classDecision, classVsUnionKNNFilename);
-                performKernelAnalysis(atMost, classObjects, atMostUnion.getLimitingDecision(), classDecision, classVsUnionKernelFilename);
+                performAnalyses(atMost, classObjects, atMostUnion.getLimitingDecision(), classDecision, classVsUnionKNNFilename, classVsUnionKernelFilename);
             }
             if (atMostUnionIterator.hasNext()) {
                 atMostUnion = (UnionWithSingleLimitingDecision) atMostUnionIterator.next();
@@ -178,12 +309,16 @@ public class NeighbourhoodAnalyzer implements DatasetOperation {
     private void saveResults() throws IOException {
         for (Map.Entry<String, AnalysisResult> entry: resultsByName.entrySet()) {
             AnalysisResult result = entry.getValue();
-            String filename = String.format("%s\\%s.csv", resultsPath, entry.getKey());
+            String filename = getResultsFilename(entry.getKey());
             createDirIfNotExists();
-            result.saveCsv(filename);
+            result.save(filename, resultFormat);
         }
     }
 
+    private String getResultsFilename(String key) {
+        return String.format("%s\\%s.%s", resultsPath, key, resultFormat.getExtension());
+    }
+
     private void createDirIfNotExists() {
         if (Files.notExists(Paths.get(resultsPath))) {
             new File(resultsPath).mkdirs();
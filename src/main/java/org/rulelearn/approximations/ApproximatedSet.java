@@ -81,6 +81,11 @@ public abstract class ApproximatedSet {
 	 */
 	protected IntSortedSet objects = null;
 	
+	/**
+	 * Number of modifications of the information table at the time of calculation of cached sets of objects (see {@link InformationTable#getModificationCount()}).
+	 */
+	protected int informationTableModificationCount = 0;
+	
 	/**
 	 * Constructs this approximated set using given information table and rough set calculator.
 	 * 
@@ -92,6 +97,7 @@ public abstract class ApproximatedSet {
 	public ApproximatedSet(InformationTable informationTable, RoughSetCalculator<? extends ApproximatedSet> roughSetCalculator) {
 		this.informationTable = notNull(informationTable, "Information table for constructed approximated set is null.");
 		this.roughSetCalculator = notNull(roughSetCalculator, "Rough set calculator for constructed approximated set is null.");
+		this.informationTableModificationCount = informationTable.getModificationCount();
 	}
 	
 	/**
@@ -99,6 +105,31 @@ public abstract class ApproximatedSet {
 	 */
 	ApproximatedSet() {}
 	
+	/**
+	 * Checks if the set of objects of the information table has been modified since cached sets of objects (like approximations) have been calculated,
+	 * and if so, invalidates these sets (see {@link #invalidate()}).
+	 */
+	protected void invalidateIfInformationTableModified() {
+		int modificationCount = this.informationTable.getModificationCount();
+		if (modificationCount != this.informationTableModificationCount) {
+			this.informationTableModificationCount = modificationCount;
+			this.invalidate();
+		}
+	}
+	
+	/**
+	 * Invalidates cached sets of objects (like approximations), so they are calculated again on next request.
+	 */
+	protected void invalidate() {
+		this.lowerApproximation = null;
+		this.upperApproximation = null;
+		this.boundary = null;
+		this.positiveRegion = null;
+		this.negativeRegion = null;
+		this.boundaryRegion = null;
+		this.objects = null;
+	}
+	
 	/**
 	 * Gets the information table for which this approximated set was defined.
 	 * 
@@ -124,6 +155,7 @@ public abstract class ApproximatedSet {
 	 * @throws NullPointerException if the set with indices of objects belonging to this approximated set cannot be determined
 	 */
 	public IntSortedSet getObjects() {
+		this.invalidateIfInformationTableModified();
 		if (this.objects == null) {
 			this.findObjects();
 			
@@ -168,6 +200,7 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the lower approximation of this approximated set
 	 */
 	public IntSortedSet getLowerApproximation() {
+		this.invalidateIfInformationTableModified();
 		if (this.lowerApproximation == null) {
 			this.lowerApproximation = IntSortedSets.unmodifiable(this.calculateLowerApproximation());
 		}
@@ -187,6 +220,7 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the upper approximation of this approximated set
 	 */
 	public IntSortedSet getUpperApproximation() {
+		this.invalidateIfInformationTableModified();
 		if (this.upperApproximation == null) {
 			this.upperApproximation = IntSortedSets.unmodifiable(this.calculateUpperApproximation());
 		}
@@ -206,6 +240,7 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the boundary of this approximated set
 	 */
 	public IntSortedSet getBoundary() {
+		this.invalidateIfInformationTableModified();
 		if (this.boundary == null) {
 			IntSortedSet upperApproximation = this.getUpperApproximation();
 			IntSortedSet lowerApproximation = this.getLowerApproximation();
@@ -238,6 +273,7 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the positive region of this approximated set
 	 */
 	public IntSet getPositiveRegion() {
+		this.invalidateIfInformationTableModified();
 		if (this.positiveRegion == null) { //positive region not calculated yet
 			this.positiveRegion = IntSets.unmodifiable(this.calculatePositiveRegion(this.getLowerApproximation()));
 		}
@@ -264,6 +300,7 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the negative region of this approximated set
 	 */
 	public IntSet getNegativeRegion() {
+		this.invalidateIfInformationTableModified();
 		if (this.negativeRegion == null) { //negative region not calculated yet
 			this.negativeRegion = IntSets.unmodifiable(this.calculateNegativeRegion());
 		}
@@ -287,6 +324,7 @@ public abstract class ApproximatedSet {
 	 * @return unmodifiable set of indices of objects belonging to the boundary region of this approximated set
 	 */
 	public IntSet getBoundaryRegion() {
+		this.invalidateIfInformationTableModified();
 		if (this.boundaryRegion == null) { //boundary region not calculated yet
 			IntSet positiveRegion = this.getPositiveRegion();
 			IntSet negativeRegion = this.getNegativeRegion();
@@ -20,6 +20,7 @@ import org.rulelearn.approximations.Union.UnionType;
 //import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.dominance.DominanceConeType;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 
 import it.unimi.dsi.fastutil.ints.IntIterator;
@@ -93,6 +94,7 @@ public class ClassicalDominanceBasedRoughSetCalculator implements DominanceBased
 		InformationTableWithDecisionDistributions informationTable = union.getInformationTable(); 
 		IntIterator unionObjectIndicesIterator  = union.getObjects().iterator();
 		DominanceConesDecisionDistributions dominanceCDD = informationTable.getDominanceConesDecisionDistributions();
+		dominanceCDD.calculate(DominanceConeType.POSITIVE_INV_D, DominanceConeType.NEGATIVE_D); //both types are needed for a pair of complementary unions
 		IntSortedSet lowerApproximationObjects = null;  
 		boolean canBeAdded = false;
 		
@@ -155,6 +157,7 @@ public class ClassicalDominanceBasedRoughSetCalculator implements DominanceBased
 		InformationTableWithDecisionDistributions informationTable = union.getInformationTable(); 
 		int objectsCount = informationTable.getNumberOfObjects();
 		DominanceConesDecisionDistributions dominanceCDD = informationTable.getDominanceConesDecisionDistributions();
+		dominanceCDD.calculate(DominanceConeType.POSITIVE_INV_D, DominanceConeType.NEGATIVE_D); //both types are needed for a pair of complementary unions
 		IntSortedSet lowerApproximationObjects = null;  
 		boolean canBeAdded = false;
 		
@@ -214,6 +217,7 @@ public class ClassicalDominanceBasedRoughSetCalculator implements DominanceBased
 		InformationTableWithDecisionDistributions informationTable = union.getInformationTable(); 
 		int objectsCount = informationTable.getNumberOfObjects();
 		DominanceConesDecisionDistributions dominanceCDD = informationTable.getDominanceConesDecisionDistributions();
+		dominanceCDD.calculate(DominanceConeType.POSITIVE_INV_D, DominanceConeType.NEGATIVE_D); //both types are needed for a pair of complementary unions
 		IntSortedSet upperApproximationObjects = null;
 		IntSortedSet neutralObjects = union.getNeutralObjects();
 		
@@ -19,10 +19,14 @@ package org.rulelearn.approximations;
 import static org.rulelearn.core.Precondition.notNull;
 
 import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.core.OperationsOnBitSets;
 import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.dominance.DominanceChecker;
 import org.rulelearn.dominance.DominanceConeCalculator;
+import org.rulelearn.dominance.DominanceConesMatrix;
+import org.rulelearn.dominance.EquivalenceClasses;
 
 import it.unimi.dsi.fastutil.ints.IntBidirectionalIterator;
 import it.unimi.dsi.fastutil.ints.IntIterator;
@@ -99,6 +103,7 @@ public abstract class Union extends ApproximatedSet {
 		
 		this.unionType = notNull(unionType, "Union type is null.");
 		this.informationTable = notNull(informationTable, "Information table for constructed union is null.");
+		this.informationTableModificationCount = informationTable.getModificationCount();
 	}
 	
 	/**
@@ -139,6 +144,20 @@ public abstract class Union extends ApproximatedSet {
 		this.neutralObjects = IntSortedSets.unmodifiable(uncomparableObjects);
 	}
 	
+	/**
+	 * Invalidates cached sets of objects (like approximations), so they are calculated again on next request.
+	 * If objects belonging to this union have already been found, finds them again, together with neutral objects.
+	 */
+	@Override
+	protected void invalidate() {
+		boolean objectsFound = this.objects != null;
+		super.invalidate();
+		this.neutralObjects = null;
+		if (objectsFound) {
+			this.findObjects();
+		}
+	}
+	
 	/**
 	 * Gets set of objects from information table that are neither positive nor negative with respect to this union.
 	 * 
@@ -146,6 +165,7 @@ public abstract class Union extends ApproximatedSet {
 	 */
 	@Override
 	public IntSortedSet getNeutralObjects() {
+		this.invalidateIfInformationTableModified();
 		return this.neutralObjects;
 	}
 
@@ -327,6 +347,7 @@ public abstract class Union extends ApproximatedSet {
 	 */
 	@Override
 	public boolean isObjectPositive(int objectNumber) {
+		this.invalidateIfInformationTableModified();
 		return this.objects.contains(objectNumber);
 	}
 	
@@ -338,6 +359,7 @@ public abstract class Union extends ApproximatedSet {
 	 *         {@code false} otherwise
 	 */
 	protected boolean isObjectNeutral(int objectNumber) {
+		this.invalidateIfInformationTableModified();
 		return this.neutralObjects.contains(objectNumber);
 	}
 	
@@ -350,6 +372,7 @@ public abstract class Union extends ApproximatedSet {
 	 */
 	@Override
 	public boolean isObjectNegative(int objectNumber) {
+		this.invalidateIfInformationTableModified();
 		return !this.objects.contains(objectNumber) &&
 				!this.neutralObjects.contains(objectNumber);
 	}
@@ -385,6 +408,16 @@ public abstract class Union extends ApproximatedSet {
 	@Override
 	protected IntSet calculatePositiveRegion(IntSortedSet lowerApproximation) {
 		notNull(lowerApproximation, "Lower approximation for calculation of positive region is null.");
+		
+		DominanceConesMatrix dominanceConesMatrix = this.informationTable.getDominanceConesMatrix();
+		if (dominanceConesMatrix != null) {
+			return calculatePositiveRegion(lowerApproximation, dominanceConesMatrix);
+		}
+		EquivalenceClasses equivalenceClasses = this.informationTable.getProfitableEquivalenceClasses();
+		if (equivalenceClasses != null) {
+			return calculatePositiveRegion(lowerApproximation, equivalenceClasses);
+		}
+		
 		IntSet positiveRegion = new IntOpenHashSet(lowerApproximation.size()); //use estimation of the size of calculated positive region
 		
 		IntBidirectionalIterator iterator = lowerApproximation.iterator();
@@ -411,6 +444,94 @@ public abstract class Union extends ApproximatedSet {
 		return positiveRegion;
 	}
 	
+	/**
+	 * Calculates positive region of this union, using the given lower approximation and equivalence classes of objects having identical evaluations
+	 * on all active condition attributes. Dominance cone is calculated only once for each equivalence class present in the lower approximation,
+	 * checking dominance only with respect to representatives of equivalence classes that are not yet included in the positive region.
+	 * 
+	 * @param lowerApproximation lower approximation of this union
+	 * @param equivalenceClasses partition of objects of the information table into equivalence classes
+	 * @return set of indices of objects belonging to the positive region of this union, calculated using given lower approximation
+	 */
+	IntSet calculatePositiveRegion(IntSortedSet lowerApproximation, EquivalenceClasses equivalenceClasses) {
+		IntSet positiveRegion = new IntOpenHashSet(lowerApproximation.size()); //use estimation of the size of calculated positive region
+		int numberOfClasses = equivalenceClasses.getNumberOfClasses();
+		boolean[] processedClasses = new boolean[numberOfClasses]; //classes whose dominance cones have been added to positive region
+		boolean[] includedClasses = new boolean[numberOfClasses]; //classes already included in positive region
+		
+		IntBidirectionalIterator iterator = lowerApproximation.iterator();
+		int classIndex;
+		int origin;
+		boolean inCone;
+		
+		while (iterator.hasNext()) {
+			classIndex = equivalenceClasses.getClassIndex(iterator.nextInt());
+			if (processedClasses[classIndex]) {
+				continue;
+			}
+			processedClasses[classIndex] = true;
+			origin = equivalenceClasses.getRepresentative(classIndex);
+			
+			for (int candidateClass = 0; candidateClass < numberOfClasses; candidateClass++) {
+				if (includedClasses[candidateClass]) {
+					continue;
+				}
+				
+				switch (this.getUnionType()) {
+				case AT_LEAST:
+					inCone = DominanceChecker.isDominatedBy(origin, equivalenceClasses.getRepresentative(candidateClass), this.informationTable); //SIC! hardcoded type of dominance cone
+					break;
+				case AT_MOST:
+					inCone = DominanceChecker.dominates(origin, equivalenceClasses.getRepresentative(candidateClass), this.informationTable); //SIC! hardcoded type of dominance cone
+					break;
+				default:
+					throw new InvalidValueException("Unexpected union type."); //this should not happen
+				}
+				
+				if (inCone) {
+					includedClasses[candidateClass] = true;
+					for (int objectIndex : equivalenceClasses.getObjects(candidateClass)) {
+						positiveRegion.add(objectIndex);
+					}
+				}
+			}
+		}
+		
+		return positiveRegion;
+	}
+	
+	/**
+	 * Calculates positive region of this union, using the given lower approximation and precomputed bitsets of dominance cones.
+	 * Dominance cones are merged word by word.
+	 * 
+	 * @param lowerApproximation lower approximation of this union
+	 * @param dominanceConesMatrix precomputed bitsets of dominance cones
+	 * @return set of indices of objects belonging to the positive region of this union, calculated using given lower approximation
+	 */
+	IntSet calculatePositiveRegion(IntSortedSet lowerApproximation, DominanceConesMatrix dominanceConesMatrix) {
+		long[] positiveRegion = new long[dominanceConesMatrix.getNumberOfWords()];
+		
+		IntBidirectionalIterator iterator = lowerApproximation.iterator();
+		int objectIndex;
+		
+		while (iterator.hasNext()) {
+			objectIndex = iterator.nextInt();
+			
+			switch (this.getUnionType()) {
+			case AT_LEAST:
+				OperationsOnBitSets.or(positiveRegion, dominanceConesMatrix.getPositiveInvDCone(objectIndex)); //SIC! hardcoded type of dominance cone
+				break;
+			case AT_MOST:
+				OperationsOnBitSets.or(positiveRegion, dominanceConesMatrix.getNegativeDCone(objectIndex)); //SIC! hardcoded type of dominance cone
+				break;
+			default:
+				throw new InvalidValueException("Unexpected union type."); //this should not happen
+			}
+		}
+		
+		return OperationsOnBitSets.toIntSet(positiveRegion);
+	}
+	
 	/**
 	 * Gets the size of the set of objects that is complementary to the set of objects belonging to this union (i.e., the size of the complementary union).
 	 * The result is calculated as the number of all objects in the information tables minus number of objects belonging to this union,
@@ -419,6 +540,7 @@ public abstract class Union extends ApproximatedSet {
 	 * @return the size of the set of objects that is complementary to the set of (positive) objects belonging to this union (i.e., the size of the complementary union)
 	 */
 	public int getComplementarySetSize() {
+		this.invalidateIfInformationTableModified();
 		return this.informationTable.getNumberOfObjects() - this.size() - this.neutralObjects.size();
 	}
 	
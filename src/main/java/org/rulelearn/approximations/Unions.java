@@ -16,11 +16,16 @@
 
 package org.rulelearn.approximations;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import org.rulelearn.core.InvalidSizeException;
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.ReadOnlyArrayReference;
 import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.dominance.DominanceConeType;
 
 //TODO: set complementary unions, if possible
 //TODO: constructor allowing to set different thresholds for different upward/downward unions
@@ -195,4 +200,107 @@ public abstract class Unions extends ApproximatedSets {
 		return accelerateByReadOnlyResult ? downwardUnions : downwardUnions.clone();
 	}
 	
+	/**
+	 * Calculates approximations (lower approximation, upper approximation, and boundary) of all upward and downward unions stored in this container,
+	 * distributing unions among tasks of a {@link ForkJoinPool} with given parallelism.
+	 * Distributions of decisions in dominance cones of the information table are calculated (if necessary) before approximations,
+	 * and then shared by all tasks, which only read them. Complementary union of each union is created and approximated by the task processing that union.<br>
+	 * <br>
+	 * After this method returns, approximations of all unions are stored in these unions, so they can be read concurrently by many threads,
+	 * provided that the information table is not modified.
+	 * 
+	 * @param parallelism number of threads used to calculate approximations
+	 * @return this container of unions, with approximations of all unions calculated
+	 * 
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 */
+	public Unions calculateApproximations(int parallelism) {
+		if (parallelism < 1) {
+			throw new InvalidValueException("Parallelism of calculation of approximations of unions should be at least one.");
+		}
+		
+		Union[] upwardUnions = this.getUpwardUnions(true);
+		Union[] downwardUnions = this.getDownwardUnions(true);
+		Union[] unions = new Union[upwardUnions.length + downwardUnions.length];
+		System.arraycopy(upwardUnions, 0, unions, 0, upwardUnions.length);
+		System.arraycopy(downwardUnions, 0, unions, upwardUnions.length, downwardUnions.length);
+		
+		//calculate shared data before concurrent calculation of approximations
+		this.getInformationTable().getDominanceConesDecisionDistributions().calculate(DominanceConeType.POSITIVE_INV_D, DominanceConeType.NEGATIVE_D);
+		
+		ApproximationsTask task = new ApproximationsTask(unions, 0, unions.length);
+		if (parallelism == 1 || unions.length <= 1) {
+			task.calculateRange();
+		} else {
+			ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, unions.length));
+			try {
+				pool.invoke(task);
+			} finally {
+				pool.shutdown();
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Task calculating approximations of unions from a given range.
+	 */
+	@SuppressWarnings("serial")
+	protected static class ApproximationsTask extends RecursiveAction {
+		
+		/**
+		 * Approximated unions.
+		 */
+		Union[] unions;
+		/**
+		 * Index of the first union processed by this task.
+		 */
+		int fromUnionIndex;
+		/**
+		 * Index of the last union processed by this task, increased by one.
+		 */
+		int toUnionIndex;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param unions approximated unions
+		 * @param fromUnionIndex index of the first union processed by this task
+		 * @param toUnionIndex index of the last union processed by this task, increased by one
+		 */
+		ApproximationsTask(Union[] unions, int fromUnionIndex, int toUnionIndex) {
+			this.unions = unions;
+			this.fromUnionIndex = fromUnionIndex;
+			this.toUnionIndex = toUnionIndex;
+		}
+		
+		/**
+		 * Splits the range of unions into halves until it contains one union, then calculates approximations of this union.
+		 */
+		@Override
+		protected void compute() {
+			if (this.toUnionIndex - this.fromUnionIndex <= 1) {
+				calculateRange();
+			} else {
+				int middleUnionIndex = (this.fromUnionIndex + this.toUnionIndex) >>> 1;
+				invokeAll(new ApproximationsTask(this.unions, this.fromUnionIndex, middleUnionIndex),
+						new ApproximationsTask(this.unions, middleUnionIndex, this.toUnionIndex));
+			}
+		}
+		
+		/**
+		 * Calculates approximations of unions from the range of this task.
+		 */
+		void calculateRange() {
+			for (int i = this.fromUnionIndex; i < this.toUnionIndex; i++) {
+				this.unions[i].getObjects(); //finds neutral objects too
+				this.unions[i].getLowerApproximation();
+				this.unions[i].getUpperApproximation();
+				this.unions[i].getBoundary();
+			}
+		}
+		
+	}
+	
 }
@@ -22,11 +22,22 @@ import java.util.ArrayList;
 import java.util.Set;
 
 import org.rulelearn.core.InvalidSizeException;
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.ReadOnlyArrayReference;
 import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.dominance.DominanceConeType;
+import org.rulelearn.dominance.DominanceConesDecisionDistributions;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSets;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
 /**
  * Container for all upward and downward unions (i.e., unions of type {@link Union.UnionType#AT_LEAST}, and {@link Union.UnionType#AT_MOST}, respectively),
@@ -243,6 +254,157 @@ public class UnionsWithSingleLimitingDecision extends Unions {
 		return accelerateByReadOnlyResult ? limitingDecisions : limitingDecisions.clone();
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * This method overrides superclass method to specialize return type.<br>
+	 * <br>
+	 * If approximations are calculated by {@link ClassicalDominanceBasedRoughSetCalculator} with reflexive dominance relations,
+	 * and all decisions present in the information table are fully-determined and totally ordered, approximations of all unions
+	 * are calculated in one sweep over limiting decisions (see {@link #calculateApproximationsBySweep()}), and given parallelism is not used.
+	 * 
+	 * @param parallelism {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * 
+	 * @throws InvalidValueException {@inheritDoc}
+	 */
+	@Override
+	public UnionsWithSingleLimitingDecision calculateApproximations(int parallelism) {
+		if (parallelism < 1) {
+			throw new InvalidValueException("Parallelism of calculation of approximations of unions should be at least one.");
+		}
+		if (this.calculateApproximationsBySweep()) {
+			return this;
+		}
+		return (UnionsWithSingleLimitingDecision)super.calculateApproximations(parallelism);
+	}
+	
+	/**
+	 * Calculates lower and upper approximations of all upward and downward unions stored in this container, according to the classical DRSA
+	 * with reflexive dominance relations, provided that all decisions present in the information table are fully-determined and totally ordered.
+	 * Then, unions of each type are nested, and a decision is negative (positive) for a union iff its position in the order of limiting decisions
+	 * is below (at least) the position of the limiting decision of the union (or the reverse, for downward unions).
+	 * Therefore, for each object x, it is enough to know the position of the worst decision in the positive inverted dominance cone of x,
+	 * and the position of the best decision in the negative dominance cone of x. These positions are calculated once, in one pass over
+	 * distributions of decisions in dominance cones, and then approximations of each union are obtained by comparing them with the positions
+	 * delimiting positive and negative decisions of this union. Hence, approximations of all unions are calculated in O(n*k) time,
+	 * where n is the number of objects, and k is the number of limiting decisions, instead of O(n*k<sup>2</sup>) time.
+	 * Calculated approximations are the same as the ones calculated by the rough set calculator, also concerning the order of objects.
+	 * 
+	 * @return {@code true} if approximations have been calculated,
+	 *         {@code false} if this method is not applicable to the rough set calculator or to decisions of the information table
+	 */
+	protected boolean calculateApproximationsBySweep() {
+		if (!(this.getRoughSetCalculator() instanceof ClassicalDominanceBasedRoughSetCalculator) ||
+				!((ClassicalDominanceBasedRoughSetCalculator)this.getRoughSetCalculator()).areDominanceRelationsReflexive()) {
+			return false;
+		}
+		
+		InformationTableWithDecisionDistributions informationTable = this.getInformationTable();
+		int numberOfLimitingDecisions = this.limitingDecisions.length;
+		if (numberOfLimitingDecisions != informationTable.getDecisionDistribution().getDecisions().size()) {
+			return false; //not all decisions are fully-determined
+		}
+		for (int i = 1; i < numberOfLimitingDecisions; i++) {
+			if (this.limitingDecisions[i].isAtLeastAsGoodAs(this.limitingDecisions[i - 1]) != TernaryLogicValue.TRUE) {
+				return false; //decisions are not totally ordered
+			}
+		}
+		
+		Object2IntMap<Decision> decision2Rank = new Object2IntOpenHashMap<Decision>(numberOfLimitingDecisions);
+		for (int i = 0; i < numberOfLimitingDecisions; i++) {
+			decision2Rank.put(this.limitingDecisions[i], i);
+		}
+		
+		//find ranks of the worst decision in positive InvD cone, and of the best decision in negative D cone of each object
+		DominanceConesDecisionDistributions dominanceCDD = informationTable.getDominanceConesDecisionDistributions();
+		dominanceCDD.calculate(DominanceConeType.POSITIVE_INV_D, DominanceConeType.NEGATIVE_D);
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		int[] worstRanksInPositiveInvDCones = new int[numberOfObjects];
+		int[] bestRanksInNegativeDCones = new int[numberOfObjects];
+		int rank;
+		
+		for (int x = 0; x < numberOfObjects; x++) {
+			worstRanksInPositiveInvDCones[x] = numberOfLimitingDecisions;
+			for (Decision decision : dominanceCDD.getPositiveInvDConeDecisionClassDistribution(x).getDecisions()) {
+				rank = decision2Rank.getInt(decision);
+				if (rank < worstRanksInPositiveInvDCones[x]) {
+					worstRanksInPositiveInvDCones[x] = rank;
+				}
+			}
+			bestRanksInNegativeDCones[x] = -1;
+			for (Decision decision : dominanceCDD.getNegativeDConeDecisionClassDistribution(x).getDecisions()) {
+				rank = decision2Rank.getInt(decision);
+				if (rank > bestRanksInNegativeDCones[x]) {
+					bestRanksInNegativeDCones[x] = rank;
+				}
+			}
+		}
+		
+		boolean[] negativeRanks = new boolean[numberOfLimitingDecisions];
+		boolean[] positiveRanks = new boolean[numberOfLimitingDecisions];
+		
+		for (Union[] unions : new Union[][] {this.getUpwardUnions(true), this.getDownwardUnions(true)}) {
+			for (Union union : unions) {
+				for (int i = 0; i < numberOfLimitingDecisions; i++) {
+					negativeRanks[i] = union.isDecisionNegative(this.limitingDecisions[i]);
+					positiveRanks[i] = union.isDecisionPositive(this.limitingDecisions[i]);
+				}
+				boolean atLeast = union.getUnionType() == Union.UnionType.AT_LEAST;
+				//upward union: negative ranks form a prefix, and positive ranks form a suffix; downward union: the reverse
+				int negativeRanksBorder = getBorder(negativeRanks, atLeast);
+				int positiveRanksBorder = getBorder(positiveRanks, !atLeast);
+				if (negativeRanksBorder < 0 || positiveRanksBorder < 0) {
+					return false; //should not happen for totally ordered decisions
+				}
+				
+				IntSortedSet lowerApproximation = new IntLinkedOpenHashSet();
+				IntIterator objectIndicesIterator = union.getObjects().iterator();
+				int x;
+				while (objectIndicesIterator.hasNext()) {
+					x = objectIndicesIterator.nextInt();
+					if (atLeast ? worstRanksInPositiveInvDCones[x] >= negativeRanksBorder : bestRanksInNegativeDCones[x] < negativeRanksBorder) {
+						lowerApproximation.add(x);
+					}
+				}
+				
+				IntSortedSet upperApproximation = new IntLinkedOpenHashSet();
+				IntSortedSet neutralObjects = union.getNeutralObjects();
+				for (x = 0; x < numberOfObjects; x++) {
+					if ((atLeast ? bestRanksInNegativeDCones[x] >= positiveRanksBorder : worstRanksInPositiveInvDCones[x] < positiveRanksBorder) &&
+							!neutralObjects.contains(x)) {
+						upperApproximation.add(x);
+					}
+				}
+				
+				union.lowerApproximation = IntSortedSets.unmodifiable(lowerApproximation);
+				union.upperApproximation = IntSortedSets.unmodifiable(upperApproximation);
+				union.getBoundary();
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Gets the number of leading flags equal to given prefix value, provided that all remaining flags are different from this value.
+	 * 
+	 * @param flags array of flags
+	 * @param prefixValue value of leading flags
+	 * @return number of leading flags equal to given prefix value, or -1 if any of the remaining flags equals to given prefix value
+	 */
+	private static int getBorder(boolean[] flags, boolean prefixValue) {
+		int border = 0;
+		while (border < flags.length && flags[border] == prefixValue) {
+			border++;
+		}
+		for (int i = border; i < flags.length; i++) {
+			if (flags[i] == prefixValue) {
+				return -1;
+			}
+		}
+		return border;
+	}
+	
 	/**
 	 * Gets stored upward/downward union of decision classes (depending on given union type), defined for given limiting decision.
 	 * 
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.core;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+/**
+ * Class used to perform operations on bitsets stored as arrays of {@code long} words, where bit with index i is bit {@code i % 64} of word {@code i / 64}.
+ * Operations are performed word by word, which is much faster than operations on sets of indices.
+ */
+public class OperationsOnBitSets {
+	
+	/**
+	 * Gets number of {@code long} words needed to store a bitset with given number of bits.
+	 * 
+	 * @param numberOfBits number of bits
+	 * @return number of {@code long} words
+	 */
+	public static int getNumberOfWords(int numberOfBits) {
+		return (numberOfBits + 63) >>> 6;
+	}
+	
+	/**
+	 * Tells if given bitset contains given index.
+	 * 
+	 * @param bitSet bitset
+	 * @param index index of a bit
+	 * @return {@code true} if bit with given index is set, {@code false} otherwise
+	 */
+	public static boolean contains(long[] bitSet, int index) {
+		return (bitSet[index >>> 6] & (1L << index)) != 0L;
+	}
+	
+	/**
+	 * Sets in the target bitset all bits set in the source bitset.
+	 * 
+	 * @param target target bitset, modified by this method
+	 * @param source source bitset, of the same length as target bitset
+	 */
+	public static void or(long[] target, long[] source) {
+		for (int i = 0; i < target.length; i++) {
+			target[i] |= source[i];
+		}
+	}
+	
+	/**
+	 * Clears in the target bitset all bits set in the source bitset.
+	 * 
+	 * @param target target bitset, modified by this method
+	 * @param source source bitset, of the same length as target bitset
+	 */
+	public static void andNot(long[] target, long[] source) {
+		for (int i = 0; i < target.length; i++) {
+			target[i] &= ~source[i];
+		}
+	}
+	
+	/**
+	 * Gets number of bits set in given bitset.
+	 * 
+	 * @param bitSet bitset
+	 * @return number of set bits
+	 */
+	public static int cardinality(long[] bitSet) {
+		int cardinality = 0;
+		for (long word : bitSet) {
+			cardinality += Long.bitCount(word);
+		}
+		return cardinality;
+	}
+	
+	/**
+	 * Constructs bitset with given number of bits, in which bits with indices from the given set are set.
+	 * 
+	 * @param indices set of indices
+	 * @param numberOfBits number of bits
+	 * @return constructed bitset
+	 * @throws IndexOutOfBoundsException if any of the given indices is not lower than given number of bits
+	 */
+	public static long[] toBitSet(IntSet indices, int numberOfBits) {
+		long[] bitSet = new long[getNumberOfWords(numberOfBits)];
+		IntIterator iterator = indices.iterator();
+		int index;
+		
+		while (iterator.hasNext()) {
+			index = iterator.nextInt();
+			bitSet[index >>> 6] |= 1L << index;
+		}
+		return bitSet;
+	}
+	
+	/**
+	 * Constructs set of indices of bits set in given bitset.
+	 * 
+	 * @param bitSet bitset
+	 * @return set of indices of set bits
+	 */
+	public static IntSet toIntSet(long[] bitSet) {
+		IntSet indices = new IntOpenHashSet(cardinality(bitSet));
+		long word;
+		
+		for (int i = 0; i < bitSet.length; i++) {
+			word = bitSet[i];
+			while (word != 0L) {
+				indices.add((i << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+		
+		return indices;
+	}
+	
+}
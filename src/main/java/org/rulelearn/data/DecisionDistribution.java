@@ -16,11 +16,14 @@
 
 package org.rulelearn.data;
 
+import static org.rulelearn.core.Precondition.nonNegative;
 import static org.rulelearn.core.Precondition.notNull;
 
 import java.util.Objects;
 import java.util.Set;
 
+import org.rulelearn.core.InvalidValueException;
+
 //import org.rulelearn.approximations.Union;
 //import org.rulelearn.core.TernaryLogicValue;
 
@@ -108,6 +111,42 @@ public class DecisionDistribution {
 		this.decision2CountMap.put(decision, ++count);
 	}
 	
+	/**
+	 * Increases by given number the number of objects having given decision.
+	 * 
+	 * @param decision decision of interest; should not be {@code null}
+	 * @param number number of objects having given decision that should be added to this distribution
+	 * @throws NullPointerException if given decision is {@code null}
+	 * @throws InvalidValueException if given number is negative
+	 */
+	public void increaseCount(Decision decision, int number) {
+		notNull(decision, "Could not increase count of a null decision.");
+		nonNegative(number, "Could not increase count of a decision by a negative number.");
+		int count = this.decision2CountMap.containsKey(decision) ? this.decision2CountMap.getInt(decision) : 0;
+		this.decision2CountMap.put(decision, count + number);
+	}
+	
+	/**
+	 * Decreases by one the number of objects having given decision. If there remain no objects having given decision,
+	 * this decision is removed from this distribution.
+	 * 
+	 * @param decision decision of interest; should not be {@code null}
+	 * @throws NullPointerException if given decision is {@code null}
+	 * @throws InvalidValueException if there are no objects having given decision
+	 */
+	public void decreaseCount(Decision decision) {
+		notNull(decision, "Could not decrease count of a null decision.");
+		int count = this.getCount(decision);
+		if (count == 0) {
+			throw new InvalidValueException("Could not decrease count of a decision absent in decision distribution.");
+		}
+		if (count == 1) {
+			this.decision2CountMap.removeInt(decision);
+		} else {
+			this.decision2CountMap.put(decision, count - 1);
+		}
+	}
+	
 	/**
 	 * Gets hash code of this decision distribution.
 	 * 
@@ -0,0 +1,381 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.rulelearn.data;
+
+import static org.rulelearn.core.Precondition.notNull;
+import static org.rulelearn.dominance.DominanceChecker.ALL_RELATIONS;
+import static org.rulelearn.dominance.DominanceChecker.FIRST_DOMINATES_SECOND;
+import static org.rulelearn.dominance.DominanceChecker.FIRST_IS_DOMINATED_BY_SECOND;
+import static org.rulelearn.dominance.DominanceChecker.SECOND_DOMINATES_FIRST;
+import static org.rulelearn.dominance.DominanceChecker.SECOND_IS_DOMINATED_BY_FIRST;
+
+import org.rulelearn.types.EnumerationField;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.RealField;
+import org.rulelearn.types.UnknownSimpleFieldMV15;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Primitive, column-oriented encoding of evaluations of objects on (active condition) attributes, used to speed up dominance checking.
+ * Each column stores evaluations on one attribute as {@code double} values, normalised so that greater value is always at least as good as
+ * smaller value (i.e., evaluations on cost-type attributes are negated). Missing values are marked in a bitmap (one bit per object),
+ * present only for columns that actually contain missing values.<br>
+ * <br>
+ * Encoding is possible only if in each column all known evaluations are instances of the same class extending {@link RealField},
+ * {@link IntegerField}, or {@link EnumerationField}, and all missing values are instances of the same class - either {@link UnknownSimpleFieldMV2}
+ * or {@link UnknownSimpleFieldMV15}. Under these conditions, {@link #dominates(int, int)} and {@link #isDominatedBy(int, int)} give the same results
+ * as comparison of respective evaluation fields using {@link EvaluationField#isAtLeastAsGoodAs(org.rulelearn.types.Field)}
+ * and {@link EvaluationField#isAtMostAsGoodAs(org.rulelearn.types.Field)}.
+ */
+public class EvaluationColumns {
+	
+	/**
+	 * Number of objects (rows).
+	 */
+	protected int numberOfObjects;
+	
+	/**
+	 * Number of attributes (columns).
+	 */
+	protected int numberOfAttributes;
+	
+	/**
+	 * Normalised evaluations, indexed by attribute's index and object's index.
+	 */
+	protected double[][] values;
+	
+	/**
+	 * Tells, for each attribute, if it has no preference type, so that two evaluations can only be compared for equality.
+	 */
+	protected boolean[] equalityOnly;
+	
+	/**
+	 * Bitmaps of missing values, one for each attribute; {@code null} for an attribute without missing values.
+	 */
+	protected long[][] missing;
+	
+	/**
+	 * Tells, for each attribute, if a known evaluation is at least (and at most) as good as a missing value, which is the case for missing values
+	 * of type {@link UnknownSimpleFieldMV2}, but not for missing values of type {@link UnknownSimpleFieldMV15}. A missing value is always at least
+	 * (and at most) as good as any other evaluation.
+	 */
+	protected boolean[] knownComparableWithMissing;
+	
+	/**
+	 * Constructs this object. Used by {@link #encode(Table)}.
+	 * 
+	 * @param numberOfObjects number of objects
+	 * @param numberOfAttributes number of attributes
+	 */
+	protected EvaluationColumns(int numberOfObjects, int numberOfAttributes) {
+		this.numberOfObjects = numberOfObjects;
+		this.numberOfAttributes = numberOfAttributes;
+		this.values = new double[numberOfAttributes][];
+		this.equalityOnly = new boolean[numberOfAttributes];
+		this.missing = new long[numberOfAttributes][];
+		this.knownComparableWithMissing = new boolean[numberOfAttributes];
+	}
+	
+	/**
+	 * Encodes evaluations from the given table.
+	 * 
+	 * @param evaluations table with evaluations to encode
+	 * @return column-oriented encoding of given evaluations, or {@code null} if evaluations cannot be encoded
+	 *         (see class description)
+	 * 
+	 * @throws NullPointerException if given table is {@code null}
+	 */
+	public static EvaluationColumns encode(Table<EvaluationAttribute, EvaluationField> evaluations) {
+		notNull(evaluations, "Table of evaluations to encode is null.");
+		int numberOfObjects = evaluations.getNumberOfObjects();
+		int numberOfAttributes = evaluations.getNumberOfAttributes();
+		EvaluationColumns columns = new EvaluationColumns(numberOfObjects, numberOfAttributes);
+		
+		for (int attributeIndex = 0; attributeIndex < numberOfAttributes; attributeIndex++) {
+			if (!columns.encodeColumn(evaluations, attributeIndex)) {
+				return null;
+			}
+		}
+		
+		return columns;
+	}
+	
+	/**
+	 * Encodes one column of the given table.
+	 * 
+	 * @param evaluations table with evaluations to encode
+	 * @param attributeIndex index of encoded attribute
+	 * @return {@code true} if column has been encoded, {@code false} if it cannot be encoded
+	 */
+	boolean encodeColumn(Table<EvaluationAttribute, EvaluationField> evaluations, int attributeIndex) {
+		double[] column = new double[numberOfObjects];
+		long[] missingBitmap = null;
+		Class<?> knownClass = null;
+		Class<?> missingClass = null;
+		boolean cost = false;
+		
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			EvaluationField field = evaluations.getField(objectIndex, attributeIndex);
+			
+			if (field instanceof UnknownSimpleFieldMV2 || field instanceof UnknownSimpleFieldMV15) {
+				if (missingClass == null) {
+					missingClass = field.getClass();
+					missingBitmap = new long[(numberOfObjects + 63) >>> 6];
+				} else if (missingClass != field.getClass()) {
+					return false;
+				}
+				missingBitmap[objectIndex >>> 6] |= 1L << objectIndex;
+			} else if (field instanceof RealField || field instanceof IntegerField || field instanceof EnumerationField) {
+				if (knownClass == null) {
+					knownClass = field.getClass();
+					AttributePreferenceType preferenceType = ((KnownSimpleField)field).getPreferenceType();
+					this.equalityOnly[attributeIndex] = (preferenceType == AttributePreferenceType.NONE);
+					cost = (preferenceType == AttributePreferenceType.COST);
+				} else if (knownClass != field.getClass()) {
+					return false;
+				}
+				double value;
+				if (field instanceof RealField) {
+					value = ((RealField)field).getValue();
+				} else if (field instanceof IntegerField) {
+					value = ((IntegerField)field).getValue();
+				} else {
+					value = ((EnumerationField)field).getValue();
+				}
+				column[objectIndex] = cost ? -value : value;
+			} else { //null or field of an unsupported type
+				return false;
+			}
+		}
+		
+		this.values[attributeIndex] = column;
+		this.missing[attributeIndex] = missingBitmap;
+		this.knownComparableWithMissing[attributeIndex] = (missingClass == UnknownSimpleFieldMV2.class);
+		return true;
+	}
+	
+	/**
+	 * Checks if the first given object ({@code x}) dominates the second given object ({@code y}), i.e., if evaluation of {@code x} is at least as good
+	 * as evaluation of {@code y} on each attribute.
+	 * 
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if the first given object dominates the second given object, {@code false} otherwise
+	 * 
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object
+	 */
+	public boolean dominates(int x, int y) {
+		double[] column;
+		
+		for (int attributeIndex = 0; attributeIndex < numberOfAttributes; attributeIndex++) {
+			if (missing[attributeIndex] != null) {
+				if (isMissing(missing[attributeIndex], x)) {
+					continue;
+				}
+				if (isMissing(missing[attributeIndex], y)) {
+					if (knownComparableWithMissing[attributeIndex]) {
+						continue;
+					}
+					return false;
+				}
+			}
+			column = values[attributeIndex];
+			if (equalityOnly[attributeIndex] ? column[x] != column[y] : !(column[x] >= column[y])) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Checks if the first given object ({@code x}) is dominated by the second given object ({@code y}), i.e., if evaluation of {@code x} is at most as good
+	 * as evaluation of {@code y} on each attribute.
+	 * 
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if the first given object is dominated by the second given object, {@code false} otherwise
+	 * 
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object
+	 */
+	public boolean isDominatedBy(int x, int y) {
+		double[] column;
+		
+		for (int attributeIndex = 0; attributeIndex < numberOfAttributes; attributeIndex++) {
+			if (missing[attributeIndex] != null) {
+				if (isMissing(missing[attributeIndex], x)) {
+					continue;
+				}
+				if (isMissing(missing[attributeIndex], y)) {
+					if (knownComparableWithMissing[attributeIndex]) {
+						continue;
+					}
+					return false;
+				}
+			}
+			column = values[attributeIndex];
+			if (equalityOnly[attributeIndex] ? column[x] != column[y] : !(column[x] <= column[y])) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Checks, in one pass over attributes, which of the four relations between the first given object ({@code x}) and the second given object ({@code y})
+	 * hold: {@code x} dominates {@code y}, {@code y} dominates {@code x}, {@code x} is dominated by {@code y}, and {@code y} is dominated by {@code x}.
+	 * 
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return combination of flags defined in {@link org.rulelearn.dominance.DominanceChecker}, corresponding to relations that hold;
+	 *         see {@link org.rulelearn.dominance.DominanceChecker#getRelations(int, int, InformationTable)}
+	 * 
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object
+	 */
+	public int getRelations(int x, int y) {
+		int relations = ALL_RELATIONS;
+		double[] column;
+		
+		for (int attributeIndex = 0; attributeIndex < numberOfAttributes; attributeIndex++) {
+			if (missing[attributeIndex] != null) {
+				boolean xMissing = isMissing(missing[attributeIndex], x);
+				boolean yMissing = isMissing(missing[attributeIndex], y);
+				if (xMissing || yMissing) {
+					if (!knownComparableWithMissing[attributeIndex] && xMissing != yMissing) {
+						//known evaluation is neither at least nor at most as good as a missing value
+						relations &= xMissing ? ~(SECOND_DOMINATES_FIRST | SECOND_IS_DOMINATED_BY_FIRST) : ~(FIRST_DOMINATES_SECOND | FIRST_IS_DOMINATED_BY_SECOND);
+						if (relations == 0) {
+							return 0;
+						}
+					}
+					continue;
+				}
+			}
+			column = values[attributeIndex];
+			if (equalityOnly[attributeIndex]) {
+				if (column[x] != column[y]) {
+					return 0;
+				}
+			} else {
+				if (!(column[x] >= column[y])) {
+					relations &= ~(FIRST_DOMINATES_SECOND | SECOND_IS_DOMINATED_BY_FIRST);
+				}
+				if (!(column[x] <= column[y])) {
+					relations &= ~(SECOND_DOMINATES_FIRST | FIRST_IS_DOMINATED_BY_SECOND);
+				}
+				if (relations == 0) {
+					return 0;
+				}
+			}
+		}
+		
+		return relations;
+	}
+	
+	private static boolean isMissing(long[] missingBitmap, int objectIndex) {
+		return (missingBitmap[objectIndex >>> 6] & (1L << objectIndex)) != 0L;
+	}
+	
+	/**
+	 * Tells if evaluation of given object on given attribute is missing.
+	 * 
+	 * @param objectIndex index of an object
+	 * @param attributeIndex index of an attribute
+	 * @return {@code true} if evaluation is missing, {@code false} otherwise
+	 * 
+	 * @throws IndexOutOfBoundsException if given object index or attribute index is out of range
+	 */
+	public boolean isMissing(int objectIndex, int attributeIndex) {
+		if (objectIndex < 0 || objectIndex >= numberOfObjects) {
+			throw new IndexOutOfBoundsException("Object index out of range.");
+		}
+		return missing[attributeIndex] != null && isMissing(missing[attributeIndex], objectIndex);
+	}
+	
+	/**
+	 * Tells if any object has missing evaluation on given attribute.
+	 * 
+	 * @param attributeIndex index of an attribute
+	 * @return {@code true} if at least one evaluation on given attribute is missing, {@code false} otherwise
+	 * 
+	 * @throws IndexOutOfBoundsException if given attribute index is out of range
+	 */
+	public boolean hasMissingValues(int attributeIndex) {
+		return missing[attributeIndex] != null;
+	}
+	
+	/**
+	 * Gets normalised evaluation of given object on given attribute. For a cost-type attribute, returned value is the negated evaluation.
+	 * For a missing evaluation, returned value is meaningless (see {@link #isMissing(int, int)}).
+	 * 
+	 * @param objectIndex index of an object
+	 * @param attributeIndex index of an attribute
+	 * @return normalised evaluation
+	 * 
+	 * @throws IndexOutOfBoundsException if given object index or attribute index is out of range
+	 */
+	public double getValue(int objectIndex, int attributeIndex) {
+		return values[attributeIndex][objectIndex];
+	}
+	
+	/**
+	 * Tells if given attribute has no preference type, so that its evaluations can only be compared for equality.
+	 * 
+	 * @param attributeIndex index of an attribute
+	 * @return {@code true} if evaluations on given attribute can only be compared for equality, {@code false} otherwise
+	 * 
+	 * @throws IndexOutOfBoundsException if given attribute index is out of range
+	 */
+	public boolean isEqualityOnly(int attributeIndex) {
+		return equalityOnly[attributeIndex];
+	}
+	
+	/**
+	 * Tells if on given attribute a known evaluation is at least (and at most) as good as a missing value.
+	 * 
+	 * @param attributeIndex index of an attribute
+	 * @return {@code true} if a known evaluation is comparable with a missing value, {@code false} otherwise
+	 * 
+	 * @throws IndexOutOfBoundsException if given attribute index is out of range
+	 */
+	public boolean isKnownComparableWithMissing(int attributeIndex) {
+		return knownComparableWithMissing[attributeIndex];
+	}
+	
+	/**
+	 * Gets number of objects.
+	 * 
+	 * @return number of objects
+	 */
+	public int getNumberOfObjects() {
+		return numberOfObjects;
+	}
+	
+	/**
+	 * Gets number of attributes.
+	 * 
+	 * @return number of attributes
+	 */
+	public int getNumberOfAttributes() {
+		return numberOfAttributes;
+	}
+	
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Arrays;
+
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.UnknownSimpleField;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+/**
+ * Orders of objects of an information table with respect to their evaluations on particular active condition attributes.
+ * For each active condition attribute with preference type different than {@link AttributePreferenceType#NONE}, whose evaluations are all
+ * either known simple evaluations (see {@link KnownSimpleField}) or missing simple evaluations (see {@link UnknownSimpleField}),
+ * stores rank of evaluation of each object, where equal evaluations have equal ranks, the smallest evaluation (w.r.t. {@link KnownSimpleField#compareTo(KnownSimpleField)})
+ * has rank zero, and each next distinct evaluation has rank greater by one; missing evaluations have rank {@link #MISSING_RANK}.
+ * Hence, known evaluations of two objects on an attribute can be compared by comparing their ranks, without comparing evaluation fields.
+ * Ranks are not calculated for attributes without preference type, as conditions concerning these attributes are not constructed from ordered evaluations.
+ * Orders are calculated once for all such attributes, in O(m*n*log(n)) time, where n is the number of objects,
+ * and m is the number of active condition attributes.<br>
+ * <br>
+ * Attributes are identified by their local indices among active condition attributes (see {@link InformationTable#getActiveConditionAttributeFields()}).
+ */
+public class EvaluationOrders {
+	
+	/**
+	 * Rank of a missing evaluation.
+	 */
+	public static final int MISSING_RANK = -1;
+	
+	/**
+	 * Ranks of evaluations of objects, indexed by attribute's index and object's index;
+	 * {@code null} for an attribute whose evaluations are not ordered.
+	 */
+	protected int[][] ranks;
+	
+	/**
+	 * Number of distinct known evaluations on each active condition attribute; zero for an attribute whose evaluations are not ordered.
+	 */
+	protected int[] numbersOfRanks;
+	
+	/**
+	 * Constructs this object by sorting objects of given information table with respect to their evaluations on each active condition attribute.
+	 *
+	 * @param informationTable information table whose objects should be sorted
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	public EvaluationOrders(InformationTable informationTable) {
+		notNull(informationTable, "Information table for calculation of evaluation orders is null.");
+		Table<EvaluationAttribute, EvaluationField> activeConditionAttributeFields = informationTable.getActiveConditionAttributeFields();
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		int numberOfAttributes = activeConditionAttributeFields != null ? activeConditionAttributeFields.getNumberOfAttributes() : 0;
+		
+		this.ranks = new int[numberOfAttributes][];
+		this.numbersOfRanks = new int[numberOfAttributes];
+		
+		for (int attributeIndex = 0; attributeIndex < numberOfAttributes; attributeIndex++) {
+			if (activeConditionAttributeFields.getAttributes(true)[attributeIndex].getPreferenceType() != AttributePreferenceType.NONE) {
+				sortObjects(activeConditionAttributeFields, numberOfObjects, attributeIndex);
+			}
+		}
+	}
+	
+	/**
+	 * Sorts objects with respect to their evaluations on the attribute with given index, and calculates ranks of these evaluations.
+	 * Does nothing if any evaluation on that attribute is neither a known nor a missing simple evaluation.
+	 *
+	 * @param activeConditionAttributeFields evaluations of objects on active condition attributes
+	 * @param numberOfObjects number of objects
+	 * @param attributeIndex index of an active condition attribute
+	 */
+	private void sortObjects(Table<EvaluationAttribute, EvaluationField> activeConditionAttributeFields, int numberOfObjects, int attributeIndex) {
+		KnownSimpleField[] evaluations = new KnownSimpleField[numberOfObjects];
+		int[] attributeSortedObjects = new int[numberOfObjects];
+		int numberOfKnownEvaluations = 0;
+		EvaluationField evaluation;
+		
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			evaluation = activeConditionAttributeFields.getField(objectIndex, attributeIndex);
+			if (evaluation instanceof KnownSimpleField) {
+				evaluations[objectIndex] = (KnownSimpleField)evaluation;
+				attributeSortedObjects[numberOfKnownEvaluations++] = objectIndex;
+			} else if (!(evaluation instanceof UnknownSimpleField)) {
+				return; //evaluations cannot be ordered
+			}
+		}
+		
+		attributeSortedObjects = IntArrays.trim(attributeSortedObjects, numberOfKnownEvaluations);
+		IntArrays.mergeSort(attributeSortedObjects, (x, y) -> evaluations[x].compareTo(evaluations[y])); //stable sort, so ties are resolved by indices of objects
+		
+		int[] attributeRanks = new int[numberOfObjects];
+		Arrays.fill(attributeRanks, MISSING_RANK);
+		int rank = -1;
+		
+		for (int i = 0; i < numberOfKnownEvaluations; i++) {
+			if (i == 0 || evaluations[attributeSortedObjects[i]].compareTo(evaluations[attributeSortedObjects[i - 1]]) != 0) {
+				rank++;
+			}
+			attributeRanks[attributeSortedObjects[i]] = rank;
+		}
+		
+		this.ranks[attributeIndex] = attributeRanks;
+		this.numbersOfRanks[attributeIndex] = rank + 1;
+	}
+	
+	/**
+	 * Tells if objects have been ordered with respect to their evaluations on the attribute with given index.
+	 *
+	 * @param attributeIndex local index of an active condition attribute
+	 * @return {@code true} if the attribute with given index has a preference type, and all evaluations on that attribute
+	 *         are either known or missing simple evaluations, so they can be ordered, {@code false} otherwise
+	 *
+	 * @throws IndexOutOfBoundsException if given attribute index does not correspond to any active condition attribute
+	 */
+	public boolean isOrdered(int attributeIndex) {
+		return this.ranks[attributeIndex] != null;
+	}
+	
+	/**
+	 * Gets ranks of evaluations of all objects on the attribute with given index, indexed by objects' indices.
+	 *
+	 * @param attributeIndex local index of an active condition attribute
+	 * @return ranks of evaluations of all objects, with {@link #MISSING_RANK} for missing evaluations,
+	 *         or {@code null} if evaluations on the attribute with given index are not ordered
+	 *
+	 * @throws IndexOutOfBoundsException if given attribute index does not correspond to any active condition attribute
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public int[] getRanks(int attributeIndex) {
+		return this.ranks[attributeIndex];
+	}
+	
+	/**
+	 * Gets number of distinct known evaluations on the attribute with given index.
+	 *
+	 * @param attributeIndex local index of an active condition attribute
+	 * @return number of distinct known evaluations, or zero if evaluations on the attribute with given index are not ordered
+	 *
+	 * @throws IndexOutOfBoundsException if given attribute index does not correspond to any active condition attribute
+	 */
+	public int getNumberOfRanks(int attributeIndex) {
+		return this.numbersOfRanks[attributeIndex];
+	}
+
+}
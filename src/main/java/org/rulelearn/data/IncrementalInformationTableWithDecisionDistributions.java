@@ -0,0 +1,198 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.rulelearn.approximations.Union;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.dominance.DominanceConesDecisionDistributions;
+import org.rulelearn.types.Field;
+
+/**
+ * Information table with decision distributions, whose set of objects can be modified by adding and removing single objects.
+ * Distributions of decisions in dominance cones (see {@link DominanceConesDecisionDistributions}) that have already been calculated
+ * are updated after each modification in O(n*m) time, where n is the number of objects, and m is the number of active condition attributes,
+ * instead of being calculated from scratch in O(n<sup>2</sup>*m) time. Distribution of decisions among objects of this information table
+ * (see {@link DecisionDistribution}) is updated as well.<br>
+ * <br>
+ * Each modification increases the number returned by {@link #getModificationCount()}. Approximations and other sets of objects cached
+ * in {@link Union unions} defined for this information table are invalidated on their next request, when this number changes,
+ * and then calculated again, using updated decision distributions in dominance cones.
+ * Precomputed dominance cones stored as bitsets (see {@link #enableDominanceConesMatrix(int)}) are disabled by each modification,
+ * but they can be enabled again.<br>
+ * <br>
+ * Modifications of this information table are not thread-safe.
+ */
+public class IncrementalInformationTableWithDecisionDistributions extends InformationTableWithDecisionDistributions {
+	
+	/**
+	 * Information table constructor. Copies given information table (see {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable)}).
+	 * Subsequent modifications of constructed information table do not affect given information table.
+	 *
+	 * @param informationTable information table to be copied and then extended by decision distributions
+	 *
+	 * @throws NullPointerException if the given information table is {@code null}
+	 * @throws InvalidValueException if the given information table does not contain any active condition attribute or any active decision attribute
+	 */
+	public IncrementalInformationTableWithDecisionDistributions(InformationTable informationTable) {
+		this(informationTable, 1);
+	}
+	
+	/**
+	 * Information table constructor. Copies given information table
+	 * (see {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean, int)}).
+	 * Subsequent modifications of constructed information table do not affect given information table.
+	 *
+	 * @param informationTable information table to be copied and then extended by decision distributions
+	 * @param parallelism number of threads used to calculate distribution of decisions among different dominance cones (from scratch)
+	 *
+	 * @throws NullPointerException if the given information table is {@code null}
+	 * @throws InvalidValueException if the given information table does not contain any active condition attribute or any active decision attribute
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 */
+	public IncrementalInformationTableWithDecisionDistributions(InformationTable informationTable, int parallelism) {
+		super(informationTable, false, parallelism);
+		if (this.activeConditionAttributeFields == null) {
+			throw new InvalidValueException("Incremental information table should have at least one active condition attribute.");
+		}
+	}
+	
+	/**
+	 * Adds an object as the last object of this information table, and updates decision distributions.
+	 *
+	 * @param fields fields of added object; it is assumed that the type of i-th field is compatible with the type of i-th attribute of this information table
+	 * @return index of added object
+	 *
+	 * @throws NullPointerException if given array of fields is {@code null}
+	 * @throws InvalidValueException if the number of attributes and the number of given fields do not match
+	 */
+	public int addObject(Field[] fields) {
+		notNull(fields, "Fields of object added to information table are null.");
+		if (fields.length != this.attributes.length) {
+			throw new InvalidValueException("The number of attributes and the number of fields of object added to information table do not match.");
+		}
+		
+		//split fields of added object, and get its unique id
+		InformationTable objectTable = new InformationTable(this.attributes, Collections.singletonList(fields), true);
+		int objectIndex = this.getNumberOfObjects();
+		
+		int[] objectIndex2Id = Arrays.copyOf(this.mapper.objectIndex2Id, objectIndex + 1);
+		objectIndex2Id[objectIndex] = objectTable.getIndex2IdMapper().getId(0);
+		Index2IdMapper newMapper = new Index2IdMapper(objectIndex2Id, true);
+		
+		this.activeConditionAttributeFields = append(this.activeConditionAttributeFields, objectTable.activeConditionAttributeFields.getFields(0, true), newMapper);
+		if (this.notActiveOrDescriptionAttributeFields != null) {
+			this.notActiveOrDescriptionAttributeFields = append(this.notActiveOrDescriptionAttributeFields,
+					objectTable.notActiveOrDescriptionAttributeFields.getFields(0, true), newMapper);
+		}
+		this.decisions = Arrays.copyOf(this.decisions, objectIndex + 1);
+		this.decisions[objectIndex] = objectTable.getDecision(0);
+		if (this.activeIdentificationAttributeFields != null) {
+			this.activeIdentificationAttributeFields = Arrays.copyOf(this.activeIdentificationAttributeFields, objectIndex + 1);
+			this.activeIdentificationAttributeFields[objectIndex] = objectTable.getIdentifier(0);
+		}
+		this.mapper = newMapper;
+		
+		this.objectsModified();
+		this.dominanceConesDecisionDistributions.addObject();
+		this.decisionDistribution.increaseCount(this.decisions[objectIndex]);
+		
+		return objectIndex;
+	}
+	
+	/**
+	 * Removes an object from this information table, and updates decision distributions.
+	 * Indices of objects following the removed object are decreased by one.
+	 *
+	 * @param objectIndex index of removed object
+	 *
+	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {@code getNumberOfObjects()-1}
+	 */
+	public void removeObject(int objectIndex) {
+		int numberOfObjects = this.getNumberOfObjects();
+		if (objectIndex < 0 || objectIndex >= numberOfObjects) {
+			throw new IndexOutOfBoundsException("Index of object removed from information table is out of range.");
+		}
+		
+		this.dominanceConesDecisionDistributions.removeObject(objectIndex); //update before removal, when removed object is still present
+		this.decisionDistribution.decreaseCount(this.decisions[objectIndex]);
+		
+		int[] objectIndices = new int[numberOfObjects - 1];
+		for (int i = 0; i < objectIndices.length; i++) {
+			objectIndices[i] = i < objectIndex ? i : i + 1;
+		}
+		
+		this.activeConditionAttributeFields = this.activeConditionAttributeFields.select(objectIndices, true);
+		this.mapper = this.activeConditionAttributeFields.getIndex2IdMapper();
+		if (this.notActiveOrDescriptionAttributeFields != null) {
+			this.notActiveOrDescriptionAttributeFields = this.notActiveOrDescriptionAttributeFields.select(objectIndices, true);
+		}
+		this.decisions = remove(this.decisions, objectIndex);
+		if (this.activeIdentificationAttributeFields != null) {
+			this.activeIdentificationAttributeFields = remove(this.activeIdentificationAttributeFields, objectIndex);
+		}
+		
+		this.objectsModified();
+	}
+	
+	/**
+	 * Invalidates data calculated for the previous set of objects of this information table, and increases the number of modifications.
+	 */
+	protected void objectsModified() {
+		synchronized (this) {
+			this.activeConditionAttributeColumns = null;
+			this.activeConditionAttributeColumnsCalculated = false;
+			this.dominanceConesMatrix = null;
+			this.equivalenceClasses = null;
+			this.equivalenceClassesProfitable = null;
+			this.evaluationOrders = null;
+		}
+		this.modificationCount++;
+	}
+	
+	/**
+	 * Gets a new table composed of rows of given table and one additional row.
+	 *
+	 * @param table table to which a row should be appended
+	 * @param fields fields of the appended row
+	 * @param mapper mapper translating index of each row of the new table to its unique id
+	 * @return new table with appended row
+	 */
+	private static <S extends Attribute, T extends Field> Table<S, T> append(Table<S, T> table, T[] fields, Index2IdMapper mapper) {
+		T[][] newFields = Arrays.copyOf(table.fields, table.fields.length + 1);
+		newFields[table.fields.length] = fields;
+		return new Table<S, T>(table.attributes, newFields, mapper, true);
+	}
+	
+	/**
+	 * Gets a copy of given array without the element at given index.
+	 *
+	 * @param array array of elements
+	 * @param index index of removed element
+	 * @return copy of given array without the element at given index
+	 */
+	private static <T> T[] remove(T[] array, int index) {
+		T[] newArray = Arrays.copyOf(array, array.length - 1);
+		System.arraycopy(array, index + 1, newArray, index, array.length - index - 1);
+		return newArray;
+	}
+
+}
@@ -24,6 +24,9 @@ import org.rulelearn.core.Precondition;
 import org.rulelearn.core.ReadOnlyArrayReference;
 import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
 import org.rulelearn.core.TernaryLogicValue;
+import org.rulelearn.dominance.DominanceConeCalculator;
+import org.rulelearn.dominance.DominanceConesMatrix;
+import org.rulelearn.dominance.EquivalenceClasses;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.Field;
 import org.rulelearn.types.IdentificationField;
@@ -74,6 +77,48 @@ public class InformationTable {
 	 */
 	protected Table<Attribute, Field> notActiveOrDescriptionAttributeFields = null;
 	
+	/**
+	 * Primitive, column-oriented encoding of {@link #activeConditionAttributeFields}, calculated on first request.
+	 * Equals to {@code null} if it has not been calculated yet or if evaluations cannot be encoded.
+	 */
+	protected volatile EvaluationColumns activeConditionAttributeColumns = null;
+	
+	/**
+	 * Tells if {@link #activeConditionAttributeColumns} has already been calculated.
+	 */
+	protected volatile boolean activeConditionAttributeColumnsCalculated = false;
+	
+	/**
+	 * Precomputed dominance cones of objects of this information table, stored as bitsets. Equals to {@code null} unless enabled by
+	 * {@link #enableDominanceConesMatrix(int)}.
+	 */
+	protected volatile DominanceConesMatrix dominanceConesMatrix = null;
+	
+	/**
+	 * Partition of objects of this information table into equivalence classes of objects having identical evaluations on all active condition attributes,
+	 * calculated on first request. Equals to {@code null} if it has not been calculated yet.
+	 */
+	protected volatile EquivalenceClasses equivalenceClasses = null;
+	
+	/**
+	 * Tells if calculations on equivalence classes are profitable for this information table (see {@link EquivalenceClasses#isProfitable()}).
+	 * Equals to {@code null} if it has not been checked yet.
+	 */
+	protected volatile Boolean equivalenceClassesProfitable = null;
+	
+	/**
+	 * Orders of objects of this information table with respect to their evaluations on particular active condition attributes,
+	 * calculated on first request. Equals to {@code null} if they have not been calculated yet.
+	 */
+	protected volatile EvaluationOrders evaluationOrders = null;
+	
+	/**
+	 * Number of modifications of the set of objects of this information table (i.e., additions and removals of objects).
+	 * Equals to zero for information tables whose set of objects cannot be modified, like this one
+	 * (see {@link IncrementalInformationTableWithDecisionDistributions}).
+	 */
+	protected int modificationCount = 0;
+	
 	/**
 	 * Contains decisions associated with subsequent objects. Each decision is defined by an ordered set of object's evaluations on active decision attributes.
 	 * Can be {@code null}, e.g., if this information table stores evaluations of test objects (for which decisions are unknown).
@@ -156,10 +201,11 @@ public class InformationTable {
 		this.activeConditionAttributeFields = activeConditionAttributeFields;
 		this.notActiveOrDescriptionAttributeFields = notActiveOrDescriptionAttributeFields;
 		
-		this.decisions = accelerateByReadOnlyParams ? decisions : decisions.clone();
+		this.decisions = accelerateByReadOnlyParams || decisions == null ? decisions : decisions.clone();
 //		this.activeDecisionAttributeIndex = activeDecisionAttributeIndex;
 		
-		this.activeIdentificationAttributeFields = accelerateByReadOnlyParams ? activeIdentificationAttributeFields : activeIdentificationAttributeFields.clone();
+		this.activeIdentificationAttributeFields = accelerateByReadOnlyParams || activeIdentificationAttributeFields == null ? activeIdentificationAttributeFields :
+			activeIdentificationAttributeFields.clone();
 		this.activeIdentificationAttributeIndex = activeIdentificationAttributeIndex;
 		
 		this.attributeMap = accelerateByReadOnlyParams ? attributeMap : attributeMap.clone();
@@ -376,6 +422,129 @@ public class InformationTable {
 		return this.activeConditionAttributeFields;
 	}
 
+	/**
+	 * Gets primitive, column-oriented encoding of evaluations on active condition attributes (see {@link #getActiveConditionAttributeFields()}),
+	 * used to speed up dominance checking. The encoding is calculated on first request. If there are no active condition attributes,
+	 * or evaluations on these attributes cannot be encoded (see {@link EvaluationColumns}), then returns {@code null}.
+	 * 
+	 * @return column-oriented encoding of evaluations on active condition attributes, or {@code null} if such encoding is not available
+	 */
+	public EvaluationColumns getActiveConditionAttributeColumns() {
+		if (!this.activeConditionAttributeColumnsCalculated) {
+			synchronized (this) {
+				if (!this.activeConditionAttributeColumnsCalculated) {
+					if (this.activeConditionAttributeFields != null) {
+						this.activeConditionAttributeColumns = EvaluationColumns.encode(this.activeConditionAttributeFields);
+					}
+					this.activeConditionAttributeColumnsCalculated = true;
+				}
+			}
+		}
+		return this.activeConditionAttributeColumns;
+	}
+	
+	/**
+	 * Enables precomputed dominance cones of objects of this information table, stored as bitsets (see {@link DominanceConesMatrix}).
+	 * Once enabled, they are used by {@link DominanceConeCalculator} and in calculation of positive regions of unions of decision classes.
+	 * All four types of dominance cones are calculated together, on first request of any of them, using given number of threads.
+	 * Each type occupies n<sup>2</sup> bits of memory, where n is the number of objects. If dominance cones are already enabled, this method does nothing.
+	 * 
+	 * @param parallelism number of threads used to calculate dominance cones
+	 * @return precomputed dominance cones of objects of this information table
+	 * 
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 */
+	public DominanceConesMatrix enableDominanceConesMatrix(int parallelism) {
+		if (this.dominanceConesMatrix == null) {
+			synchronized (this) {
+				if (this.dominanceConesMatrix == null) {
+					this.dominanceConesMatrix = new DominanceConesMatrix(this, parallelism);
+				}
+			}
+		}
+		return this.dominanceConesMatrix;
+	}
+	
+	/**
+	 * Gets precomputed dominance cones of objects of this information table, stored as bitsets.
+	 * 
+	 * @return precomputed dominance cones of objects of this information table, or {@code null} if they have not been enabled
+	 *         by {@link #enableDominanceConesMatrix(int)}
+	 */
+	public DominanceConesMatrix getDominanceConesMatrix() {
+		return this.dominanceConesMatrix;
+	}
+
+	/**
+	 * Gets partition of objects of this information table into equivalence classes of objects having identical evaluations on all active condition attributes
+	 * (see {@link EquivalenceClasses}). The partition is calculated on first request.
+	 * 
+	 * @return partition of objects of this information table into equivalence classes
+	 */
+	public EquivalenceClasses getEquivalenceClasses() {
+		if (this.equivalenceClasses == null) {
+			synchronized (this) {
+				if (this.equivalenceClasses == null) {
+					this.equivalenceClasses = new EquivalenceClasses(this);
+				}
+			}
+		}
+		return this.equivalenceClasses;
+	}
+	
+	/**
+	 * Gets partition of objects of this information table into equivalence classes (see {@link #getEquivalenceClasses()}), provided that calculations
+	 * on equivalence classes are profitable (see {@link EquivalenceClasses#isProfitable()}). Profitability is checked on first request.
+	 * If the partition is not profitable, it is not stored in this information table, so it does not occupy memory
+	 * (unless it has been explicitly requested by {@link #getEquivalenceClasses()}).
+	 * 
+	 * @return partition of objects of this information table into equivalence classes, or {@code null} if calculations on this partition are not profitable
+	 */
+	public EquivalenceClasses getProfitableEquivalenceClasses() {
+		if (this.equivalenceClassesProfitable == null) {
+			synchronized (this) {
+				if (this.equivalenceClassesProfitable == null) {
+					EquivalenceClasses equivalenceClasses = this.equivalenceClasses != null ? this.equivalenceClasses : new EquivalenceClasses(this);
+					if (equivalenceClasses.isProfitable()) {
+						this.equivalenceClasses = equivalenceClasses;
+						this.equivalenceClassesProfitable = Boolean.TRUE;
+					} else {
+						this.equivalenceClassesProfitable = Boolean.FALSE; //calculated partition is dropped
+					}
+				}
+			}
+		}
+		return this.equivalenceClassesProfitable ? this.equivalenceClasses : null;
+	}
+	
+	/**
+	 * Gets orders of objects of this information table with respect to their evaluations on particular active condition attributes
+	 * (see {@link EvaluationOrders}). The orders are calculated on first request.
+	 * 
+	 * @return orders of objects of this information table with respect to their evaluations on particular active condition attributes
+	 */
+	public EvaluationOrders getEvaluationOrders() {
+		if (this.evaluationOrders == null) {
+			synchronized (this) {
+				if (this.evaluationOrders == null) {
+					this.evaluationOrders = new EvaluationOrders(this);
+				}
+			}
+		}
+		return this.evaluationOrders;
+	}
+	
+	/**
+	 * Gets number of modifications of the set of objects of this information table (i.e., additions and removals of objects).
+	 * Objects calculated for this information table (like approximations of unions of decision classes) can compare this number
+	 * with the number memorized at the time of calculation to find out if they are still valid.
+	 * 
+	 * @return number of modifications of the set of objects of this information table
+	 */
+	public int getModificationCount() {
+		return this.modificationCount;
+	}
+	
 	/**
 	 * Gets sub-table of this information table, corresponding to all attributes which are either not active or description ones.
 	 * If there are no such attributes, then returns {@code null}.
@@ -21,6 +21,8 @@ import java.util.List;
 import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.core.ReadOnlyArrayReference;
 import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.dominance.DominanceConeType;
+import org.rulelearn.dominance.DominanceConesCalculationStrategy;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 import org.rulelearn.types.Field;
 
@@ -62,7 +64,7 @@ public class InformationTableWithDecisionDistributions extends InformationTable
 	 * Information table constructor. Invokes superclass constructor {@link InformationTable#InformationTable(Attribute[], List, boolean)} for basic construction.
 	 * Then, checks if there is at least one active decision attribute (throwing an {@link InvalidValueException} exception if this is not the case).
 	 * Finally, calculates:<br>
-	 * - distribution of decisions found in this information table among different dominance cones originating in objects from this information table,<br>
+	 * - distribution of decisions found in this information table among different dominance cones originating in objects from this information table (calculated on first request),<br>
 	 * - distribution of decisions among objects of this information table.
 	 * 
 	 * @param attributes see {@link InformationTable#InformationTable(Attribute[], List, boolean)}
@@ -96,7 +98,7 @@ public class InformationTableWithDecisionDistributions extends InformationTable
 	 * Information table constructor. Invokes superclass constructor {@link InformationTable#InformationTable(InformationTable)} for basic construction.
 	 * Then, checks if there is at least one active decision attribute (throwing an {@link InvalidValueException} exception if this is not the case).
 	 * Finally, calculates:<br>
-	 * - distribution of decisions found in this information table among different dominance cones originating in objects from this information table,<br>
+	 * - distribution of decisions found in this information table among different dominance cones originating in objects from this information table (calculated on first request),<br>
 	 * - distribution of decisions among objects of this information table.
 	 * 
 	 * @param informationTable information table to be copied and then extended by decision distributions
@@ -108,25 +110,57 @@ public class InformationTableWithDecisionDistributions extends InformationTable
 	 * @throws InvalidValueException if the given information table does not contain any active decision attribute
 	 */
 	public InformationTableWithDecisionDistributions(InformationTable informationTable, boolean accelerateByReadOnlyResult) {
+		this(informationTable, accelerateByReadOnlyResult, 1);
+	}
+	
+	/**
+	 * Information table constructor. Works like {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean)},
+	 * but calculates distribution of decisions among different dominance cones using given number of threads
+	 * (see {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, int)}).
+	 * 
+	 * @param informationTable information table to be copied and then extended by decision distributions
+	 * @param accelerateByReadOnlyResult see {@link InformationTableWithDecisionDistributions#InformationTableWithDecisionDistributions(InformationTable, boolean)}
+	 * @param parallelism number of threads used to calculate distribution of decisions among different dominance cones
+	 * 
+	 * @throws NullPointerException if the given information table is {@code null}
+	 * @throws InvalidValueException if the given information table does not contain any active decision attribute
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 */
+	public InformationTableWithDecisionDistributions(InformationTable informationTable, boolean accelerateByReadOnlyResult, int parallelism) {
 		super(informationTable, accelerateByReadOnlyResult);
-		initializeDistributions();
+		initializeDistributions(parallelism);
 	}
 	
 	/**
 	 * Initializes decision distributions, general one and within dominance cones.
+	 * Decision distributions within dominance cones of each type are calculated on first request (see {@link DominanceConesDecisionDistributions#calculate(DominanceConeType...)}).
 	 * 
 	 * @throws InvalidValueException if this information table does not contain any active decision attribute
 	 */
 	void initializeDistributions() {
+		initializeDistributions(1);
+	}
+	
+	/**
+	 * Initializes decision distributions, general one and within dominance cones, the latter using given number of threads.
+	 * 
+	 * @param parallelism number of threads used to calculate distribution of decisions among different dominance cones
+	 * @throws InvalidValueException if this information table does not contain any active decision attribute
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 */
+	void initializeDistributions(int parallelism) {
 		if (this.getDecisions(true) == null) {
 			throw new InvalidValueException("Information table for which decision distributions should be calculated does not have any active decision attribute.");
 		}
-		this.dominanceConesDecisionDistributions = new DominanceConesDecisionDistributions(this);
+		this.dominanceConesDecisionDistributions = new DominanceConesDecisionDistributions(this, DominanceConesCalculationStrategy.AUTOMATIC, parallelism, true);
 		this.decisionDistribution = new DecisionDistribution(this);
 	}
 
 	/**
 	 * Gets distribution of decisions found in this information table among different dominance cones originating in objects from this information table.
+	 * Decision distributions within dominance cones of each type are calculated on first request, so if only some types of dominance cones are needed,
+	 * only these types are calculated. Types of dominance cones that are used together should be requested
+	 * by {@link DominanceConesDecisionDistributions#calculate(DominanceConeType...)}, so they are calculated in a single pass.
 	 * 
 	 * @return distribution of decisions found in this information table among different dominance cones originating in objects from this information table
 	 */
@@ -20,6 +20,7 @@ import static org.rulelearn.core.Precondition.notNull;
 import java.util.function.BiPredicate;
 import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.EvaluationColumns;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.data.Table;
 import org.rulelearn.types.EvaluationField;
@@ -27,13 +28,40 @@ import org.rulelearn.types.EvaluationField;
 /**
  * Dominance checker capable of verifying if a given pair {@code (x,y)} of objects {@code x, y} from an information table
  * belongs to dominance relation (i.e., {@code x} dominates {@code y}) or inverse dominance relation
- * (i.e., {@code x} is dominated by {@code y}). 
+ * (i.e., {@code x} is dominated by {@code y}).
+ * If available, primitive encoding of evaluations returned by {@link InformationTable#getActiveConditionAttributeColumns()} is used,
+ * so that evaluation fields are not compared one by one.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
  */
 public final class DominanceChecker {
 	
+	/**
+	 * Flag set in the result of {@link #getRelations(int, int, InformationTable)} if the first object dominates the second object.
+	 */
+	public static final int FIRST_DOMINATES_SECOND = 1;
+	
+	/**
+	 * Flag set in the result of {@link #getRelations(int, int, InformationTable)} if the second object dominates the first object.
+	 */
+	public static final int SECOND_DOMINATES_FIRST = 2;
+	
+	/**
+	 * Flag set in the result of {@link #getRelations(int, int, InformationTable)} if the first object is dominated by the second object.
+	 */
+	public static final int FIRST_IS_DOMINATED_BY_SECOND = 4;
+	
+	/**
+	 * Flag set in the result of {@link #getRelations(int, int, InformationTable)} if the second object is dominated by the first object.
+	 */
+	public static final int SECOND_IS_DOMINATED_BY_FIRST = 8;
+	
+	/**
+	 * Combination of all flags that can be set in the result of {@link #getRelations(int, int, InformationTable)}.
+	 */
+	public static final int ALL_RELATIONS = FIRST_DOMINATES_SECOND | SECOND_DOMINATES_FIRST | FIRST_IS_DOMINATED_BY_SECOND | SECOND_IS_DOMINATED_BY_FIRST;
+	
 	/**
 	 * Checks if the first given object ({@code x}) is in relation with the second given object ({@code y}) with respect to active condition attributes
 	 * of the given information table.
@@ -82,6 +110,10 @@ public final class DominanceChecker {
 	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object from the given information table
 	 */
 	public static boolean dominates(int x, int y, InformationTable informationTable) {
+		EvaluationColumns columns = notNull(informationTable, "Information table for checking dominance is null.").getActiveConditionAttributeColumns();
+		if (columns != null) {
+			return columns.dominates(x, y);
+		}
 		return isInRelationWith(x, y, informationTable,
 				(evaluation1, evaluation2) -> evaluation1.isAtLeastAsGoodAs(evaluation2) == TernaryLogicValue.TRUE);
 	}
@@ -100,7 +132,59 @@ public final class DominanceChecker {
 	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object from the given information table
 	 */
 	public static boolean isDominatedBy(int x, int y, InformationTable informationTable) {
+		EvaluationColumns columns = notNull(informationTable, "Information table for checking dominance is null.").getActiveConditionAttributeColumns();
+		if (columns != null) {
+			return columns.isDominatedBy(x, y);
+		}
 		return isInRelationWith(x, y, informationTable,
 				(evaluation1, evaluation2) -> evaluation1.isAtMostAsGoodAs(evaluation2) == TernaryLogicValue.TRUE);
 	}
+	
+	/**
+	 * Checks, in one comparison of evaluations of the first given object ({@code x}) and the second given object ({@code y}),
+	 * which of the following relations hold with respect to active condition attributes of the given information table:
+	 * {@code x} dominates {@code y}, {@code y} dominates {@code x}, {@code x} is dominated by {@code y}, and {@code y} is dominated by {@code x}.
+	 * Result is the same as if each of these relations were checked separately
+	 * using {@link #dominates(int, int, InformationTable)} and {@link #isDominatedBy(int, int, InformationTable)}.
+	 * 
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @param informationTable information table containing evaluations of the first and the second object
+	 * @return combination of flags {@link #FIRST_DOMINATES_SECOND}, {@link #SECOND_DOMINATES_FIRST}, {@link #FIRST_IS_DOMINATED_BY_SECOND},
+	 *         and {@link #SECOND_IS_DOMINATED_BY_FIRST}, corresponding to relations that hold
+	 * 
+	 * @throws NullPointerException if given information table is {@code null}
+	 * @throws IndexOutOfBoundsException if index {@code x} or {@code y} does not correspond to any object from the given information table
+	 */
+	public static int getRelations(int x, int y, InformationTable informationTable) {
+		EvaluationColumns columns = notNull(informationTable, "Information table for checking dominance is null.").getActiveConditionAttributeColumns();
+		if (columns != null) {
+			return columns.getRelations(x, y);
+		}
+		
+		Table<EvaluationAttribute, EvaluationField> evaluations = informationTable.getActiveConditionAttributeFields();
+		EvaluationField[] xEvaluations = evaluations.getFields(x);
+		EvaluationField[] yEvaluations = evaluations.getFields(y);
+		int relations = ALL_RELATIONS;
+		
+		for (int i = 0; i < xEvaluations.length; i++) {
+			if ((relations & FIRST_DOMINATES_SECOND) != 0 && xEvaluations[i].isAtLeastAsGoodAs(yEvaluations[i]) != TernaryLogicValue.TRUE) {
+				relations &= ~FIRST_DOMINATES_SECOND;
+			}
+			if ((relations & SECOND_DOMINATES_FIRST) != 0 && yEvaluations[i].isAtLeastAsGoodAs(xEvaluations[i]) != TernaryLogicValue.TRUE) {
+				relations &= ~SECOND_DOMINATES_FIRST;
+			}
+			if ((relations & FIRST_IS_DOMINATED_BY_SECOND) != 0 && xEvaluations[i].isAtMostAsGoodAs(yEvaluations[i]) != TernaryLogicValue.TRUE) {
+				relations &= ~FIRST_IS_DOMINATED_BY_SECOND;
+			}
+			if ((relations & SECOND_IS_DOMINATED_BY_FIRST) != 0 && yEvaluations[i].isAtMostAsGoodAs(xEvaluations[i]) != TernaryLogicValue.TRUE) {
+				relations &= ~SECOND_IS_DOMINATED_BY_FIRST;
+			}
+			if (relations == 0) {
+				break;
+			}
+		}
+		
+		return relations;
+	}
 }
@@ -16,12 +16,16 @@
 
 package org.rulelearn.dominance;
 
+import org.rulelearn.core.OperationsOnBitSets;
 import org.rulelearn.data.InformationTable;
 import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSortedSet;
 
 /**
  * Calculator of dominance cones, capable of calculating different types of dominance cones of an object found in an information table.
+ * If the information table has precomputed dominance cones (see {@link InformationTable#getDominanceConesMatrix()}), they are used
+ * instead of checking dominance between the object and all other objects. Either way, each calculation returns a new set of object indices.
+ * Read-only bitsets of dominance cones, suitable for word-wise operations, can be obtained directly from {@link DominanceConesMatrix}.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -43,6 +47,11 @@ public enum DominanceConeCalculator {
 	 * @return set of indices of objects in the positive dominance cone of the object indexed by x, calculated w.r.t. (straight) dominance relation D
 	 */
 	public IntSortedSet calculatePositiveDCone(int x, InformationTable informationTable) {
+		DominanceConesMatrix dominanceConesMatrix = informationTable.getDominanceConesMatrix();
+		if (dominanceConesMatrix != null) {
+			return toSortedSet(dominanceConesMatrix.getPositiveDCone(x));
+		}
+		
 		int numberOfObjects = informationTable.getNumberOfObjects();
 		IntSortedSet dominanceCone = new IntLinkedOpenHashSet();
 		
@@ -65,6 +74,11 @@ public enum DominanceConeCalculator {
 	 * @return set of indices of objects in the negative dominance cone of the object indexed by x, calculated w.r.t. (straight) dominance relation D
 	 */
 	public IntSortedSet calculateNegativeDCone(int x, InformationTable informationTable) {
+		DominanceConesMatrix dominanceConesMatrix = informationTable.getDominanceConesMatrix();
+		if (dominanceConesMatrix != null) {
+			return toSortedSet(dominanceConesMatrix.getNegativeDCone(x));
+		}
+		
 		int numberOfObjects = informationTable.getNumberOfObjects();
 		IntSortedSet dominanceCone = new IntLinkedOpenHashSet();
 		
@@ -87,6 +101,11 @@ public enum DominanceConeCalculator {
 	 * @return set of indices of objects in the positive dominance cone of the object indexed by x, calculated w.r.t. (inverse) dominance relation InvD
 	 */
 	public IntSortedSet calculatePositiveInvDCone(int x, InformationTable informationTable) {
+		DominanceConesMatrix dominanceConesMatrix = informationTable.getDominanceConesMatrix();
+		if (dominanceConesMatrix != null) {
+			return toSortedSet(dominanceConesMatrix.getPositiveInvDCone(x));
+		}
+		
 		int numberOfObjects = informationTable.getNumberOfObjects();
 		IntSortedSet dominanceCone = new IntLinkedOpenHashSet();
 		
@@ -109,6 +128,11 @@ public enum DominanceConeCalculator {
 	 * @return set of indices of objects in the negative dominance cone of the object indexed by x, calculated w.r.t. (inverse) dominance relation InvD
 	 */
 	public IntSortedSet calculateNegativeInvDCone(int x, InformationTable informationTable) {
+		DominanceConesMatrix dominanceConesMatrix = informationTable.getDominanceConesMatrix();
+		if (dominanceConesMatrix != null) {
+			return toSortedSet(dominanceConesMatrix.getNegativeInvDCone(x));
+		}
+		
 		int numberOfObjects = informationTable.getNumberOfObjects();
 		IntSortedSet dominanceCone = new IntLinkedOpenHashSet();
 		
@@ -121,4 +145,25 @@ public enum DominanceConeCalculator {
 		return dominanceCone;
 	}
 
+	/**
+	 * Converts given bitset of a dominance cone to a set of indices of objects, ordered increasingly.
+	 * 
+	 * @param dominanceCone bitset of a dominance cone
+	 * @return set of indices of objects in the dominance cone
+	 */
+	IntSortedSet toSortedSet(long[] dominanceCone) {
+		IntSortedSet dominanceConeSet = new IntLinkedOpenHashSet(OperationsOnBitSets.cardinality(dominanceCone));
+		long word;
+		
+		for (int i = 0; i < dominanceCone.length; i++) {
+			word = dominanceCone[i];
+			while (word != 0L) {
+				dominanceConeSet.add((i << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+		
+		return dominanceConeSet;
+	}
+
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+/**
+ * Type of a dominance cone originating in an object x (see {@link DominanceConesDecisionDistributions}). Each type is associated with
+ * a relation between the origin x and an object y, as returned by {@link DominanceChecker#getRelations(int, int, org.rulelearn.data.InformationTable)} called for x and y,
+ * telling if y belongs to the cone.
+ */
+public enum DominanceConeType {
+	
+	/**
+	 * Positive dominance cone w.r.t. (straight) dominance relation D. Formally, D^+(x) = {y \in U : y D x}.
+	 */
+	POSITIVE_D(DominanceChecker.SECOND_DOMINATES_FIRST, DominanceChecker.FIRST_DOMINATES_SECOND),
+	/**
+	 * Negative dominance cone w.r.t. (straight) dominance relation D. Formally, D^-(x) = {y \in U : x D y}.
+	 */
+	NEGATIVE_D(DominanceChecker.FIRST_DOMINATES_SECOND, DominanceChecker.SECOND_DOMINATES_FIRST),
+	/**
+	 * Positive dominance cone w.r.t. (inverse) dominance relation InvD. Formally, InvD^+(x) = {y \in U : x InvD y}.
+	 */
+	POSITIVE_INV_D(DominanceChecker.FIRST_IS_DOMINATED_BY_SECOND, DominanceChecker.SECOND_IS_DOMINATED_BY_FIRST),
+	/**
+	 * Negative dominance cone w.r.t. (inverse) dominance relation InvD. Formally, InvD^-(x) = {y \in U : y InvD x}.
+	 */
+	NEGATIVE_INV_D(DominanceChecker.SECOND_IS_DOMINATED_BY_FIRST, DominanceChecker.FIRST_IS_DOMINATED_BY_SECOND);
+	
+	/**
+	 * Relation telling if object y belongs to the cone originating in object x, when relations are established for x and y (in this order).
+	 */
+	private final int relation;
+	/**
+	 * Relation telling if object x belongs to the cone originating in object y, when relations are established for x and y (in this order).
+	 */
+	private final int mirroredRelation;
+	
+	/**
+	 * Constructs this type of dominance cone.
+	 * 
+	 * @param relation relation telling if the second object belongs to the cone originating in the first object
+	 * @param mirroredRelation relation telling if the first object belongs to the cone originating in the second object
+	 */
+	private DominanceConeType(int relation, int mirroredRelation) {
+		this.relation = relation;
+		this.mirroredRelation = mirroredRelation;
+	}
+	
+	/**
+	 * Gets relation (one of the constants defined in {@link DominanceChecker}) telling if object y belongs to the cone originating in object x,
+	 * when relations are established for x and y (in this order).
+	 * 
+	 * @return relation telling if the second object belongs to the cone originating in the first object
+	 */
+	public int getRelation() {
+		return this.relation;
+	}
+	
+	/**
+	 * Gets relation (one of the constants defined in {@link DominanceChecker}) telling if object x belongs to the cone originating in object y,
+	 * when relations are established for x and y (in this order).
+	 * 
+	 * @return relation telling if the first object belongs to the cone originating in the second object
+	 */
+	public int getMirroredRelation() {
+		return this.mirroredRelation;
+	}
+	
+}
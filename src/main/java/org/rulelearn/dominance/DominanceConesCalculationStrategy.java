@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+/**
+ * Strategy of calculation of decision distributions in dominance cones by {@link DominanceConesDecisionDistributions}.
+ */
+public enum DominanceConesCalculationStrategy {
+	
+	/**
+	 * Calculation of dominance cones by checking dominance for each pair of objects. Applicable to any information table.
+	 * Requires quadratic time with respect to the number of objects.
+	 */
+	PAIRWISE,
+	/**
+	 * Calculation of dominance cones by sorting objects and sweeping them with a binary indexed (Fenwick) tree (see {@link DominanceConesSweep}).
+	 * Applicable only to information tables with at most {@link DominanceConesSweep#MAX_NUMBER_OF_CRITERIA} criteria and without missing values
+	 * (see {@link DominanceConesSweep#isApplicable(org.rulelearn.data.EvaluationColumns)}). Requires O(n log n) time for each decision, where n is the number of objects.
+	 */
+	SWEEP,
+	/**
+	 * Calculation of dominance cones by checking dominance for each pair of equivalence classes of objects having identical evaluations
+	 * on all active condition attributes (see {@link EquivalenceClasses}). Applicable to any information table.
+	 * Requires quadratic time with respect to the number of equivalence classes. Calculation is always sequential, i.e., parallelism
+	 * of {@link DominanceConesDecisionDistributions} is ignored, as this strategy is chosen automatically only if the number of equivalence classes
+	 * is small compared to the number of objects.
+	 */
+	EQUIVALENCE_CLASSES,
+	/**
+	 * Choice of {@link #SWEEP} if it is applicable and the number of objects is at least {@link DominanceConesSweep#MIN_NUMBER_OF_OBJECTS},
+	 * choice of {@link #EQUIVALENCE_CLASSES} if calculations on equivalence classes are profitable (see {@link EquivalenceClasses#isProfitable()}),
+	 * and choice of {@link #PAIRWISE} otherwise.
+	 */
+	AUTOMATIC
+}
@@ -16,8 +16,20 @@
 
 package org.rulelearn.dominance;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.Decision;
 import org.rulelearn.data.DecisionDistribution;
 import org.rulelearn.data.InformationTable;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
 import static org.rulelearn.core.Precondition.notNull;
 
 /**
@@ -39,49 +51,161 @@ import static org.rulelearn.core.Precondition.notNull;
 public class DominanceConesDecisionDistributions {
 	/**
 	 * Decision distributions of positive dominance cones w.r.t. (straight) dominance relation D (y D x &lt;=&gt; y dominates x), one for each object x from an information table.
-	 * Formally, D^+(x) = {y \in U : y D x}. 
+	 * Formally, D^+(x) = {y \in U : y D x}. Equal to {@code null} if not calculated yet.
 	 */
-	protected DecisionDistribution[] positiveDConesDecisionDistributions;
+	protected volatile DecisionDistribution[] positiveDConesDecisionDistributions = null;
 	/**
 	 * Decision distributions of negative dominance cones w.r.t. (straight) dominance relation D (x D y &lt;=&gt; x dominates y), one for each object x from an information table.
-	 * Formally, D^-(x) = {y \in U : x D y}.
+	 * Formally, D^-(x) = {y \in U : x D y}. Equal to {@code null} if not calculated yet.
 	 */
-	protected DecisionDistribution[] negativeDConesDecisionDistributions; //used to calc lower appx of union "at most"
+	protected volatile DecisionDistribution[] negativeDConesDecisionDistributions = null; //used to calc lower appx of union "at most"
 	/**
 	 * Decision distributions of positive dominance cones w.r.t. (inverse) dominance relation InvD (x InvD y &lt;=&gt; x is dominated by y), one for each object x from an information table.
-	 * Formally, InvD^+(x) = {y \in U : x InvD y}.
+	 * Formally, InvD^+(x) = {y \in U : x InvD y}. Equal to {@code null} if not calculated yet.
 	 */
-	protected DecisionDistribution[] positiveInvDConesDecisionDistributions; //used to calc lower appx of union "at least"
+	protected volatile DecisionDistribution[] positiveInvDConesDecisionDistributions = null; //used to calc lower appx of union "at least"
 	/**
 	 * Decision distributions of negative dominance cones w.r.t. (inverse) dominance relation InvD (y InvD x &lt;=&gt; y is dominated by x), one for each object x from an information table.
-	 * Formally, InvD^-(x) = {y \in U : y InvD x}.
+	 * Formally, InvD^-(x) = {y \in U : y InvD x}. Equal to {@code null} if not calculated yet.
 	 */
-	protected DecisionDistribution[] negativeInvDConesDecisionDistributions;
+	protected volatile DecisionDistribution[] negativeInvDConesDecisionDistributions = null;
 	
 	/**
 	 * Number of objects for which dominance cones are processed in this object.
 	 */
 	protected int numberOfObjects;
 	
+	/**
+	 * Information table containing objects for which dominance cones are processed. Used to calculate decision distributions on demand.
+	 */
+	protected InformationTable informationTable;
+	
+	/**
+	 * Strategy of calculation of dominance cones.
+	 */
+	protected DominanceConesCalculationStrategy strategy;
+	
+	/**
+	 * Number of threads used to calculate dominance cones pairwise.
+	 */
+	protected int parallelism;
+	
+	/**
+	 * Strategy of calculation of dominance cones that is actually used ({@link DominanceConesCalculationStrategy#PAIRWISE}, {@link DominanceConesCalculationStrategy#SWEEP},
+	 * or {@link DominanceConesCalculationStrategy#EQUIVALENCE_CLASSES}); {@code null} if it has not been resolved yet.
+	 */
+	protected DominanceConesCalculationStrategy resolvedStrategy = null;
+	
+	/**
+	 * Number of cone origins processed sequentially by a single task of parallel calculation (see {@link #calculateConesDecisionDistributions(InformationTable, Set, int)}).
+	 */
+	protected static final int ORIGINS_PER_TASK = 64;
+	
 	/**
 	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object.
+	 * Strategy of calculation is chosen automatically (see {@link DominanceConesCalculationStrategy#AUTOMATIC}).
 	 * 
 	 * @param informationTable information table containing objects for which dominance cones should be processed
 	 * @throws NullPointerException if given information table is {@code null}
 	 */
 	public DominanceConesDecisionDistributions(InformationTable informationTable) {
-		notNull(informationTable, "Information table for calculation of dominance cones is null.");
-		this.numberOfObjects = informationTable.getNumberOfObjects();
+		this(informationTable, DominanceConesCalculationStrategy.AUTOMATIC, 1);
+	}
+	
+	/**
+	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object, checking dominance for each pair of objects.
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param singlePass tells if all four types of dominance cones should be calculated in a single pass over pairs of objects
+	 *        (see {@link #calculateConesDecisionDistributions(InformationTable, Set)}); if {@code false}, each type of dominance cones is calculated
+	 *        in a separate pass, checking dominance for each ordered pair of objects
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	public DominanceConesDecisionDistributions(InformationTable informationTable, boolean singlePass) {
+		this(informationTable, DominanceConesCalculationStrategy.PAIRWISE, 1, !singlePass);
 		
-		this.positiveDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
-		this.negativeDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
-		this.positiveInvDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
-		this.negativeInvDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+		if (!singlePass) {
+			this.positiveDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+			this.negativeDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+			this.positiveInvDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+			this.negativeInvDConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects];
+			
+			this.calculatePositiveDConesDecisionDistributions(informationTable);
+			this.calculateNegativeDConesDecisionDistributions(informationTable);
+			this.calculatePositiveInvDConesDecisionDistributions(informationTable);
+			this.calculateNegativeInvDConesDecisionDistributions(informationTable);
+		}
+	}
+	
+	/**
+	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object, using given number of threads.
+	 * Strategy of calculation is chosen automatically (see {@link DominanceConesCalculationStrategy#AUTOMATIC}).
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param parallelism number of threads used to calculate dominance cones (see {@link #DominanceConesDecisionDistributions(InformationTable, DominanceConesCalculationStrategy, int)})
+	 * @throws NullPointerException if given information table is {@code null}
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 */
+	public DominanceConesDecisionDistributions(InformationTable informationTable, int parallelism) {
+		this(informationTable, DominanceConesCalculationStrategy.AUTOMATIC, parallelism);
+	}
+	
+	/**
+	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object, using given strategy.
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param strategy strategy of calculation of dominance cones
+	 * @throws NullPointerException if given information table or strategy is {@code null}
+	 * @throws InvalidValueException if {@link DominanceConesCalculationStrategy#SWEEP} strategy is not applicable to given information table
+	 */
+	public DominanceConesDecisionDistributions(InformationTable informationTable, DominanceConesCalculationStrategy strategy) {
+		this(informationTable, strategy, 1);
+	}
+	
+	/**
+	 * Constructs this object by calculating distribution of decisions in each dominance cone of every object, using given strategy and number of threads.
+	 * For {@link DominanceConesCalculationStrategy#PAIRWISE} strategy and parallelism greater than one, cone origins are distributed among tasks
+	 * of a {@link ForkJoinPool} (see {@link #calculateConesDecisionDistributions(InformationTable, Set, int)}). Otherwise, calculation is sequential.
+	 * In particular, given parallelism is ignored if equivalence classes are used (see {@link DominanceConesCalculationStrategy#EQUIVALENCE_CLASSES}).
+	 * The result does not depend on the used strategy and parallelism.
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param strategy strategy of calculation of dominance cones
+	 * @param parallelism number of threads used to calculate dominance cones pairwise
+	 * @throws NullPointerException if given information table or strategy is {@code null}
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 * @throws InvalidValueException if {@link DominanceConesCalculationStrategy#SWEEP} strategy is not applicable to given information table
+	 */
+	public DominanceConesDecisionDistributions(InformationTable informationTable, DominanceConesCalculationStrategy strategy, int parallelism) {
+		this(informationTable, strategy, parallelism, false);
+	}
+	
+	/**
+	 * Constructs this object, using given strategy and number of threads (see {@link #DominanceConesDecisionDistributions(InformationTable, DominanceConesCalculationStrategy, int)}).
+	 * If {@code lazy} is {@code true}, no decision distributions are calculated by this constructor. Instead, decision distributions in dominance cones
+	 * of each type are calculated on first request, either by one of the getters, or by {@link #calculate(DominanceConeType...)}.
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be processed
+	 * @param strategy strategy of calculation of dominance cones
+	 * @param parallelism number of threads used to calculate dominance cones pairwise
+	 * @param lazy tells if decision distributions in dominance cones should be calculated on demand
+	 * @throws NullPointerException if given information table or strategy is {@code null}
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 * @throws InvalidValueException if {@link DominanceConesCalculationStrategy#SWEEP} strategy is not applicable to given information table
+	 *         (in case of calculation on demand, this exception is thrown on first request)
+	 */
+	public DominanceConesDecisionDistributions(InformationTable informationTable, DominanceConesCalculationStrategy strategy, int parallelism, boolean lazy) {
+		this.informationTable = notNull(informationTable, "Information table for calculation of dominance cones is null.");
+		this.strategy = notNull(strategy, "Strategy of calculation of dominance cones is null.");
+		if (parallelism < 1) {
+			throw new InvalidValueException("Parallelism of calculation of dominance cones should be at least one.");
+		}
+		this.parallelism = parallelism;
+		this.numberOfObjects = informationTable.getNumberOfObjects();
 		
-		this.calculatePositiveDConesDecisionDistributions(informationTable);
-		this.calculateNegativeDConesDecisionDistributions(informationTable);
-		this.calculatePositiveInvDConesDecisionDistributions(informationTable);
-		this.calculateNegativeInvDConesDecisionDistributions(informationTable);
+		if (!lazy) {
+			this.calculate(DominanceConeType.values());
+		}
 	}
 	
 	/**
@@ -93,6 +217,552 @@ public class DominanceConesDecisionDistributions {
 		return this.numberOfObjects;
 	}
 	
+	/**
+	 * Calculates decision distributions in dominance cones of given types, unless they have already been calculated.
+	 * All types of dominance cones that are calculated by a single call to this method are calculated in a single pass over pairs of objects.
+	 * Therefore, a calculator or a measure that needs more than one type of dominance cones, should request all of them by one call to this method,
+	 * before it uses the getters. This method is thread-safe.
+	 * 
+	 * @param coneTypes types of dominance cones for which decision distributions should be calculated
+	 * @throws InvalidValueException if {@link DominanceConesCalculationStrategy#SWEEP} strategy is not applicable to processed information table
+	 */
+	public void calculate(DominanceConeType... coneTypes) {
+		boolean allCalculated = true;
+		for (DominanceConeType coneType : coneTypes) {
+			if (this.getConesDecisionDistributions(coneType) == null) {
+				allCalculated = false;
+				break;
+			}
+		}
+		if (allCalculated) {
+			return;
+		}
+		
+		synchronized (this) {
+			Set<DominanceConeType> missingConeTypes = EnumSet.noneOf(DominanceConeType.class);
+			for (DominanceConeType coneType : coneTypes) {
+				if (this.getConesDecisionDistributions(coneType) == null) { //could be calculated by another thread in the meantime
+					missingConeTypes.add(coneType);
+				}
+			}
+			if (missingConeTypes.isEmpty()) {
+				return;
+			}
+			
+			DecisionDistribution[][] conesDecisionDistributions;
+			DominanceConesCalculationStrategy resolvedStrategy = this.resolveStrategy();
+			if (resolvedStrategy == DominanceConesCalculationStrategy.SWEEP) {
+				missingConeTypes = EnumSet.allOf(DominanceConeType.class); //sweep calculates all types at once
+				conesDecisionDistributions = new DecisionDistribution[DominanceConeType.values().length][this.numberOfObjects];
+				Decision[] decisions = new Decision[this.numberOfObjects];
+				for (int x = 0; x < this.numberOfObjects; x++) {
+					decisions[x] = this.informationTable.getDecision(x);
+				}
+				DominanceConesSweep.calculate(this.informationTable.getActiveConditionAttributeColumns(), decisions,
+						conesDecisionDistributions[DominanceConeType.POSITIVE_D.ordinal()], conesDecisionDistributions[DominanceConeType.NEGATIVE_D.ordinal()],
+						conesDecisionDistributions[DominanceConeType.POSITIVE_INV_D.ordinal()], conesDecisionDistributions[DominanceConeType.NEGATIVE_INV_D.ordinal()]);
+			} else if (resolvedStrategy == DominanceConesCalculationStrategy.EQUIVALENCE_CLASSES) { //sequential, regardless of parallelism
+				conesDecisionDistributions = this.calculateConesDecisionDistributions(this.informationTable, missingConeTypes, this.informationTable.getEquivalenceClasses());
+			} else if (this.parallelism == 1 || this.numberOfObjects <= ORIGINS_PER_TASK) {
+				conesDecisionDistributions = this.calculateConesDecisionDistributions(this.informationTable, missingConeTypes);
+			} else {
+				conesDecisionDistributions = this.calculateConesDecisionDistributions(this.informationTable, missingConeTypes, this.parallelism);
+			}
+			
+			for (DominanceConeType coneType : missingConeTypes) {
+				if (this.getConesDecisionDistributions(coneType) == null) {
+					this.setConesDecisionDistributions(coneType, conesDecisionDistributions[coneType.ordinal()]);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Tells if decision distributions in dominance cones of given type have already been calculated.
+	 * 
+	 * @param coneType type of dominance cones
+	 * @return {@code true} if decision distributions in dominance cones of given type have already been calculated, {@code false} otherwise
+	 */
+	public boolean isCalculated(DominanceConeType coneType) {
+		return this.getConesDecisionDistributions(coneType) != null;
+	}
+	
+	/**
+	 * Gets types of dominance cones for which decision distributions have already been calculated.
+	 * 
+	 * @return types of dominance cones for which decision distributions have already been calculated
+	 */
+	private DominanceConeType[] getCalculatedConeTypes() {
+		Set<DominanceConeType> calculatedConeTypes = EnumSet.noneOf(DominanceConeType.class);
+		for (DominanceConeType coneType : DominanceConeType.values()) {
+			if (this.isCalculated(coneType)) {
+				calculatedConeTypes.add(coneType);
+			}
+		}
+		return calculatedConeTypes.toArray(new DominanceConeType[calculatedConeTypes.size()]);
+	}
+	
+	/**
+	 * Resolves strategy of calculation of dominance cones (on first call), and gets strategy that should be actually used.
+	 * 
+	 * @return {@link DominanceConesCalculationStrategy#SWEEP} if dominance cones should be calculated by {@link DominanceConesSweep},
+	 *         {@link DominanceConesCalculationStrategy#EQUIVALENCE_CLASSES} if they should be calculated for pairs of equivalence classes,
+	 *         or {@link DominanceConesCalculationStrategy#PAIRWISE} if they should be calculated for pairs of objects
+	 * @throws InvalidValueException if {@link DominanceConesCalculationStrategy#SWEEP} strategy is not applicable to processed information table
+	 */
+	private DominanceConesCalculationStrategy resolveStrategy() {
+		if (this.resolvedStrategy == null) {
+			switch (this.strategy) {
+			case SWEEP:
+				if (!DominanceConesSweep.isApplicable(this.informationTable.getActiveConditionAttributeColumns())) {
+					throw new InvalidValueException("Sweep calculation of dominance cones is not applicable to given information table.");
+				}
+				this.resolvedStrategy = DominanceConesCalculationStrategy.SWEEP;
+				break;
+			case AUTOMATIC:
+				if (this.numberOfObjects >= DominanceConesSweep.MIN_NUMBER_OF_OBJECTS &&
+						DominanceConesSweep.isApplicable(this.informationTable.getActiveConditionAttributeColumns())) {
+					this.resolvedStrategy = DominanceConesCalculationStrategy.SWEEP;
+				} else {
+					this.resolvedStrategy = this.informationTable.getProfitableEquivalenceClasses() != null ?
+							DominanceConesCalculationStrategy.EQUIVALENCE_CLASSES : DominanceConesCalculationStrategy.PAIRWISE;
+				}
+				break;
+			default:
+				this.resolvedStrategy = this.strategy;
+			}
+		}
+		return this.resolvedStrategy;
+	}
+	
+	/**
+	 * Gets decision distributions in dominance cones of given type.
+	 * 
+	 * @param coneType type of dominance cones
+	 * @return decision distributions in dominance cones of given type, or {@code null} if they have not been calculated yet
+	 */
+	private DecisionDistribution[] getConesDecisionDistributions(DominanceConeType coneType) {
+		switch (coneType) {
+		case POSITIVE_D:
+			return this.positiveDConesDecisionDistributions;
+		case NEGATIVE_D:
+			return this.negativeDConesDecisionDistributions;
+		case POSITIVE_INV_D:
+			return this.positiveInvDConesDecisionDistributions;
+		case NEGATIVE_INV_D:
+			return this.negativeInvDConesDecisionDistributions;
+		default:
+			throw new InvalidValueException("Unexpected type of dominance cones."); //this should not happen
+		}
+	}
+	
+	/**
+	 * Sets decision distributions in dominance cones of given type.
+	 * 
+	 * @param coneType type of dominance cones
+	 * @param conesDecisionDistributions decision distributions in dominance cones of given type
+	 */
+	private void setConesDecisionDistributions(DominanceConeType coneType, DecisionDistribution[] conesDecisionDistributions) {
+		switch (coneType) {
+		case POSITIVE_D:
+			this.positiveDConesDecisionDistributions = conesDecisionDistributions;
+			break;
+		case NEGATIVE_D:
+			this.negativeDConesDecisionDistributions = conesDecisionDistributions;
+			break;
+		case POSITIVE_INV_D:
+			this.positiveInvDConesDecisionDistributions = conesDecisionDistributions;
+			break;
+		case NEGATIVE_INV_D:
+			this.negativeInvDConesDecisionDistributions = conesDecisionDistributions;
+			break;
+		default:
+			throw new InvalidValueException("Unexpected type of dominance cones."); //this should not happen
+		}
+	}
+	
+	/**
+	 * Calculates decision distributions in dominance cones of given types in a single pass over unordered pairs of objects.
+	 * For each pair {@code (x,y)}, all relations between {@code x} and {@code y} are established by one call to
+	 * {@link DominanceChecker#getRelations(int, int, InformationTable)}, and the result is used to update dominance cones originating in both objects.
+	 * Objects are added to each decision distribution in the same order as in separate passes.
+	 * 
+	 * @param informationTable information table for which decision distributions in dominance cones should be calculated
+	 * @param coneTypes types of dominance cones for which decision distributions should be calculated
+	 * @return array of calculated decision distributions, indexed by ordinal number of the type of dominance cones, and by index of cone origin;
+	 *         contains {@code null} for types of dominance cones that have not been requested
+	 */
+	protected DecisionDistribution[][] calculateConesDecisionDistributions(InformationTable informationTable, Set<DominanceConeType> coneTypes) {
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		DominanceConeType[] types = coneTypes.toArray(new DominanceConeType[coneTypes.size()]);
+		DecisionDistribution[][] conesDecisionDistributions = new DecisionDistribution[DominanceConeType.values().length][];
+		Decision[] decisions = new Decision[numberOfObjects];
+		
+		for (DominanceConeType coneType : types) {
+			conesDecisionDistributions[coneType.ordinal()] = new DecisionDistribution[numberOfObjects];
+		}
+		for (int x = 0; x < numberOfObjects; x++) {
+			decisions[x] = informationTable.getDecision(x);
+			for (DominanceConeType coneType : types) {
+				conesDecisionDistributions[coneType.ordinal()][x] = new DecisionDistribution();
+			}
+		}
+		
+		int relations;
+		for (int x = 0; x < numberOfObjects; x++) {
+			relations = DominanceChecker.getRelations(x, x, informationTable);
+			for (DominanceConeType coneType : types) {
+				if ((relations & coneType.getRelation()) != 0) { //x belongs to its own cone
+					conesDecisionDistributions[coneType.ordinal()][x].increaseCount(decisions[x]);
+				}
+			}
+			
+			for (int y = x + 1; y < numberOfObjects; y++) {
+				relations = DominanceChecker.getRelations(x, y, informationTable);
+				if (relations == 0) {
+					continue;
+				}
+				for (DominanceConeType coneType : types) {
+					if ((relations & coneType.getRelation()) != 0) { //y belongs to cone originating in x
+						conesDecisionDistributions[coneType.ordinal()][x].increaseCount(decisions[y]);
+					}
+					if ((relations & coneType.getMirroredRelation()) != 0) { //x belongs to cone originating in y
+						conesDecisionDistributions[coneType.ordinal()][y].increaseCount(decisions[x]);
+					}
+				}
+			}
+		}
+		
+		return conesDecisionDistributions;
+	}
+	
+	/**
+	 * Calculates decision distributions in dominance cones of given types, checking dominance only for each pair of representatives of given equivalence classes
+	 * (by {@link DominanceChecker#getRelations(int, int, InformationTable)}). Decisions of objects from an equivalence class are counted with their multiplicities,
+	 * and decision distribution of a cone is calculated once for each equivalence class. Each object receives its own copy of this decision distribution.
+	 * Decisions are added to each decision distribution in the order of their first occurrence in the cone, like in other ways of calculation.
+	 * Calculation takes O(k<sup>2</sup>*(m+d) + n*d) time, where k is the number of equivalence classes, m is the number of active condition attributes,
+	 * d is the number of distinct decisions, and n is the number of objects.
+	 * 
+	 * @param informationTable information table for which decision distributions in dominance cones should be calculated
+	 * @param coneTypes types of dominance cones for which decision distributions should be calculated
+	 * @param equivalenceClasses partition of objects of given information table into equivalence classes (see {@link InformationTable#getEquivalenceClasses()})
+	 * @return array of calculated decision distributions, indexed by ordinal number of the type of dominance cones, and by index of cone origin;
+	 *         contains {@code null} for types of dominance cones that have not been requested
+	 */
+	protected DecisionDistribution[][] calculateConesDecisionDistributions(InformationTable informationTable, Set<DominanceConeType> coneTypes,
+			EquivalenceClasses equivalenceClasses) {
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		int numberOfClasses = equivalenceClasses.getNumberOfClasses();
+		DominanceConeType[] types = coneTypes.toArray(new DominanceConeType[coneTypes.size()]);
+		DecisionDistribution[][] conesDecisionDistributions = new DecisionDistribution[DominanceConeType.values().length][];
+		for (DominanceConeType coneType : types) {
+			conesDecisionDistributions[coneType.ordinal()] = new DecisionDistribution[numberOfObjects];
+		}
+		
+		Object2IntMap<Decision> decision2IndexMap = new Object2IntOpenHashMap<Decision>();
+		decision2IndexMap.defaultReturnValue(-1);
+		Decision[] decisions = new Decision[numberOfObjects];
+		
+		//for each equivalence class: indices of present decisions, their counts, and the first objects having these decisions, in the order of first occurrence
+		int[][] classDecisionIndices = new int[numberOfClasses][];
+		int[][] classDecisionCounts = new int[numberOfClasses][];
+		int[][] classDecisionFirstObjects = new int[numberOfClasses][];
+		
+		for (int classIndex = 0; classIndex < numberOfClasses; classIndex++) {
+			int[] objects = equivalenceClasses.getObjects(classIndex);
+			int[] decisionIndices = new int[objects.length];
+			int[] decisionCounts = new int[objects.length];
+			int[] decisionFirstObjects = new int[objects.length];
+			int numberOfClassDecisions = 0;
+			
+			for (int x : objects) {
+				Decision decision = informationTable.getDecision(x);
+				int decisionIndex = decision2IndexMap.getInt(decision);
+				if (decisionIndex < 0) {
+					decisionIndex = decision2IndexMap.size();
+					decision2IndexMap.put(decision, decisionIndex);
+					decisions[decisionIndex] = decision;
+				}
+				int i = 0;
+				while (i < numberOfClassDecisions && decisionIndices[i] != decisionIndex) {
+					i++;
+				}
+				if (i == numberOfClassDecisions) {
+					decisionIndices[i] = decisionIndex;
+					decisionFirstObjects[i] = x;
+					numberOfClassDecisions++;
+				}
+				decisionCounts[i]++;
+			}
+			
+			classDecisionIndices[classIndex] = Arrays.copyOf(decisionIndices, numberOfClassDecisions);
+			classDecisionCounts[classIndex] = Arrays.copyOf(decisionCounts, numberOfClassDecisions);
+			classDecisionFirstObjects[classIndex] = Arrays.copyOf(decisionFirstObjects, numberOfClassDecisions);
+		}
+		
+		int numberOfDecisions = decision2IndexMap.size();
+		int numberOfConeTypes = types.length;
+		int[][] counts = new int[numberOfConeTypes][numberOfDecisions];
+		int[][] firstObjects = new int[numberOfConeTypes][numberOfDecisions];
+		int[] order = new int[numberOfDecisions];
+		int relations;
+		
+		for (int cone = 0; cone < numberOfConeTypes; cone++) {
+			Arrays.fill(firstObjects[cone], Integer.MAX_VALUE);
+		}
+		
+		for (int originClass = 0; originClass < numberOfClasses; originClass++) {
+			int origin = equivalenceClasses.getRepresentative(originClass);
+			
+			for (int candidateClass = 0; candidateClass < numberOfClasses; candidateClass++) {
+				relations = DominanceChecker.getRelations(origin, equivalenceClasses.getRepresentative(candidateClass), informationTable);
+				if (relations == 0) {
+					continue;
+				}
+				for (int cone = 0; cone < numberOfConeTypes; cone++) {
+					if ((relations & types[cone].getRelation()) != 0) { //all objects from candidate class belong to cone originating in origin class
+						for (int i = 0; i < classDecisionIndices[candidateClass].length; i++) {
+							int decisionIndex = classDecisionIndices[candidateClass][i];
+							counts[cone][decisionIndex] += classDecisionCounts[candidateClass][i];
+							firstObjects[cone][decisionIndex] = Math.min(firstObjects[cone][decisionIndex], classDecisionFirstObjects[candidateClass][i]);
+						}
+					}
+				}
+			}
+			
+			for (int cone = 0; cone < numberOfConeTypes; cone++) {
+				//order present decisions by their first occurrence in the cone
+				int orderLength = 0;
+				for (int decisionIndex = 0; decisionIndex < numberOfDecisions; decisionIndex++) {
+					if (counts[cone][decisionIndex] > 0) {
+						int i = orderLength++;
+						while (i > 0 && firstObjects[cone][order[i - 1]] > firstObjects[cone][decisionIndex]) {
+							order[i] = order[i - 1];
+							i--;
+						}
+						order[i] = decisionIndex;
+					}
+				}
+				
+				for (int x : equivalenceClasses.getObjects(originClass)) {
+					DecisionDistribution decisionDistribution = new DecisionDistribution();
+					for (int i = 0; i < orderLength; i++) {
+						decisionDistribution.increaseCount(decisions[order[i]], counts[cone][order[i]]);
+					}
+					conesDecisionDistributions[types[cone].ordinal()][x] = decisionDistribution;
+				}
+				
+				for (int i = 0; i < orderLength; i++) {
+					counts[cone][order[i]] = 0;
+					firstObjects[cone][order[i]] = Integer.MAX_VALUE;
+				}
+			}
+		}
+		
+		return conesDecisionDistributions;
+	}
+	
+	/**
+	 * Calculates decision distributions in dominance cones of given types in parallel, using a {@link ForkJoinPool} with given parallelism.
+	 * Each task processes a range of cone origins, comparing each origin with all objects by
+	 * {@link DominanceChecker#getRelations(int, int, InformationTable)}. Objects in a cone are counted in primitive arrays indexed by decision,
+	 * and decision distribution of the cone is created afterwards, adding decisions in the order of their first occurrence in the cone.
+	 * Therefore, calculated decision distributions are the same as the ones calculated sequentially.
+	 * 
+	 * @param informationTable information table for which decision distributions in dominance cones should be calculated
+	 * @param coneTypes types of dominance cones for which decision distributions should be calculated
+	 * @param parallelism number of threads used to calculate dominance cones
+	 * @return array of calculated decision distributions, indexed by ordinal number of the type of dominance cones, and by index of cone origin;
+	 *         contains {@code null} for types of dominance cones that have not been requested
+	 */
+	protected DecisionDistribution[][] calculateConesDecisionDistributions(InformationTable informationTable, Set<DominanceConeType> coneTypes, int parallelism) {
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		DominanceConeType[] types = coneTypes.toArray(new DominanceConeType[coneTypes.size()]);
+		DecisionDistribution[][] conesDecisionDistributions = new DecisionDistribution[DominanceConeType.values().length][];
+		for (DominanceConeType coneType : types) {
+			conesDecisionDistributions[coneType.ordinal()] = new DecisionDistribution[numberOfObjects];
+		}
+		
+		Object2IntMap<Decision> decision2IndexMap = new Object2IntOpenHashMap<Decision>();
+		decision2IndexMap.defaultReturnValue(-1);
+		Decision[] decisions = new Decision[numberOfObjects];
+		int[] decisionIndices = new int[numberOfObjects];
+		
+		for (int x = 0; x < numberOfObjects; x++) {
+			Decision decision = informationTable.getDecision(x);
+			int decisionIndex = decision2IndexMap.getInt(decision);
+			if (decisionIndex < 0) {
+				decisionIndex = decision2IndexMap.size();
+				decision2IndexMap.put(decision, decisionIndex);
+				decisions[decisionIndex] = decision;
+			}
+			decisionIndices[x] = decisionIndex;
+		}
+		
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			pool.invoke(new ConesCalculationTask(informationTable, types, conesDecisionDistributions, decisions, decisionIndices, decision2IndexMap.size(), 0, numberOfObjects));
+		} finally {
+			pool.shutdown();
+		}
+		
+		return conesDecisionDistributions;
+	}
+	
+	/**
+	 * Task calculating decision distributions in dominance cones of given types originating in objects from a given range.
+	 * Each task writes only to the cells of arrays with decision distributions that correspond to its range of cone origins.
+	 */
+	@SuppressWarnings("serial")
+	protected static class ConesCalculationTask extends RecursiveAction {
+		
+		/**
+		 * Information table containing objects for which dominance cones are processed.
+		 */
+		InformationTable informationTable;
+		/**
+		 * Types of dominance cones for which decision distributions are calculated.
+		 */
+		DominanceConeType[] coneTypes;
+		/**
+		 * Calculated decision distributions, indexed by ordinal number of the type of dominance cones, and by index of cone origin.
+		 */
+		DecisionDistribution[][] conesDecisionDistributions;
+		/**
+		 * Distinct decisions, in the order of their first occurrence in the information table.
+		 */
+		Decision[] decisions;
+		/**
+		 * Index of decision of each object, pointing to {@link #decisions}.
+		 */
+		int[] decisionIndices;
+		/**
+		 * Number of distinct decisions.
+		 */
+		int numberOfDecisions;
+		/**
+		 * Index of the first cone origin processed by this task.
+		 */
+		int fromObjectIndex;
+		/**
+		 * Index of the last cone origin processed by this task, increased by one.
+		 */
+		int toObjectIndex;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param informationTable information table containing objects for which dominance cones are processed
+		 * @param coneTypes types of dominance cones for which decision distributions are calculated
+		 * @param conesDecisionDistributions calculated decision distributions, indexed by ordinal number of the type of dominance cones, and by index of cone origin
+		 * @param decisions distinct decisions, in the order of their first occurrence in the information table
+		 * @param decisionIndices index of decision of each object
+		 * @param numberOfDecisions number of distinct decisions
+		 * @param fromObjectIndex index of the first cone origin processed by this task
+		 * @param toObjectIndex index of the last cone origin processed by this task, increased by one
+		 */
+		ConesCalculationTask(InformationTable informationTable, DominanceConeType[] coneTypes, DecisionDistribution[][] conesDecisionDistributions,
+				Decision[] decisions, int[] decisionIndices, int numberOfDecisions, int fromObjectIndex, int toObjectIndex) {
+			this.informationTable = informationTable;
+			this.coneTypes = coneTypes;
+			this.conesDecisionDistributions = conesDecisionDistributions;
+			this.decisions = decisions;
+			this.decisionIndices = decisionIndices;
+			this.numberOfDecisions = numberOfDecisions;
+			this.fromObjectIndex = fromObjectIndex;
+			this.toObjectIndex = toObjectIndex;
+		}
+		
+		/**
+		 * Splits the range of cone origins into halves until it contains at most {@link DominanceConesDecisionDistributions#ORIGINS_PER_TASK} objects,
+		 * then calculates decision distributions in dominance cones originating in objects from the range.
+		 */
+		@Override
+		protected void compute() {
+			if (this.toObjectIndex - this.fromObjectIndex <= ORIGINS_PER_TASK) {
+				calculateRange();
+			} else {
+				int middleObjectIndex = (this.fromObjectIndex + this.toObjectIndex) >>> 1;
+				invokeAll(new ConesCalculationTask(this.informationTable, this.coneTypes, this.conesDecisionDistributions, this.decisions, this.decisionIndices,
+								this.numberOfDecisions, this.fromObjectIndex, middleObjectIndex),
+						new ConesCalculationTask(this.informationTable, this.coneTypes, this.conesDecisionDistributions, this.decisions, this.decisionIndices,
+								this.numberOfDecisions, middleObjectIndex, this.toObjectIndex));
+			}
+		}
+		
+		/**
+		 * Calculates decision distributions in dominance cones originating in objects from the range of this task.
+		 */
+		void calculateRange() {
+			int numberOfObjects = this.informationTable.getNumberOfObjects();
+			int numberOfConeTypes = this.coneTypes.length;
+			//counts of decisions in cones of subsequent types
+			int[][] counts = new int[numberOfConeTypes][this.numberOfDecisions];
+			//indices of decisions in the order of their first occurrence in cones of subsequent types
+			int[][] orders = new int[numberOfConeTypes][this.numberOfDecisions];
+			int[] orderLengths = new int[numberOfConeTypes];
+			int relations;
+			
+			for (int x = this.fromObjectIndex; x < this.toObjectIndex; x++) { //object being in the origin of dominance cones
+				for (int y = 0; y < numberOfObjects; y++) { //object being candidate to dominance cones
+					relations = DominanceChecker.getRelations(x, y, this.informationTable);
+					if (relations == 0) {
+						continue;
+					}
+					for (int cone = 0; cone < numberOfConeTypes; cone++) {
+						if ((relations & this.coneTypes[cone].getRelation()) != 0) {
+							count(counts[cone], orders[cone], orderLengths, cone, this.decisionIndices[y]);
+						}
+					}
+				}
+				
+				for (int cone = 0; cone < numberOfConeTypes; cone++) {
+					this.conesDecisionDistributions[this.coneTypes[cone].ordinal()][x] = createDistribution(counts[cone], orders[cone], orderLengths, cone);
+				}
+			}
+		}
+		
+		/**
+		 * Increases count of decision with given index in a cone, and remembers this decision if it occurs in the cone for the first time.
+		 * 
+		 * @param counts counts of decisions in the cone
+		 * @param order indices of decisions in the order of their first occurrence in the cone
+		 * @param orderLengths numbers of decisions present in subsequent cones
+		 * @param cone index of the cone
+		 * @param decisionIndex index of counted decision
+		 */
+		void count(int[] counts, int[] order, int[] orderLengths, int cone, int decisionIndex) {
+			if (counts[decisionIndex]++ == 0) {
+				order[orderLengths[cone]++] = decisionIndex;
+			}
+		}
+		
+		/**
+		 * Creates decision distribution of a cone, and clears counts of decisions in this cone, so they can be reused for the next cone origin.
+		 * 
+		 * @param counts counts of decisions in the cone
+		 * @param order indices of decisions in the order of their first occurrence in the cone
+		 * @param orderLengths numbers of decisions present in subsequent cones
+		 * @param cone index of the cone
+		 * @return decision distribution of the cone
+		 */
+		DecisionDistribution createDistribution(int[] counts, int[] order, int[] orderLengths, int cone) {
+			DecisionDistribution decisionDistribution = new DecisionDistribution();
+			int decisionIndex;
+			
+			for (int i = 0; i < orderLengths[cone]; i++) {
+				decisionIndex = order[i];
+				decisionDistribution.increaseCount(this.decisions[decisionIndex], counts[decisionIndex]);
+				counts[decisionIndex] = 0;
+			}
+			orderLengths[cone] = 0;
+			
+			return decisionDistribution;
+		}
+		
+	}
+	
 	/**
 	 * Calculates decision distributions in positive dominance cones w.r.t. (straight) dominance relation D.
 	 * 
@@ -169,6 +839,104 @@ public class DominanceConesDecisionDistributions {
 		}
 	}
 	
+	/**
+	 * Updates decision distributions in dominance cones after a new object has been added as the last object of processed information table.
+	 * Should be invoked just after the object has been added. The new object is compared with each object by
+	 * {@link DominanceChecker#getRelations(int, int, InformationTable)}, so the update takes O(n*m) time, where n is the number of objects,
+	 * and m is the number of active condition attributes. Only already calculated types of dominance cones are updated
+	 * (the other ones are going to be calculated on demand, for the modified information table).
+	 * Updated decision distributions are modified in place, so this method should not be invoked concurrently with the getters.
+	 * 
+	 * @throws InvalidValueException if processed information table does not contain exactly one object more than before
+	 */
+	public synchronized void addObject() {
+		if (this.informationTable.getNumberOfObjects() != this.numberOfObjects + 1) {
+			throw new InvalidValueException("Information table for update of dominance cones should contain exactly one object more than before.");
+		}
+		int x = this.numberOfObjects; //index of added object
+		DominanceConeType[] types = this.getCalculatedConeTypes();
+		DecisionDistribution[][] conesDecisionDistributions = new DecisionDistribution[types.length][];
+		for (int cone = 0; cone < types.length; cone++) {
+			conesDecisionDistributions[cone] = Arrays.copyOf(this.getConesDecisionDistributions(types[cone]), x + 1);
+			conesDecisionDistributions[cone][x] = new DecisionDistribution();
+		}
+		
+		if (types.length > 0) {
+			Decision decision = this.informationTable.getDecision(x);
+			int relations;
+			
+			for (int y = 0; y <= x; y++) {
+				relations = DominanceChecker.getRelations(x, y, this.informationTable);
+				if (relations == 0) {
+					continue;
+				}
+				for (int cone = 0; cone < types.length; cone++) {
+					if ((relations & types[cone].getRelation()) != 0) { //y belongs to cone originating in x
+						conesDecisionDistributions[cone][x].increaseCount(this.informationTable.getDecision(y));
+					}
+					if (y < x && (relations & types[cone].getMirroredRelation()) != 0) { //x belongs to cone originating in y
+						conesDecisionDistributions[cone][y].increaseCount(decision);
+					}
+				}
+			}
+		}
+		
+		for (int cone = 0; cone < types.length; cone++) {
+			this.setConesDecisionDistributions(types[cone], conesDecisionDistributions[cone]);
+		}
+		
+		this.numberOfObjects++;
+		this.resolvedStrategy = null; //choice of strategy could change
+	}
+	
+	/**
+	 * Updates decision distributions in dominance cones before an object is removed from processed information table.
+	 * Should be invoked just before the object is removed, as the object is compared with each object
+	 * by {@link DominanceChecker#getRelations(int, int, InformationTable)}. The update takes O(n*m) time, where n is the number of objects,
+	 * and m is the number of active condition attributes. Only already calculated types of dominance cones are updated
+	 * (the other ones are going to be calculated on demand, for the modified information table).
+	 * After the update, indices of cone origins greater than the index of removed object are decreased by one.
+	 * Updated decision distributions are modified in place, so this method should not be invoked concurrently with the getters.
+	 * 
+	 * @param objectIndex index of the object that is going to be removed from processed information table
+	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {code{@link #getNumberOfObjects()}-1}
+	 */
+	public synchronized void removeObject(int objectIndex) {
+		if (objectIndex < 0 || objectIndex >= this.numberOfObjects) {
+			throw new IndexOutOfBoundsException("Index of removed object is out of range.");
+		}
+		int x = objectIndex;
+		DominanceConeType[] types = this.getCalculatedConeTypes();
+		
+		if (types.length > 0) {
+			Decision decision = this.informationTable.getDecision(x);
+			int relations;
+			
+			for (int y = 0; y < this.numberOfObjects; y++) {
+				relations = y != x ? DominanceChecker.getRelations(x, y, this.informationTable) : 0;
+				if (relations == 0) {
+					continue;
+				}
+				for (DominanceConeType coneType : types) {
+					if ((relations & coneType.getMirroredRelation()) != 0) { //x belongs to cone originating in y
+						this.getConesDecisionDistributions(coneType)[y].decreaseCount(decision);
+					}
+				}
+			}
+		}
+		
+		for (DominanceConeType coneType : types) {
+			DecisionDistribution[] conesDecisionDistributions = this.getConesDecisionDistributions(coneType);
+			DecisionDistribution[] newConesDecisionDistributions = new DecisionDistribution[this.numberOfObjects - 1];
+			System.arraycopy(conesDecisionDistributions, 0, newConesDecisionDistributions, 0, x);
+			System.arraycopy(conesDecisionDistributions, x + 1, newConesDecisionDistributions, x, this.numberOfObjects - x - 1);
+			this.setConesDecisionDistributions(coneType, newConesDecisionDistributions);
+		}
+		
+		this.numberOfObjects--;
+		this.resolvedStrategy = null; //choice of strategy could change
+	}
+	
 	/**
 	 * Gets distribution (histogram) of decisions ({@link DecisionDistribution}) in positive dominance cone w.r.t. (straight) dominance relation D (y D x &lt;=&gt; y dominates x),
 	 * originating in object x addresses by the given index. Formally, D^+(x) = {y \in U : y D x}.
@@ -177,9 +945,16 @@ public class DominanceConesDecisionDistributions {
 	 * @return decision distribution in positive dominance cone w.r.t. (straight) dominance relation D, originating in object x having given index
 	 * 
 	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {code{@link #getNumberOfObjects()}-1}
+	 * @throws InvalidValueException if decision distributions are calculated on demand, and {@link DominanceConesCalculationStrategy#SWEEP} strategy
+	 *         is not applicable to processed information table
 	 */
 	public DecisionDistribution getPositiveDConeDecisionClassDistribution(int objectIndex) {
-		return this.positiveDConesDecisionDistributions[objectIndex];
+		DecisionDistribution[] conesDecisionDistributions = this.positiveDConesDecisionDistributions;
+		if (conesDecisionDistributions == null) {
+			this.calculate(DominanceConeType.POSITIVE_D);
+			conesDecisionDistributions = this.positiveDConesDecisionDistributions;
+		}
+		return conesDecisionDistributions[objectIndex];
 	}
 	
 	/**
@@ -190,9 +965,16 @@ public class DominanceConesDecisionDistributions {
 	 * @return decision distribution in negative dominance cone w.r.t. (straight) dominance relation D, originating in object x having given index
 	 * 
 	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {code{@link #getNumberOfObjects()}-1}
+	 * @throws InvalidValueException if decision distributions are calculated on demand, and {@link DominanceConesCalculationStrategy#SWEEP} strategy
+	 *         is not applicable to processed information table
 	 */
 	public DecisionDistribution getNegativeDConeDecisionClassDistribution(int objectIndex) {
-		return this.negativeDConesDecisionDistributions[objectIndex];
+		DecisionDistribution[] conesDecisionDistributions = this.negativeDConesDecisionDistributions;
+		if (conesDecisionDistributions == null) {
+			this.calculate(DominanceConeType.NEGATIVE_D);
+			conesDecisionDistributions = this.negativeDConesDecisionDistributions;
+		}
+		return conesDecisionDistributions[objectIndex];
 	}
 	
 	/**
@@ -203,9 +985,16 @@ public class DominanceConesDecisionDistributions {
 	 * @return decision distribution in positive dominance cone w.r.t. (inverse) dominance relation InvD, originating in object x having given index
 	 * 
 	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {code{@link #getNumberOfObjects()}-1}
+	 * @throws InvalidValueException if decision distributions are calculated on demand, and {@link DominanceConesCalculationStrategy#SWEEP} strategy
+	 *         is not applicable to processed information table
 	 */
 	public DecisionDistribution getPositiveInvDConeDecisionClassDistribution(int objectIndex) {
-		return this.positiveInvDConesDecisionDistributions[objectIndex];
+		DecisionDistribution[] conesDecisionDistributions = this.positiveInvDConesDecisionDistributions;
+		if (conesDecisionDistributions == null) {
+			this.calculate(DominanceConeType.POSITIVE_INV_D);
+			conesDecisionDistributions = this.positiveInvDConesDecisionDistributions;
+		}
+		return conesDecisionDistributions[objectIndex];
 	}
 	
 	/**
@@ -216,9 +1005,16 @@ public class DominanceConesDecisionDistributions {
 	 * @return decision distribution in negative dominance cone w.r.t. (inverse) dominance relation InvD, originating in object x having given index
 	 * 
 	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {code{@link #getNumberOfObjects()}-1}
+	 * @throws InvalidValueException if decision distributions are calculated on demand, and {@link DominanceConesCalculationStrategy#SWEEP} strategy
+	 *         is not applicable to processed information table
 	 */
 	public DecisionDistribution getNegativeInvDConeDecisionClassDistribution(int objectIndex) {
-		return this.negativeInvDConesDecisionDistributions[objectIndex];
+		DecisionDistribution[] conesDecisionDistributions = this.negativeInvDConesDecisionDistributions;
+		if (conesDecisionDistributions == null) {
+			this.calculate(DominanceConeType.NEGATIVE_INV_D);
+			conesDecisionDistributions = this.negativeInvDConesDecisionDistributions;
+		}
+		return conesDecisionDistributions[objectIndex];
 	}
 	
 }
@@ -0,0 +1,343 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.core.OperationsOnBitSets;
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.data.InformationTable;
+
+/**
+ * Precomputed dominance relations between objects of an information table, stored as bitsets. For each object x, and each of the four types
+ * of dominance cones (see {@link DominanceConesDecisionDistributions}), the cone originating in x is stored as an array of {@code long} words,
+ * where bit y (i.e., bit {@code y % 64} of word {@code y / 64}) is set if object y belongs to the cone. Hence, each type of dominance cones
+ * occupies n<sup>2</sup> bits, where n is the number of objects, and the whole matrix occupies 4n<sup>2</sup> bits.<br>
+ * <br>
+ * All four types of cones are calculated together, on first request of any of them, by a single pass over all ordered pairs of objects (x, y).
+ * For each pair, {@link DominanceChecker#getRelations(int, int, InformationTable)} is called once, and its result decides membership of y
+ * in each of the four cones originating in x. Cone origins are distributed among tasks of a {@link ForkJoinPool}. This class is thread-safe.<br>
+ * <br>
+ * Bitsets can be processed word by word using {@link OperationsOnBitSets}, which is much faster than operations on sets of object indices.
+ * Currently, they are processed this way only when calculating positive regions of unions of decision classes
+ * (see {@link org.rulelearn.approximations.ApproximatedSet#getPositiveRegion()}). Lower and upper approximations are calculated from decision distributions
+ * of dominance cones (see {@link DominanceConesDecisionDistributions}), and therefore they do not use this matrix.
+ */
+public class DominanceConesMatrix {
+	
+	/**
+	 * Number of cone origins processed sequentially by a single task of parallel calculation.
+	 */
+	protected static final int ORIGINS_PER_TASK = 64;
+	
+	/**
+	 * Information table containing objects for which dominance cones are calculated.
+	 */
+	protected InformationTable informationTable;
+	
+	/**
+	 * Number of objects.
+	 */
+	protected int numberOfObjects;
+	
+	/**
+	 * Number of {@code long} words of a single bitset.
+	 */
+	protected int numberOfWords;
+	
+	/**
+	 * Number of threads used to calculate dominance cones.
+	 */
+	protected int parallelism;
+	
+	/**
+	 * Bitsets of positive dominance cones w.r.t. (straight) dominance relation D, one for each object; {@code null} if not calculated yet.
+	 */
+	protected volatile long[][] positiveDCones = null;
+	/**
+	 * Bitsets of negative dominance cones w.r.t. (straight) dominance relation D, one for each object; {@code null} if not calculated yet.
+	 */
+	protected volatile long[][] negativeDCones = null;
+	/**
+	 * Bitsets of positive dominance cones w.r.t. (inverse) dominance relation InvD, one for each object; {@code null} if not calculated yet.
+	 */
+	protected volatile long[][] positiveInvDCones = null;
+	/**
+	 * Bitsets of negative dominance cones w.r.t. (inverse) dominance relation InvD, one for each object; {@code null} if not calculated yet.
+	 */
+	protected volatile long[][] negativeInvDCones = null;
+	
+	/**
+	 * Constructs this matrix for the given information table. Dominance cones are calculated on first request.
+	 * 
+	 * @param informationTable information table containing objects for which dominance cones should be calculated
+	 * @param parallelism number of threads used to calculate dominance cones
+	 * 
+	 * @throws NullPointerException if given information table is {@code null}
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 */
+	public DominanceConesMatrix(InformationTable informationTable, int parallelism) {
+		this.informationTable = notNull(informationTable, "Information table for calculation of dominance cones is null.");
+		if (parallelism < 1) {
+			throw new InvalidValueException("Parallelism of calculation of dominance cones should be at least one.");
+		}
+		this.numberOfObjects = informationTable.getNumberOfObjects();
+		this.numberOfWords = OperationsOnBitSets.getNumberOfWords(this.numberOfObjects);
+		this.parallelism = parallelism;
+	}
+	
+	/**
+	 * Gets bitset of positive dominance cone w.r.t. (straight) dominance relation D, originating in object x. Formally, D^+(x) = {y \in U : y D x}.
+	 * 
+	 * @param x index of an object, considered to be the origin of dominance cone
+	 * @return bitset of the dominance cone; should not be modified
+	 * @throws IndexOutOfBoundsException if given object index is out of range
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getPositiveDCone(int x) {
+		if (this.positiveDCones == null) {
+			this.calculateCones();
+		}
+		return this.positiveDCones[x];
+	}
+	
+	/**
+	 * Gets bitset of negative dominance cone w.r.t. (straight) dominance relation D, originating in object x. Formally, D^-(x) = {y \in U : x D y}.
+	 * 
+	 * @param x index of an object, considered to be the origin of dominance cone
+	 * @return bitset of the dominance cone; should not be modified
+	 * @throws IndexOutOfBoundsException if given object index is out of range
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getNegativeDCone(int x) {
+		if (this.negativeDCones == null) {
+			this.calculateCones();
+		}
+		return this.negativeDCones[x];
+	}
+	
+	/**
+	 * Gets bitset of positive dominance cone w.r.t. (inverse) dominance relation InvD, originating in object x. Formally, InvD^+(x) = {y \in U : x InvD y}.
+	 * 
+	 * @param x index of an object, considered to be the origin of dominance cone
+	 * @return bitset of the dominance cone; should not be modified
+	 * @throws IndexOutOfBoundsException if given object index is out of range
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getPositiveInvDCone(int x) {
+		if (this.positiveInvDCones == null) {
+			this.calculateCones();
+		}
+		return this.positiveInvDCones[x];
+	}
+	
+	/**
+	 * Gets bitset of negative dominance cone w.r.t. (inverse) dominance relation InvD, originating in object x. Formally, InvD^-(x) = {y \in U : y InvD x}.
+	 * 
+	 * @param x index of an object, considered to be the origin of dominance cone
+	 * @return bitset of the dominance cone; should not be modified
+	 * @throws IndexOutOfBoundsException if given object index is out of range
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getNegativeInvDCone(int x) {
+		if (this.negativeInvDCones == null) {
+			this.calculateCones();
+		}
+		return this.negativeInvDCones[x];
+	}
+	
+	/**
+	 * Tells if object x dominates object y, using precomputed negative dominance cone of x w.r.t. D.
+	 * 
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if x D y, {@code false} otherwise
+	 */
+	public boolean dominates(int x, int y) {
+		return OperationsOnBitSets.contains(this.getNegativeDCone(x), y);
+	}
+	
+	/**
+	 * Tells if object x is dominated by object y, using precomputed positive dominance cone of x w.r.t. InvD.
+	 * 
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return {@code true} if x InvD y, {@code false} otherwise
+	 */
+	public boolean isDominatedBy(int x, int y) {
+		return OperationsOnBitSets.contains(this.getPositiveInvDCone(x), y);
+	}
+	
+	/**
+	 * Gets number of objects.
+	 * 
+	 * @return number of objects
+	 */
+	public int getNumberOfObjects() {
+		return this.numberOfObjects;
+	}
+	
+	/**
+	 * Gets number of {@code long} words of a single bitset.
+	 * 
+	 * @return number of {@code long} words of a single bitset
+	 */
+	public int getNumberOfWords() {
+		return this.numberOfWords;
+	}
+	
+	/**
+	 * Calculates all four types of dominance cones, unless they have already been calculated (possibly by other thread).
+	 */
+	protected synchronized void calculateCones() {
+		if (this.positiveDCones != null) {
+			return;
+		}
+		
+		long[][] positiveDCones = new long[this.numberOfObjects][this.numberOfWords];
+		long[][] negativeDCones = new long[this.numberOfObjects][this.numberOfWords];
+		long[][] positiveInvDCones = new long[this.numberOfObjects][this.numberOfWords];
+		long[][] negativeInvDCones = new long[this.numberOfObjects][this.numberOfWords];
+		ConesTask task = new ConesTask(positiveDCones, negativeDCones, positiveInvDCones, negativeInvDCones, 0, this.numberOfObjects);
+		
+		if (this.parallelism == 1 || this.numberOfObjects <= ORIGINS_PER_TASK) {
+			task.calculateRange();
+		} else {
+			ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+			try {
+				pool.invoke(task);
+			} finally {
+				pool.shutdown();
+			}
+		}
+		
+		this.negativeDCones = negativeDCones;
+		this.positiveInvDCones = positiveInvDCones;
+		this.negativeInvDCones = negativeInvDCones;
+		this.positiveDCones = positiveDCones; //assigned as the last one, as it is checked at the beginning of this method
+	}
+	
+	/**
+	 * Task calculating bitsets of all four types of dominance cones originating in objects from a given range.
+	 */
+	@SuppressWarnings("serial")
+	protected class ConesTask extends RecursiveAction {
+		
+		/**
+		 * Calculated bitsets of positive dominance cones w.r.t. D.
+		 */
+		long[][] positiveDCones;
+		/**
+		 * Calculated bitsets of negative dominance cones w.r.t. D.
+		 */
+		long[][] negativeDCones;
+		/**
+		 * Calculated bitsets of positive dominance cones w.r.t. InvD.
+		 */
+		long[][] positiveInvDCones;
+		/**
+		 * Calculated bitsets of negative dominance cones w.r.t. InvD.
+		 */
+		long[][] negativeInvDCones;
+		/**
+		 * Index of the first cone origin processed by this task.
+		 */
+		int fromObjectIndex;
+		/**
+		 * Index of the last cone origin processed by this task, increased by one.
+		 */
+		int toObjectIndex;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param positiveDCones calculated bitsets of positive dominance cones w.r.t. D
+		 * @param negativeDCones calculated bitsets of negative dominance cones w.r.t. D
+		 * @param positiveInvDCones calculated bitsets of positive dominance cones w.r.t. InvD
+		 * @param negativeInvDCones calculated bitsets of negative dominance cones w.r.t. InvD
+		 * @param fromObjectIndex index of the first cone origin processed by this task
+		 * @param toObjectIndex index of the last cone origin processed by this task, increased by one
+		 */
+		ConesTask(long[][] positiveDCones, long[][] negativeDCones, long[][] positiveInvDCones, long[][] negativeInvDCones, int fromObjectIndex, int toObjectIndex) {
+			this.positiveDCones = positiveDCones;
+			this.negativeDCones = negativeDCones;
+			this.positiveInvDCones = positiveInvDCones;
+			this.negativeInvDCones = negativeInvDCones;
+			this.fromObjectIndex = fromObjectIndex;
+			this.toObjectIndex = toObjectIndex;
+		}
+		
+		/**
+		 * Splits the range of cone origins into halves until it contains at most {@link DominanceConesMatrix#ORIGINS_PER_TASK} objects,
+		 * then calculates bitsets of dominance cones originating in objects from the range.
+		 */
+		@Override
+		protected void compute() {
+			if (this.toObjectIndex - this.fromObjectIndex <= ORIGINS_PER_TASK) {
+				calculateRange();
+			} else {
+				int middleObjectIndex = (this.fromObjectIndex + this.toObjectIndex) >>> 1;
+				invokeAll(new ConesTask(this.positiveDCones, this.negativeDCones, this.positiveInvDCones, this.negativeInvDCones, this.fromObjectIndex, middleObjectIndex),
+						new ConesTask(this.positiveDCones, this.negativeDCones, this.positiveInvDCones, this.negativeInvDCones, middleObjectIndex, this.toObjectIndex));
+			}
+		}
+		
+		/**
+		 * Calculates bitsets of dominance cones originating in objects from the range of this task.
+		 */
+		void calculateRange() {
+			int relations;
+			int wordIndex;
+			long bit;
+			
+			for (int x = this.fromObjectIndex; x < this.toObjectIndex; x++) { //object being in the origin of dominance cones
+				long[] positiveDCone = this.positiveDCones[x];
+				long[] negativeDCone = this.negativeDCones[x];
+				long[] positiveInvDCone = this.positiveInvDCones[x];
+				long[] negativeInvDCone = this.negativeInvDCones[x];
+				
+				for (int y = 0; y < numberOfObjects; y++) { //object being candidate to dominance cones
+					relations = DominanceChecker.getRelations(x, y, informationTable);
+					if (relations == 0) {
+						continue;
+					}
+					wordIndex = y >>> 6;
+					bit = 1L << y;
+					if ((relations & DominanceChecker.SECOND_DOMINATES_FIRST) != 0) { // y D x
+						positiveDCone[wordIndex] |= bit;
+					}
+					if ((relations & DominanceChecker.FIRST_DOMINATES_SECOND) != 0) { // x D y
+						negativeDCone[wordIndex] |= bit;
+					}
+					if ((relations & DominanceChecker.FIRST_IS_DOMINATED_BY_SECOND) != 0) { // x InvD y
+						positiveInvDCone[wordIndex] |= bit;
+					}
+					if ((relations & DominanceChecker.SECOND_IS_DOMINATED_BY_FIRST) != 0) { // y InvD x
+						negativeInvDCone[wordIndex] |= bit;
+					}
+				}
+			}
+		}
+		
+	}
+	
+}
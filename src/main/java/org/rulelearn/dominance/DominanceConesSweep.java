@@ -0,0 +1,351 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Arrays;
+
+import org.rulelearn.data.Decision;
+import org.rulelearn.data.DecisionDistribution;
+import org.rulelearn.data.EvaluationColumns;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Sub-quadratic calculation of decision distributions in dominance cones for information tables with few criteria.<br>
+ * <br>
+ * Objects are first grouped by their evaluations on attributes without preference type (as objects with different such evaluations are incomparable).
+ * Within each group, negative dominance cones are counted by sorting objects by their evaluations on the first criterion, and sweeping
+ * them in non-decreasing order, while evaluations on the second criterion are stored in binary indexed (Fenwick) trees, one for each decision.
+ * Positive dominance cones are counted in the same way, after negating all evaluations. Each tree stores, besides counts of objects,
+ * minimal indices of objects, so decisions can be added to each decision distribution in the order of their first occurrence in the cone,
+ * just like in pairwise calculation. Hence, calculated decision distributions are the same as the ones calculated pairwise.<br>
+ * <br>
+ * As there are no missing values, an object x is dominated by an object y if and only if y dominates x,
+ * so dominance cones w.r.t. relations D and InvD coincide.
+ */
+public class DominanceConesSweep {
+	
+	/**
+	 * Maximal number of criteria (attributes with preference type) for which dominance cones can be calculated by this class.
+	 */
+	public static final int MAX_NUMBER_OF_CRITERIA = 2;
+	
+	/**
+	 * Minimal number of objects for which {@link DominanceConesCalculationStrategy#AUTOMATIC} strategy chooses this calculation.
+	 * For smaller information tables, the difference is negligible, and pairwise calculation avoids the overhead of sorting.
+	 * Sweep calculation was found to be faster already for 16 objects, on one and two criteria.
+	 */
+	public static final int MIN_NUMBER_OF_OBJECTS = 16;
+	
+	/**
+	 * Tells if dominance cones can be calculated by this class for given encoding of evaluations. This is the case if evaluations could be encoded,
+	 * there are at most {@link #MAX_NUMBER_OF_CRITERIA} criteria, and there are neither missing values nor NaN values.
+	 * 
+	 * @param evaluationColumns column-oriented encoding of evaluations; may be {@code null}
+	 * @return {@code true} if dominance cones can be calculated by this class, {@code false} otherwise
+	 */
+	public static boolean isApplicable(EvaluationColumns evaluationColumns) {
+		if (evaluationColumns == null) {
+			return false;
+		}
+		int numberOfCriteria = 0;
+		
+		for (int attributeIndex = 0; attributeIndex < evaluationColumns.getNumberOfAttributes(); attributeIndex++) {
+			if (evaluationColumns.hasMissingValues(attributeIndex)) {
+				return false;
+			}
+			if (!evaluationColumns.isEqualityOnly(attributeIndex)) {
+				numberOfCriteria++;
+			}
+			for (int objectIndex = 0; objectIndex < evaluationColumns.getNumberOfObjects(); objectIndex++) {
+				if (Double.isNaN(evaluationColumns.getValue(objectIndex, attributeIndex))) {
+					return false;
+				}
+			}
+		}
+		
+		return numberOfCriteria <= MAX_NUMBER_OF_CRITERIA;
+	}
+	
+	/**
+	 * Calculates decision distributions in all four types of dominance cones, and stores them in given arrays.
+	 * 
+	 * @param evaluationColumns column-oriented encoding of evaluations, for which {@link #isApplicable(EvaluationColumns)} is {@code true}
+	 * @param decisions decisions of subsequent objects
+	 * @param positiveDConesDecisionDistributions array for decision distributions in positive dominance cones w.r.t. relation D
+	 * @param negativeDConesDecisionDistributions array for decision distributions in negative dominance cones w.r.t. relation D
+	 * @param positiveInvDConesDecisionDistributions array for decision distributions in positive dominance cones w.r.t. relation InvD
+	 * @param negativeInvDConesDecisionDistributions array for decision distributions in negative dominance cones w.r.t. relation InvD
+	 * 
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	public static void calculate(EvaluationColumns evaluationColumns, Decision[] decisions,
+			DecisionDistribution[] positiveDConesDecisionDistributions, DecisionDistribution[] negativeDConesDecisionDistributions,
+			DecisionDistribution[] positiveInvDConesDecisionDistributions, DecisionDistribution[] negativeInvDConesDecisionDistributions) {
+		notNull(evaluationColumns, "Evaluations for calculation of dominance cones are null.");
+		notNull(decisions, "Decisions for calculation of dominance cones are null.");
+		
+		int numberOfObjects = evaluationColumns.getNumberOfObjects();
+		int numberOfAttributes = evaluationColumns.getNumberOfAttributes();
+		
+		//map decisions to subsequent indices, in the order of their first occurrence
+		Object2IntMap<Decision> decision2IndexMap = new Object2IntOpenHashMap<Decision>();
+		decision2IndexMap.defaultReturnValue(-1);
+		Decision[] distinctDecisions = new Decision[numberOfObjects];
+		int[] decisionIndices = new int[numberOfObjects];
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			int decisionIndex = decision2IndexMap.getInt(decisions[objectIndex]);
+			if (decisionIndex < 0) {
+				decisionIndex = decision2IndexMap.size();
+				decision2IndexMap.put(decisions[objectIndex], decisionIndex);
+				distinctDecisions[decisionIndex] = decisions[objectIndex];
+			}
+			decisionIndices[objectIndex] = decisionIndex;
+		}
+		
+		//get evaluations on (at most two) criteria; if there are less criteria, missing evaluations are set to zero;
+		//adding 0.0 replaces negative zero by positive zero, so comparisons by Double.compare are consistent with ==
+		double[][] criteria = new double[MAX_NUMBER_OF_CRITERIA][numberOfObjects];
+		double[][] negatedCriteria = new double[MAX_NUMBER_OF_CRITERIA][numberOfObjects];
+		int[] equalityOnlyAttributes = new int[numberOfAttributes];
+		int numberOfEqualityOnlyAttributes = 0;
+		int criterionIndex = 0;
+		for (int attributeIndex = 0; attributeIndex < numberOfAttributes; attributeIndex++) {
+			if (evaluationColumns.isEqualityOnly(attributeIndex)) {
+				equalityOnlyAttributes[numberOfEqualityOnlyAttributes++] = attributeIndex;
+			} else {
+				for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+					criteria[criterionIndex][objectIndex] = evaluationColumns.getValue(objectIndex, attributeIndex) + 0.0;
+					negatedCriteria[criterionIndex][objectIndex] = -evaluationColumns.getValue(objectIndex, attributeIndex) + 0.0;
+				}
+				criterionIndex++;
+			}
+		}
+		
+		//group objects with equal evaluations on attributes without preference type
+		int[] objects = new int[numberOfObjects];
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			objects[objectIndex] = objectIndex;
+		}
+		int[] groupAttributes = Arrays.copyOf(equalityOnlyAttributes, numberOfEqualityOnlyAttributes);
+		IntArrays.quickSort(objects, (x, y) -> compareOnAttributes(evaluationColumns, groupAttributes, x, y));
+		
+		Sweep sweep = new Sweep(decisionIndices, distinctDecisions, decision2IndexMap.size());
+		int groupStart = 0;
+		int groupEnd;
+		while (groupStart < numberOfObjects) {
+			groupEnd = groupStart + 1;
+			while (groupEnd < numberOfObjects && compareOnAttributes(evaluationColumns, groupAttributes, objects[groupStart], objects[groupEnd]) == 0) {
+				groupEnd++;
+			}
+			int[] group = Arrays.copyOfRange(objects, groupStart, groupEnd);
+			sweep.calculate(group, criteria[0], criteria[1], negativeDConesDecisionDistributions, negativeInvDConesDecisionDistributions);
+			sweep.calculate(group, negatedCriteria[0], negatedCriteria[1], positiveDConesDecisionDistributions, positiveInvDConesDecisionDistributions);
+			groupStart = groupEnd;
+		}
+	}
+	
+	/**
+	 * Compares two objects lexicographically, with respect to their evaluations on given attributes, so that equal evaluations (in the sense of ==)
+	 * are considered equal.
+	 * 
+	 * @param evaluationColumns column-oriented encoding of evaluations
+	 * @param attributes indices of considered attributes
+	 * @param x index of the first object
+	 * @param y index of the second object
+	 * @return negative number, zero, or positive number, if the first object precedes, is equal to, or follows the second object, respectively
+	 */
+	static int compareOnAttributes(EvaluationColumns evaluationColumns, int[] attributes, int x, int y) {
+		double xValue;
+		double yValue;
+		
+		for (int attributeIndex : attributes) {
+			xValue = evaluationColumns.getValue(x, attributeIndex);
+			yValue = evaluationColumns.getValue(y, attributeIndex);
+			if (xValue < yValue) {
+				return -1;
+			}
+			if (xValue > yValue) {
+				return 1;
+			}
+		}
+		
+		return 0;
+	}
+	
+	/**
+	 * Sweep counting, for each object of a group, objects of this group having evaluations not greater on both criteria.
+	 */
+	static class Sweep {
+		
+		/**
+		 * Index of decision of each object.
+		 */
+		int[] decisionIndices;
+		/**
+		 * Distinct decisions, in the order of their first occurrence.
+		 */
+		Decision[] decisions;
+		/**
+		 * Number of distinct decisions.
+		 */
+		int numberOfDecisions;
+		/**
+		 * Buffers used to order decisions present in a cone.
+		 */
+		int[] presentDecisions, presentDecisionsCounts, presentDecisionsMinimalObjects;
+		
+		/**
+		 * Constructs this sweep.
+		 * 
+		 * @param decisionIndices index of decision of each object
+		 * @param decisions distinct decisions, in the order of their first occurrence
+		 * @param numberOfDecisions number of distinct decisions
+		 */
+		Sweep(int[] decisionIndices, Decision[] decisions, int numberOfDecisions) {
+			this.decisionIndices = decisionIndices;
+			this.decisions = decisions;
+			this.numberOfDecisions = numberOfDecisions;
+			this.presentDecisions = new int[numberOfDecisions];
+			this.presentDecisionsCounts = new int[numberOfDecisions];
+			this.presentDecisionsMinimalObjects = new int[numberOfDecisions];
+		}
+		
+		/**
+		 * Calculates, for each object x of given group, decision distribution of objects y from this group such that a(y) &lt;= a(x) and b(y) &lt;= b(x),
+		 * and stores it in both given arrays (as two distinct objects).
+		 * 
+		 * @param group indices of objects of the group
+		 * @param a evaluations of all objects on the first criterion
+		 * @param b evaluations of all objects on the second criterion
+		 * @param distributions1 first array for calculated decision distributions
+		 * @param distributions2 second array for calculated decision distributions
+		 */
+		void calculate(int[] group, double[] a, double[] b, DecisionDistribution[] distributions1, DecisionDistribution[] distributions2) {
+			int size = group.length;
+			
+			//compress evaluations on the second criterion to ranks 1..numberOfRanks
+			double[] bValues = new double[size];
+			for (int i = 0; i < size; i++) {
+				bValues[i] = b[group[i]];
+			}
+			Arrays.sort(bValues);
+			int numberOfRanks = 0;
+			for (int i = 0; i < size; i++) {
+				if (numberOfRanks == 0 || bValues[i] != bValues[numberOfRanks - 1]) {
+					bValues[numberOfRanks++] = bValues[i];
+				}
+			}
+			
+			IntArrays.quickSort(group, (x, y) -> Double.compare(a[x], a[y]));
+			
+			int[][] counts = new int[this.numberOfDecisions][numberOfRanks + 1];
+			int[][] minimalObjects = new int[this.numberOfDecisions][numberOfRanks + 1];
+			for (int[] decisionMinimalObjects : minimalObjects) {
+				Arrays.fill(decisionMinimalObjects, Integer.MAX_VALUE);
+			}
+			int[] ranks = new int[size];
+			
+			int blockStart = 0;
+			int blockEnd;
+			while (blockStart < size) {
+				//block of objects with equal evaluations on the first criterion; all of them are inserted before any of them is queried
+				blockEnd = blockStart + 1;
+				while (blockEnd < size && a[group[blockEnd]] == a[group[blockStart]]) {
+					blockEnd++;
+				}
+				for (int i = blockStart; i < blockEnd; i++) {
+					int object = group[i];
+					ranks[i] = Arrays.binarySearch(bValues, 0, numberOfRanks, b[object]) + 1;
+					int decisionIndex = this.decisionIndices[object];
+					for (int rank = ranks[i]; rank <= numberOfRanks; rank += rank & -rank) {
+						counts[decisionIndex][rank]++;
+						if (object < minimalObjects[decisionIndex][rank]) {
+							minimalObjects[decisionIndex][rank] = object;
+						}
+					}
+				}
+				for (int i = blockStart; i < blockEnd; i++) {
+					int numberOfPresentDecisions = findPresentDecisions(counts, minimalObjects, ranks[i]);
+					distributions1[group[i]] = createDistribution(numberOfPresentDecisions);
+					distributions2[group[i]] = createDistribution(numberOfPresentDecisions);
+				}
+				blockStart = blockEnd;
+			}
+		}
+		
+		/**
+		 * Finds decisions of objects inserted so far into the trees, with ranks not greater than given rank, and stores them in buffers,
+		 * ordered by the minimal index of an object having a decision.
+		 * 
+		 * @param counts trees with counts of objects, one for each decision
+		 * @param minimalObjects trees with minimal indices of objects, one for each decision
+		 * @param maxRank maximal considered rank
+		 * @return number of found decisions
+		 */
+		int findPresentDecisions(int[][] counts, int[][] minimalObjects, int maxRank) {
+			int numberOfPresentDecisions = 0;
+			int count, minimalObject;
+			
+			for (int decisionIndex = 0; decisionIndex < this.numberOfDecisions; decisionIndex++) {
+				count = 0;
+				minimalObject = Integer.MAX_VALUE;
+				for (int rank = maxRank; rank > 0; rank -= rank & -rank) {
+					count += counts[decisionIndex][rank];
+					if (minimalObjects[decisionIndex][rank] < minimalObject) {
+						minimalObject = minimalObjects[decisionIndex][rank];
+					}
+				}
+				if (count > 0) {
+					//insertion sort by minimal object
+					int position = numberOfPresentDecisions++;
+					while (position > 0 && this.presentDecisionsMinimalObjects[position - 1] > minimalObject) {
+						this.presentDecisions[position] = this.presentDecisions[position - 1];
+						this.presentDecisionsCounts[position] = this.presentDecisionsCounts[position - 1];
+						this.presentDecisionsMinimalObjects[position] = this.presentDecisionsMinimalObjects[position - 1];
+						position--;
+					}
+					this.presentDecisions[position] = decisionIndex;
+					this.presentDecisionsCounts[position] = count;
+					this.presentDecisionsMinimalObjects[position] = minimalObject;
+				}
+			}
+			
+			return numberOfPresentDecisions;
+		}
+		
+		/**
+		 * Creates decision distribution composed of decisions found by {@link #findPresentDecisions(int[][], int[][], int)}.
+		 * 
+		 * @param numberOfPresentDecisions number of found decisions
+		 * @return created decision distribution
+		 */
+		DecisionDistribution createDistribution(int numberOfPresentDecisions) {
+			DecisionDistribution decisionDistribution = new DecisionDistribution();
+			for (int i = 0; i < numberOfPresentDecisions; i++) {
+				decisionDistribution.increaseCount(this.decisions[this.presentDecisions[i]], this.presentDecisionsCounts[i]);
+			}
+			return decisionDistribution;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.Table;
+import org.rulelearn.types.EvaluationField;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Partition of objects of an information table into equivalence classes of objects having identical evaluations on all active condition attributes.
+ * Objects from one equivalence class are indiscernible for dominance, i.e., each of them is in the same relation with any other object.
+ * Therefore, an equivalence class can be represented by one of its objects (its representative), weighted by the number of objects in the class,
+ * and dominance cones can be calculated for representatives only. Then, the cost of calculation is quadratic with respect to the number of equivalence classes,
+ * instead of the number of objects.<br>
+ * <br>
+ * Equivalence classes are numbered in the order of their first occurrence in the information table,
+ * and the representative of each class is the first object of this class.
+ */
+public class EquivalenceClasses {
+	
+	/**
+	 * Maximal ratio of the number of equivalence classes to the number of objects for which calculations on equivalence classes are considered profitable.
+	 */
+	public static final double MAX_CLASSES_TO_OBJECTS_RATIO = 0.5;
+	
+	/**
+	 * Index of equivalence class of each object.
+	 */
+	protected int[] classIndices;
+	
+	/**
+	 * Indices of objects belonging to each equivalence class, in ascending order.
+	 */
+	protected int[][] classObjects;
+	
+	/**
+	 * Constructs this object by grouping objects of given information table having identical evaluations on all active condition attributes.
+	 * Grouping takes O(n*m) expected time, where n is the number of objects, and m is the number of active condition attributes.
+	 *
+	 * @param informationTable information table whose objects should be grouped into equivalence classes
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	public EquivalenceClasses(InformationTable informationTable) {
+		notNull(informationTable, "Information table for calculation of equivalence classes is null.");
+		Table<EvaluationAttribute, EvaluationField> activeConditionAttributeFields = informationTable.getActiveConditionAttributeFields();
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		
+		Object2IntMap<List<EvaluationField>> evaluations2ClassIndexMap = new Object2IntOpenHashMap<List<EvaluationField>>();
+		evaluations2ClassIndexMap.defaultReturnValue(-1);
+		this.classIndices = new int[numberOfObjects];
+		int[] classSizes = new int[numberOfObjects];
+		
+		for (int x = 0; x < numberOfObjects; x++) {
+			List<EvaluationField> evaluations = Arrays.asList(activeConditionAttributeFields.getFields(x, true));
+			int classIndex = evaluations2ClassIndexMap.getInt(evaluations);
+			if (classIndex < 0) {
+				classIndex = evaluations2ClassIndexMap.size();
+				evaluations2ClassIndexMap.put(evaluations, classIndex);
+			}
+			this.classIndices[x] = classIndex;
+			classSizes[classIndex]++;
+		}
+		
+		int numberOfClasses = evaluations2ClassIndexMap.size();
+		this.classObjects = new int[numberOfClasses][];
+		for (int classIndex = 0; classIndex < numberOfClasses; classIndex++) {
+			this.classObjects[classIndex] = new int[classSizes[classIndex]];
+			classSizes[classIndex] = 0; //reused as the number of already assigned objects
+		}
+		for (int x = 0; x < numberOfObjects; x++) {
+			this.classObjects[this.classIndices[x]][classSizes[this.classIndices[x]]++] = x;
+		}
+	}
+	
+	/**
+	 * Gets number of grouped objects.
+	 *
+	 * @return number of grouped objects
+	 */
+	public int getNumberOfObjects() {
+		return this.classIndices.length;
+	}
+	
+	/**
+	 * Gets number of equivalence classes.
+	 *
+	 * @return number of equivalence classes
+	 */
+	public int getNumberOfClasses() {
+		return this.classObjects.length;
+	}
+	
+	/**
+	 * Tells if calculations on equivalence classes are considered profitable, i.e., if the ratio of the number of equivalence classes to the number of objects
+	 * does not exceed {@link #MAX_CLASSES_TO_OBJECTS_RATIO}.
+	 *
+	 * @return {@code true} if calculations on equivalence classes are considered profitable, {@code false} otherwise
+	 */
+	public boolean isProfitable() {
+		return this.getNumberOfClasses() <= MAX_CLASSES_TO_OBJECTS_RATIO * this.getNumberOfObjects();
+	}
+	
+	/**
+	 * Gets index of equivalence class of an object.
+	 *
+	 * @param objectIndex index of an object
+	 * @return index of equivalence class of the object
+	 * @throws IndexOutOfBoundsException if given object index is lower than zero or exceeds {@code getNumberOfObjects()-1}
+	 */
+	public int getClassIndex(int objectIndex) {
+		return this.classIndices[objectIndex];
+	}
+	
+	/**
+	 * Gets representative of an equivalence class, i.e., the first object of this class.
+	 *
+	 * @param classIndex index of an equivalence class
+	 * @return index of representative of the equivalence class
+	 * @throws IndexOutOfBoundsException if given class index is lower than zero or exceeds {@code getNumberOfClasses()-1}
+	 */
+	public int getRepresentative(int classIndex) {
+		return this.classObjects[classIndex][0];
+	}
+	
+	/**
+	 * Gets size (multiplicity) of an equivalence class, i.e., the number of objects belonging to this class.
+	 *
+	 * @param classIndex index of an equivalence class
+	 * @return number of objects belonging to the equivalence class
+	 * @throws IndexOutOfBoundsException if given class index is lower than zero or exceeds {@code getNumberOfClasses()-1}
+	 */
+	public int getSize(int classIndex) {
+		return this.classObjects[classIndex].length;
+	}
+	
+	/**
+	 * Gets indices of objects belonging to an equivalence class, in ascending order. Returned array should not be modified.
+	 *
+	 * @param classIndex index of an equivalence class
+	 * @return indices of objects belonging to the equivalence class
+	 * @throws IndexOutOfBoundsException if given class index is lower than zero or exceeds {@code getNumberOfClasses()-1}
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public int[] getObjects(int classIndex) {
+		return this.classObjects[classIndex];
+	}
+
+}
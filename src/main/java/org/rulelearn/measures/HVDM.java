@@ -12,9 +12,15 @@ public class HVDM implements Measure {
     private int numberOfAttributes;
     private boolean[] attributeIsNominal;
     private int[] nominalAttributeValuesNumber;
-    private double[][] values;
-    private boolean[][] missingValues;
     private HashMap<Integer, AttributeStats> valueStatsByAttributeIndex;
+    // evaluations of object i on attribute j are stored at position i * numberOfAttributes + j
+    private double[] flatValues;
+    private int[] flatCodes;
+    private boolean[] flatMissing;
+    private double[] normalizations;
+    private double[] vdmTables;
+    private int[] vdmTableOffsets;
+    private int[] vdmTableStrides;
 
     public HVDM(InformationTableWithDecisionDistributions data) {
         this.data = data;
@@ -22,6 +28,7 @@ public class HVDM implements Measure {
         initNominalAttributesMarking();
         initValues();
         initStats();
+        initLookupTables();
     }
 
     private void initNominalAttributesMarking() {
@@ -40,21 +47,30 @@ public class HVDM implements Measure {
     }
 
     private void initValues() {
-        this.values = new double[data.getNumberOfObjects()][numberOfAttributes];
-        this.missingValues = new boolean[data.getNumberOfObjects()][numberOfAttributes];
-        for (int i = 0; i < data.getNumberOfObjects(); i++) {
+        int numberOfObjects = data.getNumberOfObjects();
+        this.flatValues = new double[numberOfObjects * numberOfAttributes];
+        this.flatMissing = new boolean[numberOfObjects * numberOfAttributes];
+        for (int i = 0; i < numberOfObjects; i++) {
             for (int j = 0; j < numberOfAttributes; j++) {
                 FieldValueWrapper fieldValue = new FieldValueWrapper(data.getActiveConditionAttributeFields().getField(i, j));
-                values[i][j] = fieldValue.getValue();
-                missingValues[i][j] = fieldValue.isMissing();
+                flatValues[i * numberOfAttributes + j] = fieldValue.getValue();
+                flatMissing[i * numberOfAttributes + j] = fieldValue.isMissing();
             }
         }
     }
 
+    private double[] getValuesColumn(int attributeIndex) {
+        double[] column = new double[data.getNumberOfObjects()];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = flatValues[i * numberOfAttributes + attributeIndex];
+        }
+        return column;
+    }
+
     private void initStats() {
         this.valueStatsByAttributeIndex = new HashMap<>();
         for (int i = 0; i < numberOfAttributes; i++) {
-            double[] dataSeries = DataSubsetExtractor.get2dArrayColumn(values, i);
+            double[] dataSeries = getValuesColumn(i);
             if (attributeIsNominal[i]) {
                 valueStatsByAttributeIndex.put(i, new EnumerationAttributeStats(i, dataSeries, nominalAttributeValuesNumber[i], data.getDecisions()));
             } else {
@@ -63,47 +79,126 @@ public class HVDM implements Measure {
         }
     }
 
-    public double measureDistance(int xIndex, int yIndex) {
-        double distance = 0;
-        for (int i = 0; i < numberOfAttributes; i++) {
-            distance += Math.pow(getDistance(i, xIndex, yIndex), 2.0);
+    private void initLookupTables() {
+        int numberOfObjects = data.getNumberOfObjects();
+        this.flatCodes = new int[numberOfObjects * numberOfAttributes];
+        this.normalizations = new double[numberOfAttributes];
+        this.vdmTableOffsets = new int[numberOfAttributes];
+        this.vdmTableStrides = new int[numberOfAttributes];
+        int tablesSize = 0;
+        for (int j = 0; j < numberOfAttributes; j++) {
+            if (attributeIsNominal[j]) {
+                vdmTableOffsets[j] = tablesSize;
+                vdmTableStrides[j] = nominalAttributeValuesNumber[j] + 1;
+                tablesSize += vdmTableStrides[j] * vdmTableStrides[j];
+            } else {
+                normalizations[j] = 4.0 * ((NumericalAttributeStats) valueStatsByAttributeIndex.get(j)).getStdDev();
+            }
+        }
+        this.vdmTables = new double[tablesSize];
+        for (int j = 0; j < numberOfAttributes; j++) {
+            if (attributeIsNominal[j]) {
+                fillVDMTable(j);
+            }
+        }
+        for (int i = 0; i < numberOfObjects; i++) {
+            for (int j = 0; j < numberOfAttributes; j++) {
+                int position = i * numberOfAttributes + j;
+                if (attributeIsNominal[j]) {
+                    flatCodes[position] = flatMissing[position] ? nominalAttributeValuesNumber[j] : (int) flatValues[position];
+                }
+            }
         }
-        return Math.sqrt(distance);
     }
 
-    private double getDistance(int attributeIndex, int xIndex, int yIndex) {
-        if (missingValues[xIndex][attributeIndex] || missingValues[yIndex][attributeIndex]) {
-            return 1;
+    // squared VDM for every pair of values; the last row and column stand for a missing value
+    private void fillVDMTable(int attributeIndex) {
+        int valuesNumber = nominalAttributeValuesNumber[attributeIndex];
+        int stride = vdmTableStrides[attributeIndex];
+        int offset = vdmTableOffsets[attributeIndex];
+        for (int x = 0; x < stride; x++) {
+            for (int y = 0; y < stride; y++) {
+                double vdm = x == valuesNumber || y == valuesNumber ? 1 : normalizedVDMForValues(attributeIndex, x, y);
+                vdmTables[offset + x * stride + y] = vdm * vdm;
+            }
         }
-        if (attributeIsNominal[attributeIndex]) {
-            return normalizedVDMForAttribute(attributeIndex, xIndex, yIndex);
-        } else {
-            return normalizedDiffForAttribute(attributeIndex, xIndex, yIndex);
+    }
+
+    public double measureDistance(int xIndex, int yIndex) {
+        double distance = 0;
+        int xOffset = xIndex * numberOfAttributes;
+        int yOffset = yIndex * numberOfAttributes;
+        for (int i = 0; i < numberOfAttributes; i++) {
+            double term;
+            if (attributeIsNominal[i]) {
+                term = vdmTables[vdmTableOffsets[i] + flatCodes[xOffset + i] * vdmTableStrides[i] + flatCodes[yOffset + i]];
+            } else if (flatMissing[xOffset + i] || flatMissing[yOffset + i]) {
+                term = 1;
+            } else {
+                double diff = Math.abs(flatValues[xOffset + i] - flatValues[yOffset + i]) / normalizations[i];
+                term = diff * diff;
+            }
+            distance += term;
         }
+        return Math.sqrt(distance);
     }
 
-    private double normalizedVDMForAttribute(int attributeIndex, int xIndex, int yIndex) {
-        EnumerationAttributeStats xValueStats = (EnumerationAttributeStats) valueStatsByAttributeIndex.get(attributeIndex);
-        EnumerationAttributeStats yValueStats = (EnumerationAttributeStats) valueStatsByAttributeIndex.get(attributeIndex);
-        int xValueCount = xValueStats.getCount((int) values[xIndex][attributeIndex]);
-        int yValueCount = yValueStats.getCount((int) values[yIndex][attributeIndex]);
+    private double normalizedVDMForValues(int attributeIndex, int xValue, int yValue) {
+        EnumerationAttributeStats valueStats = (EnumerationAttributeStats) valueStatsByAttributeIndex.get(attributeIndex);
+        int xValueCount = valueStats.getCount(xValue);
+        int yValueCount = valueStats.getCount(yValue);
         double normalizedVDM = 0;
         for (Decision decision: data.getDecisionDistribution().getDecisions()) {
-            int xValueClassCount = xValueStats.getCountForDecision((int) values[xIndex][attributeIndex], decision);
-            int yValueClassCount = yValueStats.getCountForDecision((int) values[yIndex][attributeIndex], decision);
+            int xValueClassCount = valueStats.getCountForDecision(xValue, decision);
+            int yValueClassCount = valueStats.getCountForDecision(yValue, decision);
             double pX = xValueCount == 0 ? 0 : (double) xValueClassCount / (double) xValueCount;
             double pY = yValueCount == 0 ? 0 : (double) yValueClassCount / (double) yValueCount;
             double diff = Math.abs(pX - pY);
-            normalizedVDM += Math.pow(diff, 2.0);
+            normalizedVDM += diff * diff;
         }
         return normalizedVDM;
     }
 
-    private double normalizedDiffForAttribute(int attributeIndex, int xIndex, int yIndex) {
+    // smallest r such that d(x, z) <= r * (d(x, y) + d(y, z)); the squared VDM term and missing values break the plain triangle inequality
+    public double getTriangleInequalityFactor() {
+        double factor = 1.0;
+        for (int i = 0; i < numberOfAttributes; i++) {
+            double attributeFactor = attributeIsNominal[i] ? 2.0 : 1.0;
+            if (hasMissingValues(i)) {
+                attributeFactor = Math.max(attributeFactor, maxKnownValuesDistance(i) / 2.0);
+            }
+            factor = Math.max(factor, attributeFactor);
+        }
+        return factor;
+    }
+
+    private boolean hasMissingValues(int attributeIndex) {
+        for (int i = 0; i < data.getNumberOfObjects(); i++) {
+            if (flatMissing[i * numberOfAttributes + attributeIndex]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double maxKnownValuesDistance(int attributeIndex) {
+        if (attributeIsNominal[attributeIndex]) {
+            return 2.0;
+        }
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < data.getNumberOfObjects(); i++) {
+            int position = i * numberOfAttributes + attributeIndex;
+            if (!flatMissing[position]) {
+                min = Math.min(min, flatValues[position]);
+                max = Math.max(max, flatValues[position]);
+            }
+        }
+        if (min > max) {
+            return 0.0;
+        }
         NumericalAttributeStats attributeStats = (NumericalAttributeStats) valueStatsByAttributeIndex.get(attributeIndex);
-        double diff = Math.abs(values[xIndex][attributeIndex] - values[yIndex][attributeIndex]);
-        double normalization = 4.0 * attributeStats.getStdDev();
-        return diff / normalization;
+        return (max - min) / (4.0 * attributeStats.getStdDev());
     }
 
     public InformationTableWithDecisionDistributions getData() {
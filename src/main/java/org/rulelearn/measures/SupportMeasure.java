@@ -21,6 +21,7 @@ import static org.rulelearn.core.Precondition.notNull;
 
 import org.rulelearn.rules.Condition;
 import org.rulelearn.rules.ConditionRemovalEvaluator;
+import org.rulelearn.rules.CoverageChange;
 import org.rulelearn.rules.MonotonicConditionAdditionEvaluator;
 import org.rulelearn.rules.RuleConditions;
 import org.rulelearn.rules.RuleConditionsEvaluator;
@@ -96,6 +97,28 @@ public class SupportMeasure implements GainTypeMeasure, MonotonicConditionAdditi
 		}
 	}
 
+	/** 
+	 * {@inheritDoc}
+	 * If given coverage change is not {@code null}, support is calculated in constant time, as the number of covered positive objects that would not be excluded by given condition.
+	 * 
+	 * @param ruleConditions {@inheritDoc}
+	 * @param condition {@inheritDoc}
+	 * @param coverageChange {@inheritDoc}
+	 * 
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException {@inheritDoc}
+	 */
+	@Override
+	public double evaluateWithCondition(RuleConditions ruleConditions, Condition<EvaluationField> condition, CoverageChange coverageChange) {
+		if (coverageChange != null && condition != null) {
+			notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
+			return coverageChange.getPositiveObjectsCountWithCondition();
+		}
+		else {
+			return evaluateWithCondition(ruleConditions, condition);
+		}
+	}
+
 	/** 
 	 * {@inheritDoc}
 	 * 
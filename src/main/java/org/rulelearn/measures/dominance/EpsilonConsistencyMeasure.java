@@ -22,11 +22,13 @@ import static org.rulelearn.core.Precondition.notNull;
 import org.rulelearn.approximations.Union;
 import org.rulelearn.approximations.Union.UnionType;
 import org.rulelearn.data.Decision;
+import org.rulelearn.dominance.DominanceConeType;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 import org.rulelearn.measures.ConsistencyMeasure;
 import org.rulelearn.measures.CostTypeMeasure;
 import org.rulelearn.rules.Condition;
 import org.rulelearn.rules.ConditionRemovalEvaluator;
+import org.rulelearn.rules.CoverageChange;
 import org.rulelearn.rules.MonotonicConditionAdditionEvaluator;
 import org.rulelearn.rules.RuleConditions;
 import org.rulelearn.rules.RuleConditionsEvaluator;
@@ -84,6 +86,7 @@ public class EpsilonConsistencyMeasure implements CostTypeMeasure, ConsistencyMe
 	@Override
 	public double calculateConsistency(int objectIndex, Union union) {
 		DominanceConesDecisionDistributions dominanceCDD = union.getInformationTable().getDominanceConesDecisionDistributions();
+		dominanceCDD.calculate(DominanceConeType.POSITIVE_INV_D, DominanceConeType.NEGATIVE_D); //cones of both types are calculated in one pass, as measure is usually evaluated for unions of both types
 		int negativeCount = 0;
 		
 		if (union.getUnionType() == UnionType.AT_LEAST) {
@@ -152,6 +155,30 @@ public class EpsilonConsistencyMeasure implements CostTypeMeasure, ConsistencyMe
 		}
 	}
 
+	/** 
+	 * {@inheritDoc}
+	 * If given coverage change is not {@code null}, the number of negative objects covered by extended rule conditions is taken from that change,
+	 * so evaluation is made in constant time.
+	 * 
+	 * @param ruleConditions {@inheritDoc}
+	 * @param condition {@inheritDoc}
+	 * @param coverageChange {@inheritDoc}
+	 * 
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException {@inheritDoc}
+	 */
+	@Override
+	public double evaluateWithCondition(RuleConditions ruleConditions, Condition<EvaluationField> condition, CoverageChange coverageChange) {
+		if (coverageChange != null && condition != null) {
+			notNull(ruleConditions, "Rule conditions for which evaluation is made are null.");
+			return ((double)coverageChange.getNegativeObjectsCountWithCondition() /
+					(ruleConditions.getLearningInformationTable().getNumberOfObjects() - ruleConditions.getIndicesOfPositiveObjects().size() - ruleConditions.getIndicesOfNeutralObjects().size()));
+		}
+		else {
+			return evaluateWithCondition(ruleConditions, condition);
+		}
+	}
+
 	/** 
 	 * {@inheritDoc}
 	 * 
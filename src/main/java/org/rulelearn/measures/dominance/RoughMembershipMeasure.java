@@ -19,6 +19,7 @@ package org.rulelearn.measures.dominance;
 import org.rulelearn.approximations.Union;
 import org.rulelearn.approximations.Union.UnionType;
 import org.rulelearn.data.Decision;
+import org.rulelearn.dominance.DominanceConeType;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 import org.rulelearn.measures.ConsistencyMeasure;
 import org.rulelearn.measures.GainTypeMeasure;
@@ -64,6 +65,7 @@ public class RoughMembershipMeasure implements GainTypeMeasure, ConsistencyMeasu
 	@Override
 	public double calculateConsistency(int objectIndex, Union union) {
 		DominanceConesDecisionDistributions dominanceCDD = union.getInformationTable().getDominanceConesDecisionDistributions();
+		dominanceCDD.calculate(DominanceConeType.POSITIVE_INV_D, DominanceConeType.NEGATIVE_D); //cones used for unions "at least" and "at most"
 		int count = 0, positiveCount = 0, delta = 0;
 		
 		if (union.getUnionType() == UnionType.AT_LEAST) {
@@ -42,4 +42,13 @@ public abstract class AbstractRuleConditionsPruner implements RuleConditionsPrun
 		this.stoppingConditionChecker = Precondition.notNull(stoppingConditionChecker, "Rule induction stopping condition checker is null.");
 	}
 	
+	/**
+	 * Gets stopping condition checker used to assure that pruned rule conditions satisfy stopping condition(s).
+	 * 
+	 * @return stopping condition checker
+	 */
+	public RuleInductionStoppingConditionChecker getStoppingConditionChecker() {
+		return this.stoppingConditionChecker;
+	}
+	
 }
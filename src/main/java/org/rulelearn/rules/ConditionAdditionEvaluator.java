@@ -39,5 +39,24 @@ public interface ConditionAdditionEvaluator extends Measure {
 	 * @throws NullPointerException if given rule conditions are {@code null}
 	 */
 	public double evaluateWithCondition(RuleConditions ruleConditions, Condition<EvaluationField> condition);
+	
+	/**
+	 * Evaluates given condition in the context of given rule conditions, using given change of coverage of rule conditions caused by adding given condition.
+	 * This evaluation concerns modified rule conditions, that would be obtained by adding given condition.
+	 * Enables an evaluator to avoid calculation of objects covered by modified rule conditions (see {@link RuleConditions#getIndicesOfCoveredObjectsWithCondition(Condition)}).
+	 * The default implementation ignores given coverage change and returns {@link #evaluateWithCondition(RuleConditions, Condition)}.
+	 * 
+	 * @param ruleConditions rule conditions being the context of evaluation of given condition
+	 * @param condition condition to be evaluated
+	 * @param coverageChange numbers of positive, negative, and neutral objects covered by given rule conditions, and numbers of such objects that would no longer be covered
+	 *        after adding given condition; if {@code null}, then the result is the same as for {@link #evaluateWithCondition(RuleConditions, Condition)}
+	 * 
+	 * @return evaluation of hypothetical rule conditions obtained from the given ones by adding given condition; if given condition is {@code null}, then returns {@link Double#MIN_VALUE} or
+	 *         {@link Double#MAX_VALUE}, when this evaluator is a gain-type or cost-type measure, respectively.
+	 * @throws NullPointerException if given rule conditions are {@code null}
+	 */
+	public default double evaluateWithCondition(RuleConditions ruleConditions, Condition<EvaluationField> condition, CoverageChange coverageChange) {
+		return evaluateWithCondition(ruleConditions, condition);
+	}
 
 }
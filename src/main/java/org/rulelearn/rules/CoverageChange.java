@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.rules;
+
+import static org.rulelearn.core.Precondition.nonNegative;
+
+import org.rulelearn.core.InvalidValueException;
+
+/**
+ * Change of coverage of rule conditions {@link RuleConditions} caused by adding a candidate condition {@link Condition}.
+ * Stores numbers of positive, negative, and neutral objects covered by rule conditions, and numbers of such objects that would no longer be covered
+ * after adding the candidate condition. An object is considered to be positive if it belongs to {@link RuleConditions#getIndicesOfPositiveObjects()},
+ * neutral if it is not positive and belongs to {@link RuleConditions#getIndicesOfNeutralObjects()}, and negative otherwise.<br>
+ * <br>
+ * Enables a condition addition evaluator to evaluate a candidate condition in constant time (see
+ * {@link ConditionAdditionEvaluator#evaluateWithCondition(RuleConditions, Condition, CoverageChange)}).
+ * Numbers of excluded objects can be updated for subsequent candidate conditions, so one object of this class can be reused by a condition generator.
+ */
+public class CoverageChange {
+	
+	/**
+	 * Number of positive objects covered by rule conditions.
+	 */
+	protected int coveredPositiveObjectsCount;
+	
+	/**
+	 * Number of negative objects covered by rule conditions.
+	 */
+	protected int coveredNegativeObjectsCount;
+	
+	/**
+	 * Number of neutral objects covered by rule conditions.
+	 */
+	protected int coveredNeutralObjectsCount;
+	
+	/**
+	 * Number of positive objects covered by rule conditions, that would no longer be covered after adding candidate condition.
+	 */
+	protected int excludedPositiveObjectsCount = 0;
+	
+	/**
+	 * Number of negative objects covered by rule conditions, that would no longer be covered after adding candidate condition.
+	 */
+	protected int excludedNegativeObjectsCount = 0;
+	
+	/**
+	 * Number of neutral objects covered by rule conditions, that would no longer be covered after adding candidate condition.
+	 */
+	protected int excludedNeutralObjectsCount = 0;
+	
+	/**
+	 * Constructs this coverage change for rule conditions covering given numbers of positive, negative, and neutral objects.
+	 * Initially, no object is excluded.
+	 * 
+	 * @param coveredPositiveObjectsCount number of positive objects covered by rule conditions
+	 * @param coveredNegativeObjectsCount number of negative objects covered by rule conditions
+	 * @param coveredNeutralObjectsCount number of neutral objects covered by rule conditions
+	 * 
+	 * @throws InvalidValueException if any of given numbers is negative
+	 */
+	public CoverageChange(int coveredPositiveObjectsCount, int coveredNegativeObjectsCount, int coveredNeutralObjectsCount) {
+		this.coveredPositiveObjectsCount = nonNegative(coveredPositiveObjectsCount, "Number of covered positive objects is negative.");
+		this.coveredNegativeObjectsCount = nonNegative(coveredNegativeObjectsCount, "Number of covered negative objects is negative.");
+		this.coveredNeutralObjectsCount = nonNegative(coveredNeutralObjectsCount, "Number of covered neutral objects is negative.");
+	}
+	
+	/**
+	 * Sets numbers of positive, negative, and neutral objects covered by rule conditions, that would no longer be covered after adding candidate condition.
+	 * 
+	 * @param excludedPositiveObjectsCount number of excluded positive objects
+	 * @param excludedNegativeObjectsCount number of excluded negative objects
+	 * @param excludedNeutralObjectsCount number of excluded neutral objects
+	 * 
+	 * @throws InvalidValueException if any of given numbers is negative or greater than the respective number of covered objects
+	 */
+	public void setExcludedObjectsCounts(int excludedPositiveObjectsCount, int excludedNegativeObjectsCount, int excludedNeutralObjectsCount) {
+		if (excludedPositiveObjectsCount < 0 || excludedPositiveObjectsCount > this.coveredPositiveObjectsCount ||
+				excludedNegativeObjectsCount < 0 || excludedNegativeObjectsCount > this.coveredNegativeObjectsCount ||
+				excludedNeutralObjectsCount < 0 || excludedNeutralObjectsCount > this.coveredNeutralObjectsCount) {
+			throw new InvalidValueException("Number of excluded objects is negative or greater than the number of covered objects.");
+		}
+		this.excludedPositiveObjectsCount = excludedPositiveObjectsCount;
+		this.excludedNegativeObjectsCount = excludedNegativeObjectsCount;
+		this.excludedNeutralObjectsCount = excludedNeutralObjectsCount;
+	}
+
+	/**
+	 * Gets number of positive objects covered by rule conditions.
+	 * 
+	 * @return number of positive objects covered by rule conditions
+	 */
+	public int getCoveredPositiveObjectsCount() {
+		return this.coveredPositiveObjectsCount;
+	}
+
+	/**
+	 * Gets number of negative objects covered by rule conditions.
+	 * 
+	 * @return number of negative objects covered by rule conditions
+	 */
+	public int getCoveredNegativeObjectsCount() {
+		return this.coveredNegativeObjectsCount;
+	}
+
+	/**
+	 * Gets number of neutral objects covered by rule conditions.
+	 * 
+	 * @return number of neutral objects covered by rule conditions
+	 */
+	public int getCoveredNeutralObjectsCount() {
+		return this.coveredNeutralObjectsCount;
+	}
+
+	/**
+	 * Gets number of positive objects covered by rule conditions, that would no longer be covered after adding candidate condition.
+	 * 
+	 * @return number of excluded positive objects
+	 */
+	public int getExcludedPositiveObjectsCount() {
+		return this.excludedPositiveObjectsCount;
+	}
+
+	/**
+	 * Gets number of negative objects covered by rule conditions, that would no longer be covered after adding candidate condition.
+	 * 
+	 * @return number of excluded negative objects
+	 */
+	public int getExcludedNegativeObjectsCount() {
+		return this.excludedNegativeObjectsCount;
+	}
+
+	/**
+	 * Gets number of neutral objects covered by rule conditions, that would no longer be covered after adding candidate condition.
+	 * 
+	 * @return number of excluded neutral objects
+	 */
+	public int getExcludedNeutralObjectsCount() {
+		return this.excludedNeutralObjectsCount;
+	}
+	
+	/**
+	 * Gets number of positive objects that would be covered by rule conditions after adding candidate condition.
+	 * 
+	 * @return number of positive objects covered by rule conditions extended by candidate condition
+	 */
+	public int getPositiveObjectsCountWithCondition() {
+		return this.coveredPositiveObjectsCount - this.excludedPositiveObjectsCount;
+	}
+	
+	/**
+	 * Gets number of negative objects that would be covered by rule conditions after adding candidate condition.
+	 * 
+	 * @return number of negative objects covered by rule conditions extended by candidate condition
+	 */
+	public int getNegativeObjectsCountWithCondition() {
+		return this.coveredNegativeObjectsCount - this.excludedNegativeObjectsCount;
+	}
+	
+	/**
+	 * Gets number of neutral objects that would be covered by rule conditions after adding candidate condition.
+	 * 
+	 * @return number of neutral objects covered by rule conditions extended by candidate condition
+	 */
+	public int getNeutralObjectsCountWithCondition() {
+		return this.coveredNeutralObjectsCount - this.excludedNeutralObjectsCount;
+	}
+	
+}
@@ -22,6 +22,7 @@ import org.rulelearn.core.Precondition;
 import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.EvaluationAttributeWithContext;
+import org.rulelearn.data.EvaluationOrders;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.data.Table;
 import org.rulelearn.measures.Measure.MeasureType;
@@ -32,6 +33,7 @@ import org.rulelearn.types.KnownSimpleField;
 import org.rulelearn.types.SimpleField;
 
 import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
 
@@ -78,27 +80,33 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		CANDIDATE_CONDITION_IS_WORSE_WRT_SECOND_EVALUATORS
 	}
 	
+	/**
+	 * Interval of ranks of limiting evaluations of conditions (see {@link EvaluationOrders}), multiplied by a multiplier taking into account both rule's semantics
+	 * and attribute's preference type, so that ranks can be compared just as if >= condition would be searched for.
+	 */
 	abstract class ConditionLimitingEvaluationInterval {
-		KnownSimpleField sufficientEvaluation = null;
-		KnownSimpleField insufficientEvaluation = null;
+		int sufficientRank;
+		int insufficientRank;
+		boolean insufficientRankSet = false;
 		
-		abstract boolean includes(KnownSimpleField evaluation, int compareToMultiplier);
-		abstract boolean isMoreExtremeEvaluation(KnownSimpleField candidateLimitingEvaluation, KnownSimpleField extremeLimitingEvaluation, int compareToMultiplier);
+		abstract boolean includes(int rank);
+		abstract boolean isMoreExtremeRank(int candidateLimitingRank, int extremeLimitingRank);
 		
 		//initializes this interval
-		void initialize(KnownSimpleField sufficientEvaluation, KnownSimpleField insufficientEvaluation) {
-			this.sufficientEvaluation = sufficientEvaluation;
-			this.insufficientEvaluation = insufficientEvaluation;
+		void initialize(int sufficientRank) {
+			this.sufficientRank = sufficientRank;
+			this.insufficientRankSet = false;
 		}
 
 		//updates this interval using result of comparison of candidate condition and currently best condition
-		void update(ConditionComparisonResult candidateVSBestConditionComparisonResult, KnownSimpleField candidateLimitingEvaluation) {
+		void update(ConditionComparisonResult candidateVSBestConditionComparisonResult, int candidateLimitingRank) {
 			if (candidateVSBestConditionComparisonResult == ConditionComparisonResult.CANDIDATE_CONDITION_IS_BETTER ||
 					candidateVSBestConditionComparisonResult == ConditionComparisonResult.CANDIDATE_CONDITION_IS_EQUAL) {
-				sufficientEvaluation = candidateLimitingEvaluation;
+				sufficientRank = candidateLimitingRank;
 			} else {
 				if (candidateVSBestConditionComparisonResult == ConditionComparisonResult.CANDIDATE_CONDITION_IS_WORSE_WRT_FIRST_EVALUATORS) {
-					insufficientEvaluation = candidateLimitingEvaluation;
+					insufficientRank = candidateLimitingRank;
+					insufficientRankSet = true;
 				}
 			}
 		}
@@ -106,58 +114,48 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 	}
 	
 	final class RestrictingConditionLimitingEvaluationInterval extends ConditionLimitingEvaluationInterval {
-		//sufficientEvaluation denotes sufficientlyRestrictiveEvaluation
-		//insufficientEvaluation denotes insufficientlyRestrictiveEvaluation
+		//sufficientRank denotes rank of sufficientlyRestrictiveEvaluation
+		//insufficientRank denotes rank of insufficientlyRestrictiveEvaluation
 		
 		/**
-		 * Checks if given evaluation is inside open interval<br>
-		 * {@code (insufficientEvaluation, sufficientEvaluation)}, for condition of type >=, or<br>
-		 * inside interval {@code (sufficientEvaluation, insufficientEvaluation)}, for condition of type <=.
-		 * Assumes sufficientEvaluation is not {@code null}.
+		 * Checks if given (multiplied) rank is inside open interval {@code (insufficientRank, sufficientRank)}.
 		 * 
-		 * @param evaluation evaluation to be checked for its inclusion inside this interval
-		 * @param compareToMultiplier multiplier taking into account both rule's semantics and attribute's preference type;
-		 *        enables to compare given evaluation to limits of this interval just as if >= condition would be searched for 
-		 * @return {@code true} if given evaluation is inside this interval,
+		 * @param rank rank of evaluation to be checked for its inclusion inside this interval, multiplied by the multiplier taking into account both rule's semantics
+		 *        and attribute's preference type
+		 * @return {@code true} if given rank is inside this interval,
 		 *         {@code false} otherwise
 		 */
-		boolean includes(KnownSimpleField evaluation, int compareToMultiplier) {
-			return (insufficientEvaluation == null || evaluation.compareTo(insufficientEvaluation) * compareToMultiplier > 0) &&
-					(evaluation.compareTo(sufficientEvaluation) * compareToMultiplier < 0);
+		boolean includes(int rank) {
+			return (!insufficientRankSet || rank > insufficientRank) && (rank < sufficientRank);
 		}
 		
-		//if candidateEval.compareTo(extremeEval) * compareToMultiplier > 0, 
-		//then candidateEval is more restrictive limiting evaluation than extremeEval
-		boolean isMoreExtremeEvaluation(KnownSimpleField candidateLimitingEvaluation, KnownSimpleField extremeLimitingEvaluation, int compareToMultiplier) {
-			return candidateLimitingEvaluation.compareTo(extremeLimitingEvaluation) * compareToMultiplier > 0; //more restrictive limiting evaluation found
+		//if candidateRank > extremeRank, 
+		//then candidate evaluation is more restrictive limiting evaluation than extreme evaluation
+		boolean isMoreExtremeRank(int candidateLimitingRank, int extremeLimitingRank) {
+			return candidateLimitingRank > extremeLimitingRank; //more restrictive limiting evaluation found
 		}
 	}
 	
 	final class GeneralizingConditionLimitingEvaluationInterval extends ConditionLimitingEvaluationInterval {
-		//sufficientEvaluation denotes sufficientlyGeneralEvaluation
-		//insufficientEvaluation denotes insufficientlyGeneralEvaluation
+		//sufficientRank denotes rank of sufficientlyGeneralEvaluation
+		//insufficientRank denotes rank of insufficientlyGeneralEvaluation
 		
 		/**
-		 * Checks if given evaluation is inside open interval<br>
-		 * {@code (sufficientEvaluation, insufficientEvaluation)}, for condition of type >=, or<br>
-		 * inside interval {@code (insufficientEvaluation, sufficientEvaluation)}, for condition of type <=.
-		 * Assumes sufficientEvaluation is not {@code null}.
+		 * Checks if given (multiplied) rank is inside open interval {@code (sufficientRank, insufficientRank)}.
 		 * 
-		 * @param evaluation evaluation to be checked for its inclusion inside this interval
-		 * @param compareToMultiplier multiplier taking into account both rule's semantics and attribute's preference type;
-		 *        enables to compare given evaluation to limits of this interval just as if >= condition would be searched for 
-		 * @return {@code true} if given evaluation is inside this interval,
+		 * @param rank rank of evaluation to be checked for its inclusion inside this interval, multiplied by the multiplier taking into account both rule's semantics
+		 *        and attribute's preference type
+		 * @return {@code true} if given rank is inside this interval,
 		 *         {@code false} otherwise
 		 */
-		boolean includes(KnownSimpleField evaluation, int compareToMultiplier) {
-			return (evaluation.compareTo(sufficientEvaluation) * compareToMultiplier > 0) &&
-					(insufficientEvaluation == null || evaluation.compareTo(insufficientEvaluation) * compareToMultiplier < 0);
+		boolean includes(int rank) {
+			return (rank > sufficientRank) && (!insufficientRankSet || rank < insufficientRank);
 		}
 		
-		//if candidateEval.compareTo(extremeEval) * compareToMultiplier < 0, 
-		//then candidateEval is more general limiting evaluation than extremeEval
-		boolean isMoreExtremeEvaluation(KnownSimpleField candidateLimitingEvaluation, KnownSimpleField extremeLimitingEvaluation, int compareToMultiplier) {
-			return candidateLimitingEvaluation.compareTo(extremeLimitingEvaluation) * compareToMultiplier < 0; //less restrictive limiting evaluation found
+		//if candidateRank < extremeRank, 
+		//then candidate evaluation is more general limiting evaluation than extreme evaluation
+		boolean isMoreExtremeRank(int candidateLimitingRank, int extremeLimitingRank) {
+			return candidateLimitingRank < extremeLimitingRank; //less restrictive limiting evaluation found
 		}
 	}
 	
@@ -166,17 +164,30 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		double[] evaluations;
 		int validEvaluationsCount;
 		RuleConditions ruleConditions;
+		CoverageChange coverageChange; //change of coverage of rule conditions caused by adding condition, passed to evaluators
+		boolean coverageChangeKnown; //tells if numbers of excluded objects stored in coverageChange concern current condition
 		
-		ConditionWithEvaluations(RuleConditions ruleConditions) {
+		ConditionWithEvaluations(RuleConditions ruleConditions, CoverageChange coverageChange) {
 			condition = null;
 			evaluations = new double[conditionAdditionEvaluators.length];
 			validEvaluationsCount = 0;
 			this.ruleConditions = ruleConditions;
+			this.coverageChange = coverageChange;
+			this.coverageChangeKnown = false;
 		}
 		
 		void setCondition(Condition<EvaluationField> condition) {
 			this.condition = condition;
 			this.validEvaluationsCount = 0;
+			this.coverageChangeKnown = false;
+		}
+		
+		//sets condition together with numbers of covered objects of each category that would no longer be covered after adding this condition
+		void setCondition(Condition<EvaluationField> condition, int[] excludedObjectsCounts) {
+			this.condition = condition;
+			this.validEvaluationsCount = 0;
+			this.coverageChange.setExcludedObjectsCounts(excludedObjectsCounts[POSITIVE], excludedObjectsCounts[NEGATIVE], excludedObjectsCounts[NEUTRAL]);
+			this.coverageChangeKnown = true;
 		}
 		
 		/**
@@ -190,6 +201,11 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 				this.evaluations[i] = conditionWithEvaluations.evaluations[i];
 			}
 			this.validEvaluationsCount = conditionWithEvaluations.validEvaluationsCount;
+			if (conditionWithEvaluations.coverageChangeKnown) {
+				this.coverageChange.setExcludedObjectsCounts(conditionWithEvaluations.coverageChange.getExcludedPositiveObjectsCount(),
+						conditionWithEvaluations.coverageChange.getExcludedNegativeObjectsCount(), conditionWithEvaluations.coverageChange.getExcludedNeutralObjectsCount());
+			}
+			this.coverageChangeKnown = conditionWithEvaluations.coverageChangeKnown;
 			//this.ruleConditions = conditionWithEvaluations.ruleConditions; //not necessary as both objects are defined for the same rule conditions
 		}
 		
@@ -198,7 +214,7 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 				return evaluations[evaluationIndex];
 			}
 			if (evaluationIndex == validEvaluationsCount) {
-				evaluations[evaluationIndex] = conditionAdditionEvaluators[evaluationIndex].evaluateWithCondition(ruleConditions, condition);
+				evaluations[evaluationIndex] = conditionAdditionEvaluators[evaluationIndex].evaluateWithCondition(ruleConditions, condition, coverageChangeKnown ? coverageChange : null);
 				validEvaluationsCount++;
 				return evaluations[evaluationIndex];
 			} else { //not subsequent evaluation is retrieved
@@ -207,6 +223,88 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		}
 	}
 	
+	/**
+	 * Counter of objects covered by rule conditions that would no longer be covered after adding a candidate condition concerning one optimizable attribute.
+	 * Covered objects having known evaluations on that attribute are counted once, for each category and each rank of evaluation (see {@link EvaluationOrders}).
+	 * Then, cumulative counts are calculated in the order of increasing restrictiveness of limiting evaluation, so the number of objects excluded by a condition
+	 * with a known limiting evaluation is obtained in constant time. Covered objects having missing evaluations are checked against each candidate condition.
+	 */
+	final class ExcludedObjectsCounter {
+		int[][] cumulativeCounts; //[category][position]: number of covered objects of given category, having known evaluation at position lower than given one
+		int[] objectsWithMissingEvaluations; //covered objects having missing evaluations
+		int[] categoriesOfObjectsWithMissingEvaluations; //categories of covered objects having missing evaluations
+		int objectsWithMissingEvaluationsCount;
+		int numberOfRanks;
+		int compareToMultiplier;
+		int[] excludedObjectsCounts = new int[CATEGORIES_COUNT];
+		
+		ExcludedObjectsCounter(IntList coveredObjects, int[] coveredObjectsCategories, int[] ranks, int numberOfRanks, int compareToMultiplier) {
+			this.numberOfRanks = numberOfRanks;
+			this.compareToMultiplier = compareToMultiplier;
+			this.cumulativeCounts = new int[CATEGORIES_COUNT][numberOfRanks + 1];
+			this.objectsWithMissingEvaluations = new int[coveredObjects.size()];
+			this.categoriesOfObjectsWithMissingEvaluations = new int[coveredObjects.size()];
+			this.objectsWithMissingEvaluationsCount = 0;
+			
+			int objectIndex;
+			for (int i = 0; i < coveredObjects.size(); i++) {
+				objectIndex = coveredObjects.getInt(i);
+				if (ranks[objectIndex] != EvaluationOrders.MISSING_RANK) {
+					cumulativeCounts[coveredObjectsCategories[i]][getPosition(ranks[objectIndex] * compareToMultiplier) + 1]++;
+				} else {
+					objectsWithMissingEvaluations[objectsWithMissingEvaluationsCount] = objectIndex;
+					categoriesOfObjectsWithMissingEvaluations[objectsWithMissingEvaluationsCount] = coveredObjectsCategories[i];
+					objectsWithMissingEvaluationsCount++;
+				}
+			}
+			
+			for (int category = 0; category < CATEGORIES_COUNT; category++) {
+				for (int position = 1; position <= numberOfRanks; position++) {
+					cumulativeCounts[category][position] += cumulativeCounts[category][position - 1];
+				}
+			}
+		}
+		
+		//gets position of given multiplied rank in the order of increasing restrictiveness of limiting evaluation
+		int getPosition(int multipliedRank) {
+			return compareToMultiplier > 0 ? multipliedRank : numberOfRanks - 1 + multipliedRank;
+		}
+		
+		//counts covered objects of each category that would no longer be covered after adding given condition with limiting evaluation having given multiplied rank
+		int[] count(Condition<EvaluationField> condition, int limitingRank, InformationTable learningInformationTable) {
+			int position = getPosition(limitingRank);
+			for (int category = 0; category < CATEGORIES_COUNT; category++) {
+				excludedObjectsCounts[category] = cumulativeCounts[category][position];
+			}
+			for (int i = 0; i < objectsWithMissingEvaluationsCount; i++) {
+				if (!condition.satisfiedBy(objectsWithMissingEvaluations[i], learningInformationTable)) {
+					excludedObjectsCounts[categoriesOfObjectsWithMissingEvaluations[i]]++;
+				}
+			}
+			return excludedObjectsCounts;
+		}
+	}
+	
+	/**
+	 * Category of a positive object covered by rule conditions (see {@link CoverageChange}).
+	 */
+	static final int POSITIVE = 0;
+	
+	/**
+	 * Category of a negative object covered by rule conditions (see {@link CoverageChange}).
+	 */
+	static final int NEGATIVE = 1;
+	
+	/**
+	 * Category of a neutral object covered by rule conditions (see {@link CoverageChange}).
+	 */
+	static final int NEUTRAL = 2;
+	
+	/**
+	 * Number of categories of objects covered by rule conditions.
+	 */
+	static final int CATEGORIES_COUNT = 3;
+	
 	/**
 	 * Tells if among considered monotonic condition addition evaluators there is at least one evaluator with monotonicity type different than the other evaluators.
 	 */
@@ -277,11 +375,28 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		Precondition.notNull(consideredObjects, "List of objects considered in m4-optimized condition generator is null.");
 		Precondition.notNull(ruleConditions, "Rule conditions considered in m4-optimized condition generator are null.");
 		
-		ConditionWithEvaluations bestConditionWithEvaluations = new ConditionWithEvaluations(ruleConditions);
-		ConditionWithEvaluations candidateConditionWithEvaluations = new ConditionWithEvaluations(ruleConditions);
+		//establish category of each covered object, so numbers of objects excluded by candidate conditions can be counted for each category
+		IntList coveredObjects = ruleConditions.getIndicesOfCoveredObjects();
+		IntSet positiveObjects = ruleConditions.getIndicesOfPositiveObjects();
+		IntSet neutralObjects = ruleConditions.getIndicesOfNeutralObjects();
+		int[] coveredObjectsCategories = new int[coveredObjects.size()];
+		int[] coveredObjectsCounts = new int[CATEGORIES_COUNT];
+		int objectIndex;
+		
+		for (int i = 0; i < coveredObjectsCategories.length; i++) {
+			objectIndex = coveredObjects.getInt(i);
+			coveredObjectsCategories[i] = positiveObjects.contains(objectIndex) ? POSITIVE : (neutralObjects.contains(objectIndex) ? NEUTRAL : NEGATIVE);
+			coveredObjectsCounts[coveredObjectsCategories[i]]++;
+		}
+		
+		ConditionWithEvaluations bestConditionWithEvaluations = new ConditionWithEvaluations(ruleConditions,
+				new CoverageChange(coveredObjectsCounts[POSITIVE], coveredObjectsCounts[NEGATIVE], coveredObjectsCounts[NEUTRAL]));
+		ConditionWithEvaluations candidateConditionWithEvaluations = new ConditionWithEvaluations(ruleConditions,
+				new CoverageChange(coveredObjectsCounts[POSITIVE], coveredObjectsCounts[NEGATIVE], coveredObjectsCounts[NEUTRAL]));
 		
 		InformationTable learningInformationTable = ruleConditions.getLearningInformationTable();
 		EvaluationAttribute[] activeConditionAttributes = learningInformationTable.getActiveConditionAttributeFields().getAttributes(true);
+		EvaluationOrders evaluationOrders = learningInformationTable.getEvaluationOrders();
 		
 		int globalAttributeIndex;
 		
@@ -291,8 +406,10 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 			//current attribute should be considered
 			if (!ruleConditions.containsConditionForAttribute(globalAttributeIndex)) { //this should be safe for all attributes that do not have weak order in their value set
 				//optimization is possible for current attribute - it is a criterion whose evaluations can be linearly ordered
-				if (activeConditionAttributes[localActiveConditionAttributeIndex].getPreferenceType() != AttributePreferenceType.NONE && activeConditionAttributes[localActiveConditionAttributeIndex].getValueType() instanceof SimpleField) { //or KnownSimpleField
-					searchForBestConditionForOptimizableAttribute(consideredObjects, ruleConditions, localActiveConditionAttributeIndex, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //check criterion, possibly updating bestCondition
+				if (activeConditionAttributes[localActiveConditionAttributeIndex].getPreferenceType() != AttributePreferenceType.NONE && activeConditionAttributes[localActiveConditionAttributeIndex].getValueType() instanceof SimpleField //or KnownSimpleField
+						&& evaluationOrders.isOrdered(localActiveConditionAttributeIndex)) {
+					searchForBestConditionForOptimizableAttribute(consideredObjects, ruleConditions, localActiveConditionAttributeIndex, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations,
+							coveredObjects, coveredObjectsCategories); //check criterion, possibly updating bestCondition
 				} else { //proceed without optimization
 					searchForBestConditionForNonOptimizableAttribute(consideredObjects, ruleConditions, localActiveConditionAttributeIndex, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //check criterion, possibly updating bestCondition
 				}
@@ -331,15 +448,20 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 	
 	//can update bestConditionWithEvaluations
 	void searchForBestConditionForOptimizableAttribute(IntList consideredObjects, RuleConditions ruleConditions, int localActiveConditionAttributeIndex, int globalAttributeIndex,
-			ConditionWithEvaluations bestConditionWithEvaluations, ConditionWithEvaluations candidateConditionWithEvaluations) {
+			ConditionWithEvaluations bestConditionWithEvaluations, ConditionWithEvaluations candidateConditionWithEvaluations, IntList coveredObjects, int[] coveredObjectsCategories) {
 		MonotonicityType firstEvaluatorMonotonicityType = ((MonotonicConditionAdditionEvaluator[])this.conditionAdditionEvaluators)[0].getMonotonictyType(); //casting should work, as constructor parameter is of type MonotonicConditionAdditionEvaluator[])
 		
-		Table<EvaluationAttribute, EvaluationField> data = ruleConditions.getLearningInformationTable().getActiveConditionAttributeFields();
+		InformationTable learningInformationTable = ruleConditions.getLearningInformationTable();
+		Table<EvaluationAttribute, EvaluationField> data = learningInformationTable.getActiveConditionAttributeFields();
 		EvaluationAttribute activeConditionAttribute = data.getAttributes(true)[localActiveConditionAttributeIndex];
-		
-		EvaluationField objectEvaluation;
-		KnownSimpleField extremeLimitingEvaluation = null; //least/most (depending on the type of the first condition addition evaluator) restrictive limiting evaluation found so far
-		KnownSimpleField candidateLimitingEvaluation; //current limiting evaluation to be compared with the extreme one
+		EvaluationOrders evaluationOrders = learningInformationTable.getEvaluationOrders();
+		int[] ranks = evaluationOrders.getRanks(localActiveConditionAttributeIndex); //ranks of evaluations, compared instead of evaluations
+		ExcludedObjectsCounter excludedObjectsCounter;
+		
+		int objectIndex;
+		int extremeLimitingObjectIndex = -1; //index of object having least/most (depending on the type of the first condition addition evaluator) restrictive limiting evaluation found so far
+		int extremeLimitingRank = 0; //multiplied rank of least/most restrictive limiting evaluation found so far
+		int candidateLimitingRank; //multiplied rank of current limiting evaluation to be compared with the extreme one
 		ConditionLimitingEvaluationInterval conditionLimitingEvaluationInterval;
 		Condition<EvaluationField> candidateCondition = null;
 
@@ -352,16 +474,20 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		
 		boolean missingValueConditionTested = shouldSkipMissingValue(activeConditionAttribute, ruleConditions.getRuleType());
 		
+		//first, calculate multiplier used to compare two evaluations on the considered attribute; it takes into account both rule's semantics and attribute's preference type
+		compareToMultiplier = calculateCompareToMultiplier(activeConditionAttribute, ruleConditions);
+		
 		//establish if there is at least one non-missing evaluation for considered criterion, among considered objects
 		for (int i = 0; i < consideredObjectsCount; i++) {
-			objectEvaluation = data.getField(consideredObjects.getInt(i), localActiveConditionAttributeIndex);
-			if (objectEvaluation instanceof KnownSimpleField) { //non-missing evaluation found
-				extremeLimitingEvaluation = (KnownSimpleField)objectEvaluation;
+			objectIndex = consideredObjects.getInt(i);
+			if (ranks[objectIndex] != EvaluationOrders.MISSING_RANK) { //non-missing evaluation found
+				extremeLimitingObjectIndex = objectIndex;
+				extremeLimitingRank = ranks[objectIndex] * compareToMultiplier;
 				consideredObjectsSuccessfullIndex = i; //remember last considered index, so next search can start from the following index
 				break;
 			} else {
 				if (!missingValueConditionTested) {
-					testBestCondition(ruleConditions, activeConditionAttribute, objectEvaluation, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //update best condition, if necessary
+					testBestCondition(ruleConditions, activeConditionAttribute, data.getField(objectIndex, localActiveConditionAttributeIndex), globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //update best condition, if necessary
 					missingValueConditionTested = true;
 				}
 			}
@@ -370,33 +496,35 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 		if (consideredObjectsSuccessfullIndex >= 0) {
 			conditionLimitingEvaluationInterval = (firstEvaluatorMonotonicityType == MonotonicityType.IMPROVES_WITH_NUMBER_OF_COVERED_OBJECTS ? new GeneralizingConditionLimitingEvaluationInterval() : new RestrictingConditionLimitingEvaluationInterval());
 			
-			//first, calculate multiplier used to compare two evaluations on the considered attribute; it takes into account both rule's semantics and attribute's preference type
-			compareToMultiplier = calculateCompareToMultiplier(activeConditionAttribute, ruleConditions); 
-			
 			//second, iterate through all considered objects to calculate least/most restrictive limiting evaluation of a condition
 			//taking into account rule's semantics and attribute's preference type
 			for (int i = consideredObjectsSuccessfullIndex + 1; i < consideredObjectsCount; i++) { //continue loop at next index
-				objectEvaluation = data.getField(consideredObjects.getInt(i), localActiveConditionAttributeIndex);
-				if (objectEvaluation instanceof KnownSimpleField) { //non-missing evaluation found
-					candidateLimitingEvaluation = (KnownSimpleField)objectEvaluation;
+				objectIndex = consideredObjects.getInt(i);
+				if (ranks[objectIndex] != EvaluationOrders.MISSING_RANK) { //non-missing evaluation found
+					candidateLimitingRank = ranks[objectIndex] * compareToMultiplier;
 					
-					if (conditionLimitingEvaluationInterval.isMoreExtremeEvaluation(candidateLimitingEvaluation, extremeLimitingEvaluation, compareToMultiplier)) {
-						extremeLimitingEvaluation = candidateLimitingEvaluation;
+					if (conditionLimitingEvaluationInterval.isMoreExtremeRank(candidateLimitingRank, extremeLimitingRank)) {
+						extremeLimitingObjectIndex = objectIndex;
+						extremeLimitingRank = candidateLimitingRank;
 					}
 				} else {
 					if (!missingValueConditionTested) {
-						testBestCondition(ruleConditions, activeConditionAttribute, objectEvaluation, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //update best condition, if necessary
+						testBestCondition(ruleConditions, activeConditionAttribute, data.getField(objectIndex, localActiveConditionAttributeIndex), globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations); //update best condition, if necessary
 						missingValueConditionTested = true;
 					}
 				}
 			}
 			
 			//initialize limits
-			conditionLimitingEvaluationInterval.initialize(extremeLimitingEvaluation, null);
+			conditionLimitingEvaluationInterval.initialize(extremeLimitingRank);
+			
+			//count covered objects of each category at each rank, so evaluators can be given numbers of objects excluded by each candidate condition
+			excludedObjectsCounter = new ExcludedObjectsCounter(coveredObjects, coveredObjectsCategories, ranks, evaluationOrders.getNumberOfRanks(localActiveConditionAttributeIndex), compareToMultiplier);
 			
 			//at this point, least/most restrictive limiting evaluation among considered objects, for considered criterion, has been calculated, so one can construct candidate condition employing that limiting evaluation
-			candidateCondition = constructCondition(ruleConditions.getRuleType(), ruleConditions.getRuleSemantics(), activeConditionAttribute, extremeLimitingEvaluation, globalAttributeIndex);
-			candidateConditionWithEvaluations.setCondition(candidateCondition); //set extreme condition
+			candidateCondition = constructCondition(ruleConditions.getRuleType(), ruleConditions.getRuleSemantics(), activeConditionAttribute,
+					data.getField(extremeLimitingObjectIndex, localActiveConditionAttributeIndex), globalAttributeIndex);
+			candidateConditionWithEvaluations.setCondition(candidateCondition, excludedObjectsCounter.count(candidateCondition, extremeLimitingRank, learningInformationTable)); //set extreme condition
 			candidateVSBestConditionComparisonResult = compareCandidateAndBestCondition(candidateConditionWithEvaluations, bestConditionWithEvaluations, this.firstMonotonicityTypeEvaluatorsCount); //compare candidate and best condition w.r.t. the first evaluator(s) only, having the same monotonicity type
 
 			checkLessExtremeEvaluations = (containsEvaluatorsOfDifferentMonotonicityType ? true : false);
@@ -420,17 +548,20 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 			}
 			
 			if (checkLessExtremeEvaluations) {
-				for (int consideredObjectIndex : consideredObjects) {
-					objectEvaluation = data.getField(consideredObjectIndex, localActiveConditionAttributeIndex);
+				for (int i = 0; i < consideredObjectsCount; i++) {
+					objectIndex = consideredObjects.getInt(i);
 					
-					if (objectEvaluation instanceof KnownSimpleField) { //non-missing evaluation found
-						candidateLimitingEvaluation = (KnownSimpleField)objectEvaluation;
+					if (ranks[objectIndex] != EvaluationOrders.MISSING_RANK) { //non-missing evaluation found
+						candidateLimitingRank = ranks[objectIndex] * compareToMultiplier;
 						
 						//check if current evaluation is strictly inside current range of interest
-						if (conditionLimitingEvaluationInterval.includes(candidateLimitingEvaluation, compareToMultiplier)) {
+						if (conditionLimitingEvaluationInterval.includes(candidateLimitingRank)) {
+							candidateCondition = constructCondition(ruleConditions.getRuleType(), ruleConditions.getRuleSemantics(), activeConditionAttribute,
+									data.getField(objectIndex, localActiveConditionAttributeIndex), globalAttributeIndex);
+							candidateConditionWithEvaluations.setCondition(candidateCondition, excludedObjectsCounter.count(candidateCondition, candidateLimitingRank, learningInformationTable));
 							conditionLimitingEvaluationInterval.update(
-									testBestCondition(ruleConditions, activeConditionAttribute, candidateLimitingEvaluation, globalAttributeIndex, bestConditionWithEvaluations, candidateConditionWithEvaluations), //update best condition, if necessary
-									candidateLimitingEvaluation); //update interval
+									testBestCondition(bestConditionWithEvaluations, candidateConditionWithEvaluations), //update best condition, if necessary
+									candidateLimitingRank); //update interval
 						}
 					} //if
 					//at this point it is not necessary to handle missing value, as it had to be already handled above
@@ -473,6 +604,12 @@ public class M4OptimizedConditionGenerator extends AbstractConditionGeneratorWit
 			ConditionWithEvaluations bestConditionWithEvaluations, ConditionWithEvaluations candidateConditionWithEvaluations) {
 		Condition<EvaluationField> candidateCondition = constructCondition(ruleConditions.getRuleType(), ruleConditions.getRuleSemantics(), activeConditionAttribute, objectEvaluation, globalAttributeIndex);
 		candidateConditionWithEvaluations.setCondition(candidateCondition); //reset candidate condition with evaluations
+		return testBestCondition(bestConditionWithEvaluations, candidateConditionWithEvaluations);
+	}
+	
+	//compares already set candidate condition with currently best condition (w.r.t. all evaluators), and replaces best condition if candidate condition prevails;
+	//returns result of comparison of candidate vs best condition (for post mortem handling)
+	ConditionComparisonResult testBestCondition(ConditionWithEvaluations bestConditionWithEvaluations, ConditionWithEvaluations candidateConditionWithEvaluations) {
 		ConditionComparisonResult candidateVSBestConditionComparisonResult = compareCandidateAndBestCondition(candidateConditionWithEvaluations, bestConditionWithEvaluations, conditionAdditionEvaluators.length); //compare conditions w.r.t. all evaluators
 		
 		if (candidateVSBestConditionComparisonResult == ConditionComparisonResult.CANDIDATE_CONDITION_IS_BETTER) {
@@ -22,7 +22,10 @@ import java.util.List;
 
 import org.rulelearn.approximations.ApproximatedSet;
 import org.rulelearn.core.InvalidTypeException;
+import org.rulelearn.core.OperationsOnBitSets;
 import org.rulelearn.core.Precondition;
+import org.rulelearn.core.ReadOnlyArrayReference;
+import org.rulelearn.core.ReadOnlyArrayReferenceLocation;
 import org.rulelearn.core.TernaryLogicValue;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.types.CompositeField;
@@ -34,7 +37,6 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntLists;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.ints.IntSets;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
@@ -43,7 +45,14 @@ import it.unimi.dsi.fastutil.objects.ObjectLists;
 
 /**
  * List (complex) of elementary conditions on the left-hand side (LHS) of a decision rule induced to cover objects from a single approximated set {@link ApproximatedSet}.
- * Each condition is identified by its position on the list.
+ * Each condition is identified by its position on the list.<br>
+ * <br>
+ * Apart from the list of indices of covered objects, these rule conditions maintain a bitset of covered objects, and for each condition,
+ * a bitset of objects that do not satisfy this condition (see {@link OperationsOnBitSets} for the representation of bitsets).
+ * Hence, each condition is checked against all objects only once, when it is added, and coverage after removal of a condition
+ * is obtained from bitsets, without checking conditions again. When a condition that can be added is evaluated,
+ * it is checked only against currently covered objects, and the result is remembered until another condition is evaluated,
+ * or these rule conditions change, so it can be reused by subsequent evaluations of the same condition.
  *
  * @author Jerzy Błaszczyński (<a href="mailto:jurek.blaszczynski@cs.put.poznan.pl">jurek.blaszczynski@cs.put.poznan.pl</a>)
  * @author Marcin Szeląg (<a href="mailto:marcin.szelag@cs.put.poznan.pl">marcin.szelag@cs.put.poznan.pl</a>)
@@ -104,6 +113,27 @@ public class RuleConditions {
 	 * This field is initialized with all zeros.
 	 */
 	int[] notCoveringConditionsCounts;
+	
+	/**
+	 * Bitset of objects from learning information table covered by these rule conditions; contains the same objects as {@link #indicesOfCoveredObjects}.
+	 */
+	long[] coveredObjects;
+	
+	/**
+	 * Bitsets of objects from learning information table that do not satisfy particular conditions, stored in the same order as {@link #conditions}.
+	 */
+	ObjectList<long[]> notSatisfyingObjects;
+	
+	/**
+	 * Condition that can be added to these rule conditions, for which objects covered by these rule conditions have been calculated most recently;
+	 * {@code null} if there is no such condition or these rule conditions have changed since that calculation.
+	 */
+	Condition<? extends EvaluationField> lastEvaluatedCondition = null;
+	
+	/**
+	 * Indices of objects covered by these rule conditions assuming addition of {@link #lastEvaluatedCondition}.
+	 */
+	IntList indicesOfCoveredObjectsWithLastEvaluatedCondition = null;
 
 	/**
 	 * Type of constructed decision rule. See {@link RuleType}.
@@ -166,14 +196,11 @@ public class RuleConditions {
 	 * 
 	 * @throws IndexOutOfBoundsException if given object index does not correspond to any object in the learning information table
 	 */
-	public boolean covers(int objectIndex) { //TODO: try to optimize response using indicesOfCoveredObjects (if changed to hash set)
-		int conditionsCount = this.conditions.size();
-		for (int i = 0; i < conditionsCount; i++) {
-			if (!this.conditions.get(i).satisfiedBy(objectIndex, this.learningInformationTable)) {
-				return false;
-			}
+	public boolean covers(int objectIndex) {
+		if (objectIndex < 0 || objectIndex >= this.notCoveringConditionsCounts.length) {
+			throw new IndexOutOfBoundsException("Object index is less than zero or too big concerning number of objects in learning information table.");
 		}
-		return true;
+		return OperationsOnBitSets.contains(this.coveredObjects, objectIndex);
 	}
 	
 	/**
@@ -255,10 +282,13 @@ public class RuleConditions {
 		this.conditions = new ObjectArrayList<Condition<? extends EvaluationField>>();
 		this.attributeIndex2ConditionIndices = new Int2ObjectOpenHashMap<IntList>();
 		this.indicesOfCoveredObjects = new IntArrayList();
+		this.notSatisfyingObjects = new ObjectArrayList<long[]>();
 		
 		int objectsCount = learningInformationTable.getNumberOfObjects();
+		this.coveredObjects = new long[OperationsOnBitSets.getNumberOfWords(objectsCount)];
 		for (int objectIndex = 0; objectIndex < objectsCount; objectIndex++) {
 			this.indicesOfCoveredObjects.add(objectIndex); //initially all objects are covered
+			this.coveredObjects[objectIndex >>> 6] |= 1L << objectIndex;
 		}
 		
 		initializeNotCoveringConditionsCounts();
@@ -337,8 +367,12 @@ public class RuleConditions {
 		}
 		this.attributeIndex2ConditionIndices.get(attributeIndex).add(addedConditionIndex);
 		
-		updateCoveredObjectsWithCondition(this.indicesOfCoveredObjects, condition);
-		updateNotCoveringConditionsCountsWithCondition(condition);
+		long[] conditionNotSatisfyingObjects = getNotSatisfyingObjects(condition);
+		this.notSatisfyingObjects.add(conditionNotSatisfyingObjects);
+		
+		updateCoveredObjectsWithCondition(conditionNotSatisfyingObjects);
+		updateNotCoveringConditionsCountsWithCondition(conditionNotSatisfyingObjects);
+		this.lastEvaluatedCondition = null;
 		
 		return addedConditionIndex;
 	}
@@ -383,21 +417,46 @@ public class RuleConditions {
 		return IntLists.unmodifiable(this.indicesOfCoveredObjects);
 	}
 	
+	/**
+	 * Gets bitset of objects covered by these rule conditions, in which bit with index i is set if object with index i is covered
+	 * (see {@link OperationsOnBitSets} for the representation of bitsets).
+	 * 
+	 * @return bitset of objects covered by these rule conditions
+	 */
+	@ReadOnlyArrayReference(at = ReadOnlyArrayReferenceLocation.OUTPUT)
+	public long[] getCoveredObjects() {
+		return this.coveredObjects;
+	}
+	
 	/**
 	 * Gets indices of objects covered by these rules conditions assuming addition of given condition.
+	 * Only objects that are currently covered are checked against given condition.
+	 * If this method is called again for an equal condition, and these rule conditions have not changed in the meantime, then previously calculated indices are returned.
 	 * 
 	 * @param condition condition that can be added to these rule conditions
-	 * @return indices of objects covered by these rules conditions assuming addition of given condition
+	 * @return indices of objects covered by these rules conditions assuming addition of given condition; the returned list is unmodifiable
 	 * 
 	 * @throws NullPointerException if given condition is {@code null}
 	 */
 	public IntList getIndicesOfCoveredObjectsWithCondition(Condition<? extends EvaluationField> condition) {
 		notNull(condition, "Condition is null.");
 		
-		IntList indicesOfCoveredObjects = new IntArrayList(this.indicesOfCoveredObjects); //copy list
-		updateCoveredObjectsWithCondition(indicesOfCoveredObjects, condition);
+		if (!condition.equals(this.lastEvaluatedCondition)) {
+			IntList indicesOfCoveredObjects = new IntArrayList(this.indicesOfCoveredObjects.size());
+			int objectIndex;
+			
+			for (int i = 0; i < this.indicesOfCoveredObjects.size(); i++) { //iterate over already covered objects to see if they remain covered
+				objectIndex = this.indicesOfCoveredObjects.getInt(i);
+				if (condition.satisfiedBy(objectIndex, this.learningInformationTable)) {
+					indicesOfCoveredObjects.add(objectIndex);
+				}
+			}
+			
+			this.indicesOfCoveredObjectsWithLastEvaluatedCondition = IntLists.unmodifiable(indicesOfCoveredObjects);
+			this.lastEvaluatedCondition = condition;
+		}
 		
-		return indicesOfCoveredObjects;
+		return this.indicesOfCoveredObjectsWithLastEvaluatedCondition;
 	}
 	
 	/**
@@ -416,33 +475,60 @@ public class RuleConditions {
 	}
 	
 	/**
-	 * Updates given set of indices of objects covered by these rule conditions assuming addition of given condition.
+	 * Gets bitset of objects from learning information table that do not satisfy given condition.
 	 * 
-	 * @param indicesOfCoveredObjects indices of objects covered so far by these rule conditions
-	 * @param condition condition that is going to or can be added to these rule conditions
+	 * @param condition condition checked against all objects from learning information table
+	 * @return bitset of objects that do not satisfy given condition
 	 */
-	private void updateCoveredObjectsWithCondition(IntList indicesOfCoveredObjects, Condition<? extends EvaluationField> condition) {
-		IntSet nonCoveredObjects = new IntOpenHashSet(indicesOfCoveredObjects.size()); //ensures faster execution of indicesOfCoveredObjects.removeAll(nonCoveredObjects); expected capacity ensures no need of rehashing)
+	private long[] getNotSatisfyingObjects(Condition<? extends EvaluationField> condition) {
+		int objectsCount = this.notCoveringConditionsCounts.length;
+		long[] notSatisfyingObjects = new long[OperationsOnBitSets.getNumberOfWords(objectsCount)];
 		
-		for (int objectIndex : indicesOfCoveredObjects) { //iterate over already covered objects to see if they remain covered or get "rejected" by the given condition
-			if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) {
-				nonCoveredObjects.add(objectIndex);
+		for (int objectIndex = 0; objectIndex < objectsCount; objectIndex++) { //iterate over all objects to see which are not covered by the given condition
+			if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) { //condition eliminates given object
+				notSatisfyingObjects[objectIndex >>> 6] |= 1L << objectIndex;
 			}
 		}
 		
-		indicesOfCoveredObjects.removeAll(nonCoveredObjects);
+		return notSatisfyingObjects;
 	}
 	
 	/**
-	 * Updates counts of not covering conditions {@link #notCoveringConditionsCounts} in view of adding given condition.
-	 * Assumes that {@link #learningInformationTable} and {@link #notCoveringConditionsCounts} are already set.
+	 * Updates indices and bitset of objects covered by these rule conditions in view of adding a condition.
+	 * The order of remaining indices of covered objects is preserved.
+	 * 
+	 * @param conditionNotSatisfyingObjects bitset of objects that do not satisfy added condition
 	 */
-	private void updateNotCoveringConditionsCountsWithCondition(Condition<? extends EvaluationField> condition) {
-		int objectsCount = this.learningInformationTable.getNumberOfObjects();
+	private void updateCoveredObjectsWithCondition(long[] conditionNotSatisfyingObjects) {
+		int size = this.indicesOfCoveredObjects.size();
+		int newSize = 0;
+		int objectIndex;
 		
-		for (int objectIndex = 0; objectIndex < objectsCount; objectIndex++) { //iterate over all objects to see which are not covered by the given condition
-			if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) { //condition eliminates given object
-				this.notCoveringConditionsCounts[objectIndex] = this.notCoveringConditionsCounts[objectIndex] + 1; //increase counter for considered object
+		for (int i = 0; i < size; i++) { //compact list of indices of objects that remain covered
+			objectIndex = this.indicesOfCoveredObjects.getInt(i);
+			if (!OperationsOnBitSets.contains(conditionNotSatisfyingObjects, objectIndex)) {
+				this.indicesOfCoveredObjects.set(newSize++, objectIndex);
+			}
+		}
+		this.indicesOfCoveredObjects.size(newSize);
+		
+		OperationsOnBitSets.andNot(this.coveredObjects, conditionNotSatisfyingObjects);
+	}
+	
+	/**
+	 * Updates counts of not covering conditions {@link #notCoveringConditionsCounts} in view of adding a condition.
+	 * Assumes that {@link #notCoveringConditionsCounts} is already set.
+	 * 
+	 * @param conditionNotSatisfyingObjects bitset of objects that do not satisfy added condition
+	 */
+	private void updateNotCoveringConditionsCountsWithCondition(long[] conditionNotSatisfyingObjects) {
+		long word;
+		
+		for (int i = 0; i < conditionNotSatisfyingObjects.length; i++) { //iterate over set bits only
+			word = conditionNotSatisfyingObjects[i];
+			while (word != 0L) {
+				this.notCoveringConditionsCounts[(i << 6) + Long.numberOfTrailingZeros(word)]++; //increase counter for object eliminated by the condition
+				word &= word - 1;
 			}
 		}
 	}
@@ -455,7 +541,8 @@ public class RuleConditions {
 	 *        this parameter is modified to reflect the situation
 	 *        when condition with given index is dropped from these rule conditions
 	 * @param conditionIndex index of condition considered to be removed from these rule conditions
-	 * @param tells if {@link #notCoveringConditionsCounts} should be also updated, apart of the given set of indices of objects covered by these rule conditions
+	 * @param updateNotCoveringConditionsCounts tells if {@link #notCoveringConditionsCounts} and {@link #coveredObjects} should be also updated,
+	 *        apart of the given set of indices of objects covered by these rule conditions
 	 * 
 	 * @throws NullPointerException if the given list is {@code null}
 	 * @throws IndexOutOfBoundsException if given condition index is less than zero or too big concerning number of stored conditions
@@ -463,30 +550,27 @@ public class RuleConditions {
 	private void updateCoveredObjectsWithoutCondition(IntList indicesOfCoveredObjects, int conditionIndex, boolean updateNotCoveringConditionsCounts) {
 		Precondition.notNull(indicesOfCoveredObjects, "Indices of covered objects are null.");
 		
-		Condition<? extends EvaluationField> condition = this.getCondition(conditionIndex); //validates given index of condition
-		int numberOfObjects = this.notCoveringConditionsCounts.length;
+		this.getCondition(conditionIndex); //validates given index of condition
+		long[] conditionNotSatisfyingObjects = this.notSatisfyingObjects.get(conditionIndex);
+		long word;
+		int objectIndex;
 		
-		if (updateNotCoveringConditionsCounts) {
-			int count;
-			//update this.notCoveringConditionsCounts and given indicesOfCoveredObjects
-			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
-				count = this.notCoveringConditionsCounts[objectIndex];
-				if (count > 0) { //something can change
-					if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) { //dropped condition eliminated current object
-						this.notCoveringConditionsCounts[objectIndex] = --count;
-						if (count == 0) {
-							indicesOfCoveredObjects.add(objectIndex);
-						}
-					}
-				}
-			}
-		} else {
-			//update only given indicesOfCoveredObjects
-			for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
-				if (this.notCoveringConditionsCounts[objectIndex] == 1) { //something can change
-					if (!condition.satisfiedBy(objectIndex, this.learningInformationTable)) { //dropped condition eliminated current object
+		//iterate only over objects eliminated by dropped condition, in ascending order
+		for (int i = 0; i < conditionNotSatisfyingObjects.length; i++) {
+			word = conditionNotSatisfyingObjects[i];
+			while (word != 0L) {
+				objectIndex = (i << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+				
+				if (updateNotCoveringConditionsCounts) {
+					//update this.notCoveringConditionsCounts, this.coveredObjects, and given indicesOfCoveredObjects
+					if (--this.notCoveringConditionsCounts[objectIndex] == 0) {
 						indicesOfCoveredObjects.add(objectIndex);
+						this.coveredObjects[objectIndex >>> 6] |= 1L << objectIndex;
 					}
+				} else if (this.notCoveringConditionsCounts[objectIndex] == 1) {
+					//update only given indicesOfCoveredObjects
+					indicesOfCoveredObjects.add(objectIndex);
 				}
 			}
 		}
@@ -532,6 +616,8 @@ public class RuleConditions {
 		this.updateCoveredObjectsWithoutCondition(this.indicesOfCoveredObjects, conditionIndex, true);
 		//...and only then remove that condition
 		this.conditions.remove(conditionIndex);
+		this.notSatisfyingObjects.remove(conditionIndex);
+		this.lastEvaluatedCondition = null;
 		
 		//remove condition index from the map and decrement remaining indices greater than removed index!
 		this.updateAttributeIndex2ConditionIndices(attributeIndex, conditionIndex);
@@ -18,6 +18,7 @@ package org.rulelearn.rules;
 
 import static org.rulelearn.core.Precondition.notNull;
 
+import org.rulelearn.core.OperationsOnBitSets;
 import org.rulelearn.core.Precondition;
 import org.rulelearn.data.InformationTable;
 import org.rulelearn.types.CompositeField;
@@ -25,7 +26,6 @@ import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.SimpleField;
 
 import it.unimi.dsi.fastutil.ints.IntList;
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 
 /**
@@ -105,8 +105,10 @@ public class RuleConditionsBuilder {
 		RuleConditions ruleConditions = new RuleConditions(learningInformationTable, indicesOfPositiveObjects, indicesOfApproximationObjects, indicesOfObjectsThatCanBeCovered, indicesOfNeutralObjects,
 				ruleType, ruleSemantics);
 		Condition<EvaluationField> bestCondition;
-		IntList indicesOfCoveredObjects;
-		IntSet indicesOfNoLongerCoveredObjects;
+		long[] coveredObjects;
+		int size;
+		int newSize;
+		int previouslyCoveredObjectIndex;
 		
 		while (!ruleInductionStoppingConditionChecker.isStoppingConditionSatisified(ruleConditions)) {
 			try {
@@ -118,15 +120,17 @@ public class RuleConditionsBuilder {
 					ruleConditions.addCondition(bestCondition, conditionSeparator);
 				}
 				
-				//update indices of considered objects
-				indicesOfCoveredObjects = ruleConditions.getIndicesOfCoveredObjects();
-				indicesOfNoLongerCoveredObjects = new IntOpenHashSet();
-				for (int previouslyCoveredObjectIndex : indicesOfConsideredObjects) {
-					if (!indicesOfCoveredObjects.contains(previouslyCoveredObjectIndex)) { //previously covered object is no longer covered //TODO: more efficient implementation
-						indicesOfNoLongerCoveredObjects.add(previouslyCoveredObjectIndex);
+				//update indices of considered objects, preserving their order
+				coveredObjects = ruleConditions.getCoveredObjects();
+				size = indicesOfConsideredObjects.size();
+				newSize = 0;
+				for (int i = 0; i < size; i++) {
+					previouslyCoveredObjectIndex = indicesOfConsideredObjects.getInt(i);
+					if (OperationsOnBitSets.contains(coveredObjects, previouslyCoveredObjectIndex)) { //previously covered object is still covered
+						indicesOfConsideredObjects.set(newSize++, previouslyCoveredObjectIndex);
 					}
 				}
-				indicesOfConsideredObjects.removeAll(indicesOfNoLongerCoveredObjects);
+				indicesOfConsideredObjects.size(newSize);
 			} catch (ElementaryConditionNotFoundException exception) {
 				throw exception;
 			}
@@ -0,0 +1,490 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.wrappers;
+
+import static org.rulelearn.core.Precondition.notNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.rulelearn.approximations.ApproximatedSet;
+import org.rulelearn.approximations.Union;
+import org.rulelearn.approximations.Unions;
+import org.rulelearn.approximations.UnionsWithSingleLimitingDecision;
+import org.rulelearn.approximations.VCDominanceBasedRoughSetCalculator;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
+import org.rulelearn.rules.ApproximatedSetProvider;
+import org.rulelearn.rules.ApproximatedSetRuleDecisionsProvider;
+import org.rulelearn.rules.AttributeOrderRuleConditionsPruner;
+import org.rulelearn.rules.ElementaryConditionNotFoundException;
+import org.rulelearn.rules.EvaluationAndCoverageStoppingConditionChecker;
+import org.rulelearn.rules.Rule;
+import org.rulelearn.rules.RuleConditions;
+import org.rulelearn.rules.RuleConditionsBuilder;
+import org.rulelearn.rules.RuleConditionsPruner;
+import org.rulelearn.rules.RuleConditionsWithApproximatedSet;
+import org.rulelearn.rules.RuleCoverageInformation;
+import org.rulelearn.rules.RuleInductionStoppingConditionChecker;
+import org.rulelearn.rules.RuleSetWithComputableCharacteristics;
+import org.rulelearn.rules.RuleType;
+import org.rulelearn.rules.UnionProvider;
+import org.rulelearn.rules.UnionWithSingleLimitingDecisionRuleDecisionsProvider;
+import org.rulelearn.rules.VCDomLEMParameters;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Wraps VC-DomLEM rule induction algorithm, described in:<br>
+ * J. Błaszczyński, R. Słowiński, M. Szeląg, Sequential Covering Rule Induction Algorithm for Variable Consistency Rough Set Approaches. Information Sciences, 181, 2011, pp. 987-1002.<br>
+ * <br>
+ * Induces decision rules for all upward and all downward unions of ordered decision classes (see {@link UnionsWithSingleLimitingDecision}), approximated according to VC-DRSA
+ * (see {@link VCDominanceBasedRoughSetCalculator}) with {@link EpsilonConsistencyMeasure}. For each union, considered from the most to the least specific one,
+ * rule conditions are built (see {@link RuleConditionsBuilder}) and pruned (see {@link VCDomLEMParameters#getRuleConditionsPruner()}) until all objects
+ * from the lower approximation (in case of certain rules) or from the upper approximation (in case of possible rules) of the union are covered
+ * (except objects that cannot be covered, which may happen in case of missing values).
+ * Then, redundant rule conditions are removed (see {@link VCDomLEMParameters#getRuleConditionsSetPruner()}), and remaining rule conditions are kept only if they
+ * are minimal in the context of rule conditions built so far for unions of the same type (see {@link VCDomLEMParameters#getRuleMinimalityChecker()}).<br>
+ * <br>
+ * Distributions of decisions in dominance cones are calculated once for the learning information table, and then shared by approximations of all unions,
+ * which are calculated before rule induction (see {@link Unions#calculateApproximations(int)}). Sets of objects covered by rule conditions, maintained by these
+ * rule conditions during their construction, are reused when updating the set of objects that remain to be covered, and when calculating characteristics of induced rules.<br>
+ * <br>
+ * Rule conditions for different unions can be induced in parallel (see {@link #VCDomLEMWrapper(VCDomLEMParameters, int)}), as sequential covering of one union
+ * does not depend on other unions. Only the final check of minimality of rule conditions is done sequentially, considering unions in the same order
+ * as in sequential induction, so induced rules are the same, and in the same order, regardless of parallelism.
+ */
+public class VCDomLEMWrapper implements VariableConsistencyRuleInducerWrapper {
+	
+	/**
+	 * Parameters of VC-DomLEM algorithm.
+	 */
+	VCDomLEMParameters parameters;
+	
+	/**
+	 * Number of threads used to approximate unions and to induce rule conditions for different unions.
+	 */
+	int parallelism;
+	
+	/**
+	 * Constructs this wrapper with default parameters of VC-DomLEM algorithm.
+	 */
+	public VCDomLEMWrapper() {
+		this(VCDomLEMParameters.builder().build());
+	}
+	
+	/**
+	 * Constructs this wrapper with given parameters of VC-DomLEM algorithm. Rules are induced sequentially.
+	 *
+	 * @param parameters parameters of VC-DomLEM algorithm
+	 * @throws NullPointerException if given parameters are {@code null}
+	 */
+	public VCDomLEMWrapper(VCDomLEMParameters parameters) {
+		this(parameters, 1);
+	}
+	
+	/**
+	 * Constructs this wrapper with given parameters of VC-DomLEM algorithm and given parallelism.
+	 * If parallelism is greater than one, rule conditions for different unions are induced by tasks of a {@link ForkJoinPool},
+	 * started from the union with the largest considered approximation, to balance the load of threads.
+	 *
+	 * @param parameters parameters of VC-DomLEM algorithm
+	 * @param parallelism number of threads used to approximate unions and to induce rule conditions for different unions
+	 * 
+	 * @throws NullPointerException if given parameters are {@code null}
+	 * @throws InvalidValueException if given parallelism is lower than one
+	 */
+	public VCDomLEMWrapper(VCDomLEMParameters parameters, int parallelism) {
+		this.parameters = notNull(parameters, "Parameters of VC-DomLEM algorithm are null.");
+		if (parallelism < 1) {
+			throw new InvalidValueException("Parallelism of rule induction should be at least one.");
+		}
+		this.parallelism = parallelism;
+	}
+	
+	/**
+	 * Gets parameters of VC-DomLEM algorithm.
+	 *
+	 * @return parameters of VC-DomLEM algorithm
+	 */
+	public VCDomLEMParameters getParameters() {
+		return this.parameters;
+	}
+	
+	/**
+	 * Gets number of threads used to approximate unions and to induce rule conditions for different unions.
+	 *
+	 * @return number of threads used to approximate unions and to induce rule conditions for different unions
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+	
+	/**
+	 * Gets parameters of VC-DomLEM algorithm used to induce rules satisfying given consistency threshold.
+	 * If the stopping condition checker from parameters of this wrapper is the default one (see {@link VCDomLEMParameters#DEFAULT_STOPPING_CONDITION_CHECKER}),
+	 * it is replaced by an {@link EvaluationAndCoverageStoppingConditionChecker} employing {@link EpsilonConsistencyMeasure} with given threshold.
+	 * If the rule conditions pruner from parameters of this wrapper is an {@link AttributeOrderRuleConditionsPruner} using the default stopping condition checker,
+	 * it is replaced by such a pruner using the new checker. Any other pruner is kept, as a pruner using a stricter checker yields rules that still satisfy given threshold.
+	 * A custom stopping condition checker is kept as well, so it is responsible for consistency of induced rules.
+	 *
+	 * @param consistencyThreshold threshold on {@link EpsilonConsistencyMeasure} that should be satisfied by induced rules
+	 * @return parameters of VC-DomLEM algorithm used to induce rules satisfying given consistency threshold
+	 */
+	public VCDomLEMParameters getParameters(double consistencyThreshold) {
+		if (this.parameters.getRuleInductionStoppingConditionChecker() != VCDomLEMParameters.DEFAULT_STOPPING_CONDITION_CHECKER ||
+				consistencyThreshold == VCDomLEMParameters.DEFAULT_CONSISTENCY_TRESHOLD) {
+			return this.parameters;
+		}
+		
+		RuleInductionStoppingConditionChecker stoppingConditionChecker = new EvaluationAndCoverageStoppingConditionChecker(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold);
+		RuleConditionsPruner ruleConditionsPruner = this.parameters.getRuleConditionsPruner();
+		if (ruleConditionsPruner.getClass() == AttributeOrderRuleConditionsPruner.class &&
+				((AttributeOrderRuleConditionsPruner)ruleConditionsPruner).getStoppingConditionChecker() == VCDomLEMParameters.DEFAULT_STOPPING_CONDITION_CHECKER) {
+			ruleConditionsPruner = new AttributeOrderRuleConditionsPruner(stoppingConditionChecker);
+		}
+		
+		return this.parameters.toBuilder().ruleInductionStoppingConditionChecker(stoppingConditionChecker).ruleConditionsPruner(ruleConditionsPruner).build();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * Unions are approximated using the first consistency threshold from parameters of this wrapper (see {@link VCDomLEMParameters#getConsistencyThresholds()}),
+	 * or using {@link VCDomLEMParameters#DEFAULT_CONSISTENCY_TRESHOLD} if there is no such a threshold.
+	 *
+	 * @param informationTable {@inheritDoc}
+	 * @return {@inheritDoc}
+	 *
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	@Override
+	public RuleSetWithComputableCharacteristics induceRules(InformationTable informationTable) {
+		List<Double> consistencyThresholds = this.parameters.getConsistencyThresholds();
+		return this.induceRules(informationTable, consistencyThresholds.isEmpty() ? VCDomLEMParameters.DEFAULT_CONSISTENCY_TRESHOLD : consistencyThresholds.get(0));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * Given consistency threshold concerns both approximations of unions and induced rules (see {@link #getParameters(double)}),
+	 * so each object from the lower approximation of a union (in case of certain rules) is covered by a rule induced for this union or for a union included in it
+	 * (except objects that cannot be covered, which may happen in case of missing values).
+	 *
+	 * @param informationTable {@inheritDoc}
+	 * @param consistencyThreshold {@inheritDoc}
+	 * @return {@inheritDoc}
+	 *
+	 * @throws NullPointerException if given information table is {@code null}
+	 */
+	@Override
+	public RuleSetWithComputableCharacteristics induceRules(InformationTable informationTable, double consistencyThreshold) {
+		notNull(informationTable, "Information table for rule induction is null.");
+		InformationTableWithDecisionDistributions informationTableWithDecisionDistributions = informationTable instanceof InformationTableWithDecisionDistributions ?
+				(InformationTableWithDecisionDistributions)informationTable : new InformationTableWithDecisionDistributions(informationTable, true);
+		
+		Unions unions = new UnionsWithSingleLimitingDecision(informationTableWithDecisionDistributions,
+				new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold));
+		unions.calculateApproximations(this.parallelism);
+		
+		VCDomLEMParameters parameters = this.getParameters(consistencyThreshold);
+		VCDomLEMWrapper inducer = parameters == this.parameters ? this : new VCDomLEMWrapper(parameters, this.parallelism); //wrapper inducing rules satisfying given threshold
+		ApproximatedSetRuleDecisionsProvider ruleDecisionsProvider = new UnionWithSingleLimitingDecisionRuleDecisionsProvider();
+		List<Rule> rules = new ObjectArrayList<Rule>();
+		List<RuleCoverageInformation> ruleCoverageInformationList = new ObjectArrayList<RuleCoverageInformation>();
+		
+		for (Union.UnionType unionType : Union.UnionType.values()) {
+			for (RuleConditionsWithApproximatedSet ruleConditionsWithApproximatedSet : inducer.induceRuleConditions(new UnionProvider(unionType, unions), ruleDecisionsProvider)) {
+				RuleConditions ruleConditions = ruleConditionsWithApproximatedSet.getRuleConditions();
+				ApproximatedSet approximatedSet = ruleConditionsWithApproximatedSet.getApproximatedSet();
+				rules.add(new Rule(parameters.getRuleType(), ruleDecisionsProvider.getRuleSemantics(approximatedSet), ruleConditions,
+						ruleDecisionsProvider.getRuleDecisions(approximatedSet)));
+				ruleCoverageInformationList.add(ruleConditions.getRuleCoverageInformation());
+			}
+		}
+		
+		return new RuleSetWithComputableCharacteristics(rules.toArray(new Rule[0]), ruleCoverageInformationList.toArray(new RuleCoverageInformation[0]), true);
+	}
+	
+	/**
+	 * Induces minimal rule conditions for all approximated sets offered by given provider, considered in the order of their indices.
+	 * Rule conditions for particular approximated sets are induced in parallel, if parallelism of this wrapper is greater than one,
+	 * but minimality of induced rule conditions is always checked in the order of indices of approximated sets.
+	 *
+	 * @param approximatedSetProvider provider of approximated sets for which rule conditions are induced
+	 * @param ruleDecisionsProvider provider of semantics of rules induced for approximated sets
+	 * @return list of minimal rule conditions, together with approximated sets for which they have been induced
+	 *
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	protected List<RuleConditionsWithApproximatedSet> induceRuleConditions(ApproximatedSetProvider approximatedSetProvider, ApproximatedSetRuleDecisionsProvider ruleDecisionsProvider) {
+		notNull(approximatedSetProvider, "Approximated set provider is null.");
+		notNull(ruleDecisionsProvider, "Rule decisions provider is null.");
+		
+		List<RuleConditionsWithApproximatedSet> minimalRuleConditionsWithApproximatedSets = new ObjectArrayList<RuleConditionsWithApproximatedSet>();
+		RuleConditionsWithApproximatedSet ruleConditionsWithApproximatedSet;
+		ApproximatedSet[] approximatedSets = new ApproximatedSet[approximatedSetProvider.getCount()];
+		
+		for (int i = 0; i < approximatedSets.length; i++) {
+			approximatedSets[i] = approximatedSetProvider.getApproximatedSet(i);
+		}
+		List<List<RuleConditions>> approximatedSetsRuleConditions = this.induceRuleConditions(approximatedSets, ruleDecisionsProvider);
+		
+		for (int i = 0; i < approximatedSets.length; i++) {
+			ApproximatedSet approximatedSet = approximatedSets[i];
+			for (RuleConditions ruleConditions : approximatedSetsRuleConditions.get(i)) {
+				ruleConditionsWithApproximatedSet = new RuleConditionsWithApproximatedSet(ruleConditions, approximatedSet);
+				if (this.parameters.getRuleMinimalityChecker().check(minimalRuleConditionsWithApproximatedSets, ruleConditionsWithApproximatedSet)) {
+					minimalRuleConditionsWithApproximatedSets.add(ruleConditionsWithApproximatedSet);
+				}
+			}
+		}
+		
+		return minimalRuleConditionsWithApproximatedSets;
+	}
+	
+	/**
+	 * Induces rule conditions for each of given approximated sets (see {@link #induceRuleConditions(ApproximatedSet, ApproximatedSetRuleDecisionsProvider)}).
+	 * If parallelism of this wrapper is greater than one, approximated sets are distributed among tasks of a {@link ForkJoinPool},
+	 * in the order from the largest to the smallest considered approximation. Approximations of given sets should be calculated before calling this method.
+	 * 
+	 * @param approximatedSets approximated sets for which rule conditions are induced
+	 * @param ruleDecisionsProvider provider of semantics of rules induced for approximated sets
+	 * @return list whose i-th element is the list of rule conditions induced for the i-th approximated set
+	 */
+	List<List<RuleConditions>> induceRuleConditions(ApproximatedSet[] approximatedSets, ApproximatedSetRuleDecisionsProvider ruleDecisionsProvider) {
+		List<List<RuleConditions>> approximatedSetsRuleConditions = new ObjectArrayList<List<RuleConditions>>(Collections.nCopies(approximatedSets.length, (List<RuleConditions>)null));
+		
+		if (this.parallelism == 1 || approximatedSets.length <= 1) {
+			for (int i = 0; i < approximatedSets.length; i++) {
+				approximatedSetsRuleConditions.set(i, this.induceRuleConditions(approximatedSets[i], ruleDecisionsProvider));
+			}
+		} else {
+			//order approximated sets from the largest to the smallest considered approximation (stable sort, so ties are resolved by indices)
+			IntArrayList approximatedSetIndices = new IntArrayList(approximatedSets.length);
+			int[] approximationSizes = new int[approximatedSets.length];
+			for (int i = 0; i < approximatedSets.length; i++) {
+				approximatedSetIndices.add(i);
+				approximationSizes[i] = this.parameters.getRuleType() == RuleType.POSSIBLE ?
+						approximatedSets[i].getUpperApproximation().size() : approximatedSets[i].getLowerApproximation().size();
+			}
+			approximatedSetIndices.sort((i, j) -> Integer.compare(approximationSizes[j], approximationSizes[i]));
+			
+			ForkJoinPool pool = new ForkJoinPool(Math.min(this.parallelism, approximatedSets.length));
+			try {
+				pool.invoke(new RuleConditionsInductionTask(this, approximatedSets, ruleDecisionsProvider, approximatedSetIndices.toIntArray(),
+						approximatedSetsRuleConditions, 0, approximatedSets.length));
+			} finally {
+				pool.shutdown();
+			}
+		}
+		
+		return approximatedSetsRuleConditions;
+	}
+	
+	/**
+	 * Induces rule conditions covering objects from the lower approximation (in case of certain rules) or from the upper approximation (in case of possible rules)
+	 * of given approximated set. Rule conditions are built one by one, each time starting from the objects of the approximation that are not covered yet,
+	 * and pruned. If rule conditions cannot be built starting from all such objects (which may happen in case of missing values),
+	 * they are built starting from the first such object only, and if this also fails, this object is skipped as one that cannot be covered.
+	 * Finally, redundant rule conditions are removed.
+	 * 
+	 * @param approximatedSet approximated set for which rule conditions are induced
+	 * @param ruleDecisionsProvider provider of semantics of rules induced for given approximated set
+	 * @return list of non-redundant rule conditions covering objects from considered approximation of given approximated set
+	 * 
+	 * @throws NullPointerException if any of the parameters is {@code null}
+	 */
+	protected List<RuleConditions> induceRuleConditions(ApproximatedSet approximatedSet, ApproximatedSetRuleDecisionsProvider ruleDecisionsProvider) {
+		notNull(approximatedSet, "Approximated set is null.");
+		notNull(ruleDecisionsProvider, "Rule decisions provider is null.");
+		
+		IntSet indicesOfApproximationObjects = this.parameters.getRuleType() == RuleType.POSSIBLE ? approximatedSet.getUpperApproximation() : approximatedSet.getLowerApproximation();
+		IntSet indicesOfObjectsThatCanBeCovered = this.getIndicesOfObjectsThatCanBeCovered(approximatedSet);
+		IntSet indicesOfCoveredApproximationObjects = new IntOpenHashSet(indicesOfApproximationObjects.size());
+		IntSortedSet indicesOfUncoveredObjects = new IntLinkedOpenHashSet(indicesOfApproximationObjects); //B
+		List<RuleConditions> approximatedSetRuleConditions = new ObjectArrayList<RuleConditions>();
+		RuleConditions ruleConditions;
+		int firstUncoveredObjectIndex;
+		
+		while (!indicesOfUncoveredObjects.isEmpty()) {
+			try {
+				ruleConditions = this.buildRuleConditions(new IntArrayList(indicesOfUncoveredObjects), approximatedSet, ruleDecisionsProvider,
+						indicesOfApproximationObjects, indicesOfObjectsThatCanBeCovered);
+			} catch (ElementaryConditionNotFoundException exception) {
+				firstUncoveredObjectIndex = indicesOfUncoveredObjects.firstInt();
+				try {
+					ruleConditions = this.buildRuleConditions(IntArrayList.wrap(new int[] {firstUncoveredObjectIndex}), approximatedSet, ruleDecisionsProvider,
+							indicesOfApproximationObjects, indicesOfObjectsThatCanBeCovered);
+				} catch (ElementaryConditionNotFoundException exception2) {
+					indicesOfUncoveredObjects.remove(firstUncoveredObjectIndex); //object cannot be covered
+					continue;
+				}
+			}
+			
+			approximatedSetRuleConditions.add(ruleConditions);
+			for (int coveredObjectIndex : ruleConditions.getIndicesOfCoveredObjects()) { //use objects covered by (pruned) rule conditions, without checking coverage again
+				if (indicesOfUncoveredObjects.remove(coveredObjectIndex)) {
+					indicesOfCoveredApproximationObjects.add(coveredObjectIndex);
+				}
+			}
+		}
+		
+		return this.parameters.getRuleConditionsSetPruner().prune(approximatedSetRuleConditions, indicesOfCoveredApproximationObjects);
+	}
+	
+	/**
+	 * Builds and prunes rule conditions for given approximated set.
+	 * 
+	 * @param indicesOfConsideredObjects indices of objects considered when generating elementary conditions; this list is modified during construction
+	 * @param approximatedSet approximated set for which rule conditions are built
+	 * @param ruleDecisionsProvider provider of semantics of rules built for given approximated set
+	 * @param indicesOfApproximationObjects indices of objects from considered approximation of given approximated set
+	 * @param indicesOfObjectsThatCanBeCovered indices of objects that can be covered by built rule conditions
+	 * @return built and pruned rule conditions
+	 * 
+	 * @throws ElementaryConditionNotFoundException if rule conditions cannot be built
+	 */
+	RuleConditions buildRuleConditions(IntList indicesOfConsideredObjects, ApproximatedSet approximatedSet, ApproximatedSetRuleDecisionsProvider ruleDecisionsProvider,
+			IntSet indicesOfApproximationObjects, IntSet indicesOfObjectsThatCanBeCovered) {
+		RuleConditions ruleConditions = new RuleConditionsBuilder(indicesOfConsideredObjects, approximatedSet.getInformationTable(),
+				approximatedSet.getObjects(), indicesOfApproximationObjects, indicesOfObjectsThatCanBeCovered, approximatedSet.getNeutralObjects(),
+				this.parameters.getRuleType(), ruleDecisionsProvider.getRuleSemantics(approximatedSet),
+				this.parameters.getConditionGenerator(), this.parameters.getRuleInductionStoppingConditionChecker(), this.parameters.getConditionSeparator()).build();
+		return this.parameters.getRuleConditionsPruner().prune(ruleConditions);
+	}
+	
+	/**
+	 * Gets indices of objects that can be covered by rule conditions induced for given approximated set,
+	 * according to allowed negative objects type (see {@link VCDomLEMParameters#getAllowedNegativeObjectsType()}).
+	 *
+	 * @param approximatedSet approximated set for which rule conditions are induced
+	 * @return indices of objects that can be covered by rule conditions induced for given approximated set
+	 */
+	IntSet getIndicesOfObjectsThatCanBeCovered(ApproximatedSet approximatedSet) {
+		IntSet indicesOfObjectsThatCanBeCovered;
+		
+		switch (this.parameters.getAllowedNegativeObjectsType()) {
+		case POSITIVE_REGION:
+			indicesOfObjectsThatCanBeCovered = approximatedSet.getPositiveRegion();
+			break;
+		case POSITIVE_AND_BOUNDARY_REGIONS:
+			indicesOfObjectsThatCanBeCovered = new IntOpenHashSet(approximatedSet.getPositiveRegion());
+			indicesOfObjectsThatCanBeCovered.addAll(approximatedSet.getBoundaryRegion());
+			break;
+		case APPROXIMATION:
+			indicesOfObjectsThatCanBeCovered = approximatedSet.getUpperApproximation();
+			break;
+		default: //ANY_REGION
+			int objectsCount = approximatedSet.getInformationTable().getNumberOfObjects();
+			indicesOfObjectsThatCanBeCovered = new IntOpenHashSet(objectsCount);
+			for (int i = 0; i < objectsCount; i++) {
+				indicesOfObjectsThatCanBeCovered.add(i);
+			}
+		}
+		
+		return indicesOfObjectsThatCanBeCovered;
+	}
+
+	/**
+	 * Task inducing rule conditions for approximated sets from a given range of an ordered array of indices of these sets.
+	 */
+	@SuppressWarnings("serial")
+	protected static class RuleConditionsInductionTask extends RecursiveAction {
+		
+		/**
+		 * Wrapper inducing rule conditions.
+		 */
+		VCDomLEMWrapper wrapper;
+		/**
+		 * Approximated sets for which rule conditions are induced.
+		 */
+		ApproximatedSet[] approximatedSets;
+		/**
+		 * Provider of semantics of rules induced for approximated sets.
+		 */
+		ApproximatedSetRuleDecisionsProvider ruleDecisionsProvider;
+		/**
+		 * Indices of approximated sets, in the order of their processing.
+		 */
+		int[] approximatedSetIndices;
+		/**
+		 * List whose i-th element is set to the list of rule conditions induced for the i-th approximated set.
+		 */
+		List<List<RuleConditions>> approximatedSetsRuleConditions;
+		/**
+		 * Position of the index of the first approximated set processed by this task.
+		 */
+		int fromPosition;
+		/**
+		 * Position of the index of the last approximated set processed by this task, increased by one.
+		 */
+		int toPosition;
+		
+		/**
+		 * Constructs this task.
+		 * 
+		 * @param wrapper wrapper inducing rule conditions
+		 * @param approximatedSets approximated sets for which rule conditions are induced
+		 * @param ruleDecisionsProvider provider of semantics of rules induced for approximated sets
+		 * @param approximatedSetIndices indices of approximated sets, in the order of their processing
+		 * @param approximatedSetsRuleConditions list whose i-th element is set to the list of rule conditions induced for the i-th approximated set
+		 * @param fromPosition position of the index of the first approximated set processed by this task
+		 * @param toPosition position of the index of the last approximated set processed by this task, increased by one
+		 */
+		RuleConditionsInductionTask(VCDomLEMWrapper wrapper, ApproximatedSet[] approximatedSets, ApproximatedSetRuleDecisionsProvider ruleDecisionsProvider,
+				int[] approximatedSetIndices, List<List<RuleConditions>> approximatedSetsRuleConditions, int fromPosition, int toPosition) {
+			this.wrapper = wrapper;
+			this.approximatedSets = approximatedSets;
+			this.ruleDecisionsProvider = ruleDecisionsProvider;
+			this.approximatedSetIndices = approximatedSetIndices;
+			this.approximatedSetsRuleConditions = approximatedSetsRuleConditions;
+			this.fromPosition = fromPosition;
+			this.toPosition = toPosition;
+		}
+		
+		/**
+		 * Splits the range of positions into halves until it contains one position, then induces rule conditions for the approximated set at this position.
+		 * The first half, containing larger approximated sets, is processed by the current thread, and the second half can be stolen by other threads.
+		 */
+		@Override
+		protected void compute() {
+			if (this.toPosition - this.fromPosition <= 1) {
+				for (int position = this.fromPosition; position < this.toPosition; position++) {
+					int i = this.approximatedSetIndices[position];
+					this.approximatedSetsRuleConditions.set(i, this.wrapper.induceRuleConditions(this.approximatedSets[i], this.ruleDecisionsProvider));
+				}
+			} else {
+				int middlePosition = (this.fromPosition + this.toPosition) >>> 1;
+				invokeAll(new RuleConditionsInductionTask(this.wrapper, this.approximatedSets, this.ruleDecisionsProvider, this.approximatedSetIndices,
+								this.approximatedSetsRuleConditions, this.fromPosition, middlePosition),
+						new RuleConditionsInductionTask(this.wrapper, this.approximatedSets, this.ruleDecisionsProvider, this.approximatedSetIndices,
+								this.approximatedSetsRuleConditions, middlePosition, this.toPosition));
+			}
+		}
+		
+	}
+
+}
@@ -0,0 +1,108 @@
+package org.ordinalclassification.types;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.Decision;
+import org.rulelearn.data.SimpleDecision;
+import org.rulelearn.types.IntegerFieldFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisResultTest {
+    private static LearningExampleType[] types = LearningExampleType.values();
+
+    private List<ResultRow> createRows(int count) {
+        List<ResultRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new ResultRow(i * 7 - 3, types[i % types.length], String.format("%d=>%d", i % 3, i % 3), "1=>unacc"));
+        }
+        return rows;
+    }
+
+    private String expectedCsv(List<ResultRow> rows) {
+        StringBuilder expected = new StringBuilder("index;type;minority_decision;majority_decision").append(System.lineSeparator());
+        for (ResultRow row: rows) {
+            expected.append(row.getIndex()).append(';').append(row.getType()).append(';')
+                    .append(row.getMinorityDecision()).append(';').append(row.getMajorityDecision())
+                    .append(System.lineSeparator());
+        }
+        return expected.toString();
+    }
+
+    @Test
+    void csvSinkWritesRows() throws IOException {
+        List<ResultRow> rows = createRows(20000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ResultSink sink = new CsvResultSink(Channels.newChannel(output))) {
+            for (ResultRow row: rows) {
+                row.writeTo(sink);
+            }
+        }
+        assertEquals(expectedCsv(rows), new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void binarySinkRoundTrip() throws IOException {
+        List<ResultRow> rows = createRows(10000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ResultSink sink = new BinaryResultSink(Channels.newChannel(output), 1000)) {
+            for (ResultRow row: rows) {
+                row.writeTo(sink);
+            }
+        }
+        List<ResultRow> read = BinaryResultReader.readAll(new ByteArrayInputStream(output.toByteArray()));
+        assertEquals(rows.size(), read.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(rows.get(i).getIndex(), read.get(i).getIndex());
+            assertEquals(rows.get(i).getType(), read.get(i).getType());
+            assertEquals(rows.get(i).getMinorityDecision(), read.get(i).getMinorityDecision());
+            assertEquals(rows.get(i).getMajorityDecision(), read.get(i).getMajorityDecision());
+        }
+        assertTrue(output.size() < expectedCsv(rows).length());
+    }
+
+    @Test
+    void saveCsvMatchesStreamingSink() throws IOException {
+        List<ResultRow> rows = createRows(50);
+        File file = File.createTempFile("analysis-result", ".csv");
+        file.deleteOnExit();
+        AnalysisResult result = new AnalysisResult();
+        result.getPerExampleResults().addAll(rows);
+        result.saveCsv(file.getPath());
+        assertEquals(expectedCsv(rows), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamingResultWritesRowsToSinkOnly() throws IOException {
+        Decision minorityDecision = new SimpleDecision(IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.GAIN), 0);
+        Decision majorityDecision = new SimpleDecision(IntegerFieldFactory.getInstance().create(1, AttributePreferenceType.GAIN), 0);
+        HashMap<Integer, LearningExampleType> assignment = new HashMap<>();
+        List<ResultRow> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            assignment.put(i, types[i % types.length]);
+            rows.add(new ResultRow(i, types[i % types.length], minorityDecision.toString(), majorityDecision.toString()));
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AnalysisResult result;
+        try (ResultSink sink = new CsvResultSink(Channels.newChannel(output))) {
+            result = new AnalysisResult(sink);
+            result.addResults(assignment, minorityDecision, majorityDecision);
+        }
+        assertTrue(result.isStreaming());
+        assertEquals(10, result.getRowsCount());
+        assertEquals(expectedCsv(rows), new String(output.toByteArray(), StandardCharsets.UTF_8));
+        assertThrows(IllegalStateException.class, result::getPerExampleResults);
+        assertThrows(IllegalStateException.class, () -> result.saveCsv("unused.csv"));
+    }
+}
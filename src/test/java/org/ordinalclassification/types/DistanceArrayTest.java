@@ -6,13 +6,17 @@ import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
 import org.rulelearn.measures.HVDM;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class DistanceArrayTest {
     private static InformationTableWithDecisionDistributions data;
+    private static HVDM measure;
     private static DistanceArray distances;
     private static double normalization;
 
@@ -25,7 +29,7 @@ class DistanceArrayTest {
         } catch (IOException e) {
             e.printStackTrace();
         }
-        HVDM measure = new HVDM(data);
+        measure = new HVDM(data);
         distances = new DistanceArray(measure);
         normalization = 4 * 3.0277;
     }
@@ -55,4 +59,57 @@ class DistanceArrayTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStoreFloatDistances() {
+        DistanceArray floatDistances = new DistanceArray(measure, DistancePrecision.FLOAT);
+        assertEquals(DistancePrecision.FLOAT, floatDistances.getPrecision());
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                assertEquals((float) distances.getDistance(i, j), floatDistances.getDistance(i, j));
+            }
+        }
+    }
+
+    @Test
+    void shouldStoreDistancesOffHeap() {
+        int examplesCount = data.getNumberOfObjects();
+        DistanceArray offHeapDistances = new DistanceArray(measure, DistanceStore.offHeap(examplesCount, DistancePrecision.DOUBLE));
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                assertEquals(distances.getDistance(i, j), offHeapDistances.getDistance(i, j));
+            }
+        }
+    }
+
+    @Test
+    void shouldStoreDistancesInMappedFile() throws IOException {
+        int examplesCount = data.getNumberOfObjects();
+        Path file = Files.createTempFile("distances", ".bin");
+        file.toFile().deleteOnExit();
+        DistanceArray mappedDistances = new DistanceArray(measure, DistanceStore.memoryMapped(examplesCount, DistancePrecision.FLOAT, file));
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                assertEquals((float) distances.getDistance(i, j), mappedDistances.getDistance(i, j));
+            }
+        }
+        assertEquals(DistanceStore.index(examplesCount, 0) * Float.BYTES, new File(file.toString()).length());
+    }
+
+    @Test
+    void shouldRejectStoreOfWrongSize() {
+        assertThrows(IllegalArgumentException.class, () -> new DistanceArray(measure, DistanceStore.onHeap(3, DistancePrecision.DOUBLE)));
+    }
+
+    @Test
+    void shouldCalculateSameDistancesInParallel() {
+        int examplesCount = data.getNumberOfObjects();
+        DistanceArray sequentialDistances = new DistanceArray(measure, DistanceStore.onHeap(examplesCount, DistancePrecision.DOUBLE), new DistanceMatrixCalculator(1));
+        DistanceArray parallelDistances = new DistanceArray(measure, DistanceStore.onHeap(examplesCount, DistancePrecision.DOUBLE), new DistanceMatrixCalculator(4, 3));
+        for (int i = 0; i < examplesCount; i++) {
+            for (int j = 0; j < examplesCount; j++) {
+                assertEquals(Double.doubleToLongBits(sequentialDistances.getDistance(i, j)), Double.doubleToLongBits(parallelDistances.getDistance(i, j)));
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.ordinalclassification.types;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.HVDM;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixNeighbourSearchTest {
+    private static DistanceArray distances;
+    private static MatrixNeighbourSearch search;
+    private static int examplesCount;
+
+    @BeforeAll
+    static void setUp() {
+        String jsonPath = "data/test/json/car.json";
+        String csvPath = "data/test/csv/car.csv";
+        InformationTableWithDecisionDistributions data = null;
+        try {
+            data = new InformationTableWithDecisionDistributions(InformationTableBuilder.safelyBuildFromCSVFile(jsonPath, csvPath, false));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        distances = new DistanceArray(new HVDM(data));
+        search = new MatrixNeighbourSearch(distances);
+        examplesCount = data.getNumberOfObjects();
+    }
+
+    private static int[] sortedNeighbours(int exampleIndex) {
+        return IntStream.range(0, examplesCount)
+                .filter(i -> i != exampleIndex)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> distances.getDistance(exampleIndex, i)).thenComparingInt(i -> i))
+                .mapToInt(i -> i)
+                .toArray();
+    }
+
+    @Test
+    void shouldReturnKNearestInDistanceOrder() {
+        for (int i = 0; i < examplesCount; i++) {
+            int[] expected = Arrays.copyOf(sortedNeighbours(i), 5);
+            assertArrayEquals(expected, search.getKNearestIndices(i, 5));
+        }
+    }
+
+    @Test
+    void shouldReturnDistanceToNthNeighbour() {
+        for (int i = 0; i < examplesCount; i++) {
+            int[] sorted = sortedNeighbours(i);
+            assertEquals(distances.getDistance(i, sorted[4]), search.getDistanceToNthNeighbour(i, 5));
+        }
+    }
+
+    @Test
+    void shouldReturnNeighboursWithinRadius() {
+        double radius = distances.getDistance(0, sortedNeighbours(0)[examplesCount / 2]);
+        for (int i = 0; i < examplesCount; i++) {
+            final int exampleIndex = i;
+            int[] expected = Arrays.stream(sortedNeighbours(i)).filter(j -> distances.getDistance(exampleIndex, j) < radius).toArray();
+            assertArrayEquals(expected, search.getIndicesWithinRadius(i, radius));
+        }
+    }
+
+    @Test
+    void shouldReturnAllNeighboursWhenKExceedsTheirNumber() {
+        assertEquals(examplesCount - 1, search.getKNearestIndices(0, examplesCount + 1).length);
+        assertThrows(IllegalArgumentException.class, () -> search.getDistanceToNthNeighbour(0, examplesCount));
+    }
+
+    @Test
+    void shouldSearchOnlyCandidateIndices() {
+        int[] candidates = IntStream.range(0, examplesCount).filter(i -> i % 3 != 0).toArray();
+        NeighbourSearch restricted = search.restrictTo(candidates);
+        for (int i = 0; i < examplesCount; i++) {
+            int[] expected = Arrays.stream(sortedNeighbours(i)).filter(j -> j % 3 != 0).limit(5).toArray();
+            assertArrayEquals(expected, restricted.getKNearestIndices(i, 5));
+            assertEquals(distances.getDistance(i, expected[4]), restricted.getDistanceToNthNeighbour(i, 5));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.ordinalclassification.types;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.HVDM;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VantagePointTreeTest {
+
+    private static HVDM loadMeasure(String setName) {
+        String jsonPath = String.format("data/test/json/%s.json", setName);
+        String csvPath = String.format("data/test/csv/%s.csv", setName);
+        InformationTableWithDecisionDistributions data = null;
+        try {
+            data = new InformationTableWithDecisionDistributions(InformationTableBuilder.safelyBuildFromCSVFile(jsonPath, csvPath, false));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return new HVDM(data);
+    }
+
+    private static void assertSameAsMatrix(String setName, int leafSize) {
+        HVDM measure = loadMeasure(setName);
+        MatrixNeighbourSearch matrix = new MatrixNeighbourSearch(new DistanceArray(measure));
+        VantagePointTree tree = new VantagePointTree(measure, leafSize);
+        int examplesCount = measure.getData().getNumberOfObjects();
+        for (int i = 0; i < examplesCount; i++) {
+            assertArrayEquals(matrix.getKNearestIndices(i, 5), tree.getKNearestIndices(i, 5));
+            double radius = matrix.getDistanceToNthNeighbour(i, 5);
+            assertEquals(radius, tree.getDistanceToNthNeighbour(i, 5));
+            assertArrayEquals(matrix.getIndicesWithinRadius(i, radius * 1.5), tree.getIndicesWithinRadius(i, radius * 1.5));
+        }
+    }
+
+    @Test
+    void shouldFindSameNeighboursAsMatrixForNominalData() {
+        assertSameAsMatrix("car", 1);
+        assertSameAsMatrix("car-B25-O25-R25-S25", 4);
+    }
+
+    @Test
+    void shouldFindSameNeighboursAsMatrixForNumericData() {
+        assertSameAsMatrix("haberman-B25-O25-R25-S25", 1);
+        assertSameAsMatrix("distance-test", 2);
+    }
+
+    @Test
+    void shouldFindSameNeighboursAsMatrixInRestrictedDomain() {
+        HVDM measure = loadMeasure("haberman-B25-O25-R25-S25");
+        int examplesCount = measure.getData().getNumberOfObjects();
+        int[] candidates = IntStream.range(0, examplesCount).filter(i -> i % 2 == 0).toArray();
+        NeighbourSearch matrix = new MatrixNeighbourSearch(new DistanceArray(measure)).restrictTo(candidates);
+        NeighbourSearch tree = new VantagePointTree(measure, 2).restrictTo(candidates);
+        for (int i = 0; i < examplesCount; i++) {
+            assertArrayEquals(matrix.getKNearestIndices(i, 5), tree.getKNearestIndices(i, 5));
+            double radius = matrix.getDistanceToNthNeighbour(i, 5);
+            assertArrayEquals(matrix.getIndicesWithinRadius(i, radius), tree.getIndicesWithinRadius(i, radius));
+        }
+    }
+}
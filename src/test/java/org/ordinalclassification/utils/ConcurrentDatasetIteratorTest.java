@@ -0,0 +1,147 @@
+package org.ordinalclassification.utils;
+
+import org.junit.jupiter.api.Test;
+import org.ordinalclassification.types.DatasetReport;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentDatasetIteratorTest {
+    private static String jsonPath = "data/test/json";
+    private static String csvPath = "data/test/csv";
+
+    @Test
+    void shouldProcessAllDatasetsDespiteFailure() {
+        Set<String> processed = ConcurrentHashMap.newKeySet();
+        ConcurrentDatasetIterator iterator = new ConcurrentDatasetIterator(jsonPath, csvPath, "results", 3);
+        List<DatasetReport> reports = iterator.iterate(() -> paths -> {
+            String datasetName = JsonCsvDatasetIterator.getDatasetName(paths);
+            if (datasetName.equals("car-O100")) {
+                throw new IllegalStateException("Broken dataset");
+            }
+            processed.add(datasetName);
+        });
+        int datasetsCount = new JsonCsvDatasetIterator(jsonPath, csvPath, "results").getDatasetsPaths().size();
+        assertEquals(datasetsCount, reports.size());
+        assertEquals(datasetsCount - 1, processed.size());
+        for (DatasetReport report: reports) {
+            assertEquals(!report.getDatasetName().equals("car-O100"), report.isSuccessful());
+        }
+    }
+
+    @Test
+    void shouldProcessAllDatasetsDespiteError() {
+        Set<String> processed = ConcurrentHashMap.newKeySet();
+        ConcurrentDatasetIterator iterator = new ConcurrentDatasetIterator(jsonPath, csvPath, "results", 3);
+        List<DatasetReport> reports = iterator.iterate(() -> paths -> {
+            String datasetName = JsonCsvDatasetIterator.getDatasetName(paths);
+            if (datasetName.equals("car-O100")) {
+                throw new OutOfMemoryError("Dataset too large");
+            }
+            if (datasetName.equals("car-S100")) {
+                throw new StackOverflowError();
+            }
+            processed.add(datasetName);
+        });
+        int datasetsCount = new JsonCsvDatasetIterator(jsonPath, csvPath, "results").getDatasetsPaths().size();
+        assertEquals(datasetsCount, reports.size());
+        assertEquals(datasetsCount - 2, processed.size());
+        for (DatasetReport report: reports) {
+            switch (report.getDatasetName()) {
+                case "car-O100":
+                    assertTrue(report.getFailure() instanceof OutOfMemoryError);
+                    break;
+                case "car-S100":
+                    assertTrue(report.getFailure() instanceof StackOverflowError);
+                    break;
+                default:
+                    assertTrue(report.isSuccessful());
+            }
+        }
+    }
+
+    @Test
+    void shouldNotExceedMemoryBudget() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        long megabyte = 1L << 20;
+        ConcurrentDatasetIterator iterator = new ConcurrentDatasetIterator(jsonPath, csvPath, "results", 4, 2 * megabyte, paths -> megabyte);
+        List<DatasetReport> reports = iterator.iterate(() -> paths -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        });
+        assertTrue(reports.stream().allMatch(DatasetReport::isSuccessful));
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    private static DatasetOperation analyzerSavingTo(String resultsPath) {
+        NeighbourhoodAnalyzer analyzer = new NeighbourhoodAnalyzer();
+        return new DatasetOperation() {
+            @Override
+            public void carryOut(String[] args) {
+                analyzer.carryOut(new String[]{args[0], args[1], resultsPath});
+            }
+
+            @Override
+            public void carryOutOrThrow(String[] args) throws IOException {
+                analyzer.carryOutOrThrow(new String[]{args[0], args[1], resultsPath});
+            }
+        };
+    }
+
+    @Test
+    void shouldReportFailureToSaveResults() throws IOException {
+        File blockingFile = File.createTempFile("results", ".tmp");
+        blockingFile.deleteOnExit();
+        Path resultsDirectory = Files.createTempDirectory("results");
+        String datasetJsonPath = "data/test/json/car.json";
+        String datasetCsvPath = "data/test/csv/car.csv";
+
+        ConcurrentDatasetIterator iterator = new ConcurrentDatasetIterator(datasetJsonPath, datasetCsvPath, "results", 1);
+        List<DatasetReport> reports = iterator.iterate(() -> analyzerSavingTo(new File(blockingFile, "car").getPath()));
+        assertEquals(1, reports.size());
+        assertFalse(reports.get(0).isSuccessful());
+        assertTrue(reports.get(0).getFailure() instanceof IOException);
+
+        reports = iterator.iterate(() -> analyzerSavingTo(resultsDirectory.resolve("car").toString()));
+        assertEquals(1, reports.size());
+        assertTrue(reports.get(0).isSuccessful());
+    }
+
+    @Test
+    void shouldBoundComputeThreadsByAvailableProcessors() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int workers = 3;
+        Set<Integer> parallelismLevels = ConcurrentHashMap.newKeySet();
+        ConcurrentDatasetIterator iterator = new ConcurrentDatasetIterator(jsonPath, csvPath, "results", workers);
+        List<DatasetReport> reports = iterator.iterate(() -> new DatasetOperation() {
+            private int parallelism = 0;
+
+            @Override
+            public void setParallelism(int parallelism) {
+                this.parallelism = parallelism;
+            }
+
+            @Override
+            public void carryOut(String[] args) {
+                parallelismLevels.add(parallelism);
+            }
+        });
+        assertTrue(reports.stream().allMatch(DatasetReport::isSuccessful));
+        assertEquals(Set.of(iterator.getParallelismPerDataset()), parallelismLevels);
+        assertTrue(workers * iterator.getParallelismPerDataset() <= Math.max(workers, cores));
+    }
+}
@@ -1,12 +1,28 @@
 package org.ordinalclassification.utils;
 
 import org.junit.jupiter.api.Test;
+import org.ordinalclassification.classifiers.KNNAnalyzer;
+import org.ordinalclassification.classifiers.KernelAnalyzer;
 import org.ordinalclassification.types.AnalysisResult;
+import org.ordinalclassification.types.DistanceArray;
 import org.ordinalclassification.types.LearningExampleType;
+import org.ordinalclassification.types.MatrixNeighbourSearch;
+import org.ordinalclassification.types.NeighbourSearch;
 import org.ordinalclassification.types.ResultRow;
+import org.rulelearn.approximations.Union;
+import org.rulelearn.approximations.UnionWithSingleLimitingDecision;
+import org.rulelearn.data.Decision;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.HVDM;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -198,4 +214,235 @@ class NeighbourhoodAnalyzerTest {
         assertEquals(expectedPercent, rarePercent);
         assertEquals(expectedPercent, outlierPercent);
     }
-}
\ No newline at end of file
+
+    private static class CountingNeighbourSearch implements NeighbourSearch {
+        private NeighbourSearch neighbours;
+        private int queriesCount = 0;
+        private List<int[]> restrictedDomains = new ArrayList<>();
+
+        CountingNeighbourSearch(NeighbourSearch neighbours) {
+            this.neighbours = neighbours;
+        }
+
+        @Override
+        public int[] getKNearestIndices(int exampleIndex, int k) {
+            queriesCount++;
+            return neighbours.getKNearestIndices(exampleIndex, k);
+        }
+
+        @Override
+        public double getDistanceToNthNeighbour(int exampleIndex, int n) {
+            queriesCount++;
+            return neighbours.getDistanceToNthNeighbour(exampleIndex, n);
+        }
+
+        @Override
+        public int[] getIndicesWithinRadius(int exampleIndex, double radius) {
+            queriesCount++;
+            return neighbours.getIndicesWithinRadius(exampleIndex, radius);
+        }
+
+        @Override
+        public double getDistance(int xIndex, int yIndex) {
+            queriesCount++;
+            return neighbours.getDistance(xIndex, yIndex);
+        }
+
+        @Override
+        public NeighbourSearch restrictTo(int[] candidateIndices) {
+            restrictedDomains.add(candidateIndices);
+            return neighbours.restrictTo(candidateIndices);
+        }
+    }
+
+    private static class CountingNeighbourhoodAnalyzer extends NeighbourhoodAnalyzer {
+        private List<CountingNeighbourSearch> createdSearches = new ArrayList<>();
+
+        CountingNeighbourhoodAnalyzer(String jsonPath, String csvPath) {
+            super(jsonPath, csvPath, "");
+        }
+
+        @Override
+        protected NeighbourSearch createNeighbourSearch() {
+            CountingNeighbourSearch neighbours = new CountingNeighbourSearch(super.createNeighbourSearch());
+            createdSearches.add(neighbours);
+            return neighbours;
+        }
+    }
+
+    private static List<String> toSortedStrings(AnalysisResult result) {
+        List<String> rows = new ArrayList<>();
+        for (ResultRow row: result.getPerExampleResults()) {
+            rows.add(String.join(";", row.getIndex(), row.getType(), row.getMinorityDecision(), row.getMajorityDecision()));
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+
+    private static int[] toArray(Union union) {
+        return union.getObjects().toIntArray();
+    }
+
+    // union vs union analysis in which every analyzer calculates its own distance matrix, as before sharing of neighbour search
+    private static AnalysisResult[] analyzeUnionsWithSeparateDistances(String jsonPath, String csvPath) throws IOException {
+        DataSubsetExtractor dataExtractor = new DataSubsetExtractor(new InformationTableWithDecisionDistributions(
+                InformationTableBuilder.safelyBuildFromCSVFile(jsonPath, csvPath, false)));
+        HVDM measure = new HVDM(dataExtractor.getData());
+        Union[] atLeastUnions = dataExtractor.getAtLeastUnions().clone();
+        Collections.reverse(Arrays.asList(atLeastUnions));
+        Union[] atMostUnions = dataExtractor.getAtMostUnions();
+        AnalysisResult kNearestResult = new AnalysisResult();
+        AnalysisResult kernelResult = new AnalysisResult();
+        for (int i = 0; i < Math.min(atLeastUnions.length, atMostUnions.length); i++) {
+            UnionWithSingleLimitingDecision majorityUnion = (UnionWithSingleLimitingDecision) atLeastUnions[i];
+            UnionWithSingleLimitingDecision minorityUnion = (UnionWithSingleLimitingDecision) atMostUnions[i];
+            if (toArray(majorityUnion).length <= toArray(minorityUnion).length) {
+                majorityUnion = (UnionWithSingleLimitingDecision) atMostUnions[i];
+                minorityUnion = (UnionWithSingleLimitingDecision) atLeastUnions[i];
+            }
+            Decision majorityDecision = majorityUnion.getLimitingDecision();
+            Decision minorityDecision = minorityUnion.getLimitingDecision();
+            KNNAnalyzer kNearestAnalyzer = new KNNAnalyzer(measure, toArray(majorityUnion), toArray(minorityUnion), 5, new KNearestLabeler(4, 2, 1));
+            kNearestAnalyzer.labelExamples();
+            kNearestResult.addResults(kNearestAnalyzer.getLabelsAssignment(), minorityDecision, majorityDecision);
+            KernelAnalyzer kernelAnalyzer = new KernelAnalyzer(measure, toArray(majorityUnion), toArray(minorityUnion), majorityDecision, minorityDecision,
+                    new KernelLabeler(0.7, 0.3, 0.1));
+            kernelAnalyzer.labelExamples();
+            kernelResult.addResults(kernelAnalyzer.getLabelsAssignment(), minorityDecision, majorityDecision);
+        }
+        return new AnalysisResult[]{kNearestResult, kernelResult};
+    }
+
+    @Test
+    void shouldReuseSingleNeighbourSearchInAllPasses() throws IOException {
+        for (String setName: new String[]{"car-B25-O25-R25-S25", "haberman-B25-O25-R25-S25"}) {
+            String jsonPath = String.format("data/test/json/%s.json", setName);
+            String csvPath = String.format("data/test/csv/%s.csv", setName);
+            CountingNeighbourhoodAnalyzer analyzer = new CountingNeighbourhoodAnalyzer(jsonPath, csvPath);
+            analyzer.runAnalysisSilent();
+            assertEquals(1, analyzer.createdSearches.size());
+            assertTrue(analyzer.createdSearches.get(0).queriesCount > 0);
+
+            HashMap<String, AnalysisResult> resultsByName = analyzer.getResultsByName();
+            AnalysisResult[] expectedResults = analyzeUnionsWithSeparateDistances(jsonPath, csvPath);
+            assertEquals(toSortedStrings(expectedResults[0]), toSortedStrings(resultsByName.get("union_vs_union_knn")));
+            assertEquals(toSortedStrings(expectedResults[1]), toSortedStrings(resultsByName.get("union_vs_union_kernel")));
+
+            analyzer.runAnalysisSilent();
+            assertEquals(2, analyzer.createdSearches.size());
+            for (String key: resultsByName.keySet()) {
+                assertEquals(toSortedStrings(resultsByName.get(key)), toSortedStrings(analyzer.getResultsByName().get(key)));
+            }
+        }
+    }
+
+    @Test
+    void shouldRestrictNeighbourhoodsToAnalysedObjects() throws IOException {
+        for (String setName: new String[]{"car-B25-O25-R25-S25", "haberman-B25-O25-R25-S25", "restriction-test"}) {
+            String jsonPath = String.format("data/test/json/%s.json", setName);
+            String csvPath = String.format("data/test/csv/%s.csv", setName);
+            CountingNeighbourhoodAnalyzer restrictedAnalyzer = new CountingNeighbourhoodAnalyzer(jsonPath, csvPath);
+            restrictedAnalyzer.setRestrictedNeighbourhoods(true);
+            restrictedAnalyzer.runAnalysisSilent();
+            HashMap<String, AnalysisResult> restrictedResults = restrictedAnalyzer.getResultsByName();
+            NeighbourhoodAnalyzer unrestrictedAnalyzer = new NeighbourhoodAnalyzer(jsonPath, csvPath, "");
+            unrestrictedAnalyzer.runAnalysisSilent();
+            HashMap<String, AnalysisResult> unrestrictedResults = unrestrictedAnalyzer.getResultsByName();
+
+            List<int[]> domains = new ArrayList<>();
+            HashMap<String, AnalysisResult> expectedResults = analyzeWithRestrictedSearch(jsonPath, csvPath, domains);
+            for (String key: expectedResults.keySet()) {
+                assertEquals(toSortedStrings(expectedResults.get(key)), toSortedStrings(restrictedResults.get(key)), key);
+            }
+
+            // passes whose majority and minority cover all objects use the shared neighbour search without restriction
+            int numberOfObjects = InformationTableBuilder.safelyBuildFromCSVFile(jsonPath, csvPath, false).getNumberOfObjects();
+            List<int[]> partialDomains = new ArrayList<>();
+            for (int[] domain: domains) {
+                if (domain.length < numberOfObjects) {
+                    partialDomains.add(domain);
+                }
+            }
+            List<int[]> restrictedDomains = restrictedAnalyzer.createdSearches.get(0).restrictedDomains;
+            assertEquals(partialDomains.size(), restrictedDomains.size());
+            for (int i = 0; i < partialDomains.size(); i++) {
+                assertArrayEquals(partialDomains.get(i), restrictedDomains.get(i));
+            }
+
+            if (setName.equals("restriction-test")) {
+                // class 2 objects lie between class 1 objects, so they displace same class neighbours only in unrestricted neighbourhoods
+                assertTrue(partialDomains.size() < domains.size());
+                assertNotEquals(toSortedStrings(unrestrictedResults.get("class_vs_union_knn")), toSortedStrings(restrictedResults.get("class_vs_union_knn")));
+            } else {
+                assertTrue(restrictedDomains.isEmpty());
+                for (String key: expectedResults.keySet()) {
+                    assertEquals(toSortedStrings(unrestrictedResults.get(key)), toSortedStrings(restrictedResults.get(key)), key);
+                }
+            }
+        }
+    }
+
+    // union vs union and class vs union analyses in which neighbours of every pass are searched only among its majority and minority objects
+    private static HashMap<String, AnalysisResult> analyzeWithRestrictedSearch(String jsonPath, String csvPath, List<int[]> domains) throws IOException {
+        DataSubsetExtractor dataExtractor = new DataSubsetExtractor(new InformationTableWithDecisionDistributions(
+                InformationTableBuilder.safelyBuildFromCSVFile(jsonPath, csvPath, false)));
+        HVDM measure = new HVDM(dataExtractor.getData());
+        NeighbourSearch neighbours = new MatrixNeighbourSearch(new DistanceArray(measure));
+        Union[] atLeastUnions = dataExtractor.getAtLeastUnions().clone();
+        Collections.reverse(Arrays.asList(atLeastUnions));
+        Union[] atMostUnions = dataExtractor.getAtMostUnions();
+        HashMap<Decision, int[]> classesByDecision = dataExtractor.getClassesByDecision();
+
+        AnalysisResult[] unionResults = {new AnalysisResult(), new AnalysisResult()};
+        for (int i = 0; i < Math.min(atLeastUnions.length, atMostUnions.length); i++) {
+            UnionWithSingleLimitingDecision majorityUnion = (UnionWithSingleLimitingDecision) atLeastUnions[i];
+            UnionWithSingleLimitingDecision minorityUnion = (UnionWithSingleLimitingDecision) atMostUnions[i];
+            if (toArray(majorityUnion).length <= toArray(minorityUnion).length) {
+                majorityUnion = (UnionWithSingleLimitingDecision) atMostUnions[i];
+                minorityUnion = (UnionWithSingleLimitingDecision) atLeastUnions[i];
+            }
+            labelWithRestrictedSearch(measure, neighbours, toArray(majorityUnion), toArray(minorityUnion),
+                    majorityUnion.getLimitingDecision(), minorityUnion.getLimitingDecision(), unionResults, domains);
+        }
+
+        // the analyzer reverses the same array of upward unions again before class vs union analysis
+        AnalysisResult[] classResults = {new AnalysisResult(), new AnalysisResult()};
+        int atMostIndex = 0;
+        Decision classDecision = ((UnionWithSingleLimitingDecision) atMostUnions[0]).getLimitingDecision();
+        for (Union union: dataExtractor.getAtLeastUnions()) {
+            UnionWithSingleLimitingDecision atLeastUnion = (UnionWithSingleLimitingDecision) union;
+            labelWithRestrictedSearch(measure, neighbours, toArray(atLeastUnion), classesByDecision.get(classDecision),
+                    atLeastUnion.getLimitingDecision(), classDecision, classResults, domains);
+            if (classesByDecision.size() > 2) {
+                UnionWithSingleLimitingDecision atMostUnion = (UnionWithSingleLimitingDecision) atMostUnions[atMostIndex];
+                classDecision = atLeastUnion.getLimitingDecision();
+                labelWithRestrictedSearch(measure, neighbours, toArray(atMostUnion), classesByDecision.get(classDecision),
+                        atMostUnion.getLimitingDecision(), classDecision, classResults, domains);
+            }
+            if (atMostIndex + 1 < atMostUnions.length) {
+                atMostIndex++;
+            }
+        }
+
+        HashMap<String, AnalysisResult> resultsByName = new HashMap<>();
+        resultsByName.put("union_vs_union_knn", unionResults[0]);
+        resultsByName.put("union_vs_union_kernel", unionResults[1]);
+        resultsByName.put("class_vs_union_knn", classResults[0]);
+        resultsByName.put("class_vs_union_kernel", classResults[1]);
+        return resultsByName;
+    }
+
+    private static void labelWithRestrictedSearch(HVDM measure, NeighbourSearch neighbours, int[] majority, int[] minority,
+                                                  Decision majorityDecision, Decision minorityDecision, AnalysisResult[] results, List<int[]> domains) {
+        int[] domain = IntStream.concat(Arrays.stream(majority), Arrays.stream(minority)).distinct().sorted().toArray();
+        domains.add(domain);
+        NeighbourSearch domainNeighbours = neighbours.restrictTo(domain);
+        KNNAnalyzer kNearestAnalyzer = new KNNAnalyzer(measure, domainNeighbours, majority, minority, 5, new KNearestLabeler(4, 2, 1));
+        kNearestAnalyzer.labelExamples();
+        results[0].addResults(kNearestAnalyzer.getLabelsAssignment(), minorityDecision, majorityDecision);
+        KernelAnalyzer kernelAnalyzer = new KernelAnalyzer(measure, domainNeighbours, majority, minority, majorityDecision, minorityDecision,
+                new KernelLabeler(0.7, 0.3, 0.1));
+        kernelAnalyzer.labelExamples();
+        results[1].addResults(kernelAnalyzer.getLabelsAssignment(), minorityDecision, majorityDecision);
+    }
+}
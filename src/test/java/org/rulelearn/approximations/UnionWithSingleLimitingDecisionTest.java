@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,9 +40,12 @@ import org.rulelearn.data.Decision;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.IdentificationAttribute;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
 import org.rulelearn.data.SimpleDecision;
 import org.rulelearn.data.Table;
+import org.rulelearn.dominance.DominanceConeCalculator;
+import org.rulelearn.dominance.DominanceConesMatrix;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.IntegerField;
 import org.rulelearn.types.IntegerFieldFactory;
@@ -50,6 +54,7 @@ import org.rulelearn.types.UnknownSimpleFieldMV15;
 import org.rulelearn.types.UnknownSimpleFieldMV2;
 
 import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.ints.IntSortedSet;
 
@@ -382,6 +387,84 @@ class UnionWithSingleLimitingDecisionTest {
 		assertFalse(positiveRegion.contains(3)); //does not belong to negative D cone of object 6 
 	}
 
+	/**
+	 * Test method for {@link Union#calculatePositiveRegion(IntSortedSet)}.
+	 * Tests unions "at least" and "at most", using precomputed bitsets of dominance cones.
+	 */
+	@Test
+	void testCalculatePositiveRegion05() {
+		Union union = this.getTestAtLeastUnionWithSimpleLimitingDecision(AttributePreferenceType.GAIN, true).union;
+		InformationTable informationTableMock = union.getInformationTable();
+		this.configureInformationTableMock01(informationTableMock);
+		DominanceConesMatrix dominanceConesMatrix = new DominanceConesMatrix(informationTableMock, 1);
+		Mockito.when(informationTableMock.getDominanceConesMatrix()).thenReturn(dominanceConesMatrix);
+		
+		IntSortedSet lowerApproximation = new IntLinkedOpenHashSet();
+		lowerApproximation.add(0);
+		lowerApproximation.add(7);
+		
+		IntSet positiveRegion = union.calculatePositiveRegion(lowerApproximation); //getPositiveInvDCone
+		assertEquals(positiveRegion.size(), 6);
+		assertTrue(positiveRegion.contains(0));
+		assertTrue(positiveRegion.contains(2));
+		assertTrue(positiveRegion.contains(3));
+		assertTrue(positiveRegion.contains(5));
+		assertTrue(positiveRegion.contains(6));
+		assertTrue(positiveRegion.contains(7));
+		
+		union = this.getTestAtMostUnionWithSimpleLimitingDecision(AttributePreferenceType.GAIN, true).union;
+		informationTableMock = union.getInformationTable();
+		this.configureInformationTableMock01(informationTableMock);
+		dominanceConesMatrix = new DominanceConesMatrix(informationTableMock, 1);
+		Mockito.when(informationTableMock.getDominanceConesMatrix()).thenReturn(dominanceConesMatrix);
+		
+		lowerApproximation = new IntLinkedOpenHashSet();
+		lowerApproximation.add(2);
+		lowerApproximation.add(7);
+		
+		positiveRegion = union.calculatePositiveRegion(lowerApproximation); //getNegativeDCone
+		assertEquals(positiveRegion.size(), 7);
+		assertTrue(positiveRegion.contains(0));
+		assertTrue(positiveRegion.contains(1));
+		assertTrue(positiveRegion.contains(2));
+		assertTrue(positiveRegion.contains(4));
+		assertTrue(positiveRegion.contains(5));
+		assertTrue(positiveRegion.contains(7));
+		assertTrue(positiveRegion.contains(8));
+	}
+	
+	/**
+	 * Test method for {@link Union#calculatePositiveRegion(IntSortedSet)}.
+	 * Tests unions "at least" and "at most", using equivalence classes of an information table with duplicated objects.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testCalculatePositiveRegion06() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		int[] objectIndices = new int[2 * numberOfObjects];
+		for (int i = 0; i < objectIndices.length; i++) {
+			objectIndices[i] = i % numberOfObjects;
+		}
+		InformationTableWithDecisionDistributions informationTableWithDecisionDistributions = new InformationTableWithDecisionDistributions(informationTable.select(objectIndices));
+		assertTrue(informationTableWithDecisionDistributions.getEquivalenceClasses().isProfitable());
+		
+		for (UnionType unionType : UnionType.values()) {
+			Union union = new UnionWithSingleLimitingDecision(unionType, informationTableWithDecisionDistributions.getDecision(0), informationTableWithDecisionDistributions,
+					new ClassicalDominanceBasedRoughSetCalculator());
+			IntSortedSet lowerApproximation = union.getLowerApproximation();
+			
+			IntSet expectedPositiveRegion = new IntOpenHashSet();
+			for (int x : lowerApproximation) {
+				expectedPositiveRegion.addAll(unionType == UnionType.AT_LEAST ?
+						DominanceConeCalculator.INSTANCE.calculatePositiveInvDCone(x, informationTableWithDecisionDistributions) :
+						DominanceConeCalculator.INSTANCE.calculateNegativeDCone(x, informationTableWithDecisionDistributions));
+			}
+			assertEquals(expectedPositiveRegion, union.calculatePositiveRegion(lowerApproximation));
+		}
+	}
+
 	/**
 	 * Test method for {@link Union#calculateNegativeRegion()}.
 	 */
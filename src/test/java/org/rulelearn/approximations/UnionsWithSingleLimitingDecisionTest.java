@@ -16,24 +16,33 @@
 
 package org.rulelearn.approximations;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.AttributeType;
 import org.rulelearn.data.CompositeDecision;
 import org.rulelearn.data.Decision;
 import org.rulelearn.data.DecisionDistribution;
 import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.InformationTableWithDecisionDistributions;
 import org.rulelearn.data.SimpleDecision;
+import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.IntegerFieldFactory;
 import org.rulelearn.types.UnknownSimpleFieldMV2;
@@ -289,5 +298,77 @@ class UnionsTest {
 	void testGetUnion() {
 		//TODO: implement test
 	}
+	
+	/**
+	 * Test method for {@link UnionsWithSingleLimitingDecision#calculateApproximations(int)}.
+	 * Tests if approximations calculated in parallel are the same as approximations calculated sequentially, for classical DRSA and for VC-DRSA.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testCalculateApproximations() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		DominanceBasedRoughSetCalculator[] roughSetCalculators = {new ClassicalDominanceBasedRoughSetCalculator(),
+				new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), 0.1)};
+		
+		for (DominanceBasedRoughSetCalculator roughSetCalculator : roughSetCalculators) {
+			UnionsWithSingleLimitingDecision expectedUnions = new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable), roughSetCalculator);
+			UnionsWithSingleLimitingDecision unions = new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable), roughSetCalculator);
+			assertSame(unions, unions.calculateApproximations(4));
+			
+			Union[][] expectedUnionArrays = {expectedUnions.getUpwardUnions(), expectedUnions.getDownwardUnions()};
+			Union[][] unionArrays = {unions.getUpwardUnions(), unions.getDownwardUnions()};
+			for (int i = 0; i < expectedUnionArrays.length; i++) {
+				assertEquals(expectedUnionArrays[i].length, unionArrays[i].length);
+				for (int j = 0; j < expectedUnionArrays[i].length; j++) {
+					assertEquals(expectedUnionArrays[i][j].getLowerApproximation(), unionArrays[i][j].getLowerApproximation());
+					assertEquals(expectedUnionArrays[i][j].getUpperApproximation(), unionArrays[i][j].getUpperApproximation());
+					assertEquals(expectedUnionArrays[i][j].getBoundary(), unionArrays[i][j].getBoundary());
+				}
+			}
+		}
+		
+		UnionsWithSingleLimitingDecision unions = new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable),
+				new ClassicalDominanceBasedRoughSetCalculator());
+		assertThrows(InvalidValueException.class, () -> {
+			unions.calculateApproximations(0);
+		});
+	}
+	
+	/**
+	 * Test method for {@link UnionsWithSingleLimitingDecision#calculateApproximationsBySweep()}.
+	 * Tests if approximations calculated in one sweep over limiting decisions are the same as approximations calculated by the rough set calculator.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testCalculateApproximationsBySweep() throws IOException {
+		InformationTable[] informationTables = {
+				InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t'),
+				InformationTableBuilder.safelyBuildFromCSVFile("data/test/json/car.json", "data/test/csv/car.csv", false)};
+		
+		for (InformationTable informationTable : informationTables) {
+			UnionsWithSingleLimitingDecision expectedUnions = new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable),
+					new ClassicalDominanceBasedRoughSetCalculator());
+			UnionsWithSingleLimitingDecision unions = new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable),
+					new ClassicalDominanceBasedRoughSetCalculator());
+			assertTrue(unions.calculateApproximationsBySweep());
+			
+			Union[][] expectedUnionArrays = {expectedUnions.getUpwardUnions(), expectedUnions.getDownwardUnions()};
+			Union[][] unionArrays = {unions.getUpwardUnions(), unions.getDownwardUnions()};
+			for (int i = 0; i < expectedUnionArrays.length; i++) {
+				for (int j = 0; j < expectedUnionArrays[i].length; j++) {
+					assertArrayEquals(expectedUnionArrays[i][j].getLowerApproximation().toIntArray(), unionArrays[i][j].getLowerApproximation().toIntArray());
+					assertArrayEquals(expectedUnionArrays[i][j].getUpperApproximation().toIntArray(), unionArrays[i][j].getUpperApproximation().toIntArray());
+					assertEquals(expectedUnionArrays[i][j].getBoundary(), unionArrays[i][j].getBoundary());
+				}
+			}
+			
+			assertFalse(new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable),
+					new ClassicalDominanceBasedRoughSetCalculator(false)).calculateApproximationsBySweep());
+			assertFalse(new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable),
+					new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), 0.0)).calculateApproximationsBySweep());
+		}
+	}
 
 }
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+/**
+ * Tests for {@link OperationsOnBitSets}.
+ */
+class OperationsOnBitSetsTest {
+	
+	/**
+	 * Test method for static operations on bitsets of {@link OperationsOnBitSets}.
+	 */
+	@Test
+	void testBitSetOperations() {
+		IntSet indices1 = new IntOpenHashSet(new int[] {0, 5, 63, 64, 129});
+		IntSet indices2 = new IntOpenHashSet(new int[] {5, 64, 100});
+		long[] bitSet1 = OperationsOnBitSets.toBitSet(indices1, 130);
+		long[] bitSet2 = OperationsOnBitSets.toBitSet(indices2, 130);
+		
+		assertEquals(3, bitSet1.length);
+		assertTrue(OperationsOnBitSets.contains(bitSet1, 63));
+		assertFalse(OperationsOnBitSets.contains(bitSet1, 62));
+		assertEquals(5, OperationsOnBitSets.cardinality(bitSet1));
+		assertEquals(indices1, OperationsOnBitSets.toIntSet(bitSet1));
+		
+		long[] union = bitSet1.clone();
+		OperationsOnBitSets.or(union, bitSet2);
+		assertEquals(new IntOpenHashSet(new int[] {0, 5, 63, 64, 100, 129}), OperationsOnBitSets.toIntSet(union));
+		
+		long[] difference = bitSet1.clone();
+		OperationsOnBitSets.andNot(difference, bitSet2);
+		assertEquals(new IntOpenHashSet(new int[] {0, 63, 129}), OperationsOnBitSets.toIntSet(difference));
+	}
+	
+}
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.IntegerFieldFactory;
 
@@ -163,6 +164,58 @@ class DecisionDistributionTest {
 		}
 	}
 	
+	/**
+	 * Test method for {@link org.rulelearn.data.DecisionDistribution#increaseCount(org.rulelearn.data.Decision, int)}.
+	 */
+	@Test
+	void testIncreaseCount05() {
+		DecisionDistribution decisionDistribution = new DecisionDistribution();
+		Decision decision = new SimpleDecision(IntegerFieldFactory.getInstance().create(3, AttributePreferenceType.GAIN), 2);
+		
+		decisionDistribution.increaseCount(decision, 3);
+		decisionDistribution.increaseCount(decision);
+		decisionDistribution.increaseCount(decision, 0);
+		
+		assertEquals(decisionDistribution.getCount(decision), 4);
+		
+		try {
+			decisionDistribution.increaseCount(decision, -1);
+			fail("Should not increase count of a decision by a negative number.");
+		} catch (InvalidValueException exception) {
+			//OK
+		}
+	}
+	
+	/**
+	 * Test method for {@link org.rulelearn.data.DecisionDistribution#decreaseCount(org.rulelearn.data.Decision)}.
+	 */
+	@Test
+	void testDecreaseCount() {
+		DecisionDistribution decisionDistribution = new DecisionDistribution();
+		Decision decision1 = new SimpleDecision(IntegerFieldFactory.getInstance().create(3, AttributePreferenceType.GAIN), 2);
+		Decision decision2 = new SimpleDecision(IntegerFieldFactory.getInstance().create(4, AttributePreferenceType.GAIN), 2);
+		
+		decisionDistribution.increaseCount(decision1, 2);
+		decisionDistribution.increaseCount(decision2);
+		decisionDistribution.decreaseCount(decision1);
+		decisionDistribution.decreaseCount(decision2);
+		
+		assertEquals(decisionDistribution.getCount(decision1), 1);
+		assertEquals(decisionDistribution.getCount(decision2), 0);
+		assertFalse(decisionDistribution.isPresent(decision2));
+		
+		DecisionDistribution expectedDecisionDistribution = new DecisionDistribution();
+		expectedDecisionDistribution.increaseCount(decision1);
+		assertEquals(decisionDistribution, expectedDecisionDistribution);
+		
+		try {
+			decisionDistribution.decreaseCount(decision2);
+			fail("Should not decrease count of a decision absent in decision distribution.");
+		} catch (InvalidValueException exception) {
+			//OK
+		}
+	}
+	
 	/**
 	 * Test method for {@link org.rulelearn.data.DecisionDistribution#equals(Object)}.
 	 */
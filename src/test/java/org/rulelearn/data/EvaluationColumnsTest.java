@@ -0,0 +1,199 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.rulelearn.data;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.TernaryLogicValue;
+import org.rulelearn.dominance.DominanceChecker;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationFieldFactory;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerField;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.RealFieldFactory;
+import org.rulelearn.types.UnknownSimpleFieldMV15;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Tests for {@link EvaluationColumns}.
+ */
+class EvaluationColumnsTest {
+	
+	private ElementList domain() {
+		try {
+			return new ElementList(new String[] {"a", "b", "c"});
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+	
+	private Attribute[] attributes() {
+		ElementList domain = domain();
+		return new Attribute[] {
+			new EvaluationAttribute("realGain", true, AttributeType.CONDITION,
+					RealFieldFactory.getInstance().create(0.0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN),
+			new EvaluationAttribute("integerCost", true, AttributeType.CONDITION,
+					IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.COST), new UnknownSimpleFieldMV15(), AttributePreferenceType.COST),
+			new EvaluationAttribute("enumerationNone", true, AttributeType.CONDITION,
+					EnumerationFieldFactory.getInstance().create(domain, 0, AttributePreferenceType.NONE), new UnknownSimpleFieldMV2(), AttributePreferenceType.NONE),
+			new EvaluationAttribute("enumerationGain", true, AttributeType.CONDITION,
+					EnumerationFieldFactory.getInstance().create(domain, 0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV15(), AttributePreferenceType.GAIN),
+			new EvaluationAttribute("inactive", false, AttributeType.CONDITION,
+					IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN),
+			new EvaluationAttribute("decision", true, AttributeType.DECISION,
+					IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN)
+		};
+	}
+	
+	private InformationTable informationTable(int numberOfObjects, long seed) {
+		ElementList domain = domain();
+		Random random = new Random(seed);
+		List<Field[]> rows = new ArrayList<>();
+		
+		for (int i = 0; i < numberOfObjects; i++) {
+			rows.add(new Field[] {
+				random.nextInt(8) == 0 ? new UnknownSimpleFieldMV2() : RealFieldFactory.getInstance().create(random.nextInt(4) * 0.5, AttributePreferenceType.GAIN),
+				random.nextInt(8) == 0 ? new UnknownSimpleFieldMV15() : IntegerFieldFactory.getInstance().create(random.nextInt(3), AttributePreferenceType.COST),
+				random.nextInt(8) == 0 ? new UnknownSimpleFieldMV2() : EnumerationFieldFactory.getInstance().create(domain, random.nextInt(2), AttributePreferenceType.NONE),
+				EnumerationFieldFactory.getInstance().create(domain, random.nextInt(3), AttributePreferenceType.GAIN),
+				IntegerFieldFactory.getInstance().create(random.nextInt(3), AttributePreferenceType.GAIN),
+				IntegerFieldFactory.getInstance().create(random.nextInt(3), AttributePreferenceType.GAIN)
+			});
+		}
+		
+		return new InformationTable(attributes(), rows);
+	}
+	
+	private boolean dominatesByFields(int x, int y, Table<EvaluationAttribute, EvaluationField> evaluations) {
+		for (int i = 0; i < evaluations.getNumberOfAttributes(); i++) {
+			if (evaluations.getField(x, i).isAtLeastAsGoodAs(evaluations.getField(y, i)) != TernaryLogicValue.TRUE) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private boolean isDominatedByFields(int x, int y, Table<EvaluationAttribute, EvaluationField> evaluations) {
+		for (int i = 0; i < evaluations.getNumberOfAttributes(); i++) {
+			if (evaluations.getField(x, i).isAtMostAsGoodAs(evaluations.getField(y, i)) != TernaryLogicValue.TRUE) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Test method for {@link EvaluationColumns#dominates(int, int)} and {@link EvaluationColumns#isDominatedBy(int, int)}.
+	 * Compares results with results of comparison of evaluation fields, for attributes of different value types, preference types, and missing value types.
+	 */
+	@Test
+	void testDominatesAndIsDominatedBy() {
+		InformationTable informationTable = informationTable(150, 0L);
+		Table<EvaluationAttribute, EvaluationField> evaluations = informationTable.getActiveConditionAttributeFields();
+		EvaluationColumns columns = informationTable.getActiveConditionAttributeColumns();
+		
+		assertNotNull(columns);
+		assertEquals(150, columns.getNumberOfObjects());
+		assertEquals(4, columns.getNumberOfAttributes());
+		
+		int dominating = 0;
+		for (int x = 0; x < 150; x++) {
+			for (int y = 0; y < 150; y++) {
+				assertEquals(dominatesByFields(x, y, evaluations), columns.dominates(x, y));
+				assertEquals(isDominatedByFields(x, y, evaluations), columns.isDominatedBy(x, y));
+				if (columns.dominates(x, y)) {
+					dominating++;
+				}
+			}
+		}
+		assertTrue(dominating > 150); //not only reflexive pairs
+	}
+	
+	/**
+	 * Test method for {@link EvaluationColumns#getRelations(int, int)}.
+	 */
+	@Test
+	void testGetRelations() {
+		EvaluationColumns columns = informationTable(150, 2L).getActiveConditionAttributeColumns();
+		
+		for (int x = 0; x < 150; x++) {
+			for (int y = 0; y < 150; y++) {
+				int expectedRelations = (columns.dominates(x, y) ? DominanceChecker.FIRST_DOMINATES_SECOND : 0) |
+						(columns.dominates(y, x) ? DominanceChecker.SECOND_DOMINATES_FIRST : 0) |
+						(columns.isDominatedBy(x, y) ? DominanceChecker.FIRST_IS_DOMINATED_BY_SECOND : 0) |
+						(columns.isDominatedBy(y, x) ? DominanceChecker.SECOND_IS_DOMINATED_BY_FIRST : 0);
+				assertEquals(expectedRelations, columns.getRelations(x, y));
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link EvaluationColumns#getValue(int, int)} and {@link EvaluationColumns#isMissing(int, int)}.
+	 */
+	@Test
+	void testGetValueAndIsMissing() {
+		InformationTable informationTable = informationTable(100, 1L);
+		Table<EvaluationAttribute, EvaluationField> evaluations = informationTable.getActiveConditionAttributeFields();
+		EvaluationColumns columns = informationTable.getActiveConditionAttributeColumns();
+		
+		for (int x = 0; x < 100; x++) {
+			assertEquals(evaluations.getField(x, 1) instanceof UnknownSimpleFieldMV15, columns.isMissing(x, 1));
+			if (!columns.isMissing(x, 1)) {
+				assertEquals(-(double)((IntegerField)evaluations.getField(x, 1)).getValue(), columns.getValue(x, 1));
+			}
+			assertFalse(columns.isMissing(x, 3));
+		}
+		assertTrue(columns.isEqualityOnly(2));
+		assertFalse(columns.isEqualityOnly(0));
+		assertTrue(columns.isKnownComparableWithMissing(0));
+		assertFalse(columns.isKnownComparableWithMissing(1));
+	}
+	
+	/**
+	 * Test method for {@link EvaluationColumns#encode(Table)}. Tests that evaluations of different classes in one column are not encoded.
+	 */
+	@Test
+	void testEncodeMixedColumn() {
+		List<Field[]> rows = new ArrayList<>();
+		rows.add(new Field[] {RealFieldFactory.getInstance().create(1.0, AttributePreferenceType.GAIN)});
+		rows.add(new Field[] {RealFieldFactory.getInstance().create(1.0, AttributePreferenceType.COST)});
+		Attribute[] attributes = {new EvaluationAttribute("a", true, AttributeType.CONDITION,
+				RealFieldFactory.getInstance().create(0.0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN)};
+		InformationTable informationTable = new InformationTable(attributes, rows);
+		
+		assertNull(EvaluationColumns.encode(informationTable.getActiveConditionAttributeFields()));
+		assertNull(informationTable.getActiveConditionAttributeColumns());
+	}
+	
+	/**
+	 * Test method for {@link EvaluationColumns#encode(Table)}. Tests exception throwing for {@code null} parameter.
+	 */
+	@Test
+	void testEncodeNull() {
+		assertThrows(NullPointerException.class, () -> EvaluationColumns.encode(null));
+	}
+
+}
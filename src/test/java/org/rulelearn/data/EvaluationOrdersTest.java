@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.types.EvaluationField;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.KnownSimpleField;
+import org.rulelearn.types.UnknownSimpleField;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Tests for {@link EvaluationOrders}.
+ */
+class EvaluationOrdersTest {
+	
+	/**
+	 * Test method for {@link EvaluationOrders#EvaluationOrders(InformationTable)}.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testEvaluationOrders01() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("data/test/json/car.json", "data/test/csv/car.csv", false);
+		EvaluationOrders evaluationOrders = new EvaluationOrders(informationTable);
+		
+		assertTrue(evaluationOrders.isOrdered(0));
+		assertArrayEquals(new int[] {0, 0, 0, 1, 1, 1, 0, 0, 0, 1, 1, 1, 1}, evaluationOrders.getRanks(0));
+		assertEquals(2, evaluationOrders.getNumberOfRanks(0));
+		
+		assertTrue(evaluationOrders.isOrdered(1));
+		assertArrayEquals(new int[] {0, 1, 2, 0, 1, 2, 0, 1, 2, 0, 1, 2, 0}, evaluationOrders.getRanks(1));
+		assertEquals(3, evaluationOrders.getNumberOfRanks(1));
+		
+		assertSame(informationTable.getEvaluationOrders(), informationTable.getEvaluationOrders());
+	}
+	
+	/**
+	 * Test method for {@link EvaluationOrders#EvaluationOrders(InformationTable)}.
+	 * Tests if ranks are consistent with comparison of evaluations, when information table contains missing values.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testEvaluationOrders02() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		Table<EvaluationAttribute, EvaluationField> data = informationTable.getActiveConditionAttributeFields();
+		EvaluationOrders evaluationOrders = informationTable.getEvaluationOrders();
+		
+		for (int attributeIndex = 0; attributeIndex < data.getNumberOfAttributes(); attributeIndex++) {
+			assertTrue(evaluationOrders.isOrdered(attributeIndex));
+			int[] ranks = evaluationOrders.getRanks(attributeIndex);
+			boolean[] rankPresent = new boolean[evaluationOrders.getNumberOfRanks(attributeIndex)];
+			
+			for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+				if (data.getField(x, attributeIndex) instanceof UnknownSimpleField) {
+					assertEquals(EvaluationOrders.MISSING_RANK, ranks[x]);
+					continue;
+				}
+				rankPresent[ranks[x]] = true;
+				for (int y = 0; y < informationTable.getNumberOfObjects(); y++) {
+					if (!(data.getField(y, attributeIndex) instanceof UnknownSimpleField)) {
+						int comparisonResult = ((KnownSimpleField)data.getField(x, attributeIndex)).compareTo((KnownSimpleField)data.getField(y, attributeIndex));
+						assertEquals(Integer.signum(comparisonResult), Integer.signum(ranks[x] - ranks[y]));
+					}
+				}
+			}
+			for (boolean present : rankPresent) {
+				assertTrue(present);
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link EvaluationOrders#EvaluationOrders(InformationTable)}.
+	 * Tests if ranks are not calculated for an attribute without preference type.
+	 */
+	@Test
+	void testEvaluationOrders03() {
+		IntegerFieldFactory factory = IntegerFieldFactory.getInstance();
+		Attribute[] attributes = {
+				new EvaluationAttribute("criterion", true, AttributeType.CONDITION, factory.create(0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN),
+				new EvaluationAttribute("attribute", true, AttributeType.CONDITION, factory.create(0, AttributePreferenceType.NONE), new UnknownSimpleFieldMV2(), AttributePreferenceType.NONE)};
+		List<Field[]> fields = new ArrayList<Field[]>();
+		for (int value : new int[] {2, 0, 1, 0}) {
+			fields.add(new Field[] {factory.create(value, AttributePreferenceType.GAIN), factory.create(value, AttributePreferenceType.NONE)});
+		}
+		EvaluationOrders evaluationOrders = new EvaluationOrders(new InformationTable(attributes, fields));
+		
+		assertTrue(evaluationOrders.isOrdered(0));
+		assertArrayEquals(new int[] {2, 0, 1, 0}, evaluationOrders.getRanks(0));
+		assertEquals(3, evaluationOrders.getNumberOfRanks(0));
+		
+		assertFalse(evaluationOrders.isOrdered(1));
+		assertNull(evaluationOrders.getRanks(1));
+		assertEquals(0, evaluationOrders.getNumberOfRanks(1));
+	}
+
+}
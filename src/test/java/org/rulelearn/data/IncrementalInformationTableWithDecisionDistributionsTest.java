@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.approximations.ClassicalDominanceBasedRoughSetCalculator;
+import org.rulelearn.approximations.Union;
+import org.rulelearn.approximations.UnionWithSingleLimitingDecision;
+import org.rulelearn.dominance.DominanceConeType;
+import org.rulelearn.dominance.DominanceConesDecisionDistributions;
+import org.rulelearn.types.Field;
+
+/**
+ * Tests for {@link IncrementalInformationTableWithDecisionDistributions}.
+ */
+class IncrementalInformationTableWithDecisionDistributionsTest {
+	
+	/**
+	 * Gets information table for tests, containing objects with missing values.
+	 *
+	 * @return information table for tests
+	 * @throws IOException if information table cannot be read
+	 */
+	private InformationTable getInformationTable() throws IOException {
+		return InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+	}
+	
+	/**
+	 * Gets all fields of an object from given information table.
+	 *
+	 * @param informationTable information table
+	 * @param objectIndex index of an object
+	 * @return all fields of the object
+	 */
+	private Field[] getFields(InformationTable informationTable, int objectIndex) {
+		Field[] fields = new Field[informationTable.getNumberOfAttributes()];
+		for (int i = 0; i < fields.length; i++) {
+			fields[i] = informationTable.getField(objectIndex, i);
+		}
+		return fields;
+	}
+	
+	/**
+	 * Gets indices of objects from the given range.
+	 *
+	 * @param fromObjectIndex index of the first object
+	 * @param toObjectIndex index of the last object, increased by one
+	 * @return indices of objects from the given range
+	 */
+	private int[] getObjectIndices(int fromObjectIndex, int toObjectIndex) {
+		int[] objectIndices = new int[toObjectIndex - fromObjectIndex];
+		for (int i = 0; i < objectIndices.length; i++) {
+			objectIndices[i] = fromObjectIndex + i;
+		}
+		return objectIndices;
+	}
+	
+	/**
+	 * Asserts that given information tables have the same objects and the same decision distributions.
+	 *
+	 * @param expected expected information table
+	 * @param actual actual information table
+	 */
+	private void assertSameTables(InformationTableWithDecisionDistributions expected, InformationTableWithDecisionDistributions actual) {
+		assertEquals(expected.getNumberOfObjects(), actual.getNumberOfObjects());
+		assertEquals(expected.getDecisionDistribution(), actual.getDecisionDistribution());
+		
+		DominanceConesDecisionDistributions expectedDistributions = expected.getDominanceConesDecisionDistributions();
+		DominanceConesDecisionDistributions actualDistributions = actual.getDominanceConesDecisionDistributions();
+		assertEquals(expectedDistributions.getNumberOfObjects(), actualDistributions.getNumberOfObjects());
+		
+		for (int x = 0; x < expected.getNumberOfObjects(); x++) {
+			for (int i = 0; i < expected.getNumberOfAttributes(); i++) {
+				assertEquals(expected.getField(x, i), actual.getField(x, i));
+			}
+			assertEquals(expected.getDecision(x), actual.getDecision(x));
+			assertEquals(expectedDistributions.getPositiveDConeDecisionClassDistribution(x), actualDistributions.getPositiveDConeDecisionClassDistribution(x));
+			assertEquals(expectedDistributions.getNegativeDConeDecisionClassDistribution(x), actualDistributions.getNegativeDConeDecisionClassDistribution(x));
+			assertEquals(expectedDistributions.getPositiveInvDConeDecisionClassDistribution(x), actualDistributions.getPositiveInvDConeDecisionClassDistribution(x));
+			assertEquals(expectedDistributions.getNegativeInvDConeDecisionClassDistribution(x), actualDistributions.getNegativeInvDConeDecisionClassDistribution(x));
+		}
+	}
+	
+	/**
+	 * Test method for {@link IncrementalInformationTableWithDecisionDistributions#addObject(Field[])}.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testAddObject() throws IOException {
+		InformationTable informationTable = this.getInformationTable();
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		int initialNumberOfObjects = numberOfObjects - 20;
+		
+		IncrementalInformationTableWithDecisionDistributions incrementalInformationTable =
+				new IncrementalInformationTableWithDecisionDistributions(informationTable.select(this.getObjectIndices(0, initialNumberOfObjects)));
+		incrementalInformationTable.getDominanceConesDecisionDistributions().calculate(DominanceConeType.values());
+		
+		for (int x = initialNumberOfObjects; x < numberOfObjects; x++) {
+			assertEquals(x, incrementalInformationTable.addObject(this.getFields(informationTable, x)));
+		}
+		assertEquals(20, incrementalInformationTable.getModificationCount());
+		
+		this.assertSameTables(new InformationTableWithDecisionDistributions(informationTable), incrementalInformationTable);
+	}
+	
+	/**
+	 * Test method for {@link IncrementalInformationTableWithDecisionDistributions#addObject(Field[])}.
+	 * Tests if types of dominance cones that have not been calculated before modification are calculated on demand.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testAddObjectNotCalculated() throws IOException {
+		InformationTable informationTable = this.getInformationTable();
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		
+		IncrementalInformationTableWithDecisionDistributions incrementalInformationTable =
+				new IncrementalInformationTableWithDecisionDistributions(informationTable.select(this.getObjectIndices(0, numberOfObjects - 1)));
+		DominanceConesDecisionDistributions dominanceConesDecisionDistributions = incrementalInformationTable.getDominanceConesDecisionDistributions();
+		dominanceConesDecisionDistributions.calculate(DominanceConeType.POSITIVE_INV_D);
+		
+		incrementalInformationTable.addObject(this.getFields(informationTable, numberOfObjects - 1));
+		assertTrue(dominanceConesDecisionDistributions.isCalculated(DominanceConeType.POSITIVE_INV_D));
+		assertFalse(dominanceConesDecisionDistributions.isCalculated(DominanceConeType.NEGATIVE_D));
+		
+		this.assertSameTables(new InformationTableWithDecisionDistributions(informationTable), incrementalInformationTable);
+	}
+	
+	/**
+	 * Test method for {@link IncrementalInformationTableWithDecisionDistributions#removeObject(int)}.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testRemoveObject() throws IOException {
+		InformationTable informationTable = this.getInformationTable();
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		
+		IncrementalInformationTableWithDecisionDistributions incrementalInformationTable = new IncrementalInformationTableWithDecisionDistributions(informationTable);
+		incrementalInformationTable.getDominanceConesDecisionDistributions().calculate(DominanceConeType.values());
+		incrementalInformationTable.enableDominanceConesMatrix(1);
+		
+		incrementalInformationTable.removeObject(numberOfObjects - 1);
+		incrementalInformationTable.removeObject(100);
+		incrementalInformationTable.removeObject(0);
+		assertNull(incrementalInformationTable.getDominanceConesMatrix());
+		
+		int[] objectIndices = new int[numberOfObjects - 3];
+		int objectIndex = 0;
+		for (int x = 1; x < numberOfObjects - 1; x++) {
+			if (x != 100) {
+				objectIndices[objectIndex++] = x;
+			}
+		}
+		
+		this.assertSameTables(new InformationTableWithDecisionDistributions(informationTable.select(objectIndices)), incrementalInformationTable);
+		
+		try {
+			incrementalInformationTable.removeObject(numberOfObjects - 3);
+			fail("Should not remove an object with index out of range.");
+		} catch (IndexOutOfBoundsException exception) {
+			//OK
+		}
+	}
+	
+	/**
+	 * Tests if approximations of a union are calculated again after modification of information table.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testUnionApproximations() throws IOException {
+		InformationTable informationTable = this.getInformationTable();
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		int initialNumberOfObjects = numberOfObjects - 50;
+		Decision limitingDecision = informationTable.getDecision(0);
+		
+		IncrementalInformationTableWithDecisionDistributions incrementalInformationTable =
+				new IncrementalInformationTableWithDecisionDistributions(informationTable.select(this.getObjectIndices(0, initialNumberOfObjects)));
+		Union union = new UnionWithSingleLimitingDecision(Union.UnionType.AT_LEAST, limitingDecision, incrementalInformationTable, new ClassicalDominanceBasedRoughSetCalculator());
+		union.getLowerApproximation();
+		union.getUpperApproximation();
+		
+		for (int x = initialNumberOfObjects; x < numberOfObjects; x++) {
+			incrementalInformationTable.addObject(this.getFields(informationTable, x));
+		}
+		incrementalInformationTable.removeObject(10);
+		
+		int[] objectIndices = new int[numberOfObjects - 1];
+		for (int x = 0; x < objectIndices.length; x++) {
+			objectIndices[x] = x < 10 ? x : x + 1;
+		}
+		Union expectedUnion = new UnionWithSingleLimitingDecision(Union.UnionType.AT_LEAST, limitingDecision,
+				new InformationTableWithDecisionDistributions(informationTable.select(objectIndices)), new ClassicalDominanceBasedRoughSetCalculator());
+		
+		assertEquals(expectedUnion.getObjects(), union.getObjects());
+		assertEquals(expectedUnion.getNeutralObjects(), union.getNeutralObjects());
+		assertEquals(expectedUnion.getLowerApproximation(), union.getLowerApproximation());
+		assertEquals(expectedUnion.getUpperApproximation(), union.getUpperApproximation());
+		assertEquals(expectedUnion.getBoundary(), union.getBoundary());
+	}
+
+}
@@ -17,15 +17,20 @@
 package org.rulelearn.data;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.dominance.DominanceConeType;
+import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 import org.rulelearn.types.EvaluationField;
 import org.rulelearn.types.Field;
 import org.rulelearn.types.IntegerField;
@@ -254,6 +259,38 @@ class InformationTableWithDecisionDistributionsTest {
 		assertEquals(informationTable.getDominanceConesDecisionDistributions().getNegativeInvDConeDecisionClassDistribution(0).getCount(decision), 1);
 	}
 
+	/**
+	 * Test method for {@link InformationTableWithDecisionDistributions#getDominanceConesDecisionDistributions()}.
+	 * Tests that decision distributions in dominance cones are calculated only for requested types of dominance cones.
+	 */
+	@Test
+	void testGetDominanceConesDecisionDistributionsOnDemand() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		InformationTableWithDecisionDistributions informationTableWithDecisionDistributions = new InformationTableWithDecisionDistributions(informationTable, true);
+		DominanceConesDecisionDistributions dominanceConesDecisionDistributions = informationTableWithDecisionDistributions.getDominanceConesDecisionDistributions();
+		
+		for (DominanceConeType coneType : DominanceConeType.values()) {
+			assertFalse(dominanceConesDecisionDistributions.isCalculated(coneType));
+		}
+		
+		dominanceConesDecisionDistributions.getPositiveInvDConeDecisionClassDistribution(0);
+		assertTrue(dominanceConesDecisionDistributions.isCalculated(DominanceConeType.POSITIVE_INV_D));
+		assertFalse(dominanceConesDecisionDistributions.isCalculated(DominanceConeType.NEGATIVE_D));
+		
+		dominanceConesDecisionDistributions.calculate(DominanceConeType.NEGATIVE_D, DominanceConeType.POSITIVE_D);
+		assertTrue(dominanceConesDecisionDistributions.isCalculated(DominanceConeType.NEGATIVE_D));
+		assertTrue(dominanceConesDecisionDistributions.isCalculated(DominanceConeType.POSITIVE_D));
+		assertFalse(dominanceConesDecisionDistributions.isCalculated(DominanceConeType.NEGATIVE_INV_D));
+		
+		DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTable, false);
+		for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+			assertEquals(expected.getPositiveDConeDecisionClassDistribution(x), dominanceConesDecisionDistributions.getPositiveDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeDConeDecisionClassDistribution(x), dominanceConesDecisionDistributions.getNegativeDConeDecisionClassDistribution(x));
+			assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(x), dominanceConesDecisionDistributions.getPositiveInvDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeInvDConeDecisionClassDistribution(x), dominanceConesDecisionDistributions.getNegativeInvDConeDecisionClassDistribution(x));
+		}
+	}
+
 	/**
 	 * Test method for {@link InformationTableWithDecisionDistributions#getDecisionDistribution()}.
 	 */
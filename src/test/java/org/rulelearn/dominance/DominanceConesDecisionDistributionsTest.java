@@ -18,15 +18,21 @@ package org.rulelearn.dominance;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.rulelearn.core.InvalidValueException;
 import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.DecisionDistribution;
 import org.rulelearn.data.EvaluationAttribute;
 import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
 import org.rulelearn.data.SimpleDecision;
 import org.rulelearn.data.Table;
 import org.rulelearn.types.EvaluationField;
@@ -529,4 +535,143 @@ class DominanceConesDecisionDistributionsTest {
 		assertEquals(decisionDistribution, expectedDecisionDistribution);
 	}
 	
+	/**
+	 * Asserts that decision distributions in all types of dominance cones are the same, also with respect to the order of decisions.
+	 * 
+	 * @param expected expected dominance cones decision distributions
+	 * @param actual actual dominance cones decision distributions
+	 */
+	private void assertSameDistributions(DominanceConesDecisionDistributions expected, DominanceConesDecisionDistributions actual) {
+		assertEquals(expected.getNumberOfObjects(), actual.getNumberOfObjects());
+		for (int x = 0; x < expected.getNumberOfObjects(); x++) {
+			assertEquals(expected.getPositiveDConeDecisionClassDistribution(x), actual.getPositiveDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeDConeDecisionClassDistribution(x), actual.getNegativeDConeDecisionClassDistribution(x));
+			assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(x), actual.getPositiveInvDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeInvDConeDecisionClassDistribution(x), actual.getNegativeInvDConeDecisionClassDistribution(x));
+			assertEquals(new ArrayList<>(expected.getPositiveDConeDecisionClassDistribution(x).getDecisions()),
+					new ArrayList<>(actual.getPositiveDConeDecisionClassDistribution(x).getDecisions()));
+			assertEquals(new ArrayList<>(expected.getNegativeInvDConeDecisionClassDistribution(x).getDecisions()),
+					new ArrayList<>(actual.getNegativeInvDConeDecisionClassDistribution(x).getDecisions()));
+		}
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, boolean)}.
+	 * Tests that single-pass calculation gives the same results as separate passes, for evaluations compared field by field.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsSinglePass01() {
+		InformationTable informationTableMock = getTestInformationTableMock();
+		assertSameDistributions(new DominanceConesDecisionDistributions(informationTableMock, false), new DominanceConesDecisionDistributions(informationTableMock, true));
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, boolean)}.
+	 * Tests that single-pass calculation gives the same results as separate passes, for a table with missing values.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsSinglePass02() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		assertNotNull(informationTable.getActiveConditionAttributeColumns());
+		assertSameDistributions(new DominanceConesDecisionDistributions(informationTable, false), new DominanceConesDecisionDistributions(informationTable, true));
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, int)}.
+	 * Tests that parallel calculation gives the same results as sequential one.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsParallel01() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTable, false);
+		assertSameDistributions(expected, new DominanceConesDecisionDistributions(informationTable, 1));
+		assertSameDistributions(expected, new DominanceConesDecisionDistributions(informationTable, 4));
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, int)}.
+	 * Tests that parallel calculation gives the same results as sequential one, for evaluations compared field by field.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsParallel02() {
+		InformationTable informationTableMock = getTestInformationTableMock();
+		assertSameDistributions(new DominanceConesDecisionDistributions(informationTableMock, false), new DominanceConesDecisionDistributions(informationTableMock, 2));
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, DominanceConesCalculationStrategy)}.
+	 * Tests that calculation for pairs of equivalence classes gives the same results as calculation for pairs of objects.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsEquivalenceClasses01() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		int[] objectIndices = new int[3 * numberOfObjects];
+		for (int i = 0; i < objectIndices.length; i++) {
+			objectIndices[i] = (i * 7) % numberOfObjects; //each object three times, in different order
+		}
+		informationTable = informationTable.select(objectIndices);
+		assertTrue(informationTable.getEquivalenceClasses().isProfitable());
+		
+		DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.PAIRWISE);
+		assertSameDistributions(expected, new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.EQUIVALENCE_CLASSES));
+		assertSameDistributions(expected, new DominanceConesDecisionDistributions(informationTable));
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, DominanceConesCalculationStrategy)}.
+	 * Tests that calculation for pairs of equivalence classes gives the same results as calculation for pairs of objects, for {@code car} data set.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsEquivalenceClasses02() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("data/test/json/car.json", "data/test/csv/car.csv", false);
+		assertSameDistributions(new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.PAIRWISE),
+				new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.EQUIVALENCE_CLASSES));
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, int)}.
+	 * Tests if an exception is thrown for non-positive parallelism.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsParallel03() {
+		InformationTable informationTableMock = getTestInformationTableMock();
+		assertThrows(InvalidValueException.class, () -> new DominanceConesDecisionDistributions(informationTableMock, 0));
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, DominanceConesCalculationStrategy, int, boolean)}.
+	 * Tests that decision distributions calculated on demand, concurrently by several threads, are the same as the ones calculated eagerly.
+	 */
+	@Test
+	void testDominanceConesDecisionDistributionsLazy() throws Exception {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTable, false);
+		DominanceConesDecisionDistributions lazy = new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.AUTOMATIC, 2, true);
+		
+		for (DominanceConeType coneType : DominanceConeType.values()) {
+			assertFalse(lazy.isCalculated(coneType));
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				int objectIndex = i;
+				futures.add(executor.submit(() -> {
+					lazy.getPositiveDConeDecisionClassDistribution(objectIndex);
+					lazy.getNegativeInvDConeDecisionClassDistribution(objectIndex);
+					lazy.calculate(DominanceConeType.POSITIVE_INV_D, DominanceConeType.NEGATIVE_D);
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		assertSameDistributions(expected, lazy);
+	}
+	
 }
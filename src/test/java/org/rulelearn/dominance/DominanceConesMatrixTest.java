@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.core.OperationsOnBitSets;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+
+/**
+ * Tests for {@link DominanceConesMatrix}.
+ */
+class DominanceConesMatrixTest {
+	
+	private InformationTable getInformationTable() throws IOException {
+		return InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesMatrix#getPositiveDCone(int)}, {@link DominanceConesMatrix#getNegativeDCone(int)},
+	 * {@link DominanceConesMatrix#getPositiveInvDCone(int)}, and {@link DominanceConesMatrix#getNegativeInvDCone(int)}.
+	 * Compares bitsets of dominance cones, calculated sequentially and in parallel, with results of {@link DominanceChecker}.
+	 */
+	@Test
+	void testGetCones() throws IOException {
+		InformationTable informationTable = getInformationTable();
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		
+		for (int parallelism : new int[] {1, 3}) {
+			DominanceConesMatrix dominanceConesMatrix = new DominanceConesMatrix(informationTable, parallelism);
+			assertEquals(numberOfObjects, dominanceConesMatrix.getNumberOfObjects());
+			
+			for (int x = 0; x < numberOfObjects; x++) {
+				for (int y = 0; y < numberOfObjects; y++) {
+					assertEquals(DominanceChecker.dominates(y, x, informationTable), OperationsOnBitSets.contains(dominanceConesMatrix.getPositiveDCone(x), y));
+					assertEquals(DominanceChecker.dominates(x, y, informationTable), OperationsOnBitSets.contains(dominanceConesMatrix.getNegativeDCone(x), y));
+					assertEquals(DominanceChecker.isDominatedBy(x, y, informationTable), OperationsOnBitSets.contains(dominanceConesMatrix.getPositiveInvDCone(x), y));
+					assertEquals(DominanceChecker.isDominatedBy(y, x, informationTable), OperationsOnBitSets.contains(dominanceConesMatrix.getNegativeInvDCone(x), y));
+					assertEquals(DominanceChecker.dominates(x, y, informationTable), dominanceConesMatrix.dominates(x, y));
+					assertEquals(DominanceChecker.isDominatedBy(x, y, informationTable), dominanceConesMatrix.isDominatedBy(x, y));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test method for {@link DominanceConeCalculator}, for an information table with enabled precomputed dominance cones.
+	 */
+	@Test
+	void testDominanceConeCalculator() throws IOException {
+		InformationTable informationTable = getInformationTable();
+		InformationTable informationTableWithMatrix = getInformationTable();
+		assertNull(informationTableWithMatrix.getDominanceConesMatrix());
+		DominanceConesMatrix dominanceConesMatrix = informationTableWithMatrix.enableDominanceConesMatrix(2);
+		assertSame(dominanceConesMatrix, informationTableWithMatrix.getDominanceConesMatrix());
+		assertSame(dominanceConesMatrix, informationTableWithMatrix.enableDominanceConesMatrix(1));
+		
+		for (int x = 0; x < informationTable.getNumberOfObjects(); x++) {
+			assertEquals(DominanceConeCalculator.INSTANCE.calculatePositiveDCone(x, informationTable), DominanceConeCalculator.INSTANCE.calculatePositiveDCone(x, informationTableWithMatrix));
+			assertEquals(DominanceConeCalculator.INSTANCE.calculateNegativeDCone(x, informationTable), DominanceConeCalculator.INSTANCE.calculateNegativeDCone(x, informationTableWithMatrix));
+			assertEquals(DominanceConeCalculator.INSTANCE.calculatePositiveInvDCone(x, informationTable), DominanceConeCalculator.INSTANCE.calculatePositiveInvDCone(x, informationTableWithMatrix));
+			assertEquals(DominanceConeCalculator.INSTANCE.calculateNegativeInvDCone(x, informationTable), DominanceConeCalculator.INSTANCE.calculateNegativeInvDCone(x, informationTableWithMatrix));
+		}
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesMatrix#DominanceConesMatrix(InformationTable, int)}.
+	 * Tests if an exception is thrown for non-positive parallelism.
+	 */
+	@Test
+	void testDominanceConesMatrix() throws IOException {
+		InformationTable informationTable = getInformationTable();
+		assertThrows(InvalidValueException.class, () -> new DominanceConesMatrix(informationTable, 0));
+	}
+	
+}
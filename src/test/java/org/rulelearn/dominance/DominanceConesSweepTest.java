@@ -0,0 +1,141 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.Attribute;
+import org.rulelearn.data.AttributePreferenceType;
+import org.rulelearn.data.AttributeType;
+import org.rulelearn.data.EvaluationAttribute;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.types.ElementList;
+import org.rulelearn.types.EnumerationFieldFactory;
+import org.rulelearn.types.Field;
+import org.rulelearn.types.IntegerFieldFactory;
+import org.rulelearn.types.RealFieldFactory;
+import org.rulelearn.types.UnknownSimpleFieldMV2;
+
+/**
+ * Tests for {@link DominanceConesSweep}.
+ */
+class DominanceConesSweepTest {
+	
+	private ElementList domain() {
+		try {
+			return new ElementList(new String[] {"a", "b", "c"});
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+	
+	/**
+	 * Creates random information table with given number of criteria, an attribute without preference type, and a decision attribute.
+	 * Evaluations are drawn from small sets of values, so there are many ties.
+	 */
+	private InformationTable informationTable(int numberOfObjects, int numberOfCriteria, boolean missingValues, long seed) {
+		ElementList domain = domain();
+		Random random = new Random(seed);
+		Attribute[] attributes = new Attribute[numberOfCriteria + 2];
+		
+		for (int i = 0; i < numberOfCriteria; i++) {
+			AttributePreferenceType preferenceType = (i % 2 == 0 ? AttributePreferenceType.GAIN : AttributePreferenceType.COST);
+			attributes[i] = new EvaluationAttribute("criterion" + i, true, AttributeType.CONDITION,
+					RealFieldFactory.getInstance().create(0.0, preferenceType), new UnknownSimpleFieldMV2(), preferenceType);
+		}
+		attributes[numberOfCriteria] = new EvaluationAttribute("enumerationNone", true, AttributeType.CONDITION,
+				EnumerationFieldFactory.getInstance().create(domain, 0, AttributePreferenceType.NONE), new UnknownSimpleFieldMV2(), AttributePreferenceType.NONE);
+		attributes[numberOfCriteria + 1] = new EvaluationAttribute("decision", true, AttributeType.DECISION,
+				IntegerFieldFactory.getInstance().create(0, AttributePreferenceType.GAIN), new UnknownSimpleFieldMV2(), AttributePreferenceType.GAIN);
+		
+		List<Field[]> rows = new ArrayList<>();
+		for (int i = 0; i < numberOfObjects; i++) {
+			Field[] row = new Field[numberOfCriteria + 2];
+			for (int j = 0; j < numberOfCriteria; j++) {
+				row[j] = missingValues && random.nextInt(8) == 0 ? new UnknownSimpleFieldMV2() :
+					RealFieldFactory.getInstance().create(random.nextInt(6) * 0.5, ((EvaluationAttribute)attributes[j]).getPreferenceType());
+			}
+			row[numberOfCriteria] = EnumerationFieldFactory.getInstance().create(domain, random.nextInt(2), AttributePreferenceType.NONE);
+			row[numberOfCriteria + 1] = IntegerFieldFactory.getInstance().create(random.nextInt(4), AttributePreferenceType.GAIN);
+			rows.add(row);
+		}
+		
+		return new InformationTable(attributes, rows);
+	}
+	
+	private void assertSameDistributions(DominanceConesDecisionDistributions expected, DominanceConesDecisionDistributions actual) {
+		assertEquals(expected.getNumberOfObjects(), actual.getNumberOfObjects());
+		for (int x = 0; x < expected.getNumberOfObjects(); x++) {
+			assertEquals(expected.getPositiveDConeDecisionClassDistribution(x), actual.getPositiveDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeDConeDecisionClassDistribution(x), actual.getNegativeDConeDecisionClassDistribution(x));
+			assertEquals(expected.getPositiveInvDConeDecisionClassDistribution(x), actual.getPositiveInvDConeDecisionClassDistribution(x));
+			assertEquals(expected.getNegativeInvDConeDecisionClassDistribution(x), actual.getNegativeInvDConeDecisionClassDistribution(x));
+			assertEquals(new ArrayList<>(expected.getPositiveDConeDecisionClassDistribution(x).getDecisions()),
+					new ArrayList<>(actual.getPositiveDConeDecisionClassDistribution(x).getDecisions()));
+			assertEquals(new ArrayList<>(expected.getNegativeInvDConeDecisionClassDistribution(x).getDecisions()),
+					new ArrayList<>(actual.getNegativeInvDConeDecisionClassDistribution(x).getDecisions()));
+		}
+		assertNotSame(actual.getPositiveDConeDecisionClassDistribution(0), actual.getPositiveInvDConeDecisionClassDistribution(0));
+	}
+
+	/**
+	 * Test method for {@link DominanceConesSweep#calculate(org.rulelearn.data.EvaluationColumns, org.rulelearn.data.Decision[],
+	 * org.rulelearn.data.DecisionDistribution[], org.rulelearn.data.DecisionDistribution[], org.rulelearn.data.DecisionDistribution[], org.rulelearn.data.DecisionDistribution[])}.
+	 * Compares results with pairwise calculation, for one and two criteria.
+	 */
+	@Test
+	void testCalculate() {
+		for (int numberOfCriteria = 0; numberOfCriteria <= DominanceConesSweep.MAX_NUMBER_OF_CRITERIA; numberOfCriteria++) {
+			InformationTable informationTable = informationTable(300, numberOfCriteria, false, numberOfCriteria);
+			assertTrue(DominanceConesSweep.isApplicable(informationTable.getActiveConditionAttributeColumns()));
+			assertSameDistributions(new DominanceConesDecisionDistributions(informationTable, false),
+					new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.SWEEP));
+		}
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesSweep#isApplicable(org.rulelearn.data.EvaluationColumns)}.
+	 */
+	@Test
+	void testIsApplicable() {
+		assertFalse(DominanceConesSweep.isApplicable(null));
+		assertFalse(DominanceConesSweep.isApplicable(informationTable(50, 3, false, 0L).getActiveConditionAttributeColumns()));
+		assertFalse(DominanceConesSweep.isApplicable(informationTable(50, 2, true, 0L).getActiveConditionAttributeColumns()));
+	}
+	
+	/**
+	 * Test method for {@link DominanceConesDecisionDistributions#DominanceConesDecisionDistributions(InformationTable, DominanceConesCalculationStrategy)}.
+	 * Tests that automatic strategy falls back to pairwise calculation, and that sweep strategy cannot be forced, for a table with missing values.
+	 */
+	@Test
+	void testStrategies() {
+		InformationTable informationTable = informationTable(100, 2, true, 1L);
+		DominanceConesDecisionDistributions expected = new DominanceConesDecisionDistributions(informationTable, false);
+		
+		assertSameDistributions(expected, new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.AUTOMATIC));
+		assertSameDistributions(expected, new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.PAIRWISE));
+		assertThrows(InvalidValueException.class, () -> new DominanceConesDecisionDistributions(informationTable, DominanceConesCalculationStrategy.SWEEP));
+	}
+	
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.dominance;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+
+/**
+ * Tests for {@link EquivalenceClasses}.
+ */
+class EquivalenceClassesTest {
+	
+	/**
+	 * Test method for {@link EquivalenceClasses#EquivalenceClasses(InformationTable)}.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testEquivalenceClasses() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("data/test/json/car.json", "data/test/csv/car.csv", false);
+		EquivalenceClasses equivalenceClasses = new EquivalenceClasses(informationTable);
+		
+		assertEquals(13, equivalenceClasses.getNumberOfObjects());
+		assertEquals(6, equivalenceClasses.getNumberOfClasses());
+		assertTrue(equivalenceClasses.isProfitable());
+		
+		int[][] expectedClassObjects = {{0, 6}, {1, 7}, {2, 8}, {3, 9, 12}, {4, 10}, {5, 11}};
+		for (int classIndex = 0; classIndex < expectedClassObjects.length; classIndex++) {
+			assertArrayEquals(expectedClassObjects[classIndex], equivalenceClasses.getObjects(classIndex));
+			assertEquals(expectedClassObjects[classIndex].length, equivalenceClasses.getSize(classIndex));
+			assertEquals(expectedClassObjects[classIndex][0], equivalenceClasses.getRepresentative(classIndex));
+			for (int objectIndex : expectedClassObjects[classIndex]) {
+				assertEquals(classIndex, equivalenceClasses.getClassIndex(objectIndex));
+			}
+		}
+		
+		assertSame(informationTable.getEquivalenceClasses(), informationTable.getEquivalenceClasses());
+	}
+	
+	/**
+	 * Test method for {@link EquivalenceClasses#EquivalenceClasses(InformationTable)}.
+	 * Tests grouping of objects of an information table with missing values and without duplicated objects.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testEquivalenceClassesWithoutDuplicates() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		int numberOfObjects = informationTable.getNumberOfObjects();
+		EquivalenceClasses equivalenceClasses = new EquivalenceClasses(informationTable.select(new int[] {0, 1, 2}));
+		
+		assertEquals(3, equivalenceClasses.getNumberOfClasses());
+		assertFalse(equivalenceClasses.isProfitable());
+		
+		int[] objectIndices = new int[2 * numberOfObjects];
+		for (int i = 0; i < objectIndices.length; i++) {
+			objectIndices[i] = i % numberOfObjects;
+		}
+		equivalenceClasses = new EquivalenceClasses(informationTable.select(objectIndices, true));
+		assertTrue(equivalenceClasses.isProfitable());
+		for (int objectIndex = 0; objectIndex < numberOfObjects; objectIndex++) {
+			assertEquals(equivalenceClasses.getClassIndex(objectIndex), equivalenceClasses.getClassIndex(objectIndex + numberOfObjects));
+		}
+	}
+	
+	/**
+	 * Test method for {@link InformationTable#getProfitableEquivalenceClasses()}.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testGetProfitableEquivalenceClasses() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("data/test/json/car.json", "data/test/csv/car.csv", false);
+		EquivalenceClasses equivalenceClasses = informationTable.getProfitableEquivalenceClasses();
+		assertNotNull(equivalenceClasses);
+		assertSame(equivalenceClasses, informationTable.getProfitableEquivalenceClasses());
+		assertSame(equivalenceClasses, informationTable.getEquivalenceClasses());
+		
+		InformationTable notProfitableInformationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json",
+				"src/test/resources/data/csv/windsor-mv.csv", false, '\t').select(new int[] {0, 1, 2});
+		assertNull(notProfitableInformationTable.getProfitableEquivalenceClasses());
+		assertNull(notProfitableInformationTable.getProfitableEquivalenceClasses());
+		assertFalse(notProfitableInformationTable.getEquivalenceClasses().isProfitable());
+	}
+	
+	/**
+	 * Test method for {@link EquivalenceClasses#EquivalenceClasses(InformationTable)}.
+	 * Tests information table without decisions.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testEquivalenceClassesWithoutDecisions() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.safelyBuildFromCSVFile("data/test/json/car.json", "data/test/csv/car.csv", false);
+		InformationTable informationTableMock = Mockito.mock(InformationTable.class);
+		Mockito.when(informationTableMock.getActiveConditionAttributeFields()).thenReturn(informationTable.getActiveConditionAttributeFields());
+		Mockito.when(informationTableMock.getNumberOfObjects()).thenReturn(informationTable.getNumberOfObjects());
+		
+		EquivalenceClasses equivalenceClasses = new EquivalenceClasses(informationTableMock);
+		assertEquals(6, equivalenceClasses.getNumberOfClasses());
+		assertArrayEquals(new int[] {3, 9, 12}, equivalenceClasses.getObjects(3));
+	}
+
+}
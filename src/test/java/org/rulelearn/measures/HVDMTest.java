@@ -0,0 +1,110 @@
+package org.rulelearn.measures;
+
+import org.junit.jupiter.api.Test;
+import org.ordinalclassification.types.FieldValueWrapper;
+import org.ordinalclassification.utils.DataSubsetExtractor;
+import org.ordinalclassification.utils.EnumerationAttributeStats;
+import org.ordinalclassification.utils.NumericalAttributeStats;
+import org.rulelearn.data.Decision;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.types.EnumerationField;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HVDMTest {
+    private static final String[] SET_NAMES = {"car", "car-B25-O25-R25-S25", "car-B50-O50", "car-B75-S25", "car-O100", "car-S100",
+            "distance-test", "haberman-B25-O25-R25-S25", "haberman-S100"};
+
+    private static InformationTableWithDecisionDistributions loadData(String setName) throws IOException {
+        String jsonPath = String.format("data/test/json/%s.json", setName);
+        String csvPath = String.format("data/test/csv/%s.csv", setName);
+        return new InformationTableWithDecisionDistributions(InformationTableBuilder.safelyBuildFromCSVFile(jsonPath, csvPath, false));
+    }
+
+    // distances calculated attribute by attribute from the evaluations, as done before introduction of lookup tables
+    private static double[][] referenceDistances(InformationTableWithDecisionDistributions data) {
+        int numberOfObjects = data.getNumberOfObjects();
+        int numberOfAttributes = data.getActiveConditionAttributeFields().getNumberOfAttributes();
+        double[][] values = new double[numberOfObjects][numberOfAttributes];
+        boolean[][] missingValues = new boolean[numberOfObjects][numberOfAttributes];
+        for (int i = 0; i < numberOfObjects; i++) {
+            for (int j = 0; j < numberOfAttributes; j++) {
+                FieldValueWrapper fieldValue = new FieldValueWrapper(data.getActiveConditionAttributeFields().getField(i, j));
+                values[i][j] = fieldValue.getValue();
+                missingValues[i][j] = fieldValue.isMissing();
+            }
+        }
+
+        double[][] distances = new double[numberOfObjects][numberOfObjects];
+        for (int j = 0; j < numberOfAttributes; j++) {
+            double[] dataSeries = DataSubsetExtractor.get2dArrayColumn(values, j);
+            EnumerationAttributeStats enumerationStats = null;
+            NumericalAttributeStats numericalStats = null;
+            if (data.getActiveConditionAttributeFields().getAttributes()[j].getValueType() instanceof EnumerationField) {
+                int valuesNumber = ((EnumerationField) data.getActiveConditionAttributeFields().getAttributes()[j].getValueType()).getElementList().getSize();
+                enumerationStats = new EnumerationAttributeStats(j, dataSeries, valuesNumber, data.getDecisions());
+            } else {
+                numericalStats = new NumericalAttributeStats(j, dataSeries);
+            }
+            for (int x = 0; x < numberOfObjects; x++) {
+                for (int y = 0; y < numberOfObjects; y++) {
+                    double distance;
+                    if (missingValues[x][j] || missingValues[y][j]) {
+                        distance = 1;
+                    } else if (enumerationStats != null) {
+                        int xValue = (int) values[x][j];
+                        int yValue = (int) values[y][j];
+                        distance = 0;
+                        for (Decision decision : data.getDecisionDistribution().getDecisions()) {
+                            double pX = enumerationStats.getCount(xValue) == 0 ? 0 : (double) enumerationStats.getCountForDecision(xValue, decision) / enumerationStats.getCount(xValue);
+                            double pY = enumerationStats.getCount(yValue) == 0 ? 0 : (double) enumerationStats.getCountForDecision(yValue, decision) / enumerationStats.getCount(yValue);
+                            distance += Math.pow(pX - pY, 2.0);
+                        }
+                    } else {
+                        distance = Math.abs(values[x][j] - values[y][j]) / (4.0 * numericalStats.getStdDev());
+                    }
+                    distances[x][y] += distance * distance;
+                }
+            }
+        }
+        for (int x = 0; x < numberOfObjects; x++) {
+            for (int y = 0; y < numberOfObjects; y++) {
+                distances[x][y] = Math.sqrt(distances[x][y]);
+            }
+        }
+        return distances;
+    }
+
+    @Test
+    void shouldMeasureSameDistancesAsReferenceImplementation() throws IOException {
+        for (String setName : SET_NAMES) {
+            InformationTableWithDecisionDistributions data = loadData(setName);
+            HVDM measure = new HVDM(data);
+            double[][] expectedDistances = referenceDistances(data);
+            for (int x = 0; x < data.getNumberOfObjects(); x++) {
+                for (int y = 0; y < data.getNumberOfObjects(); y++) {
+                    assertEquals(expectedDistances[x][y], measure.measureDistance(x, y), 1e-12, setName);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldBoundDistancesByTriangleInequalityFactor() throws IOException {
+        for (String setName : SET_NAMES) {
+            HVDM measure = new HVDM(loadData(setName));
+            double factor = measure.getTriangleInequalityFactor();
+            int numberOfObjects = measure.getData().getNumberOfObjects();
+            for (int x = 0; x < numberOfObjects; x++) {
+                for (int y = 0; y < numberOfObjects; y++) {
+                    for (int z = 0; z < numberOfObjects; z++) {
+                        assertTrue(measure.measureDistance(x, z) <= factor * (measure.measureDistance(x, y) + measure.measureDistance(y, z)) + 1e-12, setName);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.rulelearn.rules.Condition;
+import org.rulelearn.rules.CoverageChange;
 import org.rulelearn.rules.MonotonicConditionAdditionEvaluator;
 import org.rulelearn.rules.RuleConditions;
 import org.rulelearn.rules.RuleCoverageInformation;
@@ -101,6 +102,20 @@ class SupportMeasureTest {
 		assertEquals(Double.MIN_VALUE, support.evaluateWithCondition(this.ruleConditionsMock, null));
 	}
 	
+	/**
+	 * Test for method {@link SupportMeasure#evaluateWithCondition(RuleConditions, Condition, CoverageChange)}.
+	 */
+	@Test
+	void testEvaluateWithCondition03() {
+		SupportMeasure support = SupportMeasure.getInstance();
+		CoverageChange coverageChange = new CoverageChange(3, 2, 0);
+		coverageChange.setExcludedObjectsCounts(1, 1, 0);
+		
+		assertEquals(support.evaluateWithCondition(this.ruleConditionsMock, this.conditionMock), support.evaluateWithCondition(this.ruleConditionsMock, this.conditionMock, coverageChange));
+		assertEquals(2.0, support.evaluateWithCondition(this.ruleConditionsMock, this.conditionMock, null));
+		assertEquals(Double.MIN_VALUE, support.evaluateWithCondition(this.ruleConditionsMock, null, coverageChange));
+	}
+	
 	/**
 	 * Test for method {@link SupportMeasure#evaluateWithoutCondition(RuleConditions, int)}.
 	 */
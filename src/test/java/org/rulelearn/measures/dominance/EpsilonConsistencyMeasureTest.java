@@ -35,6 +35,7 @@ import org.rulelearn.data.InformationTableWithDecisionDistributions;
 import org.rulelearn.dominance.DominanceConesDecisionDistributions;
 import org.rulelearn.measures.Measure;
 import org.rulelearn.rules.Condition;
+import org.rulelearn.rules.CoverageChange;
 import org.rulelearn.rules.MonotonicConditionAdditionEvaluator;
 import org.rulelearn.rules.RuleConditions;
 import org.rulelearn.rules.RuleCoverageInformation;
@@ -215,6 +216,21 @@ class EpsilonConsistencyMeasureTest {
 		assertEquals(Double.MAX_VALUE, this.measure.evaluateWithCondition(this.ruleConditionsMock, null));
 	}
 
+	/**
+	 * Test for method {@link org.rulelearn.measures.dominance.EpsilonConsistencyMeasure#evaluateWithCondition(RuleConditions, Condition, CoverageChange)}.
+	 */
+	@Test
+	void testEvalueateWithCondition03() {
+		CoverageChange coverageChange = new CoverageChange(5, 1, 0);
+		coverageChange.setExcludedObjectsCounts(0, 1, 0);
+		assertEquals(this.measure.evaluateWithCondition(this.ruleConditionsMock, this.conditionMock), this.measure.evaluateWithCondition(this.ruleConditionsMock, this.conditionMock, coverageChange));
+		
+		coverageChange.setExcludedObjectsCounts(2, 0, 0);
+		assertEquals(0.2, this.measure.evaluateWithCondition(this.ruleConditionsMock, this.conditionMock, coverageChange));
+		assertEquals(0, this.measure.evaluateWithCondition(this.ruleConditionsMock, this.conditionMock, null));
+		assertEquals(Double.MAX_VALUE, this.measure.evaluateWithCondition(this.ruleConditionsMock, null, coverageChange));
+	}
+
 	/**
 	 * Test for method {@link org.rulelearn.measures.dominance.EpsilonConsistencyMeasure#evaluateWithoutCondition(RuleConditions, int)}.
 	 */
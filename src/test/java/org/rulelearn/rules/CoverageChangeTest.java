@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.core.InvalidValueException;
+
+/**
+ * Tests for {@link CoverageChange}.
+ */
+class CoverageChangeTest {
+	
+	/**
+	 * Test method for {@link CoverageChange#CoverageChange(int, int, int)}.
+	 */
+	@Test
+	void testCoverageChange() {
+		CoverageChange coverageChange = new CoverageChange(5, 3, 1);
+		
+		assertEquals(5, coverageChange.getCoveredPositiveObjectsCount());
+		assertEquals(3, coverageChange.getCoveredNegativeObjectsCount());
+		assertEquals(1, coverageChange.getCoveredNeutralObjectsCount());
+		assertEquals(5, coverageChange.getPositiveObjectsCountWithCondition());
+		assertEquals(3, coverageChange.getNegativeObjectsCountWithCondition());
+		assertEquals(1, coverageChange.getNeutralObjectsCountWithCondition());
+		
+		assertThrows(InvalidValueException.class, () -> new CoverageChange(-1, 3, 1));
+	}
+	
+	/**
+	 * Test method for {@link CoverageChange#setExcludedObjectsCounts(int, int, int)}.
+	 */
+	@Test
+	void testSetExcludedObjectsCounts() {
+		CoverageChange coverageChange = new CoverageChange(5, 3, 1);
+		coverageChange.setExcludedObjectsCounts(2, 3, 0);
+		
+		assertEquals(2, coverageChange.getExcludedPositiveObjectsCount());
+		assertEquals(3, coverageChange.getExcludedNegativeObjectsCount());
+		assertEquals(0, coverageChange.getExcludedNeutralObjectsCount());
+		assertEquals(3, coverageChange.getPositiveObjectsCountWithCondition());
+		assertEquals(0, coverageChange.getNegativeObjectsCountWithCondition());
+		assertEquals(1, coverageChange.getNeutralObjectsCountWithCondition());
+		
+		assertThrows(InvalidValueException.class, () -> coverageChange.setExcludedObjectsCounts(2, 4, 0));
+		assertThrows(InvalidValueException.class, () -> coverageChange.setExcludedObjectsCounts(-1, 0, 0));
+	}
+
+}
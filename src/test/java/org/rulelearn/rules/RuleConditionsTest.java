@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.rulelearn.core.OperationsOnBitSets;
 import org.rulelearn.data.AttributePreferenceType;
 import org.rulelearn.data.EvaluationAttributeWithContext;
 import org.rulelearn.data.InformationTable;
@@ -412,6 +413,56 @@ class RuleConditionsTest {
 		assertEquals(ruleConditions.getConditionIndicesForAttribute(6).getInt(0), 0);
 	}
 
+	/**
+	 * Test method for {@link RuleConditions#getCoveredObjects()}, {@link RuleConditions#covers(int)}, {@link RuleConditions#getIndicesOfCoveredObjectsWithCondition(Condition)},
+	 * and {@link RuleConditions#getIndicesOfCoveredObjectsWithoutCondition(int)}.
+	 * Tests if coverage of objects is consistent with conditions, after addition and removal of conditions.
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	void testCoveredObjects01() {
+		InformationTable informationTable = Mockito.mock(InformationTable.class);
+		Mockito.when(informationTable.getNumberOfObjects()).thenReturn(70);
+		IntSet indicesOfPositiveObjects = Mockito.mock(IntSet.class);
+		RuleConditions ruleConditions = new RuleConditions(informationTable, indicesOfPositiveObjects, indicesOfPositiveObjects, indicesOfPositiveObjects, RuleType.CERTAIN, RuleSemantics.AT_LEAST);
+		
+		EvaluationAttributeWithContext attributeWithContext = Mockito.mock(EvaluationAttributeWithContext.class);
+		Mockito.when(attributeWithContext.getAttributeIndex()).thenReturn(0);
+		Condition<EvaluationField> evenCondition = Mockito.mock(ConditionAtLeastThresholdVSObject.class);
+		Mockito.when(evenCondition.getAttributeWithContext()).thenReturn(attributeWithContext);
+		Mockito.when(evenCondition.satisfiedBy(Mockito.anyInt(), Mockito.any(InformationTable.class))).thenAnswer(invocation -> (int)invocation.getArgument(0) % 2 == 0);
+		Condition<EvaluationField> lowCondition = Mockito.mock(ConditionAtLeastThresholdVSObject.class);
+		Mockito.when(lowCondition.getAttributeWithContext()).thenReturn(attributeWithContext);
+		Mockito.when(lowCondition.satisfiedBy(Mockito.anyInt(), Mockito.any(InformationTable.class))).thenAnswer(invocation -> (int)invocation.getArgument(0) < 66);
+		
+		assertEquals(70, OperationsOnBitSets.cardinality(ruleConditions.getCoveredObjects()));
+		assertEquals(31, ruleConditions.getIndicesOfCoveredObjectsWithCondition(lowCondition).size() -
+				ruleConditions.getIndicesOfCoveredObjectsWithCondition(evenCondition).size());
+		
+		ruleConditions.addCondition(evenCondition);
+		ruleConditions.addCondition(lowCondition);
+		IntList indicesOfCoveredObjects = ruleConditions.getIndicesOfCoveredObjects();
+		assertEquals(33, indicesOfCoveredObjects.size());
+		assertEquals(33, OperationsOnBitSets.cardinality(ruleConditions.getCoveredObjects()));
+		for (int objectIndex = 0; objectIndex < 70; objectIndex++) {
+			assertEquals(objectIndex % 2 == 0 && objectIndex < 66, ruleConditions.covers(objectIndex));
+			assertEquals(ruleConditions.covers(objectIndex), indicesOfCoveredObjects.contains(objectIndex));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> ruleConditions.covers(70));
+		
+		IntList indicesOfCoveredObjectsWithoutCondition = ruleConditions.getIndicesOfCoveredObjectsWithoutCondition(1);
+		assertEquals(35, indicesOfCoveredObjectsWithoutCondition.size());
+		assertTrue(indicesOfCoveredObjectsWithoutCondition.contains(68));
+		assertEquals(33, ruleConditions.getIndicesOfCoveredObjects().size()); //not changed
+		
+		ruleConditions.removeCondition(0);
+		assertEquals(66, ruleConditions.getIndicesOfCoveredObjects().size());
+		assertEquals(66, OperationsOnBitSets.cardinality(ruleConditions.getCoveredObjects()));
+		assertTrue(ruleConditions.covers(65));
+		assertFalse(ruleConditions.covers(66));
+		assertEquals(33, ruleConditions.getIndicesOfCoveredObjectsWithCondition(evenCondition).size());
+	}
+	
 	/**
 	 * Test method for {@link RuleConditions#getConditions()}.
 	 */
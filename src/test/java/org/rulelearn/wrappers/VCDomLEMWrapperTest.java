@@ -0,0 +1,183 @@
+/**
+ * Copyright (C) Jerzy Błaszczyński, Marcin Szeląg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.rulelearn.wrappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.rulelearn.approximations.Union;
+import org.rulelearn.approximations.UnionWithSingleLimitingDecision;
+import org.rulelearn.approximations.UnionsWithSingleLimitingDecision;
+import org.rulelearn.approximations.VCDominanceBasedRoughSetCalculator;
+import org.rulelearn.core.InvalidValueException;
+import org.rulelearn.data.InformationTable;
+import org.rulelearn.data.InformationTableBuilder;
+import org.rulelearn.data.InformationTableWithDecisionDistributions;
+import org.rulelearn.measures.dominance.EpsilonConsistencyMeasure;
+import org.rulelearn.rules.Rule;
+import org.rulelearn.rules.RuleSemantics;
+import org.rulelearn.rules.RuleSetWithComputableCharacteristics;
+import org.rulelearn.rules.RuleType;
+import org.rulelearn.rules.VCDomLEMParameters;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+
+/**
+ * Tests for {@link VCDomLEMWrapper}.
+ */
+class VCDomLEMWrapperTest {
+	
+	/**
+	 * Test method for {@link VCDomLEMWrapper#induceRules(InformationTable)}.
+	 * Tests if each object from the lower approximation of each union is covered by a rule induced for this union,
+	 * and if each rule covers only objects from the positive region of its union.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testInduceRules01() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		checkInducedRules(informationTable, new VCDomLEMWrapper().induceRules(informationTable), 0.0, true);
+	}
+	
+	/**
+	 * Test method for {@link VCDomLEMWrapper#induceRules(InformationTable)}.
+	 * Tests if each rule covers only objects from the positive region of its union, when information table contains missing values.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testInduceRules02() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		checkInducedRules(informationTable, new VCDomLEMWrapper().induceRules(informationTable), 0.0, false);
+	}
+	
+	/**
+	 * Test method for {@link VCDomLEMWrapper#induceRules(InformationTable)}.
+	 * Tests if rules induced in parallel are the same, and in the same order, as rules induced sequentially.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testInduceRules03() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor-mv.csv", false, '\t');
+		RuleSetWithComputableCharacteristics sequentialRuleSet = new VCDomLEMWrapper().induceRules(informationTable);
+		VCDomLEMWrapper parallelWrapper = new VCDomLEMWrapper(VCDomLEMParameters.builder().build(), 4);
+		assertEquals(4, parallelWrapper.getParallelism());
+		RuleSetWithComputableCharacteristics parallelRuleSet = parallelWrapper.induceRules(informationTable);
+		
+		assertEquals(sequentialRuleSet.size(), parallelRuleSet.size());
+		for (int ruleIndex = 0; ruleIndex < sequentialRuleSet.size(); ruleIndex++) {
+			assertEquals(sequentialRuleSet.getRule(ruleIndex).toString(), parallelRuleSet.getRule(ruleIndex).toString());
+			assertEquals(sequentialRuleSet.getRuleCharacteristics(ruleIndex).getRuleCoverageInformation().getIndicesOfCoveredObjects(),
+					parallelRuleSet.getRuleCharacteristics(ruleIndex).getRuleCoverageInformation().getIndicesOfCoveredObjects());
+		}
+		
+		assertThrows(InvalidValueException.class, () -> new VCDomLEMWrapper(VCDomLEMParameters.builder().build(), 0));
+	}
+	
+	/**
+	 * Test method for {@link VCDomLEMWrapper#induceRules(InformationTable, double)}.
+	 * Tests if each object from the lower approximation of each union, calculated for a consistency threshold greater than zero,
+	 * is covered by a rule induced for this union, and if each rule satisfies that threshold.
+	 *
+	 * @throws IOException if information table cannot be read
+	 */
+	@Test
+	void testInduceRules04() throws IOException {
+		InformationTable informationTable = InformationTableBuilder.buildFromCSVFile("src/test/resources/data/csv/windsor.json", "src/test/resources/data/csv/windsor.csv", false, '\t');
+		VCDomLEMWrapper wrapper = new VCDomLEMWrapper();
+		
+		for (double consistencyThreshold : new double[] {0.1, 0.3}) {
+			RuleSetWithComputableCharacteristics ruleSet = wrapper.induceRules(informationTable, consistencyThreshold);
+			checkInducedRules(informationTable, ruleSet, consistencyThreshold, true);
+			for (int ruleIndex = 0; ruleIndex < ruleSet.size(); ruleIndex++) {
+				assertTrue(EpsilonConsistencyMeasure.getInstance().evaluate(ruleSet.getRuleCharacteristics(ruleIndex).getRuleCoverageInformation()) <= consistencyThreshold);
+			}
+		}
+		
+		assertSame(wrapper.getParameters(), wrapper.getParameters(0.0));
+	}
+	
+	/**
+	 * Checks rules induced for given information table.
+	 *
+	 * @param informationTable information table for which rules have been induced
+	 * @param ruleSet induced rules
+	 * @param consistencyThreshold consistency threshold used to approximate unions
+	 * @param checkLowerApproximationsCoverage tells if coverage of all objects from lower approximations of unions should be checked
+	 */
+	private void checkInducedRules(InformationTable informationTable, RuleSetWithComputableCharacteristics ruleSet, double consistencyThreshold, boolean checkLowerApproximationsCoverage) {
+		assertTrue(ruleSet.size() > 0);
+		
+		UnionsWithSingleLimitingDecision unions = new UnionsWithSingleLimitingDecision(new InformationTableWithDecisionDistributions(informationTable),
+				new VCDominanceBasedRoughSetCalculator(EpsilonConsistencyMeasure.getInstance(), consistencyThreshold));
+		Union[] ruleUnions = new Union[ruleSet.size()];
+		
+		for (Union[] unionsOfOneType : new Union[][] {unions.getUpwardUnions(), unions.getDownwardUnions()}) {
+			for (Union union : unionsOfOneType) {
+				RuleSemantics ruleSemantics = union.getUnionType() == Union.UnionType.AT_LEAST ? RuleSemantics.AT_LEAST : RuleSemantics.AT_MOST;
+				for (int ruleIndex = 0; ruleIndex < ruleSet.size(); ruleIndex++) {
+					Rule rule = ruleSet.getRule(ruleIndex);
+					if (rule.getSemantics() == ruleSemantics &&
+							rule.getDecision().getLimitingEvaluation().equals(((UnionWithSingleLimitingDecision)union).getLimitingDecision().getEvaluation(rule.getDecision().getAttributeWithContext().getAttributeIndex()))) {
+						assertNull(ruleUnions[ruleIndex]); //each rule has been induced for exactly one union
+						assertEquals(RuleType.CERTAIN, rule.getType());
+						ruleUnions[ruleIndex] = union;
+						IntList indicesOfCoveredObjects = ruleSet.getRuleCharacteristics(ruleIndex).getRuleCoverageInformation().getIndicesOfCoveredObjects();
+						assertFalse(indicesOfCoveredObjects.isEmpty());
+						for (int objectIndex : indicesOfCoveredObjects) {
+							assertTrue(union.getPositiveRegion().contains(objectIndex));
+						}
+					}
+				}
+			}
+		}
+		
+		for (int ruleIndex = 0; ruleIndex < ruleSet.size(); ruleIndex++) {
+			assertNotNull(ruleUnions[ruleIndex]);
+		}
+		
+		if (checkLowerApproximationsCoverage) {
+			for (Union[] unionsOfOneType : new Union[][] {unions.getUpwardUnions(), unions.getDownwardUnions()}) {
+				for (Union union : unionsOfOneType) {
+					boolean[] objectsCovered = new boolean[informationTable.getNumberOfObjects()];
+					for (int ruleIndex = 0; ruleIndex < ruleSet.size(); ruleIndex++) {
+						//rule induced for a union included in considered union is also a rule for considered union (so rule for considered union may be not minimal)
+						if (ruleUnions[ruleIndex].getUnionType() == union.getUnionType() && union.getObjects().containsAll(ruleUnions[ruleIndex].getObjects())) {
+							for (int objectIndex : ruleSet.getRuleCharacteristics(ruleIndex).getRuleCoverageInformation().getIndicesOfCoveredObjects()) {
+								objectsCovered[objectIndex] = true;
+							}
+						}
+					}
+					for (int objectIndex : union.getLowerApproximation()) {
+						assertTrue(objectsCovered[objectIndex]);
+					}
+				}
+			}
+		}
+	}
+
+}